@@ -0,0 +1,69 @@
+package org.folio.tm.integration.kafka;
+
+import static java.util.concurrent.TimeUnit.MICROSECONDS;
+
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Compares tenant topic lookup by a substring scan over all listed topics with a lookup in {@link KafkaTopicIndex}.
+ */
+@Fork(1)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(MICROSECONDS)
+public class KafkaTopicIndexBenchmark {
+
+  private static final int TOPICS_PER_TENANT = 20;
+
+  @Param("50000")
+  private int topicsCount;
+
+  private Set<String> topics;
+  private KafkaTopicIndex topicIndex;
+  private String topicPrefix;
+
+  @Setup(Level.Trial)
+  public void setUp() {
+    topics = new HashSet<>();
+    var tenantsCount = topicsCount / TOPICS_PER_TENANT;
+    for (int i = 0; i < topicsCount; i++) {
+      topics.add("folio.tenant" + i % tenantsCount + ".topic" + i / tenantsCount);
+    }
+
+    topicIndex = new KafkaTopicIndex();
+    topicIndex.refresh(topics);
+    topicPrefix = "folio.tenant" + tenantsCount / 2 + ".";
+  }
+
+  @Benchmark
+  public List<String> substringScan() {
+    return topics.stream().filter(topic -> topic.contains(topicPrefix)).toList();
+  }
+
+  @Benchmark
+  public List<String> sortedIndexLookup() {
+    return List.copyOf(topicIndex.findByPrefix(topicPrefix));
+  }
+
+  @Benchmark
+  public int sortedIndexRefresh() {
+    topicIndex.refresh(topics);
+    return topicIndex.size();
+  }
+}
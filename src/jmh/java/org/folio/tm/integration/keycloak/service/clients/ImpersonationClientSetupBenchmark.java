@@ -0,0 +1,170 @@
+package org.folio.tm.integration.keycloak.service.clients;
+
+import static java.nio.charset.StandardCharsets.UTF_8;
+import static java.util.concurrent.TimeUnit.MILLISECONDS;
+
+import com.sun.net.httpserver.HttpExchange;
+import com.sun.net.httpserver.HttpServer;
+import java.io.IOException;
+import java.net.InetSocketAddress;
+import java.time.Duration;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.UnaryOperator;
+import org.folio.tm.integration.keycloak.KeycloakAdminTokenManager;
+import org.folio.tm.integration.keycloak.KeycloakClient;
+import org.folio.tm.integration.keycloak.configuration.KeycloakHttpProperties;
+import org.folio.tm.integration.keycloak.configuration.KeycloakRealmSetupProperties;
+import org.folio.tm.integration.keycloak.http.KeycloakHttpTransport;
+import org.keycloak.admin.client.Keycloak;
+import org.keycloak.admin.client.KeycloakBuilder;
+import org.keycloak.representations.idm.ClientRepresentation;
+import org.openjdk.jmh.annotations.AuxCounters;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.web.client.RestClient;
+import org.springframework.web.client.support.RestClientAdapter;
+import org.springframework.web.service.invoker.HttpServiceProxyFactory;
+
+/**
+ * Measures impersonation setup of an imported realm against a local Keycloak stub answering each admin call after
+ * {@code latencyMillis}.
+ *
+ * <p>
+ * Every setup is done for a new realm, as it happens on tenant creation, and the number of admin round trips per setup
+ * is reported by the {@code roundTrips} counter. Run the benchmark on an earlier revision to compare round trips and
+ * setup time before and after a change.
+ * </p>
+ */
+@Fork(1)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(MILLISECONDS)
+public class ImpersonationClientSetupBenchmark {
+
+  private static final String REALM_MANAGEMENT_CLIENT_ID = "realm-management-id";
+  private static final String IMPERSONATE_PERMISSION_ID = "impersonate-permission-id";
+  private static final String TOKEN_RESPONSE =
+    "{\"access_token\":\"token\",\"expires_in\":3600,\"token_type\":\"Bearer\"}";
+  private static final String USER_MANAGEMENT_RESPONSE =
+    "{\"enabled\":true,\"scopePermissions\":{\"impersonate\":\"" + IMPERSONATE_PERMISSION_ID + "\"}}";
+  private static final String REALM_MANAGEMENT_CLIENTS_RESPONSE =
+    "[{\"id\":\"" + REALM_MANAGEMENT_CLIENT_ID + "\",\"clientId\":\"realm-management\"}]";
+
+  @Param({"0", "2"})
+  private long latencyMillis;
+
+  private final AtomicLong requests = new AtomicLong();
+  private final AtomicLong realms = new AtomicLong();
+
+  private HttpServer server;
+  private KeycloakHttpTransport transport;
+  private Keycloak keycloak;
+  private ImpersonationClientService impersonationClientService;
+  private ClientRepresentation importedClient;
+
+  @Setup(Level.Trial)
+  public void setUp() throws IOException {
+    server = HttpServer.create(new InetSocketAddress("localhost", 0), 0);
+    server.createContext("/", this::handle);
+    server.start();
+
+    var url = "http://localhost:" + server.getAddress().getPort();
+    transport = new KeycloakHttpTransport(new KeycloakHttpProperties(), null);
+    keycloak = KeycloakBuilder.builder()
+      .serverUrl(url)
+      .realm("master")
+      .clientId("benchmark")
+      .clientSecret("secret")
+      .grantType("client_credentials")
+      .resteasyClient(transport.buildResteasyClient(UnaryOperator.identity()))
+      .build();
+
+    var restClient = RestClient.builder().baseUrl(url).requestFactory(transport.requestFactory()).build();
+    var keycloakClient = HttpServiceProxyFactory.builderFor(RestClientAdapter.create(restClient)).build()
+      .createClient(KeycloakClient.class);
+
+    var adminTokenManager = new KeycloakAdminTokenManager(keycloak, Duration.ofSeconds(30));
+    impersonationClientService =
+      new ImpersonationClientService(keycloakClient, adminTokenManager, new KeycloakRealmSetupProperties());
+    impersonationClientService.setKeycloak(keycloak);
+    importedClient = new ClientRepresentation();
+    importedClient.setId("impersonation-client-id");
+  }
+
+  @TearDown(Level.Trial)
+  public void tearDown() throws IOException {
+    keycloak.close();
+    transport.close();
+    server.stop(0);
+  }
+
+  @Benchmark
+  public void setupImportedClient(RoundTrips roundTrips) {
+    requests.set(0);
+    impersonationClientService.setupImportedClient("realm" + realms.incrementAndGet(), importedClient);
+    roundTrips.roundTrips += requests.get();
+  }
+
+  private void handle(HttpExchange exchange) throws IOException {
+    requests.incrementAndGet();
+    sleep();
+
+    var path = exchange.getRequestURI().getPath();
+    var method = exchange.getRequestMethod();
+    if (path.endsWith("/protocol/openid-connect/token")) {
+      respond(exchange, 200, TOKEN_RESPONSE);
+    } else if (path.endsWith("/users-management-permissions")) {
+      respond(exchange, 200, USER_MANAGEMENT_RESPONSE);
+    } else if ("GET".equals(method) && path.endsWith("/clients")) {
+      respond(exchange, 200, REALM_MANAGEMENT_CLIENTS_RESPONSE);
+    } else if ("POST".equals(method)) {
+      respond(exchange, 201, null);
+    } else {
+      respond(exchange, 204, null);
+    }
+  }
+
+  private void sleep() {
+    try {
+      Thread.sleep(latencyMillis);
+    } catch (InterruptedException exception) {
+      Thread.currentThread().interrupt();
+    }
+  }
+
+  private static void respond(HttpExchange exchange, int status, String body) throws IOException {
+    exchange.getResponseHeaders().add("Content-Type", "application/json");
+    if (body == null) {
+      exchange.sendResponseHeaders(status, -1);
+    } else {
+      var bytes = body.getBytes(UTF_8);
+      exchange.sendResponseHeaders(status, bytes.length);
+      exchange.getResponseBody().write(bytes);
+    }
+
+    exchange.close();
+  }
+
+  /**
+   * Keycloak admin requests made by benchmarked setups.
+   */
+  @AuxCounters(AuxCounters.Type.EVENTS)
+  @State(Scope.Thread)
+  public static class RoundTrips {
+
+    public long roundTrips;
+  }
+}
@@ -0,0 +1,90 @@
+package org.folio.tm.mapper;
+
+import static java.util.concurrent.TimeUnit.MICROSECONDS;
+
+import java.util.List;
+import org.folio.tm.domain.dto.Tenant;
+import org.folio.tm.domain.dto.TenantAttribute;
+import org.folio.tm.domain.dto.TenantAttributes;
+import org.folio.tm.domain.entity.TenantAttributeEntity;
+import org.folio.tm.domain.entity.TenantEntity;
+import org.folio.tm.support.BenchmarkData;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.context.annotation.AnnotationConfigApplicationContext;
+
+/**
+ * Measures MapStruct conversions of tenants and tenant attributes between DTOs and entities.
+ *
+ * <p>Mappers are created by a minimal Spring context, the same way they are wired in the application.</p>
+ */
+@Fork(1)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(MICROSECONDS)
+public class MapperBenchmark {
+
+  @Param({"10", "1000"})
+  private int attributesCount;
+
+  private AnnotationConfigApplicationContext context;
+  private TenantMapper tenantMapper;
+  private TenantAttributeMapper tenantAttributeMapper;
+
+  private Tenant tenant;
+  private TenantEntity tenantEntity;
+  private List<TenantAttribute> attributes;
+  private List<TenantAttributeEntity> attributeEntities;
+
+  @Setup(Level.Trial)
+  public void setUp() {
+    context = new AnnotationConfigApplicationContext(MappingMethods.class, TenantMapperImpl.class,
+      TenantAttributeMapperImpl.class);
+    tenantMapper = context.getBean(TenantMapper.class);
+    tenantAttributeMapper = context.getBean(TenantAttributeMapper.class);
+
+    tenant = BenchmarkData.tenant(attributesCount);
+    attributes = tenant.getAttributes();
+    attributeEntities = tenantAttributeMapper.toEntities(attributes);
+    tenantEntity = tenantMapper.toEntity(tenant);
+    tenantEntity.setAttributes(attributeEntities);
+  }
+
+  @TearDown(Level.Trial)
+  public void tearDown() {
+    context.close();
+  }
+
+  @Benchmark
+  public TenantEntity tenantToEntity() {
+    return tenantMapper.toEntity(tenant);
+  }
+
+  @Benchmark
+  public Tenant tenantToDto() {
+    return tenantMapper.toDto(tenantEntity);
+  }
+
+  @Benchmark
+  public List<TenantAttributeEntity> attributesToEntities() {
+    return tenantAttributeMapper.toEntities(attributes);
+  }
+
+  @Benchmark
+  public TenantAttributes attributesToDtoCollection() {
+    return tenantAttributeMapper.toDtoCollection(attributeEntities);
+  }
+}
@@ -0,0 +1,89 @@
+package org.folio.tm.repository;
+
+import static java.util.concurrent.TimeUnit.MICROSECONDS;
+
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.EntityManagerFactory;
+import jakarta.persistence.TypedQuery;
+import org.folio.spring.cql.Cql2JpaCriteria;
+import org.folio.tm.domain.entity.TenantAttributeEntity;
+import org.folio.tm.domain.entity.TenantEntity;
+import org.hibernate.jpa.HibernatePersistenceConfiguration;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Measures translation of CQL queries to Hibernate queries, as done by {@code findByCql} before the query is sent to
+ * the database.
+ *
+ * <p>
+ * Translation needs the entity metamodel only, so Hibernate is bootstrapped with the PostgreSQL dialect and without
+ * a database connection. Query execution is covered by integration tests running against PostgreSQL.
+ * </p>
+ */
+@Fork(1)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(MICROSECONDS)
+public class CqlTranslationBenchmark {
+
+  private static final String TENANT_ID = "4b83457f-5309-4648-a89a-62917ac3c63d";
+
+  @Param({
+    "cql.allRecords=1 sortBy name",
+    "name==\"tenant1\"",
+    "name=\"tenant*\" and description=\"benchmark\" sortBy name/sort.descending"
+  })
+  private String tenantQuery;
+
+  private EntityManagerFactory entityManagerFactory;
+  private EntityManager entityManager;
+
+  @Setup(Level.Trial)
+  public void setUp() {
+    entityManagerFactory = new HibernatePersistenceConfiguration("benchmark")
+      .managedClasses(TenantEntity.class, TenantAttributeEntity.class)
+      .property("hibernate.dialect", "org.hibernate.dialect.PostgreSQLDialect")
+      .property("hibernate.boot.allow_jdbc_metadata_access", false)
+      .createEntityManagerFactory();
+    entityManager = entityManagerFactory.createEntityManager();
+  }
+
+  @TearDown(Level.Trial)
+  public void tearDown() {
+    entityManager.close();
+    entityManagerFactory.close();
+  }
+
+  @Benchmark
+  public TypedQuery<TenantEntity> tenantQuery() {
+    var criteria = new Cql2JpaCriteria<>(TenantEntity.class, entityManager).toCollectCriteria(tenantQuery);
+    return entityManager.createQuery(criteria);
+  }
+
+  @Benchmark
+  public TypedQuery<Long> tenantCountQuery() {
+    var criteria = new Cql2JpaCriteria<>(TenantEntity.class, entityManager).toCountCriteria(tenantQuery);
+    return entityManager.createQuery(criteria);
+  }
+
+  @Benchmark
+  public TypedQuery<TenantAttributeEntity> tenantAttributeQuery() {
+    var cql = "key==\"key1\" and tenant.id == " + TENANT_ID;
+    var criteria = new Cql2JpaCriteria<>(TenantAttributeEntity.class, entityManager).toCollectCriteria(cql);
+    return entityManager.createQuery(criteria);
+  }
+}
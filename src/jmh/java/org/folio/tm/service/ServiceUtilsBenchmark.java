@@ -0,0 +1,91 @@
+package org.folio.tm.service;
+
+import static java.util.concurrent.TimeUnit.MICROSECONDS;
+
+import java.lang.reflect.Proxy;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+import org.folio.tm.domain.entity.TenantAttributeEntity;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+import org.springframework.data.jpa.repository.JpaRepository;
+
+/**
+ * Measures merging of incoming tenant attributes with stored ones.
+ *
+ * <p>
+ * Half of the stored attributes are updated, the other half is deleted, and the same number of new attributes is
+ * added. {@code mergeAndSave} uses a repository stand-in returning saved entities as is, so only the merge and the
+ * collection handling around repository calls are measured.
+ * </p>
+ */
+@Fork(1)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(MICROSECONDS)
+public class ServiceUtilsBenchmark {
+
+  @Param({"100", "1000", "10000"})
+  private int attributesCount;
+
+  private List<TenantAttributeEntity> stored;
+  private List<TenantAttributeEntity> incoming;
+  private JpaRepository<TenantAttributeEntity, UUID> repository;
+
+  @Setup(Level.Trial)
+  public void setUp() {
+    stored = new ArrayList<>();
+    incoming = new ArrayList<>();
+    for (int i = 0; i < attributesCount; i++) {
+      var attribute = attribute(UUID.randomUUID(), "key" + i, "value" + i);
+      stored.add(attribute);
+      if (i % 2 == 0) {
+        incoming.add(attribute(attribute.getId(), attribute.getKey(), "updated" + i));
+      }
+      incoming.add(attribute(UUID.randomUUID(), "new-key" + i, "value" + i));
+    }
+
+    repository = repositoryStandIn();
+  }
+
+  @Benchmark
+  public void merge(Blackhole blackhole) {
+    ServiceUtils.merge(incoming, stored, ServiceUtils.comparatorById(), blackhole::consume,
+      (incomingAttribute, storedAttribute) -> blackhole.consume(storedAttribute), blackhole::consume);
+  }
+
+  @Benchmark
+  public List<TenantAttributeEntity> mergeAndSave() {
+    return ServiceUtils.mergeAndSave(incoming, stored, repository,
+      (incomingAttribute, storedAttribute) -> storedAttribute.setValue(incomingAttribute.getValue()));
+  }
+
+  private static TenantAttributeEntity attribute(UUID id, String key, String value) {
+    var attribute = new TenantAttributeEntity();
+    attribute.setId(id);
+    attribute.setKey(key);
+    attribute.setValue(value);
+    return attribute;
+  }
+
+  @SuppressWarnings("unchecked")
+  private static JpaRepository<TenantAttributeEntity, UUID> repositoryStandIn() {
+    return (JpaRepository<TenantAttributeEntity, UUID>) Proxy.newProxyInstance(
+      JpaRepository.class.getClassLoader(), new Class<?>[] {JpaRepository.class},
+      (proxy, method, args) -> "saveAllAndFlush".equals(method.getName()) ? args[0] : null);
+  }
+}
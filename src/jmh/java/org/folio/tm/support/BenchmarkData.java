@@ -0,0 +1,48 @@
+package org.folio.tm.support;
+
+import static org.folio.tm.domain.dto.TenantType.DEFAULT;
+
+import java.time.OffsetDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+import lombok.AccessLevel;
+import lombok.NoArgsConstructor;
+import org.folio.tm.domain.dto.Metadata;
+import org.folio.tm.domain.dto.Tenant;
+import org.folio.tm.domain.dto.TenantAttribute;
+
+@NoArgsConstructor(access = AccessLevel.PRIVATE)
+public final class BenchmarkData {
+
+  public static final UUID USER_ID = UUID.fromString("00000000-0000-0000-0000-000000000001");
+
+  public static Tenant tenant(int attributesCount) {
+    return new Tenant()
+      .id(UUID.randomUUID())
+      .name("tenant" + attributesCount)
+      .description("Benchmark tenant with " + attributesCount + " attributes")
+      .type(DEFAULT)
+      .secure(false)
+      .attributes(attributes(attributesCount))
+      .metadata(metadata());
+  }
+
+  public static List<TenantAttribute> attributes(int count) {
+    var attributes = new ArrayList<TenantAttribute>(count);
+    for (int i = 0; i < count; i++) {
+      attributes.add(new TenantAttribute()
+        .id(UUID.randomUUID())
+        .key("key" + i)
+        .value("value" + i)
+        .metadata(metadata()));
+    }
+
+    return attributes;
+  }
+
+  private static Metadata metadata() {
+    var now = OffsetDateTime.now();
+    return new Metadata().createdDate(now).createdBy(USER_ID).modifiedDate(now).modifiedBy(USER_ID);
+  }
+}
@@ -0,0 +1,61 @@
+package org.folio.tm.utils;
+
+import static java.util.concurrent.TimeUnit.MICROSECONDS;
+
+import org.folio.tm.domain.dto.Tenant;
+import org.folio.tm.support.BenchmarkData;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import tools.jackson.databind.JsonNode;
+import tools.jackson.databind.json.JsonMapper;
+
+/**
+ * Measures JSON serialization and parsing of tenants with attributes.
+ */
+@Fork(1)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(MICROSECONDS)
+public class JsonHelperBenchmark {
+
+  @Param({"10", "1000"})
+  private int attributesCount;
+
+  private JsonHelper jsonHelper;
+  private Tenant tenant;
+  private String tenantJson;
+
+  @Setup(Level.Trial)
+  public void setUp() {
+    jsonHelper = new JsonHelper(JsonMapper.builder().build());
+    tenant = BenchmarkData.tenant(attributesCount);
+    tenantJson = jsonHelper.asJsonString(tenant);
+  }
+
+  @Benchmark
+  public String asJsonString() {
+    return jsonHelper.asJsonString(tenant);
+  }
+
+  @Benchmark
+  public Tenant parseAsTenant() {
+    return jsonHelper.parse(tenantJson, Tenant.class);
+  }
+
+  @Benchmark
+  public JsonNode parseAsTree() {
+    return jsonHelper.parse(tenantJson);
+  }
+}
@@ -15,12 +15,30 @@ import org.springframework.context.annotation.Configuration;
 @EnableConfigurationProperties(CacheProperties.class)
 public class CacheConfiguration {
 
+  public static final String TENANT_CACHE = "tenant";
+  public static final String TENANT_BY_NAME_CACHE = "tenant-by-name";
+
   private static final String TOKEN_CACHE = "token";
 
+  /**
+   * Creates cache manager for application caches.
+   *
+   * <p>
+   * Caches are transaction-aware: evictions performed inside a transaction are applied only after commit, so
+   * concurrent readers cannot re-populate a cache with a stale value of a not yet committed write.
+   * </p>
+   *
+   * @param cacheProperties - cache configuration properties
+   * @return {@link CacheManager} object
+   */
   @Bean
   public CacheManager cacheManager(CacheProperties cacheProperties) {
     var cacheManager = new SimpleCacheManager();
-    cacheManager.setCaches(List.of(buildCache(TOKEN_CACHE, cacheProperties.token())));
+    cacheManager.setTransactionAware(true);
+    cacheManager.setCaches(List.of(
+      buildCache(TOKEN_CACHE, cacheProperties.token()),
+      buildCache(TENANT_CACHE, cacheProperties.tenant()),
+      buildCache(TENANT_BY_NAME_CACHE, cacheProperties.tenant())));
     return cacheManager;
   }
 
@@ -28,6 +46,7 @@ public class CacheConfiguration {
     return new CaffeineCache(name, Caffeine.newBuilder()
       .maximumSize(spec.maximumSize())
       .expireAfterWrite(spec.ttl())
+      .recordStats()
       .build());
   }
 }
@@ -4,7 +4,7 @@ import java.time.Duration;
 import org.springframework.boot.context.properties.ConfigurationProperties;
 
 @ConfigurationProperties(prefix = "application.cache")
-public record CacheProperties(CacheSpec token) {
+public record CacheProperties(CacheSpec token, CacheSpec tenant) {
 
   public record CacheSpec(Duration ttl, long maximumSize) {}
 }
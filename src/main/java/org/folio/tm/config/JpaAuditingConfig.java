@@ -15,6 +15,7 @@ import org.springframework.data.auditing.DateTimeProvider;
 import org.springframework.data.domain.AuditorAware;
 import org.springframework.data.jpa.repository.config.EnableJpaAuditing;
 import org.springframework.lang.NonNull;
+import org.springframework.web.context.request.RequestContextHolder;
 
 @Configuration
 @EnableJpaAuditing(auditorAwareRef = "auditorAware", dateTimeProviderRef = "dateTimeProvider", modifyOnCreate = false)
@@ -39,7 +40,8 @@ public class JpaAuditingConfig {
     @NonNull
     @Override
     public Optional<UUID> getCurrentAuditor() {
-      if (httpServletRequest != null && isNotBlank(httpServletRequest.getHeader(OkapiHeaders.USER_ID))) {
+      if (httpServletRequest != null && RequestContextHolder.getRequestAttributes() != null
+        && isNotBlank(httpServletRequest.getHeader(OkapiHeaders.USER_ID))) {
         var okapiUserId = httpServletRequest.getHeader(OkapiHeaders.USER_ID);
         try {
           return Optional.of(UUID.fromString(okapiUserId));
@@ -0,0 +1,11 @@
+package org.folio.tm.config;
+
+import org.springframework.context.annotation.Configuration;
+import org.springframework.scheduling.annotation.EnableScheduling;
+
+/**
+ * Enables scheduled tasks: tenant job and topic purge reconciliation, and tenant outbox polling.
+ */
+@Configuration
+@EnableScheduling
+public class SchedulingConfiguration {}
@@ -0,0 +1,41 @@
+package org.folio.tm.config;
+
+import jakarta.validation.constraints.Min;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import lombok.Data;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.validation.annotation.Validated;
+
+@Data
+@Validated
+@Configuration
+@ConfigurationProperties(prefix = "application.tenant-batch")
+public class TenantBatchConfiguration {
+
+  public static final String TENANT_BATCH_EXECUTOR = "tenantBatchExecutor";
+
+  /**
+   * Maximum number of tenants in a single batch request.
+   */
+  @Min(1)
+  private int maxSize = 100;
+
+  /**
+   * Maximum number of tenants provisioned in parallel.
+   */
+  @Min(1)
+  private int parallelism = 8;
+
+  /**
+   * Creates a bounded executor for tenant provisioning, tasks are executed by virtual threads.
+   *
+   * @return {@link ExecutorService} with {@link #parallelism} threads
+   */
+  @Bean(name = TENANT_BATCH_EXECUTOR, destroyMethod = "shutdown")
+  public ExecutorService tenantBatchExecutor() {
+    return Executors.newFixedThreadPool(parallelism, Thread.ofVirtual().name("tenant-batch-", 0).factory());
+  }
+}
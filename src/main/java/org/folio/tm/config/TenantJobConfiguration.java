@@ -0,0 +1,50 @@
+package org.folio.tm.config;
+
+import jakarta.validation.constraints.Min;
+import jakarta.validation.constraints.NotNull;
+import java.time.Duration;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import lombok.Data;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.validation.annotation.Validated;
+
+@Data
+@Validated
+@Configuration
+@ConfigurationProperties(prefix = "application.tenant-jobs")
+public class TenantJobConfiguration {
+
+  public static final String TENANT_JOB_EXECUTOR = "tenantJobExecutor";
+
+  /**
+   * Maximum number of tenant jobs executed in parallel.
+   */
+  @Min(1)
+  private int parallelism = 4;
+
+  /**
+   * Time without status change after which a pending or running tenant job is considered interrupted and failed,
+   * must exceed the longest tenant listener execution.
+   */
+  @NotNull
+  private Duration staleTimeout = Duration.ofMinutes(10);
+
+  /**
+   * Delay between checks for interrupted tenant jobs.
+   */
+  @NotNull
+  private Duration reconcileInterval = Duration.ofMinutes(1);
+
+  /**
+   * Creates a bounded executor for tenant jobs, tasks are executed by virtual threads.
+   *
+   * @return {@link ExecutorService} with {@link #parallelism} threads
+   */
+  @Bean(name = TENANT_JOB_EXECUTOR, destroyMethod = "shutdown")
+  public ExecutorService tenantJobExecutor() {
+    return Executors.newFixedThreadPool(parallelism, Thread.ofVirtual().name("tenant-job-", 0).factory());
+  }
+}
@@ -0,0 +1,35 @@
+package org.folio.tm.config;
+
+import jakarta.validation.constraints.Min;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import lombok.Data;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.validation.annotation.Validated;
+
+@Data
+@Validated
+@Configuration
+@ConfigurationProperties(prefix = "application.tenant-listeners")
+public class TenantListenerConfiguration {
+
+  public static final String TENANT_LISTENER_EXECUTOR = "tenantListenerExecutor";
+
+  /**
+   * Maximum number of tenant listeners executed in parallel across all tenant events.
+   */
+  @Min(1)
+  private int parallelism = 16;
+
+  /**
+   * Creates a bounded executor for tenant listeners of the same phase, tasks are executed by virtual threads.
+   *
+   * @return {@link ExecutorService} with {@link #parallelism} threads
+   */
+  @Bean(name = TENANT_LISTENER_EXECUTOR, destroyMethod = "shutdown")
+  public ExecutorService tenantListenerExecutor() {
+    return Executors.newFixedThreadPool(parallelism, Thread.ofVirtual().name("tenant-listener-", 0).factory());
+  }
+}
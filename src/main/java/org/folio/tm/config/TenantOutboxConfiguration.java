@@ -0,0 +1,74 @@
+package org.folio.tm.config;
+
+import jakarta.validation.constraints.Min;
+import jakarta.validation.constraints.NotNull;
+import java.time.Duration;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import lombok.Data;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.validation.annotation.Validated;
+
+@Data
+@Validated
+@Configuration
+@ConditionalOnProperty("application.tenant-outbox.enabled")
+@ConfigurationProperties(prefix = "application.tenant-outbox")
+public class TenantOutboxConfiguration {
+
+  public static final String TENANT_OUTBOX_EXECUTOR = "tenantOutboxExecutor";
+
+  /**
+   * Defines if tenant events are written to the outbox table instead of executing listeners in the transaction.
+   */
+  private boolean enabled;
+
+  /**
+   * Maximum number of outbox events claimed by a single dispatch run.
+   */
+  @Min(1)
+  private int batchSize = 50;
+
+  /**
+   * Maximum number of delivery attempts, an event is marked as failed once it is reached.
+   */
+  @Min(1)
+  private int maxAttempts = 10;
+
+  /**
+   * Delay before the first retry, doubled for each next attempt.
+   */
+  @NotNull
+  private Duration retryDelay = Duration.ofSeconds(10);
+
+  /**
+   * Upper bound for a delay between retries.
+   */
+  @NotNull
+  private Duration maxRetryDelay = Duration.ofMinutes(10);
+
+  /**
+   * Delay between runs of the background dispatcher delivering pending and retried events.
+   */
+  @NotNull
+  private Duration pollInterval = Duration.ofSeconds(5);
+
+  /**
+   * Time for which a claimed event is hidden from other dispatchers while it is being delivered.
+   */
+  @NotNull
+  private Duration leaseTimeout = Duration.ofMinutes(5);
+
+  /**
+   * Creates a single-threaded executor dispatching outbox events right after a transaction is committed.
+   *
+   * @return {@link ExecutorService} object
+   */
+  @Bean(name = TENANT_OUTBOX_EXECUTOR, destroyMethod = "shutdown")
+  public ExecutorService tenantOutboxExecutor() {
+    return Executors.newSingleThreadExecutor(Thread.ofVirtual().name("tenant-outbox-", 0).factory());
+  }
+}
@@ -0,0 +1,26 @@
+package org.folio.tm.config;
+
+import jakarta.validation.constraints.Min;
+import lombok.Data;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.validation.annotation.Validated;
+
+@Data
+@Validated
+@Configuration
+@ConfigurationProperties(prefix = "application.tenant-trace")
+public class TenantTraceConfiguration {
+
+  /**
+   * Number of the most recent tenant operation traces kept in memory.
+   */
+  @Min(0)
+  private int capacity = 100;
+
+  /**
+   * Maximum number of steps recorded for a single tenant operation.
+   */
+  @Min(1)
+  private int maxSteps = 500;
+}
@@ -19,8 +19,10 @@ public class TenantAttributeController extends BaseController implements TenantA
 
   @Override
   public ResponseEntity<TenantAttributes> getTenantAttributes(UUID tenantId, String query, Integer offset,
-    Integer limit) {
-    return ResponseEntity.ok(service.getAll(tenantId, query, offset, limit));
+    Integer limit, String after, Boolean includeTotal, String totalRecords) {
+    return after != null
+      ? ResponseEntity.ok(service.getAllByCursor(tenantId, query, after, limit, includeTotal))
+      : ResponseEntity.ok(service.getAll(tenantId, query, offset, limit, totalRecords));
   }
 
   @Override
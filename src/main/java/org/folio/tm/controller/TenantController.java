@@ -1,46 +1,89 @@
 package org.folio.tm.controller;
 
+import static org.apache.commons.lang3.BooleanUtils.isFalse;
+import static org.apache.commons.lang3.BooleanUtils.isTrue;
+import static org.apache.commons.lang3.StringUtils.substringBefore;
 import static org.springframework.http.HttpStatus.CREATED;
 import static org.springframework.http.HttpStatus.NO_CONTENT;
 
+import java.net.URI;
+import java.util.List;
 import java.util.UUID;
 import lombok.RequiredArgsConstructor;
 import org.folio.tm.domain.dto.Tenant;
+import org.folio.tm.domain.dto.TenantBatchResult;
 import org.folio.tm.domain.dto.Tenants;
 import org.folio.tm.rest.resource.TenantsApi;
+import org.folio.tm.service.TenantBatchService;
+import org.folio.tm.service.TenantJobService;
 import org.folio.tm.service.TenantService;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.servlet.support.ServletUriComponentsBuilder;
 
 @RestController
 @RequiredArgsConstructor
 public class TenantController extends BaseController implements TenantsApi {
 
   private final TenantService tenantService;
+  private final TenantBatchService tenantBatchService;
+  private final TenantJobService tenantJobService;
 
   @Override
-  public ResponseEntity<Tenant> createTenant(Tenant tenant) {
+  public ResponseEntity<Tenant> createTenant(Tenant tenant, Boolean async) {
+    if (isTrue(async)) {
+      var jobResult = tenantJobService.createTenant(tenant);
+      return ResponseEntity.accepted().location(tenantJobLocation(jobResult.jobId())).body(jobResult.result());
+    }
+
     return ResponseEntity.status(CREATED).body(tenantService.createTenant(tenant));
   }
 
+  @Override
+  public ResponseEntity<TenantBatchResult> createTenants(Tenants tenants) {
+    return ResponseEntity.ok(tenantBatchService.createTenants(tenants.getTenants()));
+  }
+
   @Override
   public ResponseEntity<Tenant> updateTenantById(UUID id, Tenant tenant) {
     return ResponseEntity.ok(tenantService.updateTenantById(id, tenant));
   }
 
   @Override
-  public ResponseEntity<Tenants> getTenantsByQuery(String query, Integer offset, Integer limit) {
-    return ResponseEntity.ok(tenantService.getTenantsByQuery(query, offset, limit));
+  public ResponseEntity<Tenants> getTenantsByQuery(String query, Integer offset, Integer limit, String after,
+    Boolean includeTotal, String totalRecords, Boolean includeAttributes) {
+    return after != null
+      ? ResponseEntity.ok(tenantService.getTenantsByCursor(query, after, limit, includeTotal, includeAttributes))
+      : ResponseEntity.ok(tenantService.getTenantsByQuery(query, offset, limit, totalRecords, includeAttributes));
+  }
+
+  @Override
+  public ResponseEntity<Tenants> getTenantsByAttributes(List<String> attribute, Integer limit, String after) {
+    return ResponseEntity.ok(tenantService.getTenantsByAttributes(attribute, after, limit));
   }
 
   @Override
-  public ResponseEntity<Tenant> getTenantById(UUID id) {
-    return ResponseEntity.ok(tenantService.getTenantById(id));
+  public ResponseEntity<Tenant> getTenantById(UUID id, Boolean includeAttributes) {
+    return isFalse(includeAttributes)
+      ? ResponseEntity.ok(tenantService.getTenantSummaryById(id))
+      : ResponseEntity.ok(tenantService.getTenantById(id));
   }
 
   @Override
-  public ResponseEntity<Void> deleteTenantById(UUID id, Boolean purgeKafkaTopics) {
+  public ResponseEntity<Void> deleteTenantById(UUID id, Boolean purgeKafkaTopics, Boolean async) {
+    if (isTrue(async)) {
+      return tenantJobService.deleteTenant(id, purgeKafkaTopics)
+        .map(jobId -> ResponseEntity.accepted().location(tenantJobLocation(jobId)).<Void>build())
+        .orElseGet(() -> ResponseEntity.status(NO_CONTENT).build());
+    }
+
     tenantService.deleteTenantById(id, purgeKafkaTopics);
     return ResponseEntity.status(NO_CONTENT).build();
   }
+
+  private static URI tenantJobLocation(UUID jobId) {
+    var requestUri = ServletUriComponentsBuilder.fromCurrentRequestUri();
+    var pathPrefix = substringBefore(requestUri.build().getPath(), "/tenants");
+    return requestUri.replacePath(pathPrefix + "/tenant-jobs/{id}").replaceQuery(null).buildAndExpand(jobId).toUri();
+  }
 }
@@ -0,0 +1,21 @@
+package org.folio.tm.controller;
+
+import java.util.UUID;
+import lombok.RequiredArgsConstructor;
+import org.folio.tm.domain.dto.TenantJob;
+import org.folio.tm.rest.resource.TenantJobsApi;
+import org.folio.tm.service.TenantJobService;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.RestController;
+
+@RestController
+@RequiredArgsConstructor
+public class TenantJobController extends BaseController implements TenantJobsApi {
+
+  private final TenantJobService tenantJobService;
+
+  @Override
+  public ResponseEntity<TenantJob> getTenantJobById(UUID id) {
+    return ResponseEntity.ok(tenantJobService.getTenantJobById(id));
+  }
+}
@@ -0,0 +1,21 @@
+package org.folio.tm.controller;
+
+import java.util.UUID;
+import lombok.RequiredArgsConstructor;
+import org.folio.tm.domain.dto.TenantTopicPurge;
+import org.folio.tm.rest.resource.TenantTopicPurgesApi;
+import org.folio.tm.service.TenantTopicPurgeService;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.RestController;
+
+@RestController
+@RequiredArgsConstructor
+public class TenantTopicPurgeController extends BaseController implements TenantTopicPurgesApi {
+
+  private final TenantTopicPurgeService tenantTopicPurgeService;
+
+  @Override
+  public ResponseEntity<TenantTopicPurge> getTenantTopicPurgeById(UUID id) {
+    return ResponseEntity.ok(tenantTopicPurgeService.getTenantTopicPurgeById(id));
+  }
+}
@@ -13,6 +13,7 @@ import lombok.EqualsAndHashCode;
 import lombok.ToString;
 import org.folio.tm.domain.entity.base.Auditable;
 import org.folio.tm.domain.entity.base.Identifiable;
+import org.springframework.data.domain.Persistable;
 import org.springframework.data.domain.Sort;
 
 @Data
@@ -20,7 +21,7 @@ import org.springframework.data.domain.Sort;
 @Table(name = "tenant_attribute")
 @ToString(callSuper = true)
 @EqualsAndHashCode(callSuper = true)
-public class TenantAttributeEntity extends Auditable implements Identifiable {
+public class TenantAttributeEntity extends Auditable implements Identifiable, Persistable<UUID> {
 
   public static final Sort SORT_BY_KEY = Sort.by(Sort.Direction.ASC, "key");
 
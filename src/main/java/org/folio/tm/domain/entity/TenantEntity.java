@@ -23,13 +23,14 @@ import org.hibernate.annotations.Fetch;
 import org.hibernate.annotations.FetchMode;
 import org.hibernate.annotations.JdbcTypeCode;
 import org.hibernate.type.SqlTypes;
+import org.springframework.data.domain.Persistable;
 
 @Data
 @Entity
 @Table(name = "tenant")
 @ToString(callSuper = true)
 @EqualsAndHashCode(callSuper = true)
-public class TenantEntity extends Auditable implements Identifiable {
+public class TenantEntity extends Auditable implements Identifiable, Persistable<UUID> {
 
   @Id
   private UUID id;
@@ -0,0 +1,57 @@
+package org.folio.tm.domain.entity;
+
+import jakarta.persistence.CollectionTable;
+import jakarta.persistence.Column;
+import jakarta.persistence.ElementCollection;
+import jakarta.persistence.Entity;
+import jakarta.persistence.EnumType;
+import jakarta.persistence.Enumerated;
+import jakarta.persistence.FetchType;
+import jakarta.persistence.Id;
+import jakarta.persistence.JoinColumn;
+import jakarta.persistence.OrderColumn;
+import jakarta.persistence.Table;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+import lombok.Data;
+import lombok.EqualsAndHashCode;
+import lombok.ToString;
+import org.folio.tm.domain.entity.base.Auditable;
+import org.folio.tm.domain.entity.base.Identifiable;
+import org.folio.tm.domain.model.TenantJobStatus;
+import org.folio.tm.domain.model.TenantJobType;
+import org.springframework.data.domain.Persistable;
+
+@Data
+@Entity
+@Table(name = "tenant_job")
+@ToString(callSuper = true)
+@EqualsAndHashCode(callSuper = true)
+public class TenantJobEntity extends Auditable implements Identifiable, Persistable<UUID> {
+
+  @Id
+  private UUID id;
+
+  @Enumerated(EnumType.STRING)
+  @Column(name = "type", nullable = false, updatable = false)
+  private TenantJobType type;
+
+  @Enumerated(EnumType.STRING)
+  @Column(name = "status", nullable = false)
+  private TenantJobStatus status;
+
+  @Column(name = "tenant_id", updatable = false)
+  private UUID tenantId;
+
+  @Column(name = "tenant_name", updatable = false)
+  private String tenantName;
+
+  @Column(name = "error")
+  private String error;
+
+  @OrderColumn(name = "position")
+  @ElementCollection(fetch = FetchType.EAGER)
+  @CollectionTable(name = "tenant_job_step", joinColumns = @JoinColumn(name = "job_id"))
+  private List<TenantJobStepEntity> steps = new ArrayList<>();
+}
@@ -0,0 +1,38 @@
+package org.folio.tm.domain.entity;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.Embeddable;
+import jakarta.persistence.EnumType;
+import jakarta.persistence.Enumerated;
+import java.time.OffsetDateTime;
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+import org.folio.tm.domain.model.TenantJobStatus;
+
+@Data
+@Embeddable
+@NoArgsConstructor
+@AllArgsConstructor(staticName = "of")
+public class TenantJobStepEntity {
+
+  @Column(name = "name", nullable = false)
+  private String name;
+
+  @Enumerated(EnumType.STRING)
+  @Column(name = "status", nullable = false)
+  private TenantJobStatus status;
+
+  @Column(name = "error")
+  private String error;
+
+  @Column(name = "started_date")
+  private OffsetDateTime startedDate;
+
+  @Column(name = "finished_date")
+  private OffsetDateTime finishedDate;
+
+  public static TenantJobStepEntity pending(String name) {
+    return of(name, TenantJobStatus.PENDING, null, null, null);
+  }
+}
@@ -0,0 +1,60 @@
+package org.folio.tm.domain.entity;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.EnumType;
+import jakarta.persistence.Enumerated;
+import jakarta.persistence.GeneratedValue;
+import jakarta.persistence.GenerationType;
+import jakarta.persistence.Id;
+import jakarta.persistence.Table;
+import java.time.OffsetDateTime;
+import java.util.UUID;
+import lombok.Data;
+import org.folio.tm.domain.model.TenantEventType;
+import org.folio.tm.domain.model.TenantOutboxEventStatus;
+
+@Data
+@Entity
+@Table(name = "tenant_outbox_event")
+public class TenantOutboxEventEntity {
+
+  @Id
+  @GeneratedValue(strategy = GenerationType.IDENTITY)
+  private Long id;
+
+  @Enumerated(EnumType.STRING)
+  @Column(name = "type", nullable = false, updatable = false)
+  private TenantEventType type;
+
+  @Column(name = "tenant_id", updatable = false)
+  private UUID tenantId;
+
+  @Column(name = "tenant_name", nullable = false, updatable = false)
+  private String tenantName;
+
+  @Column(name = "listener", nullable = false, updatable = false)
+  private String listener;
+
+  @Column(name = "payload", updatable = false)
+  private String payload;
+
+  @Column(name = "request_headers", updatable = false)
+  private String requestHeaders;
+
+  @Enumerated(EnumType.STRING)
+  @Column(name = "status", nullable = false)
+  private TenantOutboxEventStatus status;
+
+  @Column(name = "attempts", nullable = false)
+  private int attempts;
+
+  @Column(name = "next_attempt_date", nullable = false)
+  private OffsetDateTime nextAttemptDate;
+
+  @Column(name = "error")
+  private String error;
+
+  @Column(name = "created_date", nullable = false, updatable = false)
+  private OffsetDateTime createdDate;
+}
@@ -0,0 +1,51 @@
+package org.folio.tm.domain.entity;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.EnumType;
+import jakarta.persistence.Enumerated;
+import jakarta.persistence.Id;
+import jakarta.persistence.Table;
+import java.util.UUID;
+import lombok.Data;
+import lombok.EqualsAndHashCode;
+import lombok.ToString;
+import org.folio.tm.domain.entity.base.Auditable;
+import org.folio.tm.domain.model.TenantType;
+import org.hibernate.annotations.Immutable;
+import org.hibernate.annotations.JdbcTypeCode;
+import org.hibernate.type.SqlTypes;
+
+/**
+ * Read-only projection of the tenant table without tenant attributes.
+ *
+ * <p>
+ * {@link TenantEntity} fetches attributes eagerly, so every query for it also reads {@code tenant_attribute}. This
+ * entity maps the same table without the association and is used to list tenants when attributes are not requested.
+ * </p>
+ */
+@Data
+@Entity
+@Immutable
+@Table(name = "tenant")
+@ToString(callSuper = true)
+@EqualsAndHashCode(callSuper = true)
+public class TenantSummaryEntity extends Auditable {
+
+  @Id
+  private UUID id;
+
+  @Column(name = "name", nullable = false)
+  private String name;
+
+  @Column(name = "description")
+  private String description;
+
+  @Enumerated(EnumType.STRING)
+  @JdbcTypeCode(SqlTypes.NAMED_ENUM)
+  @Column(name = "type", columnDefinition = "tenant_type")
+  private TenantType type;
+
+  @Column(name = "is_secure")
+  private Boolean secure;
+}
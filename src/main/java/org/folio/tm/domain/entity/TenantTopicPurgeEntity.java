@@ -0,0 +1,55 @@
+package org.folio.tm.domain.entity;
+
+import jakarta.persistence.CollectionTable;
+import jakarta.persistence.Column;
+import jakarta.persistence.ElementCollection;
+import jakarta.persistence.Entity;
+import jakarta.persistence.EnumType;
+import jakarta.persistence.Enumerated;
+import jakarta.persistence.FetchType;
+import jakarta.persistence.Id;
+import jakarta.persistence.JoinColumn;
+import jakarta.persistence.OrderColumn;
+import jakarta.persistence.Table;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+import lombok.Data;
+import lombok.EqualsAndHashCode;
+import lombok.ToString;
+import org.folio.tm.domain.entity.base.Auditable;
+import org.folio.tm.domain.entity.base.Identifiable;
+import org.folio.tm.domain.model.TenantJobStatus;
+import org.springframework.data.domain.Persistable;
+
+/**
+ * Kafka topics purge of a deleted tenant, a tenant recreated with the same id and deleted again gets a new purge.
+ */
+@Data
+@Entity
+@Table(name = "tenant_topic_purge")
+@ToString(callSuper = true)
+@EqualsAndHashCode(callSuper = true)
+public class TenantTopicPurgeEntity extends Auditable implements Identifiable, Persistable<UUID> {
+
+  @Id
+  private UUID id;
+
+  @Column(name = "tenant_id", nullable = false, updatable = false)
+  private UUID tenantId;
+
+  @Column(name = "tenant_name", nullable = false, updatable = false)
+  private String tenantName;
+
+  @Enumerated(EnumType.STRING)
+  @Column(name = "status", nullable = false)
+  private TenantJobStatus status;
+
+  @Column(name = "error")
+  private String error;
+
+  @OrderColumn(name = "position")
+  @ElementCollection(fetch = FetchType.EAGER)
+  @CollectionTable(name = "tenant_topic_purge_topic", joinColumns = @JoinColumn(name = "purge_id"))
+  private List<TenantTopicPurgeTopicEntity> topics = new ArrayList<>();
+}
@@ -0,0 +1,23 @@
+package org.folio.tm.domain.entity;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.Embeddable;
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+@Data
+@Embeddable
+@NoArgsConstructor
+@AllArgsConstructor(staticName = "of")
+public class TenantTopicPurgeTopicEntity {
+
+  @Column(name = "topic", nullable = false)
+  private String topic;
+
+  @Column(name = "attempts", nullable = false)
+  private int attempts;
+
+  @Column(name = "error")
+  private String error;
+}
@@ -3,6 +3,7 @@ package org.folio.tm.domain.entity.base;
 import jakarta.persistence.Column;
 import jakarta.persistence.EntityListeners;
 import jakarta.persistence.MappedSuperclass;
+import jakarta.persistence.Transient;
 import java.time.OffsetDateTime;
 import java.util.UUID;
 import lombok.Getter;
@@ -36,4 +37,17 @@ public class Auditable {
   @LastModifiedBy
   @Column(name = "updated_by")
   private UUID updatedBy;
+
+  /**
+   * Checks if entity is not persisted yet.
+   *
+   * <p>Entities have externally assigned identifiers, so the creation date is used instead of the id to let
+   * {@code save} call {@code persist} for new entities rather than {@code merge}, which selects the row first.</p>
+   *
+   * @return true if entity has not been persisted yet, false - otherwise
+   */
+  @Transient
+  public boolean isNew() {
+    return createdDate == null;
+  }
 }
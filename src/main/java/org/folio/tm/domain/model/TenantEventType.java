@@ -0,0 +1,8 @@
+package org.folio.tm.domain.model;
+
+public enum TenantEventType {
+  CREATE,
+  UPDATE,
+  DELETE,
+  ATTRIBUTES_UPDATE
+}
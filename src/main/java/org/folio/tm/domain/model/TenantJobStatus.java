@@ -0,0 +1,8 @@
+package org.folio.tm.domain.model;
+
+public enum TenantJobStatus {
+  PENDING,
+  RUNNING,
+  COMPLETED,
+  FAILED
+}
@@ -0,0 +1,6 @@
+package org.folio.tm.domain.model;
+
+public enum TenantJobType {
+  CREATE,
+  DELETE
+}
@@ -0,0 +1,31 @@
+package org.folio.tm.domain.model;
+
+import java.time.Instant;
+import java.util.List;
+import java.util.UUID;
+
+/**
+ * Timing trace of a tenant lifecycle operation.
+ *
+ * @param operation - operation name
+ * @param tenantId - tenant identifier, nullable
+ * @param tenantName - tenant name, nullable
+ * @param startedAt - operation start time
+ * @param durationMs - operation duration in milliseconds
+ * @param outcome - operation outcome
+ * @param steps - steps in the order of their completion
+ * @param droppedSteps - number of steps not included into the trace because of the steps limit
+ */
+public record TenantOperationTrace(String operation, UUID tenantId, String tenantName, Instant startedAt,
+  long durationMs, String outcome, List<Step> steps, int droppedSteps) {
+
+  /**
+   * Timing of a single operation step.
+   *
+   * @param name - step name
+   * @param startOffsetMs - step start time relative to the operation start in milliseconds
+   * @param durationMs - step duration in milliseconds
+   * @param outcome - step outcome
+   */
+  public record Step(String name, long startOffsetMs, long durationMs, String outcome) {}
+}
@@ -0,0 +1,6 @@
+package org.folio.tm.domain.model;
+
+public enum TenantOutboxEventStatus {
+  PENDING,
+  FAILED
+}
@@ -0,0 +1,146 @@
+package org.folio.tm.integration;
+
+import static java.util.concurrent.TimeUnit.NANOSECONDS;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Tags;
+import io.micrometer.core.instrument.Timer;
+import jakarta.annotation.Nullable;
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Method;
+import java.lang.reflect.Proxy;
+import java.util.function.Supplier;
+import lombok.RequiredArgsConstructor;
+import org.folio.tm.service.trace.TenantTraceContext;
+import org.springframework.stereotype.Component;
+
+/**
+ * Records latency and errors of external integration calls and tenant listener invocations.
+ *
+ * <p>
+ * Each call is recorded by a timer tagged with integration, operation and outcome, failed calls are additionally
+ * counted by an error counter tagged with the error name. Calls made within a tenant operation are also added as
+ * steps to its trace.
+ * </p>
+ */
+@Component
+@RequiredArgsConstructor
+public class IntegrationMetrics {
+
+  public static final String CALLS_METRIC = "integration.calls";
+  public static final String CALL_ERRORS_METRIC = "integration.call.errors";
+  public static final String LISTENER_INVOCATIONS_METRIC = "tenant.listener.invocations";
+  public static final String LISTENER_ERRORS_METRIC = "tenant.listener.errors";
+
+  public static final String OUTCOME_SUCCESS = "success";
+  public static final String OUTCOME_ERROR = "error";
+
+  private final MeterRegistry meterRegistry;
+
+  /**
+   * Records an integration call, measuring the given action.
+   *
+   * @param integration - integration name
+   * @param operation - operation name
+   * @param action - integration call
+   * @param <T> - call result type
+   * @return call result
+   */
+  public <T> T record(String integration, String operation, Supplier<T> action) {
+    var tags = Tags.of("integration", integration, "operation", operation);
+    return measure(CALLS_METRIC, CALL_ERRORS_METRIC, tags, integration + ":" + operation, action);
+  }
+
+  /**
+   * Records an integration call measured by the caller.
+   *
+   * @param integration - integration name
+   * @param operation - operation name
+   * @param durationNanos - call duration in nanoseconds
+   * @param error - error name, null if call succeeded
+   */
+  public void record(String integration, String operation, long durationNanos, @Nullable String error) {
+    var tags = Tags.of("integration", integration, "operation", operation);
+    record(CALLS_METRIC, CALL_ERRORS_METRIC, tags, integration + ":" + operation, durationNanos, error);
+  }
+
+  /**
+   * Records a tenant listener invocation.
+   *
+   * @param listener - listener name
+   * @param event - tenant event name
+   * @param action - listener invocation
+   */
+  public void recordListener(String listener, String event, Runnable action) {
+    var tags = Tags.of("listener", listener, "event", event);
+    measure(LISTENER_INVOCATIONS_METRIC, LISTENER_ERRORS_METRIC, tags, "listener:" + listener, () -> {
+      action.run();
+      return null;
+    });
+  }
+
+  /**
+   * Wraps an HTTP service client, recording each method call as an operation of the given integration.
+   *
+   * @param integration - integration name
+   * @param type - client interface
+   * @param client - client to wrap
+   * @param <T> - client type
+   * @return instrumented client
+   */
+  public <T> T instrument(String integration, Class<T> type, T client) {
+    var proxy = Proxy.newProxyInstance(type.getClassLoader(), new Class<?>[] {type}, (instance, method, args) -> {
+      if (method.getDeclaringClass() == Object.class) {
+        return method.invoke(client, args);
+      }
+
+      return record(integration, method.getName(), () -> invoke(method, client, args));
+    });
+
+    return type.cast(proxy);
+  }
+
+  private <T> T measure(String metric, String errorMetric, Tags tags, String step, Supplier<T> action) {
+    var startTime = System.nanoTime();
+    try {
+      var result = action.get();
+      record(metric, errorMetric, tags, step, System.nanoTime() - startTime, null);
+      return result;
+    } catch (RuntimeException exception) {
+      var error = exception.getClass().getSimpleName();
+      record(metric, errorMetric, tags, step, System.nanoTime() - startTime, error);
+      throw exception;
+    }
+  }
+
+  private void record(String metric, String errorMetric, Tags tags, String step, long durationNanos,
+    @Nullable String error) {
+    TenantTraceContext.recordStep(step, durationNanos, error);
+    Timer.builder(metric)
+      .tags(tags.and("outcome", error == null ? OUTCOME_SUCCESS : OUTCOME_ERROR))
+      .register(meterRegistry)
+      .record(durationNanos, NANOSECONDS);
+
+    if (error != null) {
+      Counter.builder(errorMetric)
+        .tags(tags.and("error", error))
+        .register(meterRegistry)
+        .increment();
+    }
+  }
+
+  private static Object invoke(Method method, Object target, Object[] args) {
+    try {
+      return method.invoke(target, args);
+    } catch (InvocationTargetException exception) {
+      if (exception.getCause() instanceof RuntimeException cause) {
+        throw cause;
+      }
+      throw new IllegalStateException("Failed to invoke integration client method: " + method.getName(),
+        exception.getCause());
+    } catch (IllegalAccessException exception) {
+      throw new IllegalStateException("Failed to invoke integration client method: " + method.getName(), exception);
+    }
+  }
+}
@@ -5,6 +5,7 @@ import lombok.Data;
 import lombok.extern.log4j.Log4j2;
 import org.folio.common.configuration.properties.TlsProperties;
 import org.folio.common.utils.tls.HttpClientTlsUtils;
+import org.folio.tm.integration.IntegrationMetrics;
 import org.folio.tm.integration.entitlements.TenantEntitlementsClient;
 import org.springframework.boot.context.properties.ConfigurationProperties;
 import org.springframework.context.annotation.Bean;
@@ -33,11 +34,13 @@ public class TenantEntitlementsConfiguration {
   /**
    * Creates HTTP service client for tenant entitlements service.
    *
+   * @param integrationMetrics - metrics recorder for client calls
    * @return configured {@link TenantEntitlementsClient}
    */
   @Bean
-  public TenantEntitlementsClient tenantEntitlementsClient() {
-    return HttpClientTlsUtils.buildHttpServiceClient(
+  public TenantEntitlementsClient tenantEntitlementsClient(IntegrationMetrics integrationMetrics) {
+    var client = HttpClientTlsUtils.buildHttpServiceClient(
       RestClient.builder(), tls, url, TenantEntitlementsClient.class);
+    return integrationMetrics.instrument("mgr-tenant-entitlements", TenantEntitlementsClient.class, client);
   }
 }
@@ -1,17 +1,29 @@
 package org.folio.tm.integration.kafka;
 
-import static java.lang.Thread.currentThread;
-import static java.util.concurrent.TimeUnit.SECONDS;
-import static java.util.stream.Collectors.toSet;
-import static org.apache.commons.lang3.BooleanUtils.isNotTrue;
+import static java.util.concurrent.CompletableFuture.delayedExecutor;
+import static java.util.concurrent.TimeUnit.MILLISECONDS;
 import static org.folio.common.configuration.properties.FolioEnvironment.getFolioEnvName;
 
-import java.util.Set;
+import jakarta.annotation.Nullable;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ConcurrentSkipListMap;
 import java.util.concurrent.ExecutionException;
-import java.util.concurrent.TimeoutException;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.log4j.Log4j2;
+import org.apache.commons.collections4.ListUtils;
 import org.apache.kafka.clients.admin.AdminClient;
+import org.apache.kafka.common.KafkaFuture;
+import org.apache.kafka.common.errors.UnknownTopicOrPartitionException;
+import org.folio.tm.integration.IntegrationMetrics;
+import org.folio.tm.integration.kafka.configuration.KafkaTopicPurgeProperties;
+import org.folio.tm.integration.kafka.model.TopicPurgeResult;
+import org.folio.tm.integration.kafka.model.TopicPurgeResult.TopicOutcome;
 import org.springframework.stereotype.Service;
 
 @Log4j2
@@ -19,44 +31,166 @@ import org.springframework.stereotype.Service;
 @RequiredArgsConstructor
 public class KafkaService {
 
-  private static final long TIMEOUT_SECONDS = 30;
+  private static final String INTEGRATION = "kafka";
 
   private final AdminClient adminClient;
+  private final IntegrationMetrics integrationMetrics;
+  private final KafkaTopicPurgeProperties topicPurgeProperties;
+  private final KafkaTopicIndex topicIndex;
 
-  public void deleteTopics(String tenant, Boolean purgeKafkaTopics) {
-    if (isNotTrue(purgeKafkaTopics)) {
-      log.info("Purge Kafka topics is disabled, skipping topic deletion for tenant: tenant = {}", tenant);
-      return;
+  /**
+   * Deletes Kafka topics of the given tenants without blocking the calling thread.
+   *
+   * <p>
+   * Topics are listed once and applied to the sorted topic index, tenant topics are the ones starting with the
+   * {@code env.tenant.} prefix. Matched topics are deleted by chunks of
+   * {@code chunkSize} topics, all chunk requests are sent before any result is received, so the cluster processes
+   * them concurrently. Topics that failed to be deleted are deleted again after {@code retryDelay}, doubled for each
+   * next attempt, up to {@code maxAttempts} attempts per topic.
+   * </p>
+   *
+   * <p>
+   * The returned future is completed by Kafka admin client callbacks, dependent actions must not block.
+   * </p>
+   *
+   * @param tenants - tenant names
+   * @return {@link CompletableFuture} with an outcome per matched topic, failed if topics cannot be listed
+   */
+  public CompletableFuture<TopicPurgeResult> purgeTopicsAsync(Collection<String> tenants) {
+    return call("listTopics", adminClient.listTopics().names())
+      .thenCompose(topics -> {
+        topicIndex.refresh(topics);
+        var topicTenants = findTenantTopics(tenants);
+        var attempts = new HashMap<String, Integer>();
+        return deleteWithRetries(List.copyOf(topicTenants.keySet()), attempts, 1)
+          .thenApply(errors -> toResult(topicTenants, attempts, errors));
+      })
+      .whenComplete((result, error) -> logResult(tenants, result, error));
+  }
+
+  public static String getTopicPrefix(String tenant) {
+    return String.format("%s.%s.", getFolioEnvName(), tenant);
+  }
+
+  private Map<String, String> findTenantTopics(Collection<String> tenants) {
+    var topicTenants = new TreeMap<String, String>();
+    for (var tenant : tenants) {
+      topicIndex.findByPrefix(getTopicPrefix(tenant)).forEach(topic -> topicTenants.put(topic, tenant));
     }
 
-    try {
-      var topicsToDelete = getTopicsToDelete(tenant);
-      if (topicsToDelete.isEmpty()) {
-        log.info("No topics to delete for tenant: tenant = {}", tenant);
-        return;
+    return topicTenants;
+  }
+
+  /**
+   * Deletes topics, retrying failed topics with exponential backoff.
+   *
+   * @return error names of topics that failed all attempts by topic name
+   */
+  private CompletableFuture<Map<String, String>> deleteWithRetries(List<String> topics, Map<String, Integer> attempts,
+    int attempt) {
+    if (topics.isEmpty()) {
+      return CompletableFuture.completedFuture(Map.of());
+    }
+
+    topics.forEach(topic -> attempts.put(topic, attempt));
+    return deleteInChunks(topics).thenCompose(failed -> {
+      if (failed.isEmpty() || attempt >= topicPurgeProperties.getMaxAttempts()) {
+        return CompletableFuture.completedFuture(failed);
       }
-      log.debug("Deleting topics for tenant: tenant = {}, topics = {}", tenant, topicsToDelete);
-      adminClient.deleteTopics(topicsToDelete).all().get(TIMEOUT_SECONDS, SECONDS);
-      log.info("Deleted topics successfully: tenant = {}", tenant);
-    } catch (InterruptedException e) {
-      currentThread().interrupt();
-      log.warn("Interrupted while deleting topics: tenant = {}", tenant, e);
-    } catch (ExecutionException | TimeoutException e) {
-      log.warn("Error deleting topics: tenant = {}", tenant, e);
+
+      var delay = topicPurgeProperties.getRetryDelay().toMillis() << (attempt - 1);
+      log.debug("Retrying deletion of failed topics: topics = {}, delay = {} ms", failed.keySet(), delay);
+      return CompletableFuture.runAsync(() -> {}, delayedExecutor(delay, MILLISECONDS))
+        .thenCompose(ignored -> deleteWithRetries(List.copyOf(failed.keySet()), attempts, attempt + 1));
+    });
+  }
+
+  /**
+   * Sends delete requests for all chunks of topics and collects per-topic results.
+   *
+   * @return error names of failed topics by topic name
+   */
+  private CompletableFuture<Map<String, String>> deleteInChunks(List<String> topics) {
+    var startTime = System.nanoTime();
+    var futures = new HashMap<String, KafkaFuture<Void>>();
+    for (var chunk : ListUtils.partition(topics, topicPurgeProperties.getChunkSize())) {
+      futures.putAll(adminClient.deleteTopics(chunk).topicNameValues());
     }
+
+    var errors = new ConcurrentSkipListMap<String, String>();
+    var deletions = topics.stream()
+      .map(topic -> awaitDeletion(futures.get(topic)).thenAccept(error -> {
+        if (error != null) {
+          errors.put(topic, error);
+        }
+      }))
+      .toArray(CompletableFuture[]::new);
+
+    return CompletableFuture.allOf(deletions).thenApply(ignored -> {
+      var error = errors.isEmpty() ? null : errors.firstEntry().getValue();
+      integrationMetrics.record(INTEGRATION, "deleteTopics", System.nanoTime() - startTime, error);
+      return Map.copyOf(errors);
+    });
   }
 
-  private Set<String> getTopicsToDelete(String tenant)
-    throws InterruptedException, ExecutionException, TimeoutException {
-    var allTopics = adminClient.listTopics().names().get(TIMEOUT_SECONDS, SECONDS);
-    log.debug("All topics: {}", () -> allTopics);
-    var topicPrefix = getTopicPrefix(tenant);
-    return allTopics.stream()
-      .filter(name -> name.contains(topicPrefix))
-      .collect(toSet());
+  /**
+   * Converts topic deletion future to a future of its error name, null if topic is deleted or already absent.
+   */
+  private static CompletableFuture<String> awaitDeletion(@Nullable KafkaFuture<Void> future) {
+    if (future == null) {
+      return CompletableFuture.completedFuture("NoResult");
+    }
+
+    var result = new CompletableFuture<String>();
+    future.whenComplete((ignored, error) -> {
+      var cause = unwrap(error);
+      result.complete(cause == null || cause instanceof UnknownTopicOrPartitionException ? null : getName(cause));
+    });
+    return result;
   }
 
-  public static String getTopicPrefix(String tenant) {
-    return String.format("%s.%s.", getFolioEnvName(), tenant);
+  private <T> CompletableFuture<T> call(String operation, KafkaFuture<T> future) {
+    var startTime = System.nanoTime();
+    var result = new CompletableFuture<T>();
+    future.whenComplete((value, error) -> {
+      var cause = unwrap(error);
+      integrationMetrics.record(INTEGRATION, operation, System.nanoTime() - startTime, getName(cause));
+      if (cause != null) {
+        result.completeExceptionally(cause);
+      } else {
+        result.complete(value);
+      }
+    });
+
+    return result;
+  }
+
+  @Nullable
+  private static Throwable unwrap(@Nullable Throwable error) {
+    return error instanceof CompletionException || error instanceof ExecutionException ? error.getCause() : error;
+  }
+
+  @Nullable
+  private static String getName(@Nullable Throwable error) {
+    return error == null ? null : error.getClass().getSimpleName();
+  }
+
+  private TopicPurgeResult toResult(Map<String, String> topicTenants, Map<String, Integer> attempts,
+    Map<String, String> errors) {
+    topicIndex.remove(topicTenants.keySet().stream().filter(topic -> !errors.containsKey(topic)).toList());
+    return new TopicPurgeResult(topicTenants.entrySet().stream()
+      .map(entry -> new TopicOutcome(entry.getValue(), entry.getKey(), attempts.get(entry.getKey()),
+        errors.get(entry.getKey())))
+      .toList());
+  }
+
+  private static void logResult(Collection<String> tenants, TopicPurgeResult result, Throwable error) {
+    if (error != null) {
+      log.warn("Failed to purge Kafka topics: tenants = {}", tenants, unwrap(error));
+      return;
+    }
+
+    log.info("Purged Kafka topics: tenants = {}, topics = {}, failed = {}",
+      tenants, result.topics().size(), result.getFailedTopics());
   }
 }
@@ -0,0 +1,70 @@
+package org.folio.tm.integration.kafka;
+
+import java.util.Collection;
+import java.util.NavigableSet;
+import java.util.Set;
+import java.util.SortedSet;
+import java.util.concurrent.ConcurrentSkipListSet;
+import org.springframework.stereotype.Component;
+
+/**
+ * Sorted index of Kafka topic names, used to find topics by name prefix without scanning all topics.
+ *
+ * <p>
+ * Topics starting with a prefix form a contiguous range of the sorted set, so a lookup costs a single range search
+ * plus the number of matched topics. The index is kept between topic purges and refreshed by applying the difference
+ * with the listed topics only, topics deleted by a purge are removed right away.
+ * </p>
+ */
+@Component
+public class KafkaTopicIndex {
+
+  private final NavigableSet<String> topics = new ConcurrentSkipListSet<>();
+
+  /**
+   * Applies listed topics to the index, adding new topics and removing topics that no longer exist.
+   *
+   * @param listedTopics - names of all existing topics
+   */
+  public void refresh(Set<String> listedTopics) {
+    topics.removeIf(topic -> !listedTopics.contains(topic));
+    for (var topic : listedTopics) {
+      if (!topics.contains(topic)) {
+        topics.add(topic);
+      }
+    }
+  }
+
+  /**
+   * Removes deleted topics from the index.
+   *
+   * @param deletedTopics - names of deleted topics
+   */
+  public void remove(Collection<String> deletedTopics) {
+    deletedTopics.forEach(topics::remove);
+  }
+
+  /**
+   * Finds topics whose names start with the given prefix.
+   *
+   * <p>The range ends at the prefix with its last character incremented, it cannot overflow as Kafka topic names are
+   * limited to ASCII alphanumerics, {@code .}, {@code _} and {@code -}.</p>
+   *
+   * @param prefix - topic name prefix, must not be empty
+   * @return sorted view of matched topic names
+   */
+  public SortedSet<String> findByPrefix(String prefix) {
+    var lastIndex = prefix.length() - 1;
+    var prefixEnd = prefix.substring(0, lastIndex) + (char) (prefix.charAt(lastIndex) + 1);
+    return topics.subSet(prefix, true, prefixEnd, false);
+  }
+
+  /**
+   * Returns the number of indexed topics.
+   *
+   * @return number of indexed topics
+   */
+  public int size() {
+    return topics.size();
+  }
+}
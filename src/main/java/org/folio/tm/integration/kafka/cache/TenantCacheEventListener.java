@@ -0,0 +1,63 @@
+package org.folio.tm.integration.kafka.cache;
+
+import static org.folio.tm.config.CacheConfiguration.TENANT_BY_NAME_CACHE;
+import static org.folio.tm.config.CacheConfiguration.TENANT_CACHE;
+import static org.folio.tm.integration.kafka.model.TenantCacheEvent.Type.DELETE;
+
+import java.util.Optional;
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.log4j.Log4j2;
+import org.folio.tm.integration.kafka.model.TenantCacheEvent;
+import org.folio.tm.utils.JsonHelper;
+import org.springframework.cache.Cache;
+import org.springframework.cache.CacheManager;
+import org.springframework.kafka.annotation.KafkaListener;
+
+/**
+ * Consumes tenant cache invalidation events and evicts affected entries from the local tenant caches.
+ *
+ * <p>
+ * Each application instance uses its own consumer group, so every instance receives all events. The group is stable
+ * across restarts of an instance, so restarts do not leave abandoned consumer groups behind.
+ * </p>
+ */
+@Log4j2
+@RequiredArgsConstructor
+public class TenantCacheEventListener {
+
+  @Getter private final String topic;
+  @Getter private final String groupId;
+  private final JsonHelper jsonHelper;
+  private final CacheManager cacheManager;
+
+  /**
+   * Handles tenant cache event.
+   *
+   * @param message - tenant cache event as json string
+   */
+  @KafkaListener(
+    id = "tenant-cache-event-listener",
+    topics = "#{__listener.topic}",
+    groupId = "#{__listener.groupId}",
+    properties = "auto.offset.reset:latest")
+  public void handleEvent(String message) {
+    var event = jsonHelper.parse(message, TenantCacheEvent.class);
+    log.debug("Evicting cached tenant data: tenant = {}, type = {}", event.getTenantName(), event.getType());
+
+    getCache(TENANT_BY_NAME_CACHE).ifPresent(cache -> cache.evict(event.getTenantName()));
+    getCache(TENANT_CACHE).ifPresent(cache -> evictTenant(cache, event));
+  }
+
+  private Optional<Cache> getCache(String name) {
+    return Optional.ofNullable(cacheManager.getCache(name));
+  }
+
+  private static void evictTenant(Cache cache, TenantCacheEvent event) {
+    if (event.getTenantId() != null) {
+      cache.evict(event.getTenantId());
+    } else if (event.getType() == DELETE) {
+      cache.clear();
+    }
+  }
+}
@@ -0,0 +1,76 @@
+package org.folio.tm.integration.kafka.cache;
+
+import static org.folio.tm.integration.kafka.model.TenantCacheEvent.Type.DELETE;
+import static org.folio.tm.integration.kafka.model.TenantCacheEvent.Type.UPDATE;
+
+import java.util.UUID;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.log4j.Log4j2;
+import org.folio.tm.domain.dto.Tenant;
+import org.folio.tm.integration.kafka.model.TenantCacheEvent;
+import org.folio.tm.service.listeners.TenantListenerPhase;
+import org.folio.tm.service.listeners.TenantServiceListener;
+import org.folio.tm.utils.JsonHelper;
+import org.springframework.kafka.core.KafkaTemplate;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+/**
+ * Publishes tenant cache invalidation events to Kafka, so other application instances can evict stale cache entries.
+ *
+ * <p>
+ * If a transaction is active, an event is sent only after a successful commit, otherwise the receiving instances
+ * could re-populate their caches with not yet committed data. The synchronization is registered with the
+ * transaction of the publishing thread even if the publisher is executed by the listener executor, see
+ * {@link org.folio.tm.service.listeners.TenantEventsPublisher}.
+ * </p>
+ */
+@Log4j2
+@RequiredArgsConstructor
+@TenantListenerPhase(TenantListenerPhase.NOTIFICATION)
+public class TenantCacheEventPublisher implements TenantServiceListener {
+
+  private final String topic;
+  private final JsonHelper jsonHelper;
+  private final KafkaTemplate<String, String> kafkaTemplate;
+
+  @Override
+  public void onTenantUpdate(Tenant tenant) {
+    publish(TenantCacheEvent.of(UPDATE, tenant.getId(), tenant.getName()));
+  }
+
+  @Override
+  public void onTenantDelete(UUID tenantId, String tenantName) {
+    publish(TenantCacheEvent.of(DELETE, tenantId, tenantName));
+  }
+
+  @Override
+  public void onTenantAttributesUpdate(UUID tenantId, String tenantName) {
+    publish(TenantCacheEvent.of(UPDATE, tenantId, tenantName));
+  }
+
+  private void publish(TenantCacheEvent event) {
+    if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+      send(event);
+      return;
+    }
+
+    TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+
+      @Override
+      public void afterCommit() {
+        send(event);
+      }
+    });
+  }
+
+  private void send(TenantCacheEvent event) {
+    var tenantName = event.getTenantName();
+    kafkaTemplate.send(topic, tenantName, jsonHelper.asJsonString(event))
+      .whenComplete((result, error) -> {
+        if (error != null) {
+          log.warn("Failed to publish tenant cache event: tenant = {}, type = {}", tenantName, event.getType(), error);
+        }
+      });
+  }
+}
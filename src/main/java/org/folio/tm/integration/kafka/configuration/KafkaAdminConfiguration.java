@@ -1,16 +1,32 @@
 package org.folio.tm.integration.kafka.configuration;
 
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
 import org.apache.kafka.clients.admin.AdminClient;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
 import org.springframework.kafka.core.KafkaAdmin;
 
 @Configuration
+@EnableConfigurationProperties(KafkaTopicPurgeProperties.class)
 public class KafkaAdminConfiguration {
 
+  public static final String TOPIC_PURGE_EXECUTOR = "topicPurgeExecutor";
+
   @Bean
   public AdminClient adminClient(@Autowired KafkaAdmin kafkaAdmin) {
     return AdminClient.create(kafkaAdmin.getConfigurationProperties());
   }
+
+  /**
+   * Creates an executor handling topic purge results, so Kafka admin client threads are never blocked by them.
+   *
+   * @return {@link ExecutorService} executing each task by a new virtual thread
+   */
+  @Bean(name = TOPIC_PURGE_EXECUTOR, destroyMethod = "shutdown")
+  public ExecutorService topicPurgeExecutor() {
+    return Executors.newThreadPerTaskExecutor(Thread.ofVirtual().name("topic-purge-", 0).factory());
+  }
 }
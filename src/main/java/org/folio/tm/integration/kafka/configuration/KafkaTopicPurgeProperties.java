@@ -0,0 +1,44 @@
+package org.folio.tm.integration.kafka.configuration;
+
+import jakarta.validation.constraints.Min;
+import jakarta.validation.constraints.NotNull;
+import java.time.Duration;
+import lombok.Data;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.validation.annotation.Validated;
+
+@Data
+@Validated
+@ConfigurationProperties(prefix = "application.kafka.topic-purge")
+public class KafkaTopicPurgeProperties {
+
+  /**
+   * Maximum number of topics deleted by a single Kafka admin request.
+   */
+  @Min(1)
+  private int chunkSize = 100;
+
+  /**
+   * Maximum number of deletion attempts for a topic, only failed topics are deleted again.
+   */
+  @Min(1)
+  private int maxAttempts = 3;
+
+  /**
+   * Delay before the second deletion attempt of failed topics, doubled for each next attempt.
+   */
+  @NotNull
+  private Duration retryDelay = Duration.ofSeconds(1);
+
+  /**
+   * Time without status change after which a pending or running purge is considered interrupted and started again.
+   */
+  @NotNull
+  private Duration staleTimeout = Duration.ofMinutes(10);
+
+  /**
+   * Delay between checks for interrupted purges.
+   */
+  @NotNull
+  private Duration reconcileInterval = Duration.ofMinutes(1);
+}
@@ -0,0 +1,80 @@
+package org.folio.tm.integration.kafka.configuration;
+
+import static org.apache.commons.lang3.StringUtils.isNotBlank;
+import static org.folio.tm.integration.kafka.KafkaService.getTopicPrefix;
+
+import java.net.InetAddress;
+import java.net.UnknownHostException;
+import lombok.Data;
+import org.apache.kafka.clients.admin.NewTopic;
+import org.folio.tm.integration.kafka.cache.TenantCacheEventListener;
+import org.folio.tm.integration.kafka.cache.TenantCacheEventPublisher;
+import org.folio.tm.utils.JsonHelper;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.cache.CacheManager;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.kafka.config.TopicBuilder;
+import org.springframework.kafka.core.KafkaTemplate;
+
+@Data
+@Configuration
+@ConditionalOnProperty("application.cache.invalidation.enabled")
+@ConfigurationProperties(prefix = "application.cache.invalidation")
+public class TenantCacheInvalidationConfiguration {
+
+  /**
+   * Tenant segment of the topic name, shared topics use the upper-case value that cannot clash with a tenant name.
+   */
+  private static final String ALL_TENANTS = "ALL";
+
+  /**
+   * Defines if cache invalidation events are published and consumed.
+   */
+  private boolean enabled;
+
+  /**
+   * Topic name (without environment and tenant prefix) for tenant cache invalidation events.
+   */
+  private String topic = "mgr-tenants.tenant-cache";
+
+  /**
+   * Consumer group of the application instance, must be unique per instance and stable across its restarts. If not
+   * set, the group is named after the host name (pod name in Kubernetes).
+   */
+  private String groupId;
+
+  @Bean
+  public NewTopic tenantCacheTopic() {
+    return TopicBuilder.name(getTopicName()).partitions(1).build();
+  }
+
+  @Bean
+  public TenantCacheEventPublisher tenantCacheEventPublisher(JsonHelper jsonHelper,
+    KafkaTemplate<String, String> kafkaTemplate) {
+    return new TenantCacheEventPublisher(getTopicName(), jsonHelper, kafkaTemplate);
+  }
+
+  @Bean
+  public TenantCacheEventListener tenantCacheEventListener(JsonHelper jsonHelper, CacheManager cacheManager) {
+    return new TenantCacheEventListener(getTopicName(), getConsumerGroupId(), jsonHelper, cacheManager);
+  }
+
+  private String getConsumerGroupId() {
+    if (isNotBlank(groupId)) {
+      return groupId;
+    }
+
+    try {
+      return "mgr-tenants-tenant-cache-" + InetAddress.getLocalHost().getHostName();
+    } catch (UnknownHostException e) {
+      throw new IllegalStateException("Failed to resolve host name for tenant cache consumer group, "
+        + "set it explicitly with CACHE_INVALIDATION_GROUP_ID", e);
+    }
+  }
+
+  private String getTopicName() {
+    return getTopicPrefix(ALL_TENANTS) + topic;
+  }
+}
@@ -0,0 +1,35 @@
+package org.folio.tm.integration.kafka.model;
+
+import java.util.UUID;
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+/**
+ * Compact event notifying other application instances that cached tenant data must be evicted.
+ */
+@Data
+@NoArgsConstructor
+@AllArgsConstructor(staticName = "of")
+public class TenantCacheEvent {
+
+  /**
+   * Type of change that caused the event.
+   */
+  private Type type;
+
+  /**
+   * Tenant identifier, can be null if it is not known to the event producer.
+   */
+  private UUID tenantId;
+
+  /**
+   * Tenant name.
+   */
+  private String tenantName;
+
+  public enum Type {
+    UPDATE,
+    DELETE
+  }
+}
@@ -0,0 +1,45 @@
+package org.folio.tm.integration.kafka.model;
+
+import jakarta.annotation.Nullable;
+import java.util.List;
+
+/**
+ * Outcome of Kafka topics purge for a set of tenants.
+ *
+ * @param topics - outcomes of matched topics, ordered by topic name
+ */
+public record TopicPurgeResult(List<TopicOutcome> topics) {
+
+  /**
+   * Checks if all matched topics are deleted.
+   *
+   * @return true if no topic failed to be deleted, false otherwise
+   */
+  public boolean isSuccessful() {
+    return topics.stream().allMatch(TopicOutcome::isDeleted);
+  }
+
+  /**
+   * Returns outcomes of topics that were not deleted after all attempts.
+   *
+   * @return {@link List} with failed {@link TopicOutcome} objects
+   */
+  public List<TopicOutcome> getFailedTopics() {
+    return topics.stream().filter(topic -> !topic.isDeleted()).toList();
+  }
+
+  /**
+   * Deletion outcome of a single topic.
+   *
+   * @param tenant - tenant name
+   * @param topic - topic name
+   * @param attempts - number of deletion attempts
+   * @param error - error name of the last attempt, null if the topic is deleted
+   */
+  public record TopicOutcome(String tenant, String topic, int attempts, @Nullable String error) {
+
+    public boolean isDeleted() {
+      return error == null;
+    }
+  }
+}
@@ -0,0 +1,80 @@
+package org.folio.tm.integration.keycloak;
+
+import jakarta.ws.rs.NotAuthorizedException;
+import java.time.Duration;
+import java.util.function.Supplier;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.log4j.Log4j2;
+import org.keycloak.admin.client.Keycloak;
+import org.keycloak.admin.client.token.TokenManager;
+import org.springframework.web.client.HttpClientErrorException;
+
+/**
+ * Manages Keycloak admin access token shared by all admin client calls.
+ *
+ * <p>
+ * The token is held by the Keycloak {@link TokenManager}, which refreshes it under its lock as soon as the remaining
+ * validity drops below {@code minValidity}, so concurrent callers reuse the same token and trigger a single token
+ * request. A token rejected with 401 is invalidated by the admin client filter, and the call is repeated once with a
+ * newly granted token. Calls made with {@link #getAccessToken()} outside of the admin client, which are rejected with
+ * {@link HttpClientErrorException.Unauthorized}, are repeated once after a new token is granted.
+ * </p>
+ */
+@Log4j2
+@RequiredArgsConstructor
+public class KeycloakAdminTokenManager {
+
+  private final Keycloak keycloak;
+  private final Duration minValidity;
+
+  /**
+   * Configures the shared token to be refreshed before it expires.
+   */
+  public void init() {
+    keycloak.tokenManager().setMinTokenValidity(minValidity.toSeconds());
+  }
+
+  /**
+   * Returns a valid admin access token.
+   *
+   * @return admin access token as {@link String}
+   */
+  public String getAccessToken() {
+    return keycloak.tokenManager().getAccessTokenString();
+  }
+
+  /**
+   * Performs Keycloak admin call, repeating it once if the admin token was rejected.
+   *
+   * <p>The action must obtain the token from the admin client or from {@link #getAccessToken()} on each invocation,
+   * so that the repeated call uses the new token.</p>
+   *
+   * @param action - Keycloak admin call
+   * @param <T> - call result type
+   * @return call result
+   */
+  public <T> T call(Supplier<T> action) {
+    try {
+      return action.get();
+    } catch (NotAuthorizedException exception) {
+      log.debug("Keycloak admin token is rejected, repeating call with a new token");
+      return action.get();
+    } catch (HttpClientErrorException.Unauthorized exception) {
+      log.debug("Keycloak admin token is rejected, granting a new token and repeating call");
+      keycloak.tokenManager().grantToken();
+      return action.get();
+    }
+  }
+
+  /**
+   * Performs Keycloak admin call, repeating it once if the admin token was rejected.
+   *
+   * @param action - Keycloak admin call
+   */
+  public void run(Runnable action) {
+    call(() -> {
+      action.run();
+      return null;
+    });
+  }
+}
@@ -3,14 +3,28 @@ package org.folio.tm.integration.keycloak;
 import static java.lang.Boolean.FALSE;
 import static java.lang.Boolean.TRUE;
 import static java.util.Optional.ofNullable;
+import static java.util.concurrent.TimeUnit.NANOSECONDS;
+import static java.util.stream.Collectors.toMap;
+import static org.apache.commons.lang3.BooleanUtils.isTrue;
+import static org.folio.tm.service.trace.TenantTraceContext.recordStep;
+import static org.folio.tm.service.trace.TenantTraceContext.withCurrentTrace;
+import static org.springframework.util.ClassUtils.getUserClass;
 import static org.springframework.util.CollectionUtils.isEmpty;
 
 import jakarta.ws.rs.NotFoundException;
 import jakarta.ws.rs.WebApplicationException;
-import java.io.InputStream;
+import java.util.ArrayList;
 import java.util.HashMap;
+import java.util.LinkedHashMap;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
+import java.util.UUID;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.function.Consumer;
 import java.util.function.IntConsumer;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.log4j.Log4j2;
@@ -19,21 +33,26 @@ import org.folio.tm.integration.keycloak.configuration.KeycloakRealmSetupPropert
 import org.folio.tm.integration.keycloak.exception.KeycloakException;
 import org.folio.tm.integration.keycloak.service.clients.KeycloakClientService;
 import org.folio.tm.integration.keycloak.service.roles.KeycloakRealmRoleService;
-import org.folio.tm.utils.JsonHelper;
 import org.keycloak.admin.client.Keycloak;
 import org.keycloak.common.util.MultivaluedHashMap;
+import org.keycloak.representations.idm.ClientRepresentation;
 import org.keycloak.representations.idm.ComponentExportRepresentation;
 import org.keycloak.representations.idm.RealmRepresentation;
 import org.keycloak.representations.idm.RequiredActionProviderRepresentation;
+import org.keycloak.representations.idm.RolesRepresentation;
+import org.keycloak.representations.idm.UserRepresentation;
 import org.springframework.util.Assert;
-import tools.jackson.core.type.TypeReference;
 
 @Log4j2
 @RequiredArgsConstructor
 public class KeycloakRealmService {
 
+  private static final String SERVICE_ACCOUNT_USERNAME_PREFIX = "service-account-";
+  private static final String DEFAULT_ROLES_PREFIX = "default-roles-";
+
   private final Keycloak keycloak;
-  private final JsonHelper jsonHelper;
+  private final KeycloakAdminTokenManager adminTokenManager;
+  private final KeycloakRealmTemplateProvider realmTemplateProvider;
   private final List<KeycloakClientService> keycloakClientServices;
   private final List<KeycloakRealmRoleService> keycloakRoleServices;
   private final KeycloakRealmSetupProperties keycloakRealmSetupProperties;
@@ -48,7 +67,9 @@ public class KeycloakRealmService {
     try {
       var realmByName = findRealmByName(realmName);
 
-      return realmByName.orElseGet(() -> createRealmInternal(tenant));
+      return realmByName.orElseGet(() -> isTrue(keycloakRealmSetupProperties.getFullImportEnabled())
+        ? importRealm(tenant)
+        : createRealmInternal(tenant));
     } catch (Exception exception) {
       deleteRealm(realmName);
       if (exception instanceof KeycloakException) {
@@ -66,16 +87,7 @@ public class KeycloakRealmService {
    */
   public RealmRepresentation updateRealm(Tenant tenant) {
     try {
-      keycloak.tokenManager().grantToken();
-      var realmResource = keycloak.realm(tenant.getName());
-
-      var realmRepresentation = updateRealmRepresentation(realmResource.toRepresentation(), tenant);
-
-      validateAndFixSessionTimeouts(realmRepresentation);
-
-      realmResource.update(realmRepresentation);
-
-      return realmRepresentation;
+      return adminTokenManager.call(() -> updateRealmInternal(tenant));
     } catch (WebApplicationException exception) {
       throw new KeycloakException("Failed to update realm for tenant: " + tenant.getName(), exception);
     }
@@ -94,8 +106,7 @@ public class KeycloakRealmService {
         return;
       }
 
-      keycloak.tokenManager().grantToken();
-      keycloak.realm(name).remove();
+      adminTokenManager.run(() -> keycloak.realm(name).remove());
     } catch (WebApplicationException exception) {
       throw new KeycloakException("Failed to delete realm for tenant: " + name, exception);
     }
@@ -110,7 +121,7 @@ public class KeycloakRealmService {
   public Optional<RealmRepresentation> findRealmByName(String name) {
     try {
       log.debug("Check existence of realm [name: {}]", name);
-      var realmRepresentation = keycloak.realm(name).toRepresentation();
+      var realmRepresentation = adminTokenManager.call(() -> keycloak.realm(name).toRepresentation());
       log.debug("Realm exists in Keycloak [name: {}]", name);
       return ofNullable(realmRepresentation);
     } catch (NotFoundException cause) {
@@ -121,6 +132,16 @@ public class KeycloakRealmService {
     }
   }
 
+  private RealmRepresentation updateRealmInternal(Tenant tenant) {
+    var realmResource = keycloak.realm(tenant.getName());
+    var realmRepresentation = updateRealmRepresentation(realmResource.toRepresentation(), tenant);
+
+    validateAndFixSessionTimeouts(realmRepresentation);
+    realmResource.update(realmRepresentation);
+
+    return realmRepresentation;
+  }
+
   @SuppressWarnings("checkstyle:MethodLength")
   private RealmRepresentation newRealmRepresentation(Tenant tenant) {
     var realm = updateRealmRepresentation(new RealmRepresentation(), tenant);
@@ -160,20 +181,123 @@ public class KeycloakRealmService {
     return realm;
   }
 
+  /**
+   * Creates a realm and sets up its roles and clients.
+   *
+   * <p>
+   * Roles are created concurrently first, because clients reference them in authorization settings and service
+   * account role mappings. Then all clients are created concurrently, each client assigns roles to its service
+   * account right after it is created.
+   * </p>
+   */
   private RealmRepresentation createRealmInternal(Tenant tenant) {
-    var realmResource = keycloak.realms();
+    var realmName = tenant.getName();
     var realm = newRealmRepresentation(tenant);
-    realmResource.create(realm);
+    runStep(realmName, "Realm", () -> adminTokenManager.run(() -> keycloak.realms().create(realm)));
 
-    keycloak.tokenManager().grantToken();
+    try (var executor = newRealmSetupExecutor(realmName)) {
+      runStage(realmName, executor, keycloakRoleServices, roleService -> roleService.setupRole(realmName));
+      runStage(realmName, executor, keycloakClientServices, clientService -> clientService.setupClient(realmName));
+    }
 
+    return realm;
+  }
+
+  /**
+   * Creates a realm with all roles, clients and service account users by a single request.
+   *
+   * <p>Client settings that cannot be imported are applied by follow-up calls after the realm is created.</p>
+   */
+  private RealmRepresentation importRealm(Tenant tenant) {
     var realmName = tenant.getName();
-    keycloakRoleServices.forEach(roleService -> roleService.setupRole(realmName));
-    keycloakClientServices.forEach(clientService -> clientService.setupClient(realmName));
+    var realm = newRealmRepresentation(tenant);
+    var clients = keycloakClientServices.stream()
+      .collect(toMap(service -> service, service -> buildImportedClient(service, realmName),
+        (first, second) -> first, LinkedHashMap::new));
+
+    realm.setRoles(new RolesRepresentation());
+    realm.getRoles().setRealm(keycloakRoleServices.stream().map(service -> service.getRole(realmName)).toList());
+    realm.setClients(new ArrayList<>(clients.values()));
+    realm.setUsers(getServiceAccountUsers(realmName, clients));
+    runStep(realmName, "RealmImport", () -> adminTokenManager.run(() -> keycloak.realms().create(realm)));
+
+    clients.forEach((service, client) -> runStep(realmName, getUserClass(service).getSimpleName(),
+      () -> service.setupImportedClient(realmName, client)));
 
     return realm;
   }
 
+  private static ClientRepresentation buildImportedClient(KeycloakClientService service, String realmName) {
+    var client = service.buildClient(realmName);
+    if (client.getId() == null) {
+      client.setId(UUID.randomUUID().toString());
+    }
+
+    return client;
+  }
+
+  private static List<UserRepresentation> getServiceAccountUsers(String realmName,
+    Map<KeycloakClientService, ClientRepresentation> clients) {
+    var users = new ArrayList<UserRepresentation>();
+    clients.forEach((service, client) -> {
+      var roles = service.getServiceAccountRoles();
+      if (!isEmpty(roles)) {
+        users.add(serviceAccountUser(realmName, client, roles));
+      }
+    });
+
+    return users;
+  }
+
+  private static UserRepresentation serviceAccountUser(String realmName, ClientRepresentation client,
+    List<String> roles) {
+    var realmRoles = new ArrayList<String>(roles);
+    realmRoles.add(DEFAULT_ROLES_PREFIX + realmName.toLowerCase());
+
+    var user = new UserRepresentation();
+    user.setUsername(SERVICE_ACCOUNT_USERNAME_PREFIX + client.getClientId().toLowerCase());
+    user.setEnabled(true);
+    user.setServiceAccountClientId(client.getClientId());
+    user.setRealmRoles(realmRoles);
+    return user;
+  }
+
+  private ExecutorService newRealmSetupExecutor(String realmName) {
+    var threadFactory = Thread.ofVirtual().name("realm-setup-" + realmName + "-", 0).factory();
+    return Executors.newFixedThreadPool(keycloakRealmSetupProperties.getParallelism(), threadFactory);
+  }
+
+  private static <T> void runStage(String realmName, ExecutorService executor, List<T> services, Consumer<T> setup) {
+    var futures = services.stream()
+      .map(service -> CompletableFuture.runAsync(
+        withCurrentTrace(() -> runStep(realmName, getUserClass(service).getSimpleName(), () -> setup.accept(service))),
+        executor))
+      .toArray(CompletableFuture[]::new);
+
+    try {
+      CompletableFuture.allOf(futures).join();
+    } catch (CompletionException exception) {
+      if (exception.getCause() instanceof RuntimeException cause) {
+        throw cause;
+      }
+
+      throw exception;
+    }
+  }
+
+  private static void runStep(String realmName, String step, Runnable action) {
+    var startTime = System.nanoTime();
+    try {
+      recordStep("keycloak-realm:" + step, () -> {
+        action.run();
+        return null;
+      });
+    } finally {
+      log.info("Keycloak realm setup step finished: realm = {}, step = {}, duration = {} ms",
+        realmName, step, NANOSECONDS.toMillis(System.nanoTime() - startTime));
+    }
+  }
+
   private MultivaluedHashMap<String, ComponentExportRepresentation> getRealmComponentsConfiguration() {
     var componentExportRepresentation = new ComponentExportRepresentation();
     componentExportRepresentation.setProviderId("declarative-user-profile");
@@ -185,28 +309,13 @@ public class KeycloakRealmService {
   }
 
   private List<RequiredActionProviderRepresentation> getAuthenticationRequiredActions() {
-    var userProfileFileLocation = "json/realms/authentication-required-actions.json";
-    try (var inStream = getResourceFileInputStream(userProfileFileLocation)) {
-      return jsonHelper.parse(inStream, new TypeReference<>() {});
-    } catch (Exception exception) {
-      throw new IllegalStateException("Failed to read authentication request actions", exception);
-    }
+    return realmTemplateProvider.getAuthenticationRequiredActions();
   }
 
   private MultivaluedHashMap<String, String> getDeclarativeUserProfileConfiguration() {
-    var userProfileFileLocation = "json/realms/user-profile-configuration.json";
-    try (var inStream = getResourceFileInputStream(userProfileFileLocation)) {
-      var userProfileConfigurationString = jsonHelper.parse(inStream).toString();
-      var userProfileConfigurationMap = new MultivaluedHashMap<String, String>();
-      userProfileConfigurationMap.add("kc.user.profile.config", userProfileConfigurationString);
-      return userProfileConfigurationMap;
-    } catch (Exception exception) {
-      throw new IllegalStateException("Failed to read user profile configuration", exception);
-    }
-  }
-
-  private static InputStream getResourceFileInputStream(String userProfileFileLocation) {
-    return KeycloakRealmService.class.getClassLoader().getResourceAsStream(userProfileFileLocation);
+    var userProfileConfigurationMap = new MultivaluedHashMap<String, String>();
+    userProfileConfigurationMap.add("kc.user.profile.config", realmTemplateProvider.getUserProfileConfiguration());
+    return userProfileConfigurationMap;
   }
 
   private static void validateAndFixSessionTimeouts(RealmRepresentation realm) {
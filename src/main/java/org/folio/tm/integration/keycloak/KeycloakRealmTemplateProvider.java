@@ -0,0 +1,191 @@
+package org.folio.tm.integration.keycloak;
+
+import static java.nio.file.StandardWatchEventKinds.ENTRY_CREATE;
+import static java.nio.file.StandardWatchEventKinds.ENTRY_DELETE;
+import static java.nio.file.StandardWatchEventKinds.ENTRY_MODIFY;
+
+import java.io.FileNotFoundException;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.file.ClosedWatchServiceException;
+import java.nio.file.FileSystems;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.WatchService;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Set;
+import java.util.function.Function;
+import lombok.extern.log4j.Log4j2;
+import org.folio.tm.utils.JsonHelper;
+import org.keycloak.representations.idm.RequiredActionProviderRepresentation;
+import tools.jackson.core.type.TypeReference;
+
+/**
+ * Provides realm templates (authentication required actions and declarative user profile configuration).
+ *
+ * <p>
+ * Templates are loaded and validated once, on startup. If an override directory is configured, template files found
+ * in it take precedence over the bundled ones and are reloaded when changed. A removed override falls back to the
+ * bundled template. An invalid template on reload is logged and the previously loaded templates are kept.
+ * </p>
+ */
+@Log4j2
+public class KeycloakRealmTemplateProvider implements AutoCloseable {
+
+  static final String REQUIRED_ACTIONS_FILE = "authentication-required-actions.json";
+  static final String USER_PROFILE_FILE = "user-profile-configuration.json";
+
+  private static final String CLASSPATH_LOCATION = "json/realms/";
+  private static final Set<String> TEMPLATE_FILES = Set.of(REQUIRED_ACTIONS_FILE, USER_PROFILE_FILE);
+  private static final TypeReference<List<RequiredActionProviderRepresentation>> REQUIRED_ACTIONS_TYPE =
+    new TypeReference<>() {};
+
+  private final JsonHelper jsonHelper;
+  private final Path overridePath;
+  private volatile RealmTemplates templates;
+  private WatchService watchService;
+
+  /**
+   * Creates a provider and loads templates.
+   *
+   * @param jsonHelper - json helper to parse templates
+   * @param overridePath - directory with template overrides, nullable
+   * @throws IllegalStateException if templates cannot be read or are invalid
+   */
+  public KeycloakRealmTemplateProvider(JsonHelper jsonHelper, Path overridePath) {
+    this.jsonHelper = jsonHelper;
+    this.overridePath = overridePath;
+    this.templates = loadTemplates();
+  }
+
+  /**
+   * Returns authentication required actions, each call returns new copies that can be modified by the caller.
+   *
+   * @return {@link List} with {@link RequiredActionProviderRepresentation} objects
+   */
+  public List<RequiredActionProviderRepresentation> getAuthenticationRequiredActions() {
+    return templates.requiredActions().stream().map(KeycloakRealmTemplateProvider::copyOf).toList();
+  }
+
+  /**
+   * Returns declarative user profile configuration serialized to a json string.
+   *
+   * @return user profile configuration as {@link String}
+   */
+  public String getUserProfileConfiguration() {
+    return templates.userProfileConfiguration();
+  }
+
+  /**
+   * Reloads templates, keeps previously loaded templates if new ones cannot be read.
+   */
+  public void reload() {
+    try {
+      templates = loadTemplates();
+      log.info("Realm templates reloaded from: {}", overridePath);
+    } catch (Exception exception) {
+      log.warn("Failed to reload realm templates, previous templates are kept", exception);
+    }
+  }
+
+  /**
+   * Starts watching the override directory for template changes, does nothing if the directory is not configured.
+   *
+   * @throws IOException if the directory cannot be watched
+   */
+  public void startWatching() throws IOException {
+    if (overridePath == null) {
+      return;
+    }
+
+    watchService = FileSystems.getDefault().newWatchService();
+    overridePath.register(watchService, ENTRY_CREATE, ENTRY_MODIFY, ENTRY_DELETE);
+    Thread.ofVirtual().name("realm-template-watcher").start(this::watch);
+    log.info("Watching realm templates in: {}", overridePath);
+  }
+
+  @Override
+  public void close() throws IOException {
+    if (watchService != null) {
+      watchService.close();
+    }
+  }
+
+  private void watch() {
+    try {
+      while (true) {
+        var key = watchService.take();
+        var changed = key.pollEvents().stream().anyMatch(event -> TEMPLATE_FILES.contains(event.context().toString()));
+        key.reset();
+        if (changed) {
+          reload();
+        }
+      }
+    } catch (InterruptedException exception) {
+      Thread.currentThread().interrupt();
+    } catch (ClosedWatchServiceException exception) {
+      log.debug("Realm template watcher stopped");
+    }
+  }
+
+  private RealmTemplates loadTemplates() {
+    var requiredActions = readTemplate(REQUIRED_ACTIONS_FILE, in -> jsonHelper.parse(in, REQUIRED_ACTIONS_TYPE));
+    var userProfileConfiguration = readTemplate(USER_PROFILE_FILE, jsonHelper::parse);
+    if (!userProfileConfiguration.isObject()) {
+      throw new IllegalStateException("Realm template must be a json object: " + USER_PROFILE_FILE);
+    }
+
+    return new RealmTemplates(List.copyOf(requiredActions), userProfileConfiguration.toString());
+  }
+
+  private <T> T readTemplate(String fileName, Function<InputStream, T> parser) {
+    try (var inputStream = openTemplate(fileName)) {
+      var value = parser.apply(inputStream);
+      if (value == null) {
+        throw new IllegalStateException("Realm template is empty: " + fileName);
+      }
+
+      return value;
+    } catch (IOException | RuntimeException exception) {
+      throw new IllegalStateException("Failed to read realm template: " + fileName, exception);
+    }
+  }
+
+  private InputStream openTemplate(String fileName) throws IOException {
+    if (overridePath != null) {
+      var file = overridePath.resolve(fileName);
+      if (Files.isRegularFile(file)) {
+        return Files.newInputStream(file);
+      }
+    }
+
+    var inputStream = getClass().getClassLoader().getResourceAsStream(CLASSPATH_LOCATION + fileName);
+    if (inputStream == null) {
+      throw new FileNotFoundException("Realm template is not found: " + fileName);
+    }
+
+    return inputStream;
+  }
+
+  /**
+   * Copies a required action field by field, config map is copied as well, so the copy shares no mutable state.
+   */
+  private static RequiredActionProviderRepresentation copyOf(RequiredActionProviderRepresentation action) {
+    var copy = new RequiredActionProviderRepresentation();
+    copy.setAlias(action.getAlias());
+    copy.setName(action.getName());
+    copy.setProviderId(action.getProviderId());
+    copy.setEnabled(action.isEnabled());
+    copy.setDefaultAction(action.isDefaultAction());
+    copy.setPriority(action.getPriority());
+    copy.setConfig(action.getConfig() == null ? null : new HashMap<>(action.getConfig()));
+    return copy;
+  }
+
+  /**
+   * Loaded templates, required actions are kept parsed and copied on each request.
+   */
+  private record RealmTemplates(List<RequiredActionProviderRepresentation> requiredActions,
+                                String userProfileConfiguration) {}
+}
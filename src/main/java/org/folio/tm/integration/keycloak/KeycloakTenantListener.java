@@ -1,11 +1,14 @@
 package org.folio.tm.integration.keycloak;
 
+import java.util.UUID;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.log4j.Log4j2;
+import org.folio.tm.service.listeners.TenantListenerPhase;
 import org.folio.tm.service.listeners.TenantServiceListener;
 
 @Log4j2
 @RequiredArgsConstructor
+@TenantListenerPhase(TenantListenerPhase.PROVISIONING)
 public class KeycloakTenantListener implements TenantServiceListener {
 
   private final KeycloakRealmService keycloakRealmService;
@@ -23,7 +26,7 @@ public class KeycloakTenantListener implements TenantServiceListener {
   }
 
   @Override
-  public void onTenantDelete(String tenantName) {
+  public void onTenantDelete(UUID tenantId, String tenantName) {
     log.debug("Running Keycloak event 'onTenantDelete' for tenant {}", tenantName);
     keycloakRealmService.deleteRealm(tenantName);
   }
@@ -0,0 +1,19 @@
+package org.folio.tm.integration.keycloak.configuration;
+
+import jakarta.validation.constraints.NotNull;
+import java.time.Duration;
+import lombok.Data;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.validation.annotation.Validated;
+
+@Data
+@Validated
+@ConfigurationProperties(prefix = "application.keycloak.admin-token")
+public class KeycloakAdminTokenProperties {
+
+  /**
+   * Minimum remaining validity of the admin access token, a new token is requested when it is about to expire.
+   */
+  @NotNull
+  private Duration minValidity = Duration.ofSeconds(30);
+}
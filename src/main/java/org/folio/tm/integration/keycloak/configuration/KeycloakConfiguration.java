@@ -1,18 +1,25 @@
 package org.folio.tm.integration.keycloak.configuration;
 
-import static org.folio.security.integration.keycloak.utils.ClientBuildUtils.buildKeycloakAdminClient;
+import static org.apache.commons.lang3.StringUtils.isBlank;
+import static org.folio.common.utils.tls.Utils.buildSslContext;
 
+import java.nio.file.Path;
 import java.util.List;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.log4j.Log4j2;
-import org.folio.common.utils.tls.HttpClientTlsUtils;
 import org.folio.security.integration.keycloak.configuration.properties.KeycloakProperties;
 import org.folio.security.integration.keycloak.service.SecureStoreKeyProvider;
+import org.folio.tm.integration.IntegrationMetrics;
 import org.folio.tm.integration.keycloak.ClientSecretService;
+import org.folio.tm.integration.keycloak.KeycloakAdminTokenManager;
 import org.folio.tm.integration.keycloak.KeycloakClient;
 import org.folio.tm.integration.keycloak.KeycloakRealmService;
+import org.folio.tm.integration.keycloak.KeycloakRealmTemplateProvider;
 import org.folio.tm.integration.keycloak.KeycloakServerInfoService;
 import org.folio.tm.integration.keycloak.KeycloakTenantListener;
+import org.folio.tm.integration.keycloak.http.KeycloakHttpTransport;
+import org.folio.tm.integration.keycloak.http.KeycloakMetricsEngine;
+import org.folio.tm.integration.keycloak.http.KeycloakMetricsFilter;
 import org.folio.tm.integration.keycloak.service.clients.ImpersonationClientService;
 import org.folio.tm.integration.keycloak.service.clients.KeycloakClientService;
 import org.folio.tm.integration.keycloak.service.clients.LoginClientService;
@@ -25,44 +32,90 @@ import org.folio.tm.utils.JsonHelper;
 import org.folio.tools.store.SecureStore;
 import org.folio.tools.store.exception.SecretNotFoundException;
 import org.keycloak.admin.client.Keycloak;
+import org.keycloak.admin.client.KeycloakBuilder;
 import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
 import org.springframework.boot.context.properties.EnableConfigurationProperties;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
 import org.springframework.web.client.RestClient;
+import org.springframework.web.client.support.RestClientAdapter;
+import org.springframework.web.service.invoker.HttpServiceProxyFactory;
 
 @Log4j2
 @Configuration
 @RequiredArgsConstructor
 @ConditionalOnProperty("application.keycloak.enabled")
-@EnableConfigurationProperties({KeycloakProperties.class, KeycloakRealmSetupProperties.class})
+@EnableConfigurationProperties({
+  KeycloakProperties.class, KeycloakRealmSetupProperties.class, KeycloakHttpProperties.class,
+  KeycloakAdminTokenProperties.class})
 public class KeycloakConfiguration {
 
+  private static final String MASTER_REALM = "master";
+
   private final SecureStore secureStore;
   private final SecureStoreKeyProvider secureStoreKeyProvider;
   private final KeycloakProperties properties;
 
   @Bean
   @ConditionalOnProperty(name = "application.keycloak.import.enabled", havingValue = "false", matchIfMissing = true)
-  public Keycloak keycloak() {
-    var clientId = properties.getAdmin().getClientId();
-    var clientSecret = getKeycloakClientSecret(clientId);
-    return buildKeycloakAdminClient(clientSecret, properties);
+  public Keycloak keycloak(KeycloakHttpTransport keycloakHttpTransport, IntegrationMetrics integrationMetrics) {
+    var admin = properties.getAdmin();
+    return KeycloakBuilder.builder()
+      .realm(MASTER_REALM)
+      .serverUrl(admin.getUrl())
+      .clientId(admin.getClientId())
+      .clientSecret(getKeycloakClientSecret(admin.getClientId()))
+      .username(admin.getUsername())
+      .password(admin.getPassword())
+      .grantType(admin.getGrantType())
+      .resteasyClient(keycloakHttpTransport
+        .buildResteasyClient(engine -> new KeycloakMetricsEngine(engine, integrationMetrics))
+        .register(new KeycloakMetricsFilter(integrationMetrics)))
+      .build();
   }
 
   @Bean
-  public KeycloakClient keycloakClient() {
-    return HttpClientTlsUtils.buildHttpServiceClient(
-      RestClient.builder(), properties.getTls(), properties.getUrl(), KeycloakClient.class);
+  public KeycloakClient keycloakClient(KeycloakHttpTransport keycloakHttpTransport,
+    IntegrationMetrics integrationMetrics) {
+    var restClient = RestClient.builder()
+      .baseUrl(properties.getUrl())
+      .requestFactory(keycloakHttpTransport.requestFactory())
+      .build();
+
+    var keycloakClient = HttpServiceProxyFactory.builderFor(RestClientAdapter.create(restClient)).build()
+      .createClient(KeycloakClient.class);
+    return integrationMetrics.instrument(KeycloakMetricsFilter.INTEGRATION, KeycloakClient.class, keycloakClient);
+  }
+
+  @Bean(destroyMethod = "close")
+  public KeycloakHttpTransport keycloakHttpTransport(KeycloakHttpProperties keycloakHttpProperties) {
+    var tls = properties.getTls();
+    var sslContext = tls != null && tls.isEnabled() ? buildSslContext(tls) : null;
+    return new KeycloakHttpTransport(keycloakHttpProperties, sslContext);
+  }
+
+  @Bean(initMethod = "init")
+  public KeycloakAdminTokenManager keycloakAdminTokenManager(Keycloak keycloak,
+    KeycloakAdminTokenProperties keycloakAdminTokenProperties) {
+    return new KeycloakAdminTokenManager(keycloak, keycloakAdminTokenProperties.getMinValidity());
   }
 
   @Bean
-  public KeycloakRealmService keycloakRealmService(Keycloak keycloak, JsonHelper jsonHelper,
+  public KeycloakRealmService keycloakRealmService(Keycloak keycloak,
+    KeycloakAdminTokenManager keycloakAdminTokenManager,
+    KeycloakRealmTemplateProvider keycloakRealmTemplateProvider,
     List<KeycloakRealmRoleService> keycloakRealmRoleServices,
     List<KeycloakClientService> keycloakClientServices,
     KeycloakRealmSetupProperties keycloakRealmSetupProperties) {
-    return new KeycloakRealmService(keycloak, jsonHelper, keycloakClientServices, keycloakRealmRoleServices,
-      keycloakRealmSetupProperties);
+    return new KeycloakRealmService(keycloak, keycloakAdminTokenManager, keycloakRealmTemplateProvider,
+      keycloakClientServices, keycloakRealmRoleServices, keycloakRealmSetupProperties);
+  }
+
+  @Bean(initMethod = "startWatching", destroyMethod = "close")
+  public KeycloakRealmTemplateProvider keycloakRealmTemplateProvider(JsonHelper jsonHelper,
+    KeycloakRealmSetupProperties keycloakRealmSetupProperties) {
+    var templatesPath = keycloakRealmSetupProperties.getTemplatesPath();
+    return new KeycloakRealmTemplateProvider(jsonHelper, isBlank(templatesPath) ? null : Path.of(templatesPath));
   }
 
   @Bean
@@ -102,8 +155,10 @@ public class KeycloakConfiguration {
 
   @Bean
   public ImpersonationClientService impersonationClientService(Keycloak keycloak, KeycloakClient keycloakClient,
-    ClientSecretService clientSecretService, KeycloakRealmSetupProperties keycloakRealmSetupProperties) {
-    var service = new ImpersonationClientService(keycloakClient, keycloakRealmSetupProperties);
+    KeycloakAdminTokenManager keycloakAdminTokenManager, ClientSecretService clientSecretService,
+    KeycloakRealmSetupProperties keycloakRealmSetupProperties) {
+    var service = new ImpersonationClientService(keycloakClient, keycloakAdminTokenManager,
+      keycloakRealmSetupProperties);
     service.setKeycloak(keycloak);
     service.setClientSecretService(clientSecretService);
     return service;
@@ -0,0 +1,50 @@
+package org.folio.tm.integration.keycloak.configuration;
+
+import jakarta.validation.constraints.Min;
+import jakarta.validation.constraints.NotNull;
+import java.time.Duration;
+import lombok.Data;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.validation.annotation.Validated;
+
+@Data
+@Validated
+@ConfigurationProperties(prefix = "application.keycloak.http")
+public class KeycloakHttpProperties {
+
+  /**
+   * Maximum number of pooled connections shared by the Keycloak admin client and the Keycloak HTTP client.
+   */
+  @Min(1)
+  private Integer maxConnections = 100;
+
+  /**
+   * Maximum number of pooled connections per route (Keycloak host).
+   */
+  @Min(1)
+  private Integer maxConnectionsPerRoute = 50;
+
+  /**
+   * Time for which an idle connection is kept alive in the pool.
+   */
+  @NotNull
+  private Duration keepAlive = Duration.ofSeconds(30);
+
+  /**
+   * Timeout for establishing a connection with Keycloak.
+   */
+  @NotNull
+  private Duration connectTimeout = Duration.ofSeconds(5);
+
+  /**
+   * Timeout for waiting for data from Keycloak.
+   */
+  @NotNull
+  private Duration readTimeout = Duration.ofSeconds(30);
+
+  /**
+   * Timeout for leasing a connection from the pool.
+   */
+  @NotNull
+  private Duration poolTimeout = Duration.ofSeconds(5);
+}
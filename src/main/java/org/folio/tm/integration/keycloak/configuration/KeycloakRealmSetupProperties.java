@@ -1,5 +1,6 @@
 package org.folio.tm.integration.keycloak.configuration;
 
+import jakarta.validation.constraints.Min;
 import lombok.Data;
 import org.folio.security.integration.keycloak.configuration.properties.KeycloakClientProperties;
 import org.springframework.boot.context.properties.ConfigurationProperties;
@@ -27,4 +28,21 @@ public class KeycloakRealmSetupProperties {
   private KeycloakSessionProperties ssoSession = new KeycloakSessionProperties();
   @NestedConfigurationProperty
   private KeycloakSessionProperties clientSession = new KeycloakSessionProperties();
+
+  /**
+   * Maximum number of roles or clients set up concurrently for a single realm.
+   */
+  @Min(1)
+  private Integer parallelism = 4;
+
+  /**
+   * Defines if a realm is created with all roles, clients and service account users by a single import request.
+   */
+  private Boolean fullImportEnabled = false;
+
+  /**
+   * Directory with realm template overrides, template files found in it are used instead of bundled ones and are
+   * reloaded on change.
+   */
+  private String templatesPath;
 }
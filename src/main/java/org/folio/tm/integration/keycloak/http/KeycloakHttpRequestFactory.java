@@ -0,0 +1,125 @@
+package org.folio.tm.integration.keycloak.http;
+
+import static org.springframework.http.HttpHeaders.CONTENT_LENGTH;
+import static org.springframework.http.HttpHeaders.TRANSFER_ENCODING;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.net.URI;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.log4j.Log4j2;
+import org.apache.http.client.methods.CloseableHttpResponse;
+import org.apache.http.client.methods.RequestBuilder;
+import org.apache.http.entity.ByteArrayEntity;
+import org.apache.http.impl.client.CloseableHttpClient;
+import org.apache.http.util.EntityUtils;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpMethod;
+import org.springframework.http.HttpStatusCode;
+import org.springframework.http.client.AbstractClientHttpRequest;
+import org.springframework.http.client.ClientHttpRequest;
+import org.springframework.http.client.ClientHttpRequestFactory;
+import org.springframework.http.client.ClientHttpResponse;
+
+/**
+ * {@link ClientHttpRequestFactory} executing requests with the Apache HTTP client used by the Keycloak admin client.
+ */
+@RequiredArgsConstructor
+public class KeycloakHttpRequestFactory implements ClientHttpRequestFactory {
+
+  private final CloseableHttpClient httpClient;
+
+  @Override
+  public ClientHttpRequest createRequest(URI uri, HttpMethod httpMethod) {
+    return new KeycloakHttpRequest(httpClient, uri, httpMethod);
+  }
+
+  @RequiredArgsConstructor
+  private static final class KeycloakHttpRequest extends AbstractClientHttpRequest {
+
+    private final CloseableHttpClient httpClient;
+    private final URI uri;
+    private final HttpMethod method;
+    private final ByteArrayOutputStream body = new ByteArrayOutputStream();
+
+    @Override
+    public HttpMethod getMethod() {
+      return method;
+    }
+
+    @Override
+    public URI getURI() {
+      return uri;
+    }
+
+    @Override
+    protected OutputStream getBodyInternal(HttpHeaders headers) {
+      return body;
+    }
+
+    @Override
+    protected ClientHttpResponse executeInternal(HttpHeaders headers) throws IOException {
+      var requestBuilder = RequestBuilder.create(method.name()).setUri(uri);
+      headers.forEach((name, values) -> {
+        if (!CONTENT_LENGTH.equalsIgnoreCase(name) && !TRANSFER_ENCODING.equalsIgnoreCase(name)) {
+          values.forEach(value -> requestBuilder.addHeader(name, value));
+        }
+      });
+
+      if (body.size() > 0) {
+        requestBuilder.setEntity(new ByteArrayEntity(body.toByteArray()));
+      }
+
+      return new KeycloakHttpResponse(httpClient.execute(requestBuilder.build()));
+    }
+  }
+
+  @Log4j2
+  @RequiredArgsConstructor
+  private static final class KeycloakHttpResponse implements ClientHttpResponse {
+
+    private final CloseableHttpResponse response;
+    private HttpHeaders headers;
+
+    @Override
+    public HttpStatusCode getStatusCode() {
+      return HttpStatusCode.valueOf(response.getStatusLine().getStatusCode());
+    }
+
+    @Override
+    public String getStatusText() {
+      return response.getStatusLine().getReasonPhrase();
+    }
+
+    @Override
+    public HttpHeaders getHeaders() {
+      if (headers == null) {
+        headers = new HttpHeaders();
+        for (var header : response.getAllHeaders()) {
+          headers.add(header.getName(), header.getValue());
+        }
+      }
+      return headers;
+    }
+
+    @Override
+    public InputStream getBody() throws IOException {
+      var entity = response.getEntity();
+      return entity != null ? entity.getContent() : InputStream.nullInputStream();
+    }
+
+    /**
+     * Consumes the remaining response body, so the connection is returned to the pool instead of being closed.
+     */
+    @Override
+    public void close() {
+      try (response) {
+        EntityUtils.consume(response.getEntity());
+      } catch (IOException exception) {
+        log.debug("Failed to release Keycloak HTTP connection", exception);
+      }
+    }
+  }
+}
@@ -0,0 +1,131 @@
+package org.folio.tm.integration.keycloak.http;
+
+import static java.util.concurrent.TimeUnit.MILLISECONDS;
+
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.MeterBinder;
+import jakarta.annotation.Nullable;
+import jakarta.ws.rs.client.ClientBuilder;
+import java.io.IOException;
+import java.util.function.ToIntFunction;
+import java.util.function.UnaryOperator;
+import javax.net.ssl.SSLContext;
+import lombok.Getter;
+import lombok.extern.log4j.Log4j2;
+import org.apache.http.client.config.RequestConfig;
+import org.apache.http.config.RegistryBuilder;
+import org.apache.http.conn.socket.ConnectionSocketFactory;
+import org.apache.http.conn.socket.PlainConnectionSocketFactory;
+import org.apache.http.conn.ssl.SSLConnectionSocketFactory;
+import org.apache.http.impl.client.CloseableHttpClient;
+import org.apache.http.impl.client.HttpClientBuilder;
+import org.apache.http.impl.conn.PoolingHttpClientConnectionManager;
+import org.apache.http.pool.PoolStats;
+import org.folio.tm.integration.keycloak.configuration.KeycloakHttpProperties;
+import org.jboss.resteasy.client.jaxrs.ClientHttpEngine;
+import org.jboss.resteasy.client.jaxrs.ResteasyClient;
+import org.jboss.resteasy.client.jaxrs.ResteasyClientBuilder;
+import org.jboss.resteasy.client.jaxrs.engines.ApacheHttpClient43Engine;
+import org.keycloak.admin.client.JacksonProvider;
+import org.springframework.http.client.ClientHttpRequestFactory;
+
+/**
+ * Pooled HTTP transport shared by the Keycloak admin client and the Keycloak HTTP service client.
+ */
+@Log4j2
+public class KeycloakHttpTransport implements MeterBinder, AutoCloseable {
+
+  private static final String POOL_CONNECTIONS_METRIC = "keycloak.http.pool.connections";
+  private static final String POOL_MAX_CONNECTIONS_METRIC = "keycloak.http.pool.max";
+  private static final int JACKSON_PROVIDER_PRIORITY = 100;
+
+  private final PoolingHttpClientConnectionManager connectionManager;
+  @Getter private final CloseableHttpClient httpClient;
+
+  public KeycloakHttpTransport(KeycloakHttpProperties properties, @Nullable SSLContext sslContext) {
+    this.connectionManager = buildConnectionManager(properties, sslContext);
+    this.httpClient = buildHttpClient(properties, connectionManager);
+  }
+
+  /**
+   * Creates RESTEasy client for the Keycloak admin client, executing requests over the shared connection pool.
+   *
+   * @param engineDecorator - decorator of the HTTP engine, e.g. recording failed calls
+   * @return {@link ResteasyClient} object
+   */
+  public ResteasyClient buildResteasyClient(UnaryOperator<ClientHttpEngine> engineDecorator) {
+    return ((ResteasyClientBuilder) ClientBuilder.newBuilder())
+      .httpEngine(engineDecorator.apply(new ApacheHttpClient43Engine(httpClient, false)))
+      .register(JacksonProvider.class, JACKSON_PROVIDER_PRIORITY)
+      .build();
+  }
+
+  /**
+   * Creates request factory for Spring HTTP clients, executing requests over the shared connection pool.
+   *
+   * @return {@link ClientHttpRequestFactory} object
+   */
+  public ClientHttpRequestFactory requestFactory() {
+    return new KeycloakHttpRequestFactory(httpClient);
+  }
+
+  @Override
+  public void bindTo(MeterRegistry registry) {
+    registerPoolGauge(registry, "leased", PoolStats::getLeased);
+    registerPoolGauge(registry, "available", PoolStats::getAvailable);
+    registerPoolGauge(registry, "pending", PoolStats::getPending);
+
+    Gauge.builder(POOL_MAX_CONNECTIONS_METRIC, connectionManager, manager -> manager.getTotalStats().getMax())
+      .description("Maximum number of pooled Keycloak HTTP connections")
+      .register(registry);
+  }
+
+  @Override
+  public void close() throws IOException {
+    log.debug("Closing Keycloak HTTP transport");
+    httpClient.close();
+  }
+
+  private void registerPoolGauge(MeterRegistry registry, String state, ToIntFunction<PoolStats> value) {
+    Gauge.builder(POOL_CONNECTIONS_METRIC, connectionManager, manager -> value.applyAsInt(manager.getTotalStats()))
+      .description("Number of Keycloak HTTP connections or connection requests by state")
+      .tag("state", state)
+      .register(registry);
+  }
+
+  private static PoolingHttpClientConnectionManager buildConnectionManager(KeycloakHttpProperties properties,
+    @Nullable SSLContext sslContext) {
+    var sslSocketFactory = sslContext != null
+      ? new SSLConnectionSocketFactory(sslContext)
+      : SSLConnectionSocketFactory.getSocketFactory();
+
+    var socketFactoryRegistry = RegistryBuilder.<ConnectionSocketFactory>create()
+      .register("http", PlainConnectionSocketFactory.getSocketFactory())
+      .register("https", sslSocketFactory)
+      .build();
+
+    var connectionManager = new PoolingHttpClientConnectionManager(socketFactoryRegistry);
+    connectionManager.setMaxTotal(properties.getMaxConnections());
+    connectionManager.setDefaultMaxPerRoute(properties.getMaxConnectionsPerRoute());
+    return connectionManager;
+  }
+
+  private static CloseableHttpClient buildHttpClient(KeycloakHttpProperties properties,
+    PoolingHttpClientConnectionManager connectionManager) {
+    var requestConfig = RequestConfig.custom()
+      .setConnectTimeout((int) properties.getConnectTimeout().toMillis())
+      .setSocketTimeout((int) properties.getReadTimeout().toMillis())
+      .setConnectionRequestTimeout((int) properties.getPoolTimeout().toMillis())
+      .build();
+
+    var keepAliveMillis = properties.getKeepAlive().toMillis();
+    return HttpClientBuilder.create()
+      .setConnectionManager(connectionManager)
+      .setDefaultRequestConfig(requestConfig)
+      .setKeepAliveStrategy((response, context) -> keepAliveMillis)
+      .evictExpiredConnections()
+      .evictIdleConnections(keepAliveMillis, MILLISECONDS)
+      .build();
+  }
+}
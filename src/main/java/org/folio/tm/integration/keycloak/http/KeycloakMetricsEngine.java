@@ -0,0 +1,64 @@
+package org.folio.tm.integration.keycloak.http;
+
+import static org.folio.tm.integration.keycloak.http.KeycloakMetricsFilter.INTEGRATION;
+
+import jakarta.ws.rs.ProcessingException;
+import jakarta.ws.rs.client.Invocation;
+import jakarta.ws.rs.core.Response;
+import javax.net.ssl.HostnameVerifier;
+import javax.net.ssl.SSLContext;
+import lombok.RequiredArgsConstructor;
+import org.folio.tm.integration.IntegrationMetrics;
+import org.jboss.resteasy.client.jaxrs.ClientHttpEngine;
+import org.jboss.resteasy.client.jaxrs.internal.ClientInvocation;
+
+/**
+ * Records Keycloak admin client calls failed without a response (connection refused, timeouts, TLS errors).
+ *
+ * <p>
+ * Such calls are not passed to client response filters, so they are not recorded by {@link KeycloakMetricsFilter}.
+ * The error is named by the cause of {@link ProcessingException}, e.g. {@code ConnectException}.
+ * </p>
+ */
+@RequiredArgsConstructor
+public class KeycloakMetricsEngine implements ClientHttpEngine {
+
+  private static final String UNKNOWN_OPERATION = "unknown";
+
+  private final ClientHttpEngine delegate;
+  private final IntegrationMetrics integrationMetrics;
+
+  @Override
+  public Response invoke(Invocation request) {
+    var startTime = System.nanoTime();
+    try {
+      return delegate.invoke(request);
+    } catch (ProcessingException exception) {
+      var operation = request instanceof ClientInvocation invocation
+        ? KeycloakMetricsFilter.getOperation(invocation.getMethod(), invocation.getUri())
+        : UNKNOWN_OPERATION;
+      integrationMetrics.record(INTEGRATION, operation, System.nanoTime() - startTime, getErrorName(exception));
+      throw exception;
+    }
+  }
+
+  @Override
+  public SSLContext getSslContext() {
+    return delegate.getSslContext();
+  }
+
+  @Override
+  public HostnameVerifier getHostnameVerifier() {
+    return delegate.getHostnameVerifier();
+  }
+
+  @Override
+  public void close() {
+    delegate.close();
+  }
+
+  private static String getErrorName(ProcessingException exception) {
+    var cause = exception.getCause();
+    return (cause != null ? cause : exception).getClass().getSimpleName();
+  }
+}
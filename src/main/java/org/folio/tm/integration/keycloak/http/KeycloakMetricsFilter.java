@@ -0,0 +1,73 @@
+package org.folio.tm.integration.keycloak.http;
+
+import jakarta.ws.rs.client.ClientRequestContext;
+import jakarta.ws.rs.client.ClientRequestFilter;
+import jakarta.ws.rs.client.ClientResponseContext;
+import jakarta.ws.rs.client.ClientResponseFilter;
+import jakarta.ws.rs.core.Response.Status.Family;
+import java.net.URI;
+import java.util.regex.Pattern;
+import lombok.RequiredArgsConstructor;
+import org.folio.tm.integration.IntegrationMetrics;
+
+/**
+ * Records Keycloak admin client calls as operations of the Keycloak integration.
+ *
+ * <p>
+ * An operation is named by the HTTP method and the request path with realm names and identifiers replaced by
+ * placeholders, e.g. {@code POST /admin/realms/{realm}/clients/{id}/roles}. Calls failed without a response are
+ * recorded by {@link KeycloakMetricsEngine}.
+ * </p>
+ */
+@RequiredArgsConstructor
+public class KeycloakMetricsFilter implements ClientRequestFilter, ClientResponseFilter {
+
+  public static final String INTEGRATION = "keycloak";
+
+  private static final String START_TIME_PROPERTY = KeycloakMetricsFilter.class.getName() + ".startTime";
+  private static final Pattern REALM_SEGMENT = Pattern.compile("(/realms/)[^/]+");
+  private static final Pattern ID_SEGMENT = Pattern.compile(
+    "/[0-9a-fA-F]{8}-[0-9a-fA-F]{4}-[0-9a-fA-F]{4}-[0-9a-fA-F]{4}-[0-9a-fA-F]{12}(?=/|$)");
+
+  private final IntegrationMetrics integrationMetrics;
+
+  @Override
+  public void filter(ClientRequestContext requestContext) {
+    requestContext.setProperty(START_TIME_PROPERTY, System.nanoTime());
+  }
+
+  @Override
+  public void filter(ClientRequestContext requestContext, ClientResponseContext responseContext) {
+    if (!(requestContext.getProperty(START_TIME_PROPERTY) instanceof Long startTime)) {
+      return;
+    }
+
+    var status = responseContext.getStatus();
+    var isFailed = Family.familyOf(status) != Family.SUCCESSFUL && Family.familyOf(status) != Family.REDIRECTION;
+    var operation = getOperation(requestContext.getMethod(), requestContext.getUri());
+    integrationMetrics.record(INTEGRATION, operation, System.nanoTime() - startTime,
+      isFailed ? String.valueOf(status) : null);
+  }
+
+  /**
+   * Creates an operation name from the HTTP method and the request path template.
+   *
+   * @param method - HTTP method
+   * @param uri - request URI
+   * @return operation name
+   */
+  static String getOperation(String method, URI uri) {
+    return method + " " + getPathTemplate(uri.getPath());
+  }
+
+  /**
+   * Replaces realm names and identifiers in a Keycloak request path with placeholders.
+   *
+   * @param path - request path
+   * @return path template
+   */
+  public static String getPathTemplate(String path) {
+    var realmPath = REALM_SEGMENT.matcher(path).replaceFirst("$1{realm}");
+    return ID_SEGMENT.matcher(realmPath).replaceAll("/{id}");
+  }
+}
@@ -37,11 +37,8 @@ public abstract class AbstractKeycloakClientService implements KeycloakClientSer
    * @param realm - Keycloak realm name
    */
   protected ClientRepresentation setupKeycloakClient(String realm) {
-    var clientId = getClientId(realm);
-    Assert.notNull(clientId, "client id must not be null");
-    log.info("Generating client representation: clientId = {}, realm = {}", clientId, realm);
-
-    var clientRepresentation = prepareClientRepresentation(realm, clientId);
+    var clientRepresentation = buildClient(realm);
+    var clientId = clientRepresentation.getClientId();
 
     var realmResource = keycloak.realm(realm);
     try (var response = realmResource.clients().create(clientRepresentation)) {
@@ -54,6 +51,15 @@ public abstract class AbstractKeycloakClientService implements KeycloakClientSer
     return clientRepresentation;
   }
 
+  @Override
+  public ClientRepresentation buildClient(String realm) {
+    var clientId = getClientId(realm);
+    Assert.notNull(clientId, "client id must not be null");
+    log.info("Generating client representation: clientId = {}, realm = {}", clientId, realm);
+
+    return prepareClientRepresentation(realm, clientId);
+  }
+
   private static String getKeycloakClientId(String realm, Response response, String clientId) {
     return Optional.ofNullable(response.getHeaders())
       .map(headers -> headers.get(HttpHeaders.LOCATION))
@@ -12,6 +12,7 @@ import java.util.Map;
 import java.util.Set;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.log4j.Log4j2;
+import org.folio.tm.integration.keycloak.KeycloakAdminTokenManager;
 import org.folio.tm.integration.keycloak.KeycloakClient;
 import org.folio.tm.integration.keycloak.configuration.KeycloakRealmSetupProperties;
 import org.folio.tm.integration.keycloak.exception.KeycloakException;
@@ -34,23 +35,30 @@ public class ImpersonationClientService extends AbstractKeycloakClientService {
   private static final String ADMIN_IMPERSONATING_PERMISSION = "admin-impersonating.permission.users";
 
   private final KeycloakClient keycloakClient;
+  private final KeycloakAdminTokenManager adminTokenManager;
   private final KeycloakRealmSetupProperties keycloakRealmSetupProperties;
 
   @Override
   public ClientRepresentation setupClient(String realm) {
     var userManagementPermission = enableUserManagement(realm);
     var impersonationClient = setupKeycloakClient(realm);
-    var impersonationClientId = impersonationClient.getId();
-
-    var realmMgmtClientId = getRealmMgmtClientId(realm);
-    var authorizationResource = getRealmMgmtAuthorizationResource(realm, realmMgmtClientId);
-
-    createImpersonationPolicy(impersonationClientId, authorizationResource, realmMgmtClientId);
-    updateImpersonationPermissions(userManagementPermission, authorizationResource);
-
+    setupImpersonation(realm, impersonationClient.getId(), userManagementPermission);
     return impersonationClient;
   }
 
+  /**
+   * Enables user management permissions and creates impersonation policy, these settings belong to the
+   * 'realm-management' client and cannot be imported with a realm.
+   *
+   * @param realm - Keycloak realm name
+   * @param client - imported impersonation client
+   */
+  @Override
+  public void setupImportedClient(String realm, ClientRepresentation client) {
+    var userManagementPermission = enableUserManagement(realm);
+    setupImpersonation(realm, client.getId(), userManagementPermission);
+  }
+
   @Override
   protected String getClientId(String realm) {
     return keycloakRealmSetupProperties.getImpersonationClient();
@@ -83,14 +91,28 @@ public class ImpersonationClientService extends AbstractKeycloakClientService {
 
   private UserManagementPermission enableUserManagement(String realm) {
     var userManagementPermission = new UserManagementPermission(true);
-    var authorizationHeader = "Bearer " + keycloak.tokenManager().getAccessTokenString();
     try {
-      return keycloakClient.updateRealmUserManagementPermission(realm, userManagementPermission, authorizationHeader);
+      return adminTokenManager.call(() -> keycloakClient.updateRealmUserManagementPermission(realm,
+        userManagementPermission, "Bearer " + adminTokenManager.getAccessToken()));
     } catch (HttpStatusCodeException exception) {
       throw new KeycloakException("Failed to enable user management in Keycloak for realm: " + realm, exception);
     }
   }
 
+  /**
+   * Creates impersonation policy and attaches it to the impersonate permission of the 'realm-management' client.
+   *
+   * <p>The 'realm-management' client is resolved once and its authorization resource is shared by both operations.
+   * The impersonate permission id is taken from the user management response, so no lookup is needed for it.</p>
+   */
+  private void setupImpersonation(String realm, String impersonationClientId,
+    UserManagementPermission userManagementPermission) {
+    var realmMgmtClientId = getRealmMgmtClientId(realm);
+    var authorizationResource = getRealmMgmtAuthorizationResource(realm, realmMgmtClientId);
+    createImpersonationPolicy(impersonationClientId, authorizationResource, realmMgmtClientId);
+    updateImpersonationPermissions(userManagementPermission, authorizationResource);
+  }
+
   private ClientRepresentation getRealmManagementClient(String realm) {
     var foundClients = keycloak.realm(realm).clients().findByClientId(REALM_MANAGEMENT_CLIENT);
     return foundClients.stream()
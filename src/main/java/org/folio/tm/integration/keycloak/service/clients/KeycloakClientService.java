@@ -1,5 +1,6 @@
 package org.folio.tm.integration.keycloak.service.clients;
 
+import java.util.List;
 import org.keycloak.representations.idm.ClientRepresentation;
 
 public interface KeycloakClientService {
@@ -11,4 +12,29 @@ public interface KeycloakClientService {
    * @return {@link ClientRepresentation} object
    */
   ClientRepresentation setupClient(String realm);
+
+  /**
+   * Builds a Keycloak client without creating it, used to import a client with a realm.
+   *
+   * @param realm - Keycloak realm name
+   * @return {@link ClientRepresentation} object
+   */
+  ClientRepresentation buildClient(String realm);
+
+  /**
+   * Provides names of realm roles assigned to a client service account.
+   *
+   * @return {@link List} with role names, empty if client has no service account roles
+   */
+  default List<String> getServiceAccountRoles() {
+    return List.of();
+  }
+
+  /**
+   * Completes setup of a client imported with a realm, if it requires settings that cannot be imported.
+   *
+   * @param realm - Keycloak realm name
+   * @param client - imported client
+   */
+  default void setupImportedClient(String realm, ClientRepresentation client) {}
 }
@@ -25,6 +25,11 @@ public class ModuleClientService extends AbstractKeycloakClientService {
     return clientRepresentation;
   }
 
+  @Override
+  public List<String> getServiceAccountRoles() {
+    return List.of(SYSTEM_ROLE_NAME);
+  }
+
   @Override
   protected Map<String, String> getAttributes() {
     return ClientAttributes.defaultValue().asMap();
@@ -35,6 +35,11 @@ public class PasswordResetClientService extends AbstractKeycloakClientService {
     return clientRepresentation;
   }
 
+  @Override
+  public List<String> getServiceAccountRoles() {
+    return List.of(PASSWORD_RESET_ROLE_NAME);
+  }
+
   @Override
   protected String getClientId(String realm) {
     var passwordResetClientConfiguration = keycloakRealmSetupProperties.getPasswordResetClient();
@@ -28,8 +28,6 @@ public abstract class AbstractKeycloakRoleService implements KeycloakRealmRoleSe
     }
   }
 
-  protected abstract RoleRepresentation getRole(String realm);
-
   @Autowired
   public void setKeycloak(Keycloak keycloak) {
     this.keycloak = keycloak;
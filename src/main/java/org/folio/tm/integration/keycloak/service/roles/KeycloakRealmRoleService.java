@@ -8,4 +8,12 @@ public interface KeycloakRealmRoleService {
    * Provides a role to be created within Keycloak realm.
    */
   RoleRepresentation setupRole(String realm);
+
+  /**
+   * Builds a role without creating it, used to import a role with a realm.
+   *
+   * @param realm - Keycloak realm name
+   * @return {@link RoleRepresentation} object
+   */
+  RoleRepresentation getRole(String realm);
 }
@@ -2,16 +2,19 @@ package org.folio.tm.integration.okapi;
 
 import jakarta.servlet.http.HttpServletRequest;
 import java.util.Objects;
+import java.util.UUID;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.log4j.Log4j2;
 import org.folio.tm.domain.dto.Tenant;
 import org.folio.tm.integration.okapi.exception.OkapiRequestException;
 import org.folio.tm.integration.okapi.model.TenantDescriptor;
+import org.folio.tm.service.listeners.TenantListenerPhase;
 import org.folio.tm.service.listeners.TenantServiceListener;
 import org.springframework.web.client.HttpClientErrorException;
 
 @Log4j2
 @RequiredArgsConstructor
+@TenantListenerPhase(TenantListenerPhase.PROVISIONING)
 public class OkapiService implements TenantServiceListener {
 
   private final OkapiClient okapiClient;
@@ -30,7 +33,7 @@ public class OkapiService implements TenantServiceListener {
   }
 
   @Override
-  public void onTenantDelete(String tenantName) {
+  public void onTenantDelete(UUID tenantId, String tenantName) {
     log.info("Running Okapi event 'onTenantDelete' for tenant {}", tenantName);
     deleteTenantById(tenantName);
   }
@@ -2,6 +2,7 @@ package org.folio.tm.integration.okapi.configuration;
 
 import jakarta.servlet.http.HttpServletRequest;
 import lombok.extern.log4j.Log4j2;
+import org.folio.tm.integration.IntegrationMetrics;
 import org.folio.tm.integration.okapi.OkapiClient;
 import org.folio.tm.integration.okapi.OkapiService;
 import org.springframework.beans.factory.annotation.Autowired;
@@ -18,13 +19,13 @@ import org.springframework.web.service.invoker.HttpServiceProxyFactory;
 public class OkapiConfiguration {
 
   @Bean
-  public OkapiClient okapiClient(OkapiConfigurationProperties configuration) {
+  public OkapiClient okapiClient(OkapiConfigurationProperties configuration, IntegrationMetrics integrationMetrics) {
     var restClient = RestClient.builder()
       .baseUrl(configuration.getUrl())
       .build();
     var adapter = RestClientAdapter.create(restClient);
     var factory = HttpServiceProxyFactory.builderFor(adapter).build();
-    return factory.createClient(OkapiClient.class);
+    return integrationMetrics.instrument("okapi", OkapiClient.class, factory.createClient(OkapiClient.class));
   }
 
   @Bean
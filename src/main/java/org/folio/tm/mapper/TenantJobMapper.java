@@ -0,0 +1,13 @@
+package org.folio.tm.mapper;
+
+import org.folio.tm.domain.dto.TenantJob;
+import org.folio.tm.domain.entity.TenantJobEntity;
+import org.mapstruct.InjectionStrategy;
+import org.mapstruct.Mapper;
+
+@Mapper(componentModel = "spring", injectionStrategy = InjectionStrategy.CONSTRUCTOR, uses = MappingMethods.class)
+public interface TenantJobMapper {
+
+  @AuditableMapping
+  TenantJob toDto(TenantJobEntity entity);
+}
@@ -4,12 +4,13 @@ import static org.apache.commons.collections4.ListUtils.emptyIfNull;
 
 import java.util.List;
 import org.folio.tm.domain.dto.Tenant;
-import org.folio.tm.domain.dto.TenantAttribute;
 import org.folio.tm.domain.dto.Tenants;
 import org.folio.tm.domain.entity.TenantEntity;
+import org.folio.tm.domain.entity.TenantSummaryEntity;
 import org.mapstruct.InjectionStrategy;
 import org.mapstruct.Mapper;
 import org.mapstruct.Mapping;
+import org.mapstruct.MappingTarget;
 import org.springframework.data.domain.Page;
 
 @Mapper(componentModel = "spring", injectionStrategy = InjectionStrategy.CONSTRUCTOR, uses = MappingMethods.class)
@@ -20,14 +21,22 @@ public interface TenantMapper {
 
   List<TenantEntity> toEntities(Iterable<Tenant> dtos);
 
+  @Mapping(target = "id", ignore = true)
+  @Mapping(target = "name", ignore = true)
+  @Mapping(target = "secure", ignore = true)
+  @Mapping(target = "attributes", ignore = true)
+  void updateEntity(Tenant dto, @MappingTarget TenantEntity entity);
+
   @AuditableMapping
   Tenant toDto(TenantEntity entity);
 
+  List<Tenant> toDtos(Iterable<TenantEntity> entities);
+
   @AuditableMapping
-  @Mapping(target = "attributes", source = "attributes")
-  Tenant toDto(TenantEntity entity, List<TenantAttribute> attributes);
+  @Mapping(target = "attributes", expression = "java(null)")
+  Tenant toSummaryDto(TenantSummaryEntity entity);
 
-  List<Tenant> toDtos(Iterable<TenantEntity> entities);
+  List<Tenant> toSummaryDtos(Iterable<TenantSummaryEntity> entities);
 
   default Tenants toDtoCollection(Page<TenantEntity> pageable) {
     List<Tenant> dtos = emptyIfNull(toDtos(pageable));
@@ -36,4 +45,12 @@ public interface TenantMapper {
       .tenants(dtos)
       .totalRecords((int) pageable.getTotalElements());
   }
+
+  default Tenants toSummaryDtoCollection(Page<TenantSummaryEntity> pageable) {
+    List<Tenant> dtos = emptyIfNull(toSummaryDtos(pageable));
+
+    return new Tenants()
+      .tenants(dtos)
+      .totalRecords((int) pageable.getTotalElements());
+  }
 }
@@ -0,0 +1,13 @@
+package org.folio.tm.mapper;
+
+import org.folio.tm.domain.dto.TenantTopicPurge;
+import org.folio.tm.domain.entity.TenantTopicPurgeEntity;
+import org.mapstruct.InjectionStrategy;
+import org.mapstruct.Mapper;
+
+@Mapper(componentModel = "spring", injectionStrategy = InjectionStrategy.CONSTRUCTOR, uses = MappingMethods.class)
+public interface TenantTopicPurgeMapper {
+
+  @AuditableMapping
+  TenantTopicPurge toDto(TenantTopicPurgeEntity entity);
+}
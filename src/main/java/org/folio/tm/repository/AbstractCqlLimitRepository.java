@@ -0,0 +1,31 @@
+package org.folio.tm.repository;
+
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.PersistenceContext;
+import java.util.List;
+import lombok.RequiredArgsConstructor;
+import org.folio.spring.cql.Cql2JpaCriteria;
+
+@RequiredArgsConstructor
+public abstract class AbstractCqlLimitRepository<E> implements CqlLimitRepository<E> {
+
+  private final Class<E> domainClass;
+
+  @PersistenceContext
+  private EntityManager entityManager;
+
+  @Override
+  public List<E> findByCql(String cql, long offset, int limit) {
+    var criteria = new Cql2JpaCriteria<>(domainClass, entityManager).toCollectCriteria(cql);
+    return entityManager.createQuery(criteria)
+      .setFirstResult(Math.toIntExact(offset))
+      .setMaxResults(limit)
+      .getResultList();
+  }
+
+  @Override
+  public long countByCql(String cql) {
+    var criteria = new Cql2JpaCriteria<>(domainClass, entityManager).toCountCriteria(cql);
+    return entityManager.createQuery(criteria).getSingleResult();
+  }
+}
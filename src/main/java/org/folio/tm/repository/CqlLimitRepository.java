@@ -0,0 +1,29 @@
+package org.folio.tm.repository;
+
+import java.util.List;
+
+/**
+ * Repository fragment for CQL queries that must not trigger a count query.
+ *
+ * @param <E> - entity type
+ */
+public interface CqlLimitRepository<E> {
+
+  /**
+   * Retrieves entities by CQL query without calculating total number of records.
+   *
+   * @param cql - CQL query
+   * @param offset - number of records to skip
+   * @param limit - maximum number of records to return
+   * @return {@link List} with found entities
+   */
+  List<E> findByCql(String cql, long offset, int limit);
+
+  /**
+   * Counts entities matching CQL query.
+   *
+   * @param cql - CQL query
+   * @return number of matching entities
+   */
+  long countByCql(String cql);
+}
@@ -0,0 +1,5 @@
+package org.folio.tm.repository;
+
+import org.folio.tm.domain.entity.TenantAttributeEntity;
+
+public interface TenantAttributeCqlLimitRepository extends CqlLimitRepository<TenantAttributeEntity> {}
@@ -0,0 +1,11 @@
+package org.folio.tm.repository;
+
+import org.folio.tm.domain.entity.TenantAttributeEntity;
+
+public class TenantAttributeCqlLimitRepositoryImpl extends AbstractCqlLimitRepository<TenantAttributeEntity>
+  implements TenantAttributeCqlLimitRepository {
+
+  public TenantAttributeCqlLimitRepositoryImpl() {
+    super(TenantAttributeEntity.class);
+  }
+}
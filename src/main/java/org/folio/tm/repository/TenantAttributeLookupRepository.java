@@ -0,0 +1,25 @@
+package org.folio.tm.repository;
+
+import jakarta.annotation.Nullable;
+import java.util.List;
+import java.util.Map.Entry;
+import java.util.UUID;
+import org.folio.tm.domain.entity.TenantEntity;
+
+/**
+ * Repository fragment to find tenants by their attributes.
+ */
+public interface TenantAttributeLookupRepository {
+
+  /**
+   * Retrieves tenants having all the given attributes, sorted by name and identifier.
+   *
+   * @param attributes - attribute key and value pairs, matched exactly
+   * @param afterName - name of the last tenant of the previous page, null for the first page
+   * @param afterId - identifier of the last tenant of the previous page, null for the first page
+   * @param limit - maximum number of tenants to return
+   * @return {@link List} with found tenants
+   */
+  List<TenantEntity> findByAttributes(List<Entry<String, String>> attributes, @Nullable String afterName,
+    @Nullable UUID afterId, int limit);
+}
@@ -0,0 +1,63 @@
+package org.folio.tm.repository;
+
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.PersistenceContext;
+import jakarta.persistence.criteria.CriteriaBuilder;
+import jakarta.persistence.criteria.CriteriaQuery;
+import jakarta.persistence.criteria.Predicate;
+import jakarta.persistence.criteria.Root;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map.Entry;
+import java.util.UUID;
+import org.folio.tm.domain.entity.TenantAttributeEntity;
+import org.folio.tm.domain.entity.TenantEntity;
+
+/**
+ * Finds tenants by attributes with a single query, each attribute is matched by an {@code exists} condition served by
+ * the attribute key and value index.
+ */
+public class TenantAttributeLookupRepositoryImpl implements TenantAttributeLookupRepository {
+
+  @PersistenceContext
+  private EntityManager entityManager;
+
+  @Override
+  public List<TenantEntity> findByAttributes(List<Entry<String, String>> attributes, String afterName, UUID afterId,
+    int limit) {
+    var cb = entityManager.getCriteriaBuilder();
+    var query = cb.createQuery(TenantEntity.class);
+    var tenant = query.from(TenantEntity.class);
+
+    var predicates = new ArrayList<Predicate>();
+    for (var attribute : attributes) {
+      predicates.add(hasAttribute(cb, query, tenant, attribute));
+    }
+    if (afterName != null && afterId != null) {
+      predicates.add(isAfter(cb, tenant, afterName, afterId));
+    }
+
+    query.select(tenant)
+      .where(predicates.toArray(Predicate[]::new))
+      .orderBy(cb.asc(tenant.get("name")), cb.asc(tenant.get("id")));
+    return entityManager.createQuery(query).setMaxResults(limit).getResultList();
+  }
+
+  private static Predicate hasAttribute(CriteriaBuilder cb, CriteriaQuery<?> query, Root<TenantEntity> tenant,
+    Entry<String, String> attribute) {
+    var subquery = query.subquery(Integer.class);
+    var tenantAttribute = subquery.from(TenantAttributeEntity.class);
+    subquery.select(cb.literal(1)).where(
+      cb.equal(tenantAttribute.get("key"), attribute.getKey()),
+      cb.equal(tenantAttribute.get("value"), attribute.getValue()),
+      cb.equal(tenantAttribute.get("tenant"), tenant));
+    return cb.exists(subquery);
+  }
+
+  private static Predicate isAfter(CriteriaBuilder cb, Root<TenantEntity> tenant, String afterName, UUID afterId) {
+    var name = tenant.<String>get("name");
+    return cb.or(
+      cb.greaterThan(name, afterName),
+      cb.and(cb.equal(name, afterName), cb.greaterThan(tenant.<UUID>get("id"), afterId)));
+  }
+}
@@ -6,6 +6,7 @@ import org.folio.tm.domain.entity.TenantAttributeEntity;
 import org.springframework.stereotype.Repository;
 
 @Repository
-public interface TenantAttributeRepository extends JpaCqlRepository<TenantAttributeEntity, UUID> {
+public interface TenantAttributeRepository extends JpaCqlRepository<TenantAttributeEntity, UUID>,
+  TenantAttributeCqlLimitRepository {
 
 }
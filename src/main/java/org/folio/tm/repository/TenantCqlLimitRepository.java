@@ -0,0 +1,5 @@
+package org.folio.tm.repository;
+
+import org.folio.tm.domain.entity.TenantEntity;
+
+public interface TenantCqlLimitRepository extends CqlLimitRepository<TenantEntity> {}
@@ -0,0 +1,11 @@
+package org.folio.tm.repository;
+
+import org.folio.tm.domain.entity.TenantEntity;
+
+public class TenantCqlLimitRepositoryImpl extends AbstractCqlLimitRepository<TenantEntity>
+  implements TenantCqlLimitRepository {
+
+  public TenantCqlLimitRepositoryImpl() {
+    super(TenantEntity.class);
+  }
+}
@@ -0,0 +1,52 @@
+package org.folio.tm.repository;
+
+import java.time.OffsetDateTime;
+import java.util.Collection;
+import java.util.List;
+import java.util.UUID;
+import org.folio.tm.domain.entity.TenantJobEntity;
+import org.folio.tm.domain.model.TenantJobStatus;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+import org.springframework.transaction.annotation.Transactional;
+
+@Repository
+public interface TenantJobRepository extends JpaRepository<TenantJobEntity, UUID> {
+
+  /**
+   * Retrieves identifiers of jobs in the given statuses that have not been changed since the given date.
+   *
+   * @param statuses - job statuses
+   * @param staleBefore - date of the last change
+   * @return {@link List} with job identifiers
+   */
+  @Query("""
+    SELECT j.id FROM TenantJobEntity j
+    WHERE j.status IN :statuses AND COALESCE(j.updatedDate, j.createdDate) < :staleBefore""")
+  List<UUID> findStaleIds(@Param("statuses") Collection<TenantJobStatus> statuses,
+    @Param("staleBefore") OffsetDateTime staleBefore);
+
+  /**
+   * Fails a stale job, the job is failed only if it is still stale, so it is reconciled by a single application
+   * instance.
+   *
+   * @param id - job identifier
+   * @param statuses - statuses of a stale job
+   * @param staleBefore - date of the last change of a stale job
+   * @param now - current date
+   * @param error - job error
+   * @return 1 if job is failed, 0 - otherwise
+   */
+  @Modifying
+  @Transactional
+  @Query("""
+    UPDATE TenantJobEntity j SET j.status = org.folio.tm.domain.model.TenantJobStatus.FAILED, j.error = :error,
+      j.updatedDate = :now
+    WHERE j.id = :id AND j.status IN :statuses AND COALESCE(j.updatedDate, j.createdDate) < :staleBefore""")
+  int failStale(@Param("id") UUID id, @Param("statuses") Collection<TenantJobStatus> statuses,
+    @Param("staleBefore") OffsetDateTime staleBefore, @Param("now") OffsetDateTime now,
+    @Param("error") String error);
+}
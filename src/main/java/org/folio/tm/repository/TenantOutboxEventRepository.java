@@ -0,0 +1,54 @@
+package org.folio.tm.repository;
+
+import java.time.OffsetDateTime;
+import java.util.Collection;
+import java.util.List;
+import org.folio.tm.domain.entity.TenantOutboxEventEntity;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+@Repository
+public interface TenantOutboxEventRepository extends JpaRepository<TenantOutboxEventEntity, Long> {
+
+  /**
+   * Locks pending events which are due for delivery, skipping rows locked by other application instances.
+   *
+   * <p>Only the oldest pending event per tenant and listener is returned, so a listener always receives events of
+   * a tenant in the order they were written.</p>
+   *
+   * @param now - current timestamp
+   * @param limit - maximum number of events to return
+   * @return {@link List} with locked {@link TenantOutboxEventEntity} objects
+   */
+  @Query(nativeQuery = true, value = """
+    SELECT e.* FROM tenant_outbox_event e
+    WHERE e.status = 'PENDING' AND e.next_attempt_date <= :now
+      AND NOT EXISTS (SELECT 1 FROM tenant_outbox_event p
+        WHERE p.status = 'PENDING' AND p.tenant_name = e.tenant_name AND p.listener = e.listener AND p.id < e.id)
+    ORDER BY e.id
+    LIMIT :limit
+    FOR UPDATE SKIP LOCKED""")
+  List<TenantOutboxEventEntity> findDueForUpdate(@Param("now") OffsetDateTime now, @Param("limit") int limit);
+
+  /**
+   * Locks the given pending events if they are due for delivery, skipping rows locked by other application instances.
+   *
+   * <p>An event is returned only if it is the oldest pending event of its tenant and listener, other events are left
+   * to the scheduled dispatcher to keep the delivery order.</p>
+   *
+   * @param ids - outbox event identifiers
+   * @param now - current timestamp
+   * @return {@link List} with locked {@link TenantOutboxEventEntity} objects
+   */
+  @Query(nativeQuery = true, value = """
+    SELECT e.* FROM tenant_outbox_event e
+    WHERE e.id IN (:ids) AND e.status = 'PENDING' AND e.next_attempt_date <= :now
+      AND NOT EXISTS (SELECT 1 FROM tenant_outbox_event p
+        WHERE p.status = 'PENDING' AND p.tenant_name = e.tenant_name AND p.listener = e.listener AND p.id < e.id)
+    ORDER BY e.id
+    FOR UPDATE SKIP LOCKED""")
+  List<TenantOutboxEventEntity> findDueByIdsForUpdate(@Param("ids") Collection<Long> ids,
+    @Param("now") OffsetDateTime now);
+}
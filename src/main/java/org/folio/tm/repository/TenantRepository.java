@@ -1,12 +1,17 @@
 package org.folio.tm.repository;
 
+import java.util.Collection;
+import java.util.List;
+import java.util.Optional;
 import java.util.UUID;
 import org.folio.spring.cql.JpaCqlRepository;
 import org.folio.tm.domain.entity.TenantEntity;
+import org.springframework.data.jpa.repository.Query;
 import org.springframework.stereotype.Repository;
 
 @Repository
-public interface TenantRepository extends JpaCqlRepository<TenantEntity, UUID> {
+public interface TenantRepository extends JpaCqlRepository<TenantEntity, UUID>, TenantCqlLimitRepository,
+  TenantAttributeLookupRepository {
 
   /**
    * Retrieves true if {@link TenantEntity} is found by name.
@@ -15,4 +20,38 @@ public interface TenantRepository extends JpaCqlRepository<TenantEntity, UUID> {
    * @return true if {@link TenantEntity} is found by name, false - otherwise
    */
   boolean existsByName(String name);
+
+  /**
+   * Retrieves {@link TenantEntity} by name.
+   *
+   * @param name - tenant name as {@link String} object
+   * @return {@link Optional} with found {@link TenantEntity}, empty if tenant is not found
+   */
+  Optional<TenantEntity> findByName(String name);
+
+  /**
+   * Retrieves tenant name by tenant identifier without loading tenant attributes.
+   *
+   * @param id - tenant identifier
+   * @return {@link Optional} with tenant name, empty if tenant is not found
+   */
+  @Query("select t.name from TenantEntity t where t.id = :id")
+  Optional<String> findNameById(UUID id);
+
+  /**
+   * Retrieves names of existing tenants from the given collection of names.
+   *
+   * @param names - tenant names to check
+   * @return {@link List} with names of existing tenants
+   */
+  @Query("select t.name from TenantEntity t where t.name in :names")
+  List<String> findNamesByNameIn(Collection<String> names);
+
+  /**
+   * Retrieves estimated number of tenants from the table statistics maintained by autovacuum and analyze.
+   *
+   * @return {@link Optional} with estimated number of tenants, negative if the table has never been analyzed
+   */
+  @Query(nativeQuery = true, value = "SELECT CAST(reltuples AS bigint) FROM pg_class WHERE oid = to_regclass('tenant')")
+  Optional<Long> estimateCount();
 }
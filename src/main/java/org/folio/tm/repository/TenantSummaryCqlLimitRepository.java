@@ -0,0 +1,5 @@
+package org.folio.tm.repository;
+
+import org.folio.tm.domain.entity.TenantSummaryEntity;
+
+public interface TenantSummaryCqlLimitRepository extends CqlLimitRepository<TenantSummaryEntity> {}
@@ -0,0 +1,11 @@
+package org.folio.tm.repository;
+
+import org.folio.tm.domain.entity.TenantSummaryEntity;
+
+public class TenantSummaryCqlLimitRepositoryImpl extends AbstractCqlLimitRepository<TenantSummaryEntity>
+  implements TenantSummaryCqlLimitRepository {
+
+  public TenantSummaryCqlLimitRepositoryImpl() {
+    super(TenantSummaryEntity.class);
+  }
+}
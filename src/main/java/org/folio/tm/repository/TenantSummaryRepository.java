@@ -0,0 +1,12 @@
+package org.folio.tm.repository;
+
+import java.util.UUID;
+import org.folio.spring.cql.JpaCqlRepository;
+import org.folio.tm.domain.entity.TenantSummaryEntity;
+import org.springframework.stereotype.Repository;
+
+@Repository
+public interface TenantSummaryRepository extends JpaCqlRepository<TenantSummaryEntity, UUID>,
+  TenantSummaryCqlLimitRepository {
+
+}
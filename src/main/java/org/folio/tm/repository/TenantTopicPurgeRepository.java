@@ -0,0 +1,59 @@
+package org.folio.tm.repository;
+
+import java.time.OffsetDateTime;
+import java.util.Collection;
+import java.util.List;
+import java.util.Optional;
+import java.util.UUID;
+import org.folio.tm.domain.entity.TenantTopicPurgeEntity;
+import org.folio.tm.domain.model.TenantJobStatus;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+import org.springframework.transaction.annotation.Transactional;
+
+@Repository
+public interface TenantTopicPurgeRepository extends JpaRepository<TenantTopicPurgeEntity, UUID> {
+
+  /**
+   * Retrieves the latest topic purge of a tenant.
+   *
+   * @param tenantId - tenant identifier
+   * @return {@link Optional} with the latest {@link TenantTopicPurgeEntity}, empty if tenant topics were not purged
+   */
+  Optional<TenantTopicPurgeEntity> findFirstByTenantIdOrderByCreatedDateDesc(UUID tenantId);
+
+  /**
+   * Retrieves identifiers of purges in the given statuses that have not been changed since the given date.
+   *
+   * @param statuses - purge statuses
+   * @param staleBefore - date of the last change
+   * @return {@link List} with purge identifiers
+   */
+  @Query("""
+    SELECT p.id FROM TenantTopicPurgeEntity p
+    WHERE p.status IN :statuses AND COALESCE(p.updatedDate, p.createdDate) < :staleBefore""")
+  List<UUID> findStaleIds(@Param("statuses") Collection<TenantJobStatus> statuses,
+    @Param("staleBefore") OffsetDateTime staleBefore);
+
+  /**
+   * Claims a stale purge by resetting it to the pending status, the purge is claimed only if it is still stale, so
+   * it is claimed by a single application instance.
+   *
+   * @param id - purge identifier
+   * @param statuses - statuses of a stale purge
+   * @param staleBefore - date of the last change of a stale purge
+   * @param now - current date
+   * @return 1 if purge is claimed, 0 - otherwise
+   */
+  @Modifying
+  @Transactional
+  @Query("""
+    UPDATE TenantTopicPurgeEntity p SET p.status = org.folio.tm.domain.model.TenantJobStatus.PENDING,
+      p.updatedDate = :now
+    WHERE p.id = :id AND p.status IN :statuses AND COALESCE(p.updatedDate, p.createdDate) < :staleBefore""")
+  int claimStale(@Param("id") UUID id, @Param("statuses") Collection<TenantJobStatus> statuses,
+    @Param("staleBefore") OffsetDateTime staleBefore, @Param("now") OffsetDateTime now);
+}
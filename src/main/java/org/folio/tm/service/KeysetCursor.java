@@ -0,0 +1,80 @@
+package org.folio.tm.service;
+
+import static java.nio.charset.StandardCharsets.UTF_8;
+import static org.apache.commons.lang3.StringUtils.isBlank;
+
+import java.util.Base64;
+import java.util.UUID;
+import org.folio.tm.exception.RequestValidationException;
+import org.folio.tm.utils.CqlUtils;
+
+/**
+ * Opaque cursor for keyset pagination, points to the last record of a page by sort key and identifier.
+ *
+ * @param key - value of the sort key of the last record
+ * @param id - identifier of the last record
+ */
+record KeysetCursor(String key, UUID id) {
+
+  static final String ALL_RECORDS_QUERY = "cql.allRecords=1";
+
+  private static final String AFTER_PARAMETER = "after";
+  private static final String SEPARATOR = ":";
+
+  /**
+   * Decodes cursor from the opaque token.
+   *
+   * @param token - cursor token, blank value points to the first page
+   * @return decoded {@link KeysetCursor}, null for the first page
+   */
+  static KeysetCursor decode(String token) {
+    if (isBlank(token)) {
+      return null;
+    }
+
+    try {
+      var value = new String(Base64.getUrlDecoder().decode(token), UTF_8);
+      var separatorIdx = value.indexOf(SEPARATOR);
+      return new KeysetCursor(value.substring(separatorIdx + 1), UUID.fromString(value.substring(0, separatorIdx)));
+    } catch (IllegalArgumentException | IndexOutOfBoundsException e) {
+      throw new RequestValidationException("Invalid cursor", AFTER_PARAMETER, token);
+    }
+  }
+
+  /**
+   * Builds CQL query that returns records after the given cursor, sorted by key field and identifier.
+   *
+   * @param query - filter CQL query, can be blank
+   * @param keyField - name of the sort key field
+   * @param cursor - cursor to seek after, null for the first page
+   * @return CQL query as {@link String}
+   */
+  static String toQuery(String query, String keyField, KeysetCursor cursor) {
+    if (CqlUtils.hasSorting(query)) {
+      throw new RequestValidationException("Sorting is not supported in cursor mode", "query", query);
+    }
+
+    var filter = "(" + (isBlank(query) ? ALL_RECORDS_QUERY : query) + ")";
+    var seek = cursor == null ? "" : " and " + cursor.toSeekCondition(keyField);
+    return filter + seek + " sortBy " + keyField + "/sort.ascending id/sort.ascending";
+  }
+
+  /**
+   * Encodes cursor as an opaque URL-safe token.
+   *
+   * @return cursor token as {@link String}
+   */
+  String encode() {
+    var value = id + SEPARATOR + key;
+    return Base64.getUrlEncoder().withoutPadding().encodeToString(value.getBytes(UTF_8));
+  }
+
+  private String toSeekCondition(String keyField) {
+    var quotedKey = quote(key);
+    return String.format("(%1$s > %2$s or (%1$s == %2$s and id > %3$s))", keyField, quotedKey, quote(id.toString()));
+  }
+
+  private static String quote(String value) {
+    return '"' + value.replaceAll("([\\\\\"*?^])", "\\\\$1") + '"';
+  }
+}
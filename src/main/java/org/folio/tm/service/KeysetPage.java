@@ -0,0 +1,31 @@
+package org.folio.tm.service;
+
+import java.util.List;
+import java.util.function.Function;
+
+/**
+ * Page of records retrieved in keyset pagination mode.
+ *
+ * @param items - page records
+ * @param next - cursor token for the next page, null if there are no more records
+ * @param <E> - record type
+ */
+record KeysetPage<E>(List<E> items, String next) {
+
+  /**
+   * Creates page from records fetched with limit increased by one, the extra record signals that next page exists.
+   *
+   * @param fetched - fetched records, at most {@code limit + 1}
+   * @param limit - requested page size
+   * @param cursorFunction - function to create a cursor for a record
+   * @return created {@link KeysetPage}
+   */
+  static <E> KeysetPage<E> of(List<E> fetched, int limit, Function<E, KeysetCursor> cursorFunction) {
+    if (fetched.size() <= limit || limit == 0) {
+      return new KeysetPage<>(fetched.subList(0, Math.min(limit, fetched.size())), null);
+    }
+
+    var items = fetched.subList(0, limit);
+    return new KeysetPage<>(items, cursorFunction.apply(items.get(limit - 1)).encode());
+  }
+}
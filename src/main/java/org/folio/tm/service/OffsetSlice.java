@@ -0,0 +1,24 @@
+package org.folio.tm.service;
+
+import java.util.List;
+
+/**
+ * Page of records retrieved in offset pagination mode without a count query.
+ *
+ * @param items - page records
+ * @param hasMore - true if there are more records after the page
+ * @param <E> - record type
+ */
+record OffsetSlice<E>(List<E> items, boolean hasMore) {
+
+  /**
+   * Creates slice from records fetched with limit increased by one, the extra record signals that more records exist.
+   *
+   * @param fetched - fetched records, at most {@code limit + 1}
+   * @param limit - requested page size
+   * @return created {@link OffsetSlice}
+   */
+  static <E> OffsetSlice<E> of(List<E> fetched, int limit) {
+    return new OffsetSlice<>(fetched.subList(0, Math.min(limit, fetched.size())), fetched.size() > limit);
+  }
+}
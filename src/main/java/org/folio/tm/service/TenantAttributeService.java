@@ -1,13 +1,22 @@
 package org.folio.tm.service;
 
+import static java.util.Comparator.comparing;
+import static org.apache.commons.collections4.ListUtils.emptyIfNull;
+import static org.apache.commons.lang3.BooleanUtils.isNotFalse;
 import static org.apache.commons.lang3.StringUtils.isBlank;
+import static org.folio.tm.config.CacheConfiguration.TENANT_BY_NAME_CACHE;
+import static org.folio.tm.config.CacheConfiguration.TENANT_CACHE;
 import static org.folio.tm.domain.entity.TenantAttributeEntity.SORT_BY_KEY;
+import static org.folio.tm.service.ServiceUtils.comparatorById;
 import static org.folio.tm.service.ServiceUtils.example;
 import static org.folio.tm.service.ServiceUtils.initId;
+import static org.folio.tm.service.ServiceUtils.merge;
 import static org.folio.tm.service.ServiceUtils.mergeAndSave;
 import static org.folio.tm.service.ServiceUtils.setId;
 
 import jakarta.persistence.EntityNotFoundException;
+import java.util.ArrayList;
+import java.util.List;
 import java.util.Objects;
 import java.util.Optional;
 import java.util.UUID;
@@ -22,6 +31,11 @@ import org.folio.tm.domain.entity.TenantEntity;
 import org.folio.tm.exception.RequestValidationException;
 import org.folio.tm.mapper.TenantAttributeMapper;
 import org.folio.tm.repository.TenantAttributeRepository;
+import org.folio.tm.repository.TenantRepository;
+import org.folio.tm.service.listeners.TenantEventsPublisher;
+import org.folio.tm.utils.CqlUtils;
+import org.springframework.cache.annotation.CacheEvict;
+import org.springframework.cache.annotation.Caching;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
@@ -33,18 +47,43 @@ public class TenantAttributeService {
 
   private final TenantAttributeRepository repository;
   private final TenantAttributeMapper mapper;
+  private final TenantRepository tenantRepository;
+  private final TenantEventsPublisher tenantEventsPublisher;
 
   @Transactional(readOnly = true)
-  public TenantAttributes getAll(UUID tenantId, String query, int offset, int limit) {
+  public TenantAttributes getAll(UUID tenantId, String query, int offset, int limit, String totalRecords) {
+    if (TotalRecordsMode.from(totalRecords) != TotalRecordsMode.EXACT) {
+      return getAllBySlice(tenantId, query, offset, limit);
+    }
+
     var offsetReq = OffsetRequest.of(offset, limit, SORT_BY_KEY);
 
     var page = isBlank(query)
       ? repository.findAll(example(TenantAttributeEntity::new, setTenantId(tenantId)), offsetReq)
-      : repository.findByCql(query + " and tenant.id == " + tenantId, offsetReq);
+      : repository.findByCql(tenantFilter(tenantId, query), offsetReq);
 
     return mapper.toDtoCollection(page);
   }
 
+  @Transactional(readOnly = true)
+  public TenantAttributes getAllByCursor(UUID tenantId, String query, String after, int limit, Boolean includeTotal) {
+    var filter = tenantFilter(tenantId, query);
+    var cql = KeysetCursor.toQuery(filter, "key", KeysetCursor.decode(after));
+    var fetched = repository.findByCql(cql, 0, limit + 1);
+    var page = KeysetPage.of(fetched, limit, entity -> new KeysetCursor(entity.getKey(), entity.getId()));
+
+    var attributes = new TenantAttributes().tenantAttributes(mapper.toDtos(page.items())).next(page.next());
+    if (isNotFalse(includeTotal)) {
+      attributes.totalRecords((int) repository.countByCql(filter));
+    }
+
+    return attributes;
+  }
+
+  @Caching(evict = {
+    @CacheEvict(cacheNames = TENANT_CACHE, key = "#tenantId"),
+    @CacheEvict(cacheNames = TENANT_BY_NAME_CACHE, allEntries = true)
+  })
   public TenantAttributes upsertAll(UUID tenantId, TenantAttributes dtos) {
     var stored = repository.findAll(example(TenantAttributeEntity::new, setTenantId(tenantId)));
 
@@ -52,10 +91,39 @@ public class TenantAttributeService {
     incoming.forEach(setTenantId(tenantId).andThen(initId()));
 
     var saved = mergeAndSave(incoming, stored, repository, this::copyData);
+    publishAttributesUpdate(tenantId);
 
     return mapper.toDtoCollection(saved);
   }
 
+  /**
+   * Merges incoming attributes into the attribute collection of a tenant entity without querying the database.
+   *
+   * <p>New attributes are persisted by cascade from the tenant and removed ones by orphan removal. Hibernate executes
+   * inserts before deletes within a flush, so if a tenant with stored attributes gets new ones, removed and updated
+   * attributes are flushed first to let a new attribute reuse the key of a removed one.</p>
+   *
+   * @param tenant - new tenant entity or the one managed by the current persistence context
+   * @param dtos - incoming tenant attributes, nullable
+   */
+  public void mergeAttributes(TenantEntity tenant, List<TenantAttribute> dtos) {
+    var attributes = tenant.getAttributes();
+    var incoming = mapper.toEntities(emptyIfNull(dtos));
+    incoming.forEach(setTenant(tenant).andThen(initId()));
+
+    var added = new ArrayList<TenantAttributeEntity>();
+    var removed = new ArrayList<TenantAttributeEntity>();
+    merge(incoming, attributes, comparatorById(), added::add, this::copyData, removed::add);
+
+    attributes.removeAll(removed);
+    if (!added.isEmpty() && (!attributes.isEmpty() || !removed.isEmpty())) {
+      repository.flush();
+    }
+
+    attributes.addAll(added);
+    attributes.sort(comparing(TenantAttributeEntity::getKey));
+  }
+
   @Transactional(readOnly = true)
   public TenantAttribute get(UUID tenantId, UUID id) {
     var ta = getOne(tenantId, id);
@@ -63,6 +131,10 @@ public class TenantAttributeService {
     return mapper.toDto(ta);
   }
 
+  @Caching(evict = {
+    @CacheEvict(cacheNames = TENANT_CACHE, key = "#tenantId"),
+    @CacheEvict(cacheNames = TENANT_BY_NAME_CACHE, allEntries = true)
+  })
   public TenantAttribute update(UUID tenantId, UUID id, TenantAttribute dto) {
     var existing = getOne(tenantId, id);
 
@@ -75,12 +147,20 @@ public class TenantAttributeService {
     existing.setValue(dto.getValue());
 
     var updated = repository.saveAndFlush(existing);
+    publishAttributesUpdate(tenantId);
 
     return mapper.toDto(updated);
   }
 
+  @Caching(evict = {
+    @CacheEvict(cacheNames = TENANT_CACHE, key = "#tenantId"),
+    @CacheEvict(cacheNames = TENANT_BY_NAME_CACHE, allEntries = true)
+  })
   public void delete(UUID tenantId, UUID id) {
-    findOne(tenantId, id).ifPresent(repository::delete);
+    findOne(tenantId, id).ifPresent(entity -> {
+      repository.delete(entity);
+      publishAttributesUpdate(tenantId);
+    });
   }
 
   private TenantAttributeEntity getOne(UUID tenantId, UUID id) {
@@ -93,12 +173,38 @@ public class TenantAttributeService {
     return repository.findOne(example(TenantAttributeEntity::new, setId(id), setTenantId(tenantId)));
   }
 
+  /**
+   * Retrieves a page of tenant attributes without a count query. Attributes are always filtered by tenant, so there
+   * are no table statistics to estimate the total number of records from and it is omitted in both count-free modes.
+   */
+  private TenantAttributes getAllBySlice(UUID tenantId, String query, int offset, int limit) {
+    var filter = tenantFilter(tenantId, query);
+    var cql = CqlUtils.hasSorting(query) ? filter : filter + " sortBy key";
+    var slice = OffsetSlice.of(repository.findByCql(cql, offset, limit + 1), limit);
+
+    return new TenantAttributes().tenantAttributes(mapper.toDtos(slice.items())).hasMore(slice.hasMore());
+  }
+
+  private static String tenantFilter(UUID tenantId, String query) {
+    var tenantQuery = "tenant.id == " + tenantId;
+    return isBlank(query) ? tenantQuery : query + " and " + tenantQuery;
+  }
+
+  private void publishAttributesUpdate(UUID tenantId) {
+    tenantRepository.findNameById(tenantId)
+      .ifPresent(tenantName -> tenantEventsPublisher.onTenantAttributesUpdate(tenantId, tenantName));
+  }
+
   private void copyData(TenantAttributeEntity from, TenantAttributeEntity to) {
     to.setKey(from.getKey());
     to.setValue(from.getValue());
   }
 
   private static Consumer<TenantAttributeEntity> setTenantId(UUID tenantId) {
-    return ta -> ta.setTenant(TenantEntity.of(tenantId));
+    return setTenant(TenantEntity.of(tenantId));
+  }
+
+  private static Consumer<TenantAttributeEntity> setTenant(TenantEntity tenant) {
+    return ta -> ta.setTenant(tenant);
   }
 }
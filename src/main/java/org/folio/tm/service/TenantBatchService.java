@@ -0,0 +1,121 @@
+package org.folio.tm.service;
+
+import static java.util.Collections.nCopies;
+import static org.folio.tm.config.TenantBatchConfiguration.TENANT_BATCH_EXECUTOR;
+import static org.folio.tm.domain.dto.TenantBatchStatus.CREATED;
+import static org.folio.tm.domain.dto.TenantBatchStatus.FAILED;
+import static org.folio.tm.utils.RequestContextUtils.withRequestAttributes;
+
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutorService;
+import java.util.stream.IntStream;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.log4j.Log4j2;
+import org.folio.tm.config.TenantBatchConfiguration;
+import org.folio.tm.domain.dto.Tenant;
+import org.folio.tm.domain.dto.TenantBatchItem;
+import org.folio.tm.domain.dto.TenantBatchResult;
+import org.folio.tm.exception.RequestValidationException;
+import org.folio.tm.service.listeners.TenantEventsPublisher;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.stereotype.Service;
+import org.springframework.web.context.request.RequestContextHolder;
+
+@Log4j2
+@Service
+@RequiredArgsConstructor
+public class TenantBatchService {
+
+  private final TenantService tenantService;
+  private final TenantEventsPublisher tenantEventsPublisher;
+  private final TenantBatchConfiguration tenantBatchConfiguration;
+  @Qualifier(TENANT_BATCH_EXECUTOR) private final ExecutorService tenantBatchExecutor;
+
+  /**
+   * Creates a batch of tenants.
+   *
+   * <p>Tenant records are persisted in one transaction, then tenant listeners are executed in parallel for each
+   * tenant. Records of tenants that failed to be provisioned are removed.</p>
+   *
+   * @param tenants - list of tenants to create
+   * @return {@link TenantBatchResult} with per-tenant results in the order of the request
+   */
+  public TenantBatchResult createTenants(List<Tenant> tenants) {
+    validateBatchSize(tenants);
+
+    var results = new ArrayList<TenantBatchItem>(nCopies(tenants.size(), null));
+    var accepted = acceptTenants(tenants, results);
+    if (!accepted.isEmpty()) {
+      var records = tenantService.createTenantRecords(accepted.values().stream().map(tenants::get).toList());
+      var provisioned = provisionInParallel(records);
+      removeFailedTenants(records, provisioned);
+      provisioned.forEach(item -> results.set(accepted.get(item.getName()), item));
+    }
+
+    return new TenantBatchResult().results(results).totalRecords(results.size());
+  }
+
+  private void validateBatchSize(List<Tenant> tenants) {
+    var maxSize = tenantBatchConfiguration.getMaxSize();
+    if (tenants.size() > maxSize) {
+      throw new RequestValidationException("Batch size exceeds the limit of " + maxSize, "tenants", tenants.size());
+    }
+  }
+
+  private Map<String, Integer> acceptTenants(List<Tenant> tenants, List<TenantBatchItem> results) {
+    var existingNames = tenantService.getExistingNames(tenants.stream().map(Tenant::getName).toList());
+    var accepted = new LinkedHashMap<String, Integer>();
+    for (int i = 0; i < tenants.size(); i++) {
+      var name = tenants.get(i).getName();
+      if (existingNames.contains(name)) {
+        results.set(i, failed(name, "Tenant's name already taken: " + name));
+      } else if (accepted.putIfAbsent(name, i) != null) {
+        results.set(i, failed(name, "Tenant's name is duplicated in the batch: " + name));
+      }
+    }
+
+    return accepted;
+  }
+
+  private List<TenantBatchItem> provisionInParallel(List<Tenant> tenants) {
+    var requestAttributes = RequestContextHolder.getRequestAttributes();
+    var futures = tenants.stream()
+      .map(tenant -> withRequestAttributes(requestAttributes, () -> provision(tenant)))
+      .map(task -> CompletableFuture.supplyAsync(task, tenantBatchExecutor))
+      .toList();
+
+    return futures.stream().map(CompletableFuture::join).toList();
+  }
+
+  private TenantBatchItem provision(Tenant tenant) {
+    var name = tenant.getName();
+    try {
+      tenantEventsPublisher.onTenantCreate(tenant);
+      log.info("Tenant provisioned in batch: name = {}", name);
+      return new TenantBatchItem().name(name).status(CREATED).tenant(tenant);
+    } catch (Exception exception) {
+      log.warn("Failed to provision tenant in batch: name = {}", name, exception);
+      return failed(name, exception.getMessage());
+    }
+  }
+
+  private void removeFailedTenants(List<Tenant> records, List<TenantBatchItem> provisioned) {
+    var failedIds = IntStream.range(0, records.size())
+      .filter(i -> provisioned.get(i).getStatus() == FAILED)
+      .mapToObj(i -> records.get(i).getId())
+      .toList();
+
+    if (!failedIds.isEmpty()) {
+      log.info("Removing records of tenants failed to be provisioned: ids = {}", failedIds);
+      tenantService.deleteTenantRecords(failedIds);
+    }
+  }
+
+  private static TenantBatchItem failed(String name, String error) {
+    return new TenantBatchItem().name(name).status(FAILED).error(error);
+  }
+}
@@ -0,0 +1,12 @@
+package org.folio.tm.service;
+
+import java.util.UUID;
+
+/**
+ * Result of a synchronous part of the tenant operation with the identifier of a tenant job completing it.
+ *
+ * @param result - result of the synchronous part
+ * @param jobId - tenant job identifier
+ * @param <T> - result type
+ */
+public record TenantJobResult<T>(T result, UUID jobId) {}
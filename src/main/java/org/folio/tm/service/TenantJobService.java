@@ -0,0 +1,218 @@
+package org.folio.tm.service;
+
+import static org.folio.tm.config.TenantJobConfiguration.TENANT_JOB_EXECUTOR;
+import static org.folio.tm.domain.model.TenantJobStatus.COMPLETED;
+import static org.folio.tm.domain.model.TenantJobStatus.FAILED;
+import static org.folio.tm.domain.model.TenantJobStatus.PENDING;
+import static org.folio.tm.domain.model.TenantJobStatus.RUNNING;
+import static org.folio.tm.utils.RequestContextUtils.detachedRequestAttributes;
+import static org.folio.tm.utils.RequestContextUtils.withRequestAttributes;
+
+import jakarta.persistence.EntityNotFoundException;
+import java.time.OffsetDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+import java.util.UUID;
+import java.util.concurrent.ExecutorService;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.log4j.Log4j2;
+import org.folio.tm.config.TenantJobConfiguration;
+import org.folio.tm.domain.dto.Tenant;
+import org.folio.tm.domain.dto.TenantJob;
+import org.folio.tm.domain.entity.TenantJobEntity;
+import org.folio.tm.domain.entity.TenantJobStepEntity;
+import org.folio.tm.domain.model.TenantJobStatus;
+import org.folio.tm.domain.model.TenantJobType;
+import org.folio.tm.mapper.TenantJobMapper;
+import org.folio.tm.repository.TenantJobRepository;
+import org.folio.tm.service.listeners.TenantEventStep;
+import org.folio.tm.service.listeners.TenantEventsPublisher;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+@Log4j2
+@Service
+@RequiredArgsConstructor
+public class TenantJobService {
+
+  static final String KAFKA_TOPICS_STEP = "KafkaTopics";
+  static final String TENANT_RECORD_STEP = "TenantRecord";
+  static final String INTERRUPTED_JOB_ERROR = "Tenant job was interrupted";
+
+  private static final List<TenantJobStatus> IN_PROGRESS_STATUSES = List.of(PENDING, RUNNING);
+
+  private final TenantJobMapper mapper;
+  private final TenantJobRepository repository;
+  private final TenantService tenantService;
+  private final TenantEventsPublisher tenantEventsPublisher;
+  private final TenantTopicPurgeService tenantTopicPurgeService;
+  private final TenantJobConfiguration tenantJobConfiguration;
+  @Qualifier(TENANT_JOB_EXECUTOR) private final ExecutorService tenantJobExecutor;
+
+  @Transactional(readOnly = true)
+  public TenantJob getTenantJobById(UUID id) {
+    return repository.findById(id)
+      .map(mapper::toDto)
+      .orElseThrow(() -> new EntityNotFoundException("Tenant job is not found: id = " + id));
+  }
+
+  /**
+   * Creates a tenant record and submits a tenant job executing 'onTenantCreate' listeners after commit.
+   *
+   * <p>Tenant record is removed if any of listeners fails.</p>
+   *
+   * @param tenant - tenant to create
+   * @return {@link TenantJobResult} with created tenant and tenant job identifier
+   */
+  @Transactional
+  public TenantJobResult<Tenant> createTenant(Tenant tenant) {
+    var created = tenantService.createTenantRecord(tenant);
+    var steps = tenantEventsPublisher.getTenantCreateSteps(created);
+    var jobId = submit(TenantJobType.CREATE, created.getId(), created.getName(), steps,
+      () -> tenantService.deleteTenantRecords(List.of(created.getId())));
+
+    return new TenantJobResult<>(created, jobId);
+  }
+
+  /**
+   * Submits a tenant job executing 'onTenantDelete' listeners, tenant record removal and Kafka topics removal after
+   * commit.
+   *
+   * <p>Tenant record is removed only after all listeners are completed, so a failed job can be retried by deleting
+   * the tenant again.</p>
+   *
+   * @param id - tenant identifier
+   * @param purgeKafkaTopics - defines if tenant Kafka topics must be removed
+   * @return {@link Optional} with tenant job identifier, empty if tenant is not found
+   */
+  @Transactional
+  public Optional<UUID> deleteTenant(UUID id, Boolean purgeKafkaTopics) {
+    return tenantService.checkTenantCanBeDeleted(id).map(tenantName -> {
+      var steps = new ArrayList<>(tenantEventsPublisher.getTenantDeleteSteps(id, tenantName));
+      steps.add(new TenantEventStep(TENANT_RECORD_STEP, () -> tenantService.deleteTenantRecords(List.of(id))));
+      steps.add(new TenantEventStep(KAFKA_TOPICS_STEP,
+        () -> tenantTopicPurgeService.purge(id, tenantName, purgeKafkaTopics)));
+      return submit(TenantJobType.DELETE, id, tenantName, steps, () -> {});
+    });
+  }
+
+  /**
+   * Fails jobs left pending or running by a stopped application instance.
+   *
+   * <p>A job is considered interrupted if its status has not been changed for the stale timeout. Each interrupted
+   * job is failed by a conditional update, so it is reconciled by a single application instance. The tenant record
+   * of an interrupted create job is removed, as it is done for a failed one.</p>
+   */
+  @Scheduled(fixedDelayString = "${application.tenant-jobs.reconcile-interval:1m}")
+  public void failStaleJobs() {
+    try {
+      var now = OffsetDateTime.now();
+      var staleBefore = now.minus(tenantJobConfiguration.getStaleTimeout());
+      for (var id : repository.findStaleIds(IN_PROGRESS_STATUSES, staleBefore)) {
+        if (repository.failStale(id, IN_PROGRESS_STATUSES, staleBefore, now, INTERRUPTED_JOB_ERROR) > 0) {
+          repository.findById(id).ifPresent(this::revertInterrupted);
+        }
+      }
+    } catch (Exception exception) {
+      log.warn("Failed to reconcile interrupted tenant jobs", exception);
+    }
+  }
+
+  private void revertInterrupted(TenantJobEntity job) {
+    log.warn("Tenant job was interrupted: id = {}, type = {}, tenant = {}",
+      job.getId(), job.getType(), job.getTenantName());
+    if (job.getType() == TenantJobType.CREATE) {
+      revert(job, () -> tenantService.deleteTenantRecords(List.of(job.getTenantId())));
+    }
+  }
+
+  private UUID submit(TenantJobType type, UUID tenantId, String tenantName, List<TenantEventStep> steps,
+    Runnable onFailure) {
+    var job = repository.save(newJob(type, tenantId, tenantName, steps));
+    var task = withRequestAttributes(detachedRequestAttributes(), () -> execute(job, steps, onFailure));
+
+    TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+      @Override
+      public void afterCommit() {
+        tenantJobExecutor.execute(task);
+      }
+    });
+
+    return job.getId();
+  }
+
+  private void execute(TenantJobEntity job, List<TenantEventStep> steps, Runnable onFailure) {
+    log.info("Executing tenant job: id = {}, type = {}, tenant = {}", job.getId(), job.getType(), job.getTenantName());
+    try {
+      var current = saveStatus(job, RUNNING, null);
+      for (int i = 0; i < steps.size(); i++) {
+        current = executeStep(current, i, steps.get(i), onFailure);
+        if (current.getStatus() == FAILED) {
+          return;
+        }
+      }
+
+      saveStatus(current, COMPLETED, null);
+      log.info("Tenant job completed: id = {}", job.getId());
+    } catch (Exception exception) {
+      log.error("Failed to execute tenant job: id = {}", job.getId(), exception);
+    }
+  }
+
+  private TenantJobEntity executeStep(TenantJobEntity job, int index, TenantEventStep step, Runnable onFailure) {
+    var current = saveStep(job, index, RUNNING, null);
+    try {
+      step.action().run();
+      return saveStep(current, index, COMPLETED, null);
+    } catch (Exception exception) {
+      log.warn("Tenant job step failed: id = {}, step = {}", job.getId(), step.name(), exception);
+      current = saveStep(current, index, FAILED, exception.getMessage());
+      revert(current, onFailure);
+      return saveStatus(current, FAILED, "Step '" + step.name() + "' failed: " + exception.getMessage());
+    }
+  }
+
+  private void revert(TenantJobEntity job, Runnable onFailure) {
+    try {
+      onFailure.run();
+    } catch (Exception exception) {
+      log.warn("Failed to revert changes of tenant job: id = {}", job.getId(), exception);
+    }
+  }
+
+  private TenantJobEntity saveStep(TenantJobEntity job, int index, TenantJobStatus status, String error) {
+    var step = job.getSteps().get(index);
+    step.setStatus(status);
+    step.setError(error);
+    if (status == RUNNING) {
+      step.setStartedDate(OffsetDateTime.now());
+    } else {
+      step.setFinishedDate(OffsetDateTime.now());
+    }
+
+    return repository.save(job);
+  }
+
+  private TenantJobEntity saveStatus(TenantJobEntity job, TenantJobStatus status, String error) {
+    job.setStatus(status);
+    job.setError(error);
+    return repository.save(job);
+  }
+
+  private static TenantJobEntity newJob(TenantJobType type, UUID tenantId, String tenantName,
+    List<TenantEventStep> steps) {
+    var job = new TenantJobEntity();
+    job.setId(UUID.randomUUID());
+    job.setType(type);
+    job.setStatus(PENDING);
+    job.setTenantId(tenantId);
+    job.setTenantName(tenantName);
+    job.setSteps(new ArrayList<>(steps.stream().map(step -> TenantJobStepEntity.pending(step.name())).toList()));
+    return job;
+  }
+}
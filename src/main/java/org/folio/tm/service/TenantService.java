@@ -1,26 +1,46 @@
 package org.folio.tm.service;
 
-import static java.util.Collections.emptyList;
-import static org.apache.commons.collections4.ListUtils.defaultIfNull;
+import static java.util.Objects.requireNonNull;
+import static org.apache.commons.lang3.BooleanUtils.isFalse;
+import static org.apache.commons.lang3.BooleanUtils.isNotFalse;
 import static org.apache.commons.lang3.StringUtils.isBlank;
+import static org.folio.tm.config.CacheConfiguration.TENANT_BY_NAME_CACHE;
+import static org.folio.tm.config.CacheConfiguration.TENANT_CACHE;
+import static org.folio.tm.service.KeysetCursor.ALL_RECORDS_QUERY;
 import static org.folio.tm.service.ServiceUtils.initId;
+import static org.folio.tm.service.trace.TenantTraceContext.recordStep;
 
 import jakarta.persistence.EntityNotFoundException;
+import java.util.Collection;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Map.Entry;
 import java.util.Objects;
+import java.util.Optional;
+import java.util.Set;
 import java.util.UUID;
+import java.util.function.Function;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.log4j.Log4j2;
 import org.folio.common.domain.model.OffsetRequest;
 import org.folio.tm.domain.dto.Tenant;
-import org.folio.tm.domain.dto.TenantAttributes;
 import org.folio.tm.domain.dto.Tenants;
 import org.folio.tm.domain.entity.TenantEntity;
 import org.folio.tm.exception.RequestValidationException;
 import org.folio.tm.integration.entitlements.TenantEntitlementsService;
-import org.folio.tm.integration.kafka.KafkaService;
+import org.folio.tm.integration.kafka.cache.TenantCacheEventPublisher;
 import org.folio.tm.mapper.TenantMapper;
+import org.folio.tm.repository.CqlLimitRepository;
 import org.folio.tm.repository.TenantRepository;
+import org.folio.tm.repository.TenantSummaryRepository;
 import org.folio.tm.service.listeners.TenantEventsPublisher;
+import org.folio.tm.service.trace.TenantTraceService;
+import org.folio.tm.utils.CqlUtils;
+import org.springframework.cache.CacheManager;
+import org.springframework.cache.annotation.CacheEvict;
+import org.springframework.cache.annotation.Cacheable;
+import org.springframework.cache.annotation.Caching;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
@@ -30,39 +50,113 @@ import org.springframework.transaction.annotation.Transactional;
 @Transactional
 public class TenantService {
 
+  private static final String ATTRIBUTES_INDEX = "attributes";
+
   private final TenantMapper mapper;
   private final TenantRepository repository;
+  private final TenantSummaryRepository summaryRepository;
   private final TenantAttributeService tenantAttributeService;
   private final TenantEventsPublisher tenantEventsPublisher;
-  private final KafkaService kafkaService;
+  private final TenantTopicPurgeService tenantTopicPurgeService;
   private final TenantEntitlementsService tenantEntitlementsService;
+  private final TenantTraceService tenantTraceService;
+  private final CacheManager cacheManager;
+  private final Optional<TenantCacheEventPublisher> tenantCacheEventPublisher;
 
   public Tenant createTenant(Tenant tenant) {
+    return tenantTraceService.trace("createTenant", tenant.getId(), tenant.getName(), () -> {
+      var saved = recordStep("database:createTenantRecord", () -> createTenantRecord(tenant));
+
+      tenantEventsPublisher.onTenantCreate(tenant);
+
+      return saved;
+    });
+  }
+
+  /**
+   * Persists a tenant with its attributes, tenant listeners are not executed.
+   *
+   * @param tenant - tenant to persist
+   * @return persisted tenant
+   */
+  public Tenant createTenantRecord(Tenant tenant) {
     var name = tenant.getName();
     if (repository.existsByName(name)) {
       throw new RequestValidationException("Tenant's name already taken: " + name);
     }
 
-    var tenantWithId = initId(tenant);
-    var saved = repository.saveAndFlush(mapper.toEntity(tenantWithId));
-    var attributes = new TenantAttributes().tenantAttributes(defaultIfNull(tenant.getAttributes(), emptyList()));
-    var tenantAttributes = tenantAttributeService.upsertAll(tenantWithId.getId(), attributes).getTenantAttributes();
+    var saved = repository.saveAndFlush(toEntity(tenant));
+    return mapper.toDto(saved);
+  }
 
-    tenantEventsPublisher.onTenantCreate(tenant);
+  /**
+   * Persists tenants with their attributes in one transaction, tenant listeners are not executed.
+   *
+   * @param tenants - tenants to persist
+   * @return persisted tenants
+   */
+  public List<Tenant> createTenantRecords(List<Tenant> tenants) {
+    var saved = repository.saveAllAndFlush(tenants.stream().map(this::toEntity).toList());
+    return mapper.toDtos(saved);
+  }
 
-    return mapper.toDto(saved, tenantAttributes);
+  /**
+   * Removes tenant records with their attributes, tenant listeners are not executed.
+   *
+   * <p>Other application instances are notified after commit to evict removed tenants from their caches, the
+   * tenants could have been cached by them while tenant listeners were executed.</p>
+   *
+   * @param ids - tenant identifiers
+   */
+  @Caching(evict = {
+    @CacheEvict(cacheNames = TENANT_CACHE, allEntries = true),
+    @CacheEvict(cacheNames = TENANT_BY_NAME_CACHE, allEntries = true)
+  })
+  public void deleteTenantRecords(Collection<UUID> ids) {
+    var deleted = repository.findAllById(ids);
+    repository.deleteAllByIdInBatch(ids);
+    tenantCacheEventPublisher.ifPresent(publisher ->
+      deleted.forEach(entity -> publisher.onTenantDelete(entity.getId(), entity.getName())));
   }
 
   @Transactional(readOnly = true)
+  public Set<String> getExistingNames(Collection<String> names) {
+    return names.isEmpty() ? Set.of() : new HashSet<>(repository.findNamesByNameIn(names));
+  }
+
+  @Transactional(readOnly = true)
+  @Cacheable(cacheNames = TENANT_CACHE, key = "#id")
   public Tenant getTenantById(UUID id) {
     var entity = getOne(id);
     return mapper.toDto(entity);
   }
 
   @Transactional(readOnly = true)
-  public Tenants getTenantsByQuery(String query, Integer offset, Integer limit) {
-    var offsetReq = OffsetRequest.of(offset, limit);
+  public Tenant getTenantSummaryById(UUID id) {
+    var entity = summaryRepository.findById(id)
+      .orElseThrow(() -> new EntityNotFoundException("Tenant is not found: id = " + id));
+    return mapper.toSummaryDto(entity);
+  }
+
+  @Transactional(readOnly = true)
+  public Tenants getTenantsByQuery(String query, Integer offset, Integer limit, String totalRecords,
+    Boolean includeAttributes) {
+    var totalRecordsMode = TotalRecordsMode.from(totalRecords);
+    if (isFalse(includeAttributes)) {
+      checkSummaryQuery(query);
+      return getTenantSummaries(query, offset, limit, totalRecordsMode);
+    }
+
+    if (totalRecordsMode != TotalRecordsMode.EXACT) {
+      return getTenantsBySlice(repository, mapper::toDtos, query, offset, limit, totalRecordsMode);
+    }
 
+    var name = CqlUtils.getExactMatchTerm(query, "name");
+    if (name.isPresent() && offset == 0) {
+      return getTenantsByName(name.get(), limit);
+    }
+
+    var offsetReq = OffsetRequest.of(offset, limit);
     var page = isBlank(query)
       ? repository.findAll(offsetReq)
       : repository.findByCql(query, offsetReq);
@@ -70,7 +164,55 @@ public class TenantService {
     return mapper.toDtoCollection(page);
   }
 
+  @Transactional(readOnly = true)
+  public Tenants getTenantsByCursor(String query, String after, Integer limit, Boolean includeTotal,
+    Boolean includeAttributes) {
+    if (isFalse(includeAttributes)) {
+      checkSummaryQuery(query);
+      return getTenantsByCursor(summaryRepository, mapper::toSummaryDtos,
+        entity -> new KeysetCursor(entity.getName(), entity.getId()), query, after, limit, includeTotal);
+    }
+
+    return getTenantsByCursor(repository, mapper::toDtos,
+      entity -> new KeysetCursor(entity.getName(), entity.getId()), query, after, limit, includeTotal);
+  }
+
+  @Transactional(readOnly = true)
+  public Tenants getTenantsByAttributes(List<String> attributes, String after, Integer limit) {
+    var pairs = attributes.stream().map(TenantService::parseAttribute).toList();
+    var cursor = KeysetCursor.decode(after);
+    var fetched = cursor == null
+      ? repository.findByAttributes(pairs, null, null, limit + 1)
+      : repository.findByAttributes(pairs, cursor.key(), cursor.id(), limit + 1);
+    var page = KeysetPage.of(fetched, limit, entity -> new KeysetCursor(entity.getName(), entity.getId()));
+
+    return new Tenants().tenants(mapper.toDtos(page.items())).next(page.next());
+  }
+
+  @Caching(evict = {
+    @CacheEvict(cacheNames = TENANT_CACHE, key = "#id"),
+    @CacheEvict(cacheNames = TENANT_BY_NAME_CACHE, key = "#tenant.name")
+  })
   public Tenant updateTenantById(UUID id, Tenant tenant) {
+    return tenantTraceService.trace("updateTenant", id, tenant.getName(), () -> updateTenant(id, tenant));
+  }
+
+  @Caching(evict = {
+    @CacheEvict(cacheNames = TENANT_CACHE, key = "#id"),
+    @CacheEvict(cacheNames = TENANT_BY_NAME_CACHE, allEntries = true)
+  })
+  public void deleteTenantById(UUID id, Boolean purgeKafkaTopics) {
+    tenantTraceService.trace("deleteTenant", id, null, () -> {
+      var deletedTenantName = recordStep("database:deleteTenantRecord", () -> deleteTenantRecord(id));
+      deletedTenantName.ifPresent(tenantName -> {
+        tenantEventsPublisher.onTenantDelete(id, tenantName);
+        tenantTopicPurgeService.purgeAfterCommit(id, tenantName, purgeKafkaTopics);
+      });
+      return null;
+    });
+  }
+
+  private Tenant updateTenant(UUID id, Tenant tenant) {
     var existing = getOne(id);
     var tenantId = tenant.getId();
 
@@ -84,20 +226,45 @@ public class TenantService {
       throw new RequestValidationException("Secure field cannot be modified", "secure", tenant.getSecure());
     }
 
-    var saved = repository.saveAndFlush(mapper.toEntity(tenant));
-
-    var attributes = new TenantAttributes().tenantAttributes(defaultIfNull(tenant.getAttributes(), emptyList()));
-    var tenantAttributes = tenantAttributeService.upsertAll(tenantId, attributes).getTenantAttributes();
+    mapper.updateEntity(tenant, existing);
+    tenantAttributeService.mergeAttributes(existing, tenant.getAttributes());
+    var saved = recordStep("database:updateTenantRecord", () -> repository.saveAndFlush(existing));
 
     tenantEventsPublisher.onTenantUpdate(tenant);
 
-    return mapper.toDto(saved, tenantAttributes);
+    return mapper.toDto(saved);
   }
 
-  public void deleteTenantById(UUID id, Boolean purgeKafkaTopics) {
-    repository.findById(id).ifPresent(entity -> {
+  /**
+   * Removes a tenant record if tenant has no active entitlements, tenant listeners are not executed.
+   *
+   * @param id - tenant identifier
+   * @return {@link Optional} with the name of removed tenant, empty if tenant is not found
+   */
+  @Caching(evict = {
+    @CacheEvict(cacheNames = TENANT_CACHE, key = "#id"),
+    @CacheEvict(cacheNames = TENANT_BY_NAME_CACHE, allEntries = true)
+  })
+  public Optional<String> deleteTenantRecord(UUID id) {
+    return repository.findById(id).map(entity -> {
+      checkEntitlementsBeforeDeletion(entity.getName(), entity.getId());
+      log.info("Deleting tenant: {}", entity.getName());
+      repository.delete(entity);
+      return entity.getName();
+    });
+  }
+
+  /**
+   * Checks if a tenant can be removed, the tenant record and its attributes are kept.
+   *
+   * @param id - tenant identifier
+   * @return {@link Optional} with the name of tenant, empty if tenant is not found
+   */
+  @Transactional(readOnly = true)
+  public Optional<String> checkTenantCanBeDeleted(UUID id) {
+    return repository.findById(id).map(entity -> {
       checkEntitlementsBeforeDeletion(entity.getName(), entity.getId());
-      performDeletion(entity, purgeKafkaTopics);
+      return entity.getName();
     });
   }
 
@@ -106,16 +273,101 @@ public class TenantService {
     tenantEntitlementsService.checkTenantCanBeDeleted(tenantName, tenantId);
   }
 
-  private void performDeletion(TenantEntity entity, Boolean purgeKafkaTopics) {
-    var tenantName = entity.getName();
-    log.info("Deleting tenant: {}", tenantName);
-    repository.delete(entity);
-    tenantEventsPublisher.onTenantDelete(tenantName);
-    kafkaService.deleteTopics(tenantName, purgeKafkaTopics);
+  private TenantEntity toEntity(Tenant tenant) {
+    var entity = mapper.toEntity(initId(tenant));
+    tenantAttributeService.mergeAttributes(entity, tenant.getAttributes());
+    return entity;
+  }
+
+  private Tenants getTenantSummaries(String query, int offset, int limit, TotalRecordsMode totalRecordsMode) {
+    if (totalRecordsMode != TotalRecordsMode.EXACT) {
+      return getTenantsBySlice(summaryRepository, mapper::toSummaryDtos, query, offset, limit, totalRecordsMode);
+    }
+
+    var offsetReq = OffsetRequest.of(offset, limit);
+    var page = isBlank(query)
+      ? summaryRepository.findAll(offsetReq)
+      : summaryRepository.findByCql(query, offsetReq);
+
+    return mapper.toSummaryDtoCollection(page);
+  }
+
+  private <E> Tenants getTenantsBySlice(CqlLimitRepository<E> cqlRepository, Function<List<E>, List<Tenant>> dtoMapper,
+    String query, int offset, int limit, TotalRecordsMode totalRecordsMode) {
+    var fetched = cqlRepository.findByCql(isBlank(query) ? ALL_RECORDS_QUERY : query, offset, limit + 1);
+    var slice = OffsetSlice.of(fetched, limit);
+
+    var tenants = new Tenants().tenants(dtoMapper.apply(slice.items())).hasMore(slice.hasMore());
+    if (totalRecordsMode == TotalRecordsMode.ESTIMATED && isBlank(query)) {
+      tenants.totalRecords((int) estimateCount(offset, slice));
+    }
+
+    return tenants;
+  }
+
+  private <E> Tenants getTenantsByCursor(CqlLimitRepository<E> cqlRepository,
+    Function<List<E>, List<Tenant>> dtoMapper, Function<E, KeysetCursor> cursorMapper, String query, String after,
+    int limit, Boolean includeTotal) {
+    var cql = KeysetCursor.toQuery(query, "name", KeysetCursor.decode(after));
+    var page = KeysetPage.of(cqlRepository.findByCql(cql, 0, limit + 1), limit, cursorMapper);
+
+    var tenants = new Tenants().tenants(dtoMapper.apply(page.items())).next(page.next());
+    if (isNotFalse(includeTotal)) {
+      tenants.totalRecords((int) cqlRepository.countByCql(isBlank(query) ? ALL_RECORDS_QUERY : query));
+    }
+
+    return tenants;
+  }
+
+  /**
+   * Tenant summaries are loaded without attributes, so they cannot be searched or sorted by attributes.
+   */
+  private static void checkSummaryQuery(String query) {
+    if (CqlUtils.hasIndex(query, ATTRIBUTES_INDEX)) {
+      throw new RequestValidationException("Tenants cannot be searched by attributes if includeAttributes is false",
+        "query", query);
+    }
+  }
+
+  /**
+   * Resolves a tenant by name through the tenant-by-name cache, it serves lookups of sidecars and other managers
+   * querying tenants with {@code name == <tenant>}.
+   */
+  private Tenants getTenantsByName(String name, int limit) {
+    var cache = requireNonNull(cacheManager.getCache(TENANT_BY_NAME_CACHE));
+    var tenant = Optional.ofNullable(cache.get(name, Tenant.class));
+    if (tenant.isEmpty()) {
+      tenant = repository.findByName(name).map(mapper::toDto);
+      tenant.ifPresent(value -> cache.put(name, value));
+    }
+
+    var tenants = limit > 0 ? tenant.stream().toList() : List.<Tenant>of();
+    return new Tenants().tenants(tenants).totalRecords(tenant.isPresent() ? 1 : 0);
+  }
+
+  private long estimateCount(int offset, OffsetSlice<?> slice) {
+    var seen = offset + slice.items().size();
+    if (!slice.hasMore() && (offset == 0 || seen > offset)) {
+      return seen;
+    }
+
+    var estimate = repository.estimateCount()
+      .filter(count -> count >= 0)
+      .orElseGet(repository::count);
+    return slice.hasMore() ? Math.max(estimate, seen + 1L) : estimate;
   }
 
   private TenantEntity getOne(UUID id) {
     return repository.findById(id)
       .orElseThrow(() -> new EntityNotFoundException("Tenant is not found: id = " + id));
   }
+
+  private static Entry<String, String> parseAttribute(String attribute) {
+    var separatorIdx = attribute.indexOf(':');
+    if (separatorIdx <= 0) {
+      throw new RequestValidationException("Attribute must be in format 'key:value'", "attribute", attribute);
+    }
+
+    return Map.entry(attribute.substring(0, separatorIdx), attribute.substring(separatorIdx + 1));
+  }
 }
@@ -0,0 +1,212 @@
+package org.folio.tm.service;
+
+import static org.apache.commons.lang3.BooleanUtils.isNotTrue;
+import static org.folio.tm.domain.model.TenantJobStatus.COMPLETED;
+import static org.folio.tm.domain.model.TenantJobStatus.FAILED;
+import static org.folio.tm.domain.model.TenantJobStatus.PENDING;
+import static org.folio.tm.domain.model.TenantJobStatus.RUNNING;
+import static org.folio.tm.integration.kafka.configuration.KafkaAdminConfiguration.TOPIC_PURGE_EXECUTOR;
+import static org.folio.tm.utils.RequestContextUtils.detachedRequestAttributes;
+import static org.folio.tm.utils.RequestContextUtils.withRequestAttributes;
+
+import jakarta.persistence.EntityNotFoundException;
+import java.time.OffsetDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ExecutorService;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.log4j.Log4j2;
+import org.folio.tm.domain.dto.TenantTopicPurge;
+import org.folio.tm.domain.entity.TenantTopicPurgeEntity;
+import org.folio.tm.domain.entity.TenantTopicPurgeTopicEntity;
+import org.folio.tm.domain.model.TenantJobStatus;
+import org.folio.tm.integration.kafka.KafkaService;
+import org.folio.tm.integration.kafka.configuration.KafkaTopicPurgeProperties;
+import org.folio.tm.integration.kafka.model.TopicPurgeResult;
+import org.folio.tm.integration.kafka.model.TopicPurgeResult.TopicOutcome;
+import org.folio.tm.mapper.TenantTopicPurgeMapper;
+import org.folio.tm.repository.TenantTopicPurgeRepository;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import org.springframework.web.context.request.RequestAttributes;
+
+/**
+ * Removes Kafka topics of deleted tenants and keeps the outcome of each removal.
+ *
+ * <p>
+ * Topics are removed by Kafka admin client callbacks, the outcome is persisted by the topic purge executor, so
+ * neither the caller nor the Kafka admin client threads are blocked while topics are removed.
+ * </p>
+ */
+@Log4j2
+@Service
+@RequiredArgsConstructor
+public class TenantTopicPurgeService {
+
+  private static final List<TenantJobStatus> IN_PROGRESS_STATUSES = List.of(PENDING, RUNNING);
+
+  private final KafkaService kafkaService;
+  private final TenantTopicPurgeMapper mapper;
+  private final TenantTopicPurgeRepository repository;
+  private final KafkaTopicPurgeProperties purgeProperties;
+  @Qualifier(TOPIC_PURGE_EXECUTOR) private final ExecutorService topicPurgeExecutor;
+
+  /**
+   * Retrieves the latest Kafka topics purge of a deleted tenant.
+   *
+   * @param tenantId - deleted tenant identifier
+   * @return {@link TenantTopicPurge} object
+   * @throws EntityNotFoundException if tenant topics were not purged
+   */
+  @Transactional(readOnly = true)
+  public TenantTopicPurge getTenantTopicPurgeById(UUID tenantId) {
+    return repository.findFirstByTenantIdOrderByCreatedDateDesc(tenantId)
+      .map(mapper::toDto)
+      .orElseThrow(() -> new EntityNotFoundException("Tenant topic purge is not found: tenantId = " + tenantId));
+  }
+
+  /**
+   * Registers Kafka topics purge of a deleted tenant, topics are removed in background after commit.
+   *
+   * @param tenantId - deleted tenant identifier
+   * @param tenantName - deleted tenant name
+   * @param purgeKafkaTopics - defines if tenant Kafka topics must be removed
+   */
+  public void purgeAfterCommit(UUID tenantId, String tenantName, Boolean purgeKafkaTopics) {
+    if (isPurgeDisabled(tenantName, purgeKafkaTopics)) {
+      return;
+    }
+
+    var requestAttributes = detachedRequestAttributes();
+    var purge = repository.save(newPurge(tenantId, tenantName));
+    executeAfterCommit(withRequestAttributes(requestAttributes, () -> {
+      start(purge, requestAttributes).exceptionally(error -> {
+        log.warn("Failed to save Kafka topics purge outcome: tenant = {}", tenantName, error);
+        return null;
+      });
+    }));
+  }
+
+  /**
+   * Purges Kafka topics of a deleted tenant and waits for the outcome.
+   *
+   * @param tenantId - deleted tenant identifier
+   * @param tenantName - deleted tenant name
+   * @param purgeKafkaTopics - defines if tenant Kafka topics must be removed
+   * @throws IllegalStateException if any of tenant topics is not removed
+   */
+  public void purge(UUID tenantId, String tenantName, Boolean purgeKafkaTopics) {
+    if (isPurgeDisabled(tenantName, purgeKafkaTopics)) {
+      return;
+    }
+
+    var purge = repository.save(newPurge(tenantId, tenantName));
+    var completed = start(purge, detachedRequestAttributes()).join();
+    if (completed.getStatus() == FAILED) {
+      throw new IllegalStateException(completed.getError());
+    }
+  }
+
+  /**
+   * Starts again purges left pending or running by a stopped application instance.
+   *
+   * <p>A purge is considered stale if its status has not been changed for the stale timeout, each stale purge is
+   * claimed by a conditional update, so it is restarted by a single application instance.</p>
+   */
+  @Scheduled(fixedDelayString = "${application.kafka.topic-purge.reconcile-interval:1m}")
+  public void restartStalePurges() {
+    try {
+      var now = OffsetDateTime.now();
+      var staleBefore = now.minus(purgeProperties.getStaleTimeout());
+      for (var id : repository.findStaleIds(IN_PROGRESS_STATUSES, staleBefore)) {
+        if (repository.claimStale(id, IN_PROGRESS_STATUSES, staleBefore, now) > 0) {
+          repository.findById(id).ifPresent(this::restart);
+        }
+      }
+    } catch (Exception exception) {
+      log.warn("Failed to restart stale Kafka topics purges", exception);
+    }
+  }
+
+  private void restart(TenantTopicPurgeEntity purge) {
+    log.info("Restarting stale Kafka topics purge: id = {}, tenant = {}", purge.getId(), purge.getTenantName());
+    start(purge, null).exceptionally(error -> {
+      log.warn("Failed to save Kafka topics purge outcome: tenant = {}", purge.getTenantName(), error);
+      return null;
+    });
+  }
+
+  private void executeAfterCommit(Runnable task) {
+    if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+      topicPurgeExecutor.execute(task);
+      return;
+    }
+
+    TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+      @Override
+      public void afterCommit() {
+        topicPurgeExecutor.execute(task);
+      }
+    });
+  }
+
+  private static boolean isPurgeDisabled(String tenantName, Boolean purgeKafkaTopics) {
+    if (isNotTrue(purgeKafkaTopics)) {
+      log.info("Purge Kafka topics is disabled, skipping topic deletion for tenant: tenant = {}", tenantName);
+      return true;
+    }
+
+    return false;
+  }
+
+  /**
+   * Starts topics removal, the outcome is persisted by the topic purge executor with the given request context.
+   *
+   * <p>The request context is used to audit status changes, the system user is recorded if it is null.</p>
+   */
+  private CompletableFuture<TenantTopicPurgeEntity> start(TenantTopicPurgeEntity purge,
+    RequestAttributes requestAttributes) {
+    var running = saveStatus(purge, RUNNING, null);
+    return kafkaService.purgeTopicsAsync(List.of(purge.getTenantName()))
+      .handleAsync((result, error) -> withRequestAttributes(requestAttributes,
+        () -> complete(running, result, error)).get(), topicPurgeExecutor);
+  }
+
+  private TenantTopicPurgeEntity complete(TenantTopicPurgeEntity purge, TopicPurgeResult result, Throwable error) {
+    if (error != null) {
+      var cause = error instanceof CompletionException ? error.getCause() : error;
+      return saveStatus(purge, FAILED, "Failed to list Kafka topics: " + cause.getMessage());
+    }
+
+    purge.setTopics(new ArrayList<>(result.topics().stream()
+      .map(topic -> TenantTopicPurgeTopicEntity.of(topic.topic(), topic.attempts(), topic.error()))
+      .toList()));
+
+    var failedTopics = result.getFailedTopics().stream().map(TopicOutcome::topic).toList();
+    return failedTopics.isEmpty()
+      ? saveStatus(purge, COMPLETED, null)
+      : saveStatus(purge, FAILED, "Failed to delete Kafka topics: " + failedTopics);
+  }
+
+  private TenantTopicPurgeEntity saveStatus(TenantTopicPurgeEntity purge, TenantJobStatus status, String error) {
+    purge.setStatus(status);
+    purge.setError(error);
+    return repository.save(purge);
+  }
+
+  private static TenantTopicPurgeEntity newPurge(UUID tenantId, String tenantName) {
+    var purge = new TenantTopicPurgeEntity();
+    purge.setId(UUID.randomUUID());
+    purge.setTenantId(tenantId);
+    purge.setTenantName(tenantName);
+    purge.setStatus(PENDING);
+    return purge;
+  }
+}
@@ -0,0 +1,47 @@
+package org.folio.tm.service;
+
+import static org.apache.commons.lang3.StringUtils.isBlank;
+
+import java.util.Locale;
+import org.folio.tm.exception.RequestValidationException;
+
+/**
+ * Defines how {@code totalRecords} is calculated for a page retrieved in offset pagination mode.
+ */
+enum TotalRecordsMode {
+
+  /**
+   * Total number of records is calculated by a count query with the same filter as the page query.
+   */
+  EXACT,
+
+  /**
+   * Total number of records is taken from the table statistics for unfiltered queries, no count query is issued.
+   */
+  ESTIMATED,
+
+  /**
+   * Total number of records is not calculated, the page reports if there are more records instead.
+   */
+  NONE;
+
+  private static final String TOTAL_RECORDS_PARAMETER = "totalRecords";
+
+  /**
+   * Resolves mode from the request parameter value.
+   *
+   * @param value - parameter value, blank value resolves to {@link #EXACT}
+   * @return resolved {@link TotalRecordsMode}
+   */
+  static TotalRecordsMode from(String value) {
+    if (isBlank(value)) {
+      return EXACT;
+    }
+
+    try {
+      return valueOf(value.toUpperCase(Locale.ROOT));
+    } catch (IllegalArgumentException e) {
+      throw new RequestValidationException("Invalid totalRecords mode", TOTAL_RECORDS_PARAMETER, value);
+    }
+  }
+}
@@ -0,0 +1,69 @@
+package org.folio.tm.service.listeners;
+
+import static org.springframework.util.ClassUtils.getUserClass;
+
+import java.util.UUID;
+import org.folio.tm.domain.dto.Tenant;
+import org.folio.tm.domain.model.TenantEventType;
+import org.springframework.util.ReflectionUtils;
+
+/**
+ * Tenant event delivered to {@link TenantServiceListener} implementations.
+ *
+ * @param type - event type
+ * @param tenantId - tenant identifier
+ * @param tenantName - tenant name
+ * @param tenant - tenant data for create and update events, null otherwise
+ */
+public record TenantEvent(TenantEventType type, UUID tenantId, String tenantName, Tenant tenant) {
+
+  public static TenantEvent create(Tenant tenant) {
+    return new TenantEvent(TenantEventType.CREATE, tenant.getId(), tenant.getName(), tenant);
+  }
+
+  public static TenantEvent update(Tenant tenant) {
+    return new TenantEvent(TenantEventType.UPDATE, tenant.getId(), tenant.getName(), tenant);
+  }
+
+  public static TenantEvent delete(UUID tenantId, String tenantName) {
+    return new TenantEvent(TenantEventType.DELETE, tenantId, tenantName, null);
+  }
+
+  public static TenantEvent attributesUpdate(UUID tenantId, String tenantName) {
+    return new TenantEvent(TenantEventType.ATTRIBUTES_UPDATE, tenantId, tenantName, null);
+  }
+
+  /**
+   * Invokes a listener method corresponding to the event type.
+   *
+   * @param listener - listener to notify
+   */
+  public void applyTo(TenantServiceListener listener) {
+    switch (type) {
+      case CREATE -> listener.onTenantCreate(tenant);
+      case UPDATE -> listener.onTenantUpdate(tenant);
+      case DELETE -> listener.onTenantDelete(tenantId, tenantName);
+      case ATTRIBUTES_UPDATE -> listener.onTenantAttributesUpdate(tenantId, tenantName);
+    }
+  }
+
+  /**
+   * Checks if a listener overrides the method handling events of the given type.
+   *
+   * @param type - event type
+   * @param listener - listener to check
+   * @return true if the listener reacts on events of the given type, false if it uses the no-op default method
+   */
+  public static boolean isHandledBy(TenantEventType type, TenantServiceListener listener) {
+    var listenerClass = getUserClass(listener);
+    var method = switch (type) {
+      case CREATE -> ReflectionUtils.findMethod(listenerClass, "onTenantCreate", Tenant.class);
+      case UPDATE -> ReflectionUtils.findMethod(listenerClass, "onTenantUpdate", Tenant.class);
+      case DELETE -> ReflectionUtils.findMethod(listenerClass, "onTenantDelete", UUID.class, String.class);
+      case ATTRIBUTES_UPDATE ->
+        ReflectionUtils.findMethod(listenerClass, "onTenantAttributesUpdate", UUID.class, String.class);
+    };
+
+    return method != null && method.getDeclaringClass() != TenantServiceListener.class;
+  }
+}
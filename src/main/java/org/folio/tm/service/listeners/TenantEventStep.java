@@ -0,0 +1,9 @@
+package org.folio.tm.service.listeners;
+
+/**
+ * Tenant event handler of a single listener, executed by the caller.
+ *
+ * @param name - listener name
+ * @param action - listener invocation
+ */
+public record TenantEventStep(String name, Runnable action) {}
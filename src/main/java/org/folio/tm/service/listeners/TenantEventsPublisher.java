@@ -1,30 +1,206 @@
 package org.folio.tm.service.listeners;
 
+import static java.util.Comparator.comparingInt;
+import static java.util.stream.Collectors.groupingBy;
+import static java.util.stream.Collectors.toList;
+import static org.folio.tm.config.TenantListenerConfiguration.TENANT_LISTENER_EXECUTOR;
+import static org.folio.tm.service.trace.TenantTraceContext.withCurrentTrace;
+import static org.folio.tm.utils.RequestContextUtils.withRequestAttributes;
+import static org.springframework.util.ClassUtils.getUserClass;
+
+import java.util.ArrayList;
 import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.TreeMap;
+import java.util.UUID;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ExecutorService;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.log4j.Log4j2;
 import org.folio.tm.domain.dto.Tenant;
+import org.folio.tm.integration.IntegrationMetrics;
+import org.folio.tm.service.outbox.TenantOutboxDispatcher;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.core.annotation.AnnotationUtils;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import org.springframework.web.context.request.RequestContextHolder;
 
+/**
+ * Publishes tenant events to {@link TenantServiceListener} beans.
+ *
+ * <p>
+ * Listeners are executed phase by phase as declared by {@link TenantListenerPhase}: listeners of the same phase are
+ * executed concurrently by a bounded executor, so the event handling takes as long as the slowest listener of each
+ * phase. All listeners of a phase are awaited, the first failure is rethrown with the other failures suppressed.
+ * Transaction synchronizations registered by listeners on executor threads are registered with the transaction of
+ * the publishing thread.
+ * </p>
+ */
 @Log4j2
 @Service
 @RequiredArgsConstructor
 public class TenantEventsPublisher {
 
   private final List<TenantServiceListener> listeners;
+  private final IntegrationMetrics integrationMetrics;
+  private final Optional<TenantOutboxDispatcher> outboxDispatcher;
+  @Qualifier(TENANT_LISTENER_EXECUTOR) private final ExecutorService tenantListenerExecutor;
 
   public void onTenantCreate(Tenant tenant) {
     log.info("Executing 'onTenantCreate' handlers for tenant {}", tenant.getName());
-    listeners.forEach(listener -> listener.onTenantCreate(tenant));
+    publish(TenantEvent.create(tenant));
   }
 
   public void onTenantUpdate(Tenant tenant) {
     log.info("Executing 'onTenantUpdate' handlers for tenant {}", tenant.getName());
-    listeners.forEach(listener -> listener.onTenantUpdate(tenant));
+    publish(TenantEvent.update(tenant));
   }
 
-  public void onTenantDelete(String tenantName) {
+  public void onTenantDelete(UUID tenantId, String tenantName) {
     log.info("Executing 'onTenantDelete' handlers for tenant {}", tenantName);
-    listeners.forEach(listener -> listener.onTenantDelete(tenantName));
+    publish(TenantEvent.delete(tenantId, tenantName));
+  }
+
+  public void onTenantAttributesUpdate(UUID tenantId, String tenantName) {
+    log.debug("Executing 'onTenantAttributesUpdate' handlers for tenant {}", tenantName);
+    publish(TenantEvent.attributesUpdate(tenantId, tenantName));
+  }
+
+  /**
+   * Returns a name identifying a listener in tenant job steps and outbox events.
+   *
+   * @param listener - tenant listener
+   * @return listener name
+   */
+  public static String getListenerName(TenantServiceListener listener) {
+    return getUserClass(listener).getSimpleName();
+  }
+
+  /**
+   * Creates a step per listener for 'onTenantCreate' event, allowing the caller to track progress of each listener.
+   *
+   * @param tenant - object with a tenant's data
+   * @return {@link List} with {@link TenantEventStep} objects in the order of listener phases
+   */
+  public List<TenantEventStep> getTenantCreateSteps(Tenant tenant) {
+    return getSteps(TenantEvent.create(tenant));
+  }
+
+  /**
+   * Creates a step per listener for 'onTenantDelete' event, allowing the caller to track progress of each listener.
+   *
+   * @param tenantId - identifier of the deleted tenant
+   * @param tenantName - tenant name to delete
+   * @return {@link List} with {@link TenantEventStep} objects in the order of listener phases
+   */
+  public List<TenantEventStep> getTenantDeleteSteps(UUID tenantId, String tenantName) {
+    return getSteps(TenantEvent.delete(tenantId, tenantName));
+  }
+
+  private List<TenantEventStep> getSteps(TenantEvent event) {
+    return listeners.stream()
+      .sorted(comparingInt(TenantEventsPublisher::getPhase))
+      .map(listener -> new TenantEventStep(getListenerName(listener), () -> invoke(event, listener)))
+      .toList();
+  }
+
+  private void invoke(TenantEvent event, TenantServiceListener listener) {
+    integrationMetrics.recordListener(getListenerName(listener), event.type().name(), () -> event.applyTo(listener));
+  }
+
+  /**
+   * Writes an event to the outbox if it is enabled and a transaction is active, otherwise executes listeners.
+   *
+   * <p>Outbox events are delivered after commit, so the transaction is not held open during remote calls.</p>
+   */
+  private void publish(TenantEvent event) {
+    if (outboxDispatcher.isPresent() && TransactionSynchronizationManager.isActualTransactionActive()) {
+      outboxDispatcher.get().enqueue(event);
+      return;
+    }
+
+    getPhases().values().forEach(phaseListeners -> invokeConcurrently(event, phaseListeners));
+  }
+
+  private void invokeConcurrently(TenantEvent event, List<TenantServiceListener> phaseListeners) {
+    if (phaseListeners.size() == 1) {
+      invoke(event, phaseListeners.getFirst());
+      return;
+    }
+
+    var requestAttributes = RequestContextHolder.getRequestAttributes();
+    var synchronizationActive = TransactionSynchronizationManager.isSynchronizationActive();
+    var futures = phaseListeners.stream()
+      .map(listener -> withCurrentTrace(withRequestAttributes(requestAttributes, () -> invoke(event, listener))))
+      .map(task -> CompletableFuture.supplyAsync(
+        () -> collectSynchronizations(task, synchronizationActive), tenantListenerExecutor))
+      .toList();
+
+    awaitAll(event, phaseListeners, futures).forEach(TransactionSynchronizationManager::registerSynchronization);
+  }
+
+  /**
+   * Runs a listener task on an executor thread with its own transaction synchronization if the publishing thread has
+   * one, so synchronizations registered by the listener (e.g. after-commit callbacks) are not lost or executed
+   * immediately, but returned for registration with the publishing thread transaction.
+   */
+  private static List<TransactionSynchronization> collectSynchronizations(Runnable task,
+    boolean synchronizationActive) {
+    if (!synchronizationActive) {
+      task.run();
+      return List.of();
+    }
+
+    TransactionSynchronizationManager.initSynchronization();
+    try {
+      task.run();
+      return TransactionSynchronizationManager.getSynchronizations();
+    } finally {
+      TransactionSynchronizationManager.clearSynchronization();
+    }
+  }
+
+  private static List<TransactionSynchronization> awaitAll(TenantEvent event,
+    List<TenantServiceListener> phaseListeners, List<CompletableFuture<List<TransactionSynchronization>>> futures) {
+    var synchronizations = new ArrayList<TransactionSynchronization>();
+    RuntimeException failure = null;
+    for (int i = 0; i < futures.size(); i++) {
+      try {
+        synchronizations.addAll(futures.get(i).join());
+      } catch (CompletionException exception) {
+        var cause = exception.getCause() instanceof RuntimeException error ? error : exception;
+        log.warn("Tenant listener failed: listener = {}, event = {}",
+          getListenerName(phaseListeners.get(i)), event.type(), cause);
+        failure = aggregate(failure, cause);
+      }
+    }
+
+    if (failure != null) {
+      throw failure;
+    }
+
+    return synchronizations;
+  }
+
+  private static RuntimeException aggregate(RuntimeException failure, RuntimeException cause) {
+    if (failure == null) {
+      return cause;
+    }
+
+    failure.addSuppressed(cause);
+    return failure;
+  }
+
+  private Map<Integer, List<TenantServiceListener>> getPhases() {
+    return listeners.stream().collect(groupingBy(TenantEventsPublisher::getPhase, TreeMap::new, toList()));
+  }
+
+  private static int getPhase(TenantServiceListener listener) {
+    var phase = AnnotationUtils.findAnnotation(getUserClass(listener), TenantListenerPhase.class);
+    return phase != null ? phase.value() : TenantListenerPhase.PROVISIONING;
   }
 }
@@ -0,0 +1,41 @@
+package org.folio.tm.service.listeners;
+
+import static java.lang.annotation.ElementType.TYPE;
+import static java.lang.annotation.RetentionPolicy.RUNTIME;
+
+import java.lang.annotation.Documented;
+import java.lang.annotation.Retention;
+import java.lang.annotation.Target;
+
+/**
+ * Defines the phase in which a {@link TenantServiceListener} is executed by {@link TenantEventsPublisher}.
+ *
+ * <p>
+ * Phases are executed in ascending order, a phase is started only when all listeners of the previous phase succeeded.
+ * Listeners of the same phase are independent and executed concurrently, a listener that is the only one in its phase
+ * is executed by the calling thread. Concurrently executed listeners get the caller's request context, but not its
+ * transaction. Listeners without this annotation belong to the {@link #PROVISIONING} phase.
+ * </p>
+ */
+@Documented
+@Target(TYPE)
+@Retention(RUNTIME)
+public @interface TenantListenerPhase {
+
+  /**
+   * Phase of listeners provisioning a tenant in external systems.
+   */
+  int PROVISIONING = 0;
+
+  /**
+   * Phase of listeners notifying about changes that are already provisioned.
+   */
+  int NOTIFICATION = 100;
+
+  /**
+   * Listener phase, lower phases are executed first.
+   *
+   * @return phase number
+   */
+  int value() default PROVISIONING;
+}
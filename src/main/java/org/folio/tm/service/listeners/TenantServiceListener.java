@@ -1,5 +1,6 @@
 package org.folio.tm.service.listeners;
 
+import java.util.UUID;
 import org.folio.tm.domain.dto.Tenant;
 import org.folio.tm.service.TenantService;
 
@@ -25,7 +26,16 @@ public interface TenantServiceListener {
   /**
    * Handle tenant delete event.
    *
+   * @param tenantId - identifier of the deleted tenant
    * @param tenantName - tenant name to delete
    */
-  default void onTenantDelete(String tenantName) {}
+  default void onTenantDelete(UUID tenantId, String tenantName) {}
+
+  /**
+   * Handle tenant attributes update event.
+   *
+   * @param tenantId - tenant identifier
+   * @param tenantName - tenant name
+   */
+  default void onTenantAttributesUpdate(UUID tenantId, String tenantName) {}
 }
@@ -0,0 +1,136 @@
+package org.folio.tm.service.outbox;
+
+import static org.folio.tm.config.TenantOutboxConfiguration.TENANT_OUTBOX_EXECUTOR;
+import static org.folio.tm.service.listeners.TenantEventsPublisher.getListenerName;
+import static org.folio.tm.utils.RequestContextUtils.getRequestHeaders;
+import static org.folio.tm.utils.RequestContextUtils.withRequestAttributes;
+
+import java.util.Collection;
+import java.util.EnumMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ExecutorService;
+import lombok.extern.log4j.Log4j2;
+import org.folio.tm.domain.entity.TenantOutboxEventEntity;
+import org.folio.tm.domain.model.TenantEventType;
+import org.folio.tm.integration.IntegrationMetrics;
+import org.folio.tm.integration.okapi.OkapiHeaders;
+import org.folio.tm.service.listeners.TenantEvent;
+import org.folio.tm.service.listeners.TenantEventsPublisher;
+import org.folio.tm.service.listeners.TenantServiceListener;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+/**
+ * Delivers tenant events written to the outbox table to {@link TenantServiceListener} implementations.
+ *
+ * <p>
+ * Events are dispatched right after the transaction writing them is committed and, for retries and events left by
+ * stopped instances, by a scheduled poller. Each listener receives events of a tenant in the order they were written.
+ * Events are written only for listeners handling the event type, and each delivery is executed with the user id of
+ * the request which produced the event and a service token, caller's credentials are never written to the outbox.
+ * </p>
+ */
+@Log4j2
+@Component
+@ConditionalOnProperty("application.tenant-outbox.enabled")
+public class TenantOutboxDispatcher {
+
+  private static final List<String> CONTEXT_HEADERS = List.of(OkapiHeaders.USER_ID);
+
+  private final TenantOutboxService outboxService;
+  private final Map<String, TenantServiceListener> listeners;
+  private final Map<TenantEventType, List<String>> listenerNamesByType;
+  private final ExecutorService executor;
+  private final IntegrationMetrics integrationMetrics;
+
+  public TenantOutboxDispatcher(TenantOutboxService outboxService, List<TenantServiceListener> listeners,
+    @Qualifier(TENANT_OUTBOX_EXECUTOR) ExecutorService executor, IntegrationMetrics integrationMetrics) {
+    this.outboxService = outboxService;
+    this.executor = executor;
+    this.integrationMetrics = integrationMetrics;
+    this.listeners = new LinkedHashMap<>();
+    listeners.forEach(listener -> this.listeners.put(getListenerName(listener), listener));
+    this.listenerNamesByType = new EnumMap<>(TenantEventType.class);
+    for (var type : TenantEventType.values()) {
+      listenerNamesByType.put(type, listeners.stream()
+        .filter(listener -> TenantEvent.isHandledBy(type, listener))
+        .map(TenantEventsPublisher::getListenerName)
+        .toList());
+    }
+  }
+
+  /**
+   * Writes an event to the outbox in the current transaction and schedules delivery of the written events after
+   * commit.
+   *
+   * <p>Only caller's user id is stored with the events, deliveries are authenticated with a service token.</p>
+   *
+   * @param event - tenant event
+   */
+  public void enqueue(TenantEvent event) {
+    var listenerNames = listenerNamesByType.get(event.type());
+    if (listenerNames.isEmpty()) {
+      return;
+    }
+
+    var eventIds = outboxService.append(event, listenerNames, getRequestHeaders(CONTEXT_HEADERS));
+    TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+      @Override
+      public void afterCommit() {
+        executor.execute(() -> dispatch(eventIds));
+      }
+    });
+  }
+
+  /**
+   * Delivers all pending events that are due, until there is nothing left to claim.
+   */
+  @Scheduled(fixedDelayString = "${application.tenant-outbox.poll-interval:5s}")
+  public void dispatch() {
+    try {
+      var events = outboxService.claimEvents();
+      while (!events.isEmpty()) {
+        events.forEach(this::deliver);
+        events = outboxService.claimEvents();
+      }
+    } catch (Exception exception) {
+      log.warn("Failed to dispatch outbox events", exception);
+    }
+  }
+
+  private void dispatch(Collection<Long> eventIds) {
+    try {
+      outboxService.claimEvents(eventIds).forEach(this::deliver);
+    } catch (Exception exception) {
+      log.warn("Failed to dispatch outbox events: ids = {}", eventIds, exception);
+    }
+  }
+
+  private void deliver(TenantOutboxEventEntity event) {
+    var listenerName = event.getListener();
+    try {
+      var listener = listeners.get(listenerName);
+      if (listener == null) {
+        throw new IllegalStateException("Tenant listener is not found: " + listenerName);
+      }
+
+      var tenantEvent = outboxService.toTenantEvent(event);
+      Runnable action = () -> tenantEvent.applyTo(listener);
+      withRequestAttributes(outboxService.toRequestAttributes(event),
+        () -> integrationMetrics.recordListener(listenerName, tenantEvent.type().name(), action)).run();
+      outboxService.complete(event);
+      log.debug("Outbox event delivered: id = {}, type = {}, listener = {}", event.getId(), event.getType(),
+        listenerName);
+    } catch (Exception exception) {
+      log.warn("Failed to deliver outbox event: id = {}, type = {}, tenant = {}, listener = {}, attempt = {}",
+        event.getId(), event.getType(), event.getTenantName(), listenerName, event.getAttempts(), exception);
+      outboxService.fail(event, exception.getMessage());
+    }
+  }
+}
@@ -0,0 +1,183 @@
+package org.folio.tm.service.outbox;
+
+import static org.folio.tm.domain.model.TenantOutboxEventStatus.FAILED;
+import static org.folio.tm.domain.model.TenantOutboxEventStatus.PENDING;
+
+import java.time.Duration;
+import java.time.OffsetDateTime;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.log4j.Log4j2;
+import org.folio.tm.config.TenantOutboxConfiguration;
+import org.folio.tm.domain.dto.Tenant;
+import org.folio.tm.domain.entity.TenantOutboxEventEntity;
+import org.folio.tm.integration.keycloak.KeycloakAdminTokenManager;
+import org.folio.tm.integration.okapi.OkapiHeaders;
+import org.folio.tm.repository.TenantOutboxEventRepository;
+import org.folio.tm.service.listeners.TenantEvent;
+import org.folio.tm.utils.JsonHelper;
+import org.folio.tm.utils.RequestContextUtils;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.web.context.request.RequestAttributes;
+import tools.jackson.core.type.TypeReference;
+
+@Log4j2
+@Service
+@RequiredArgsConstructor
+@ConditionalOnProperty("application.tenant-outbox.enabled")
+public class TenantOutboxService {
+
+  private static final TypeReference<Map<String, String>> HEADERS_TYPE = new TypeReference<>() {};
+
+  private final JsonHelper jsonHelper;
+  private final TenantOutboxEventRepository repository;
+  private final TenantOutboxConfiguration configuration;
+  private final Optional<KeycloakAdminTokenManager> serviceTokenManager;
+
+  /**
+   * Writes an outbox event per listener, must be called in the transaction modifying tenant data.
+   *
+   * <p>Only non-secret request context, such as user id, is stored with the events, credentials must not be passed
+   * here.</p>
+   *
+   * @param event - tenant event
+   * @param listeners - names of listeners to deliver the event to
+   * @param requestHeaders - non-secret headers of the request producing the event
+   * @return {@link List} with identifiers of written outbox events
+   */
+  @Transactional(propagation = Propagation.MANDATORY)
+  public List<Long> append(TenantEvent event, Collection<String> listeners, Map<String, String> requestHeaders) {
+    var now = OffsetDateTime.now();
+    var payload = jsonHelper.asJsonString(event.tenant());
+    var headers = requestHeaders.isEmpty() ? null : jsonHelper.asJsonString(requestHeaders);
+    var events = listeners.stream().map(listener -> newEvent(event, listener, payload, headers, now)).toList();
+    return repository.saveAll(events).stream().map(TenantOutboxEventEntity::getId).toList();
+  }
+
+  /**
+   * Claims pending events due for delivery by postponing their next attempt for the lease timeout.
+   *
+   * @return {@link List} with claimed {@link TenantOutboxEventEntity} objects
+   */
+  @Transactional
+  public List<TenantOutboxEventEntity> claimEvents() {
+    var now = OffsetDateTime.now();
+    return lease(repository.findDueForUpdate(now, configuration.getBatchSize()), now);
+  }
+
+  /**
+   * Claims the given events if they are still pending, due for delivery and not preceded by other pending events of
+   * the same tenant and listener.
+   *
+   * @param ids - outbox event identifiers
+   * @return {@link List} with claimed {@link TenantOutboxEventEntity} objects
+   */
+  @Transactional
+  public List<TenantOutboxEventEntity> claimEvents(Collection<Long> ids) {
+    if (ids.isEmpty()) {
+      return List.of();
+    }
+
+    var now = OffsetDateTime.now();
+    return lease(repository.findDueByIdsForUpdate(ids, now), now);
+  }
+
+  /**
+   * Removes a delivered event.
+   *
+   * @param event - delivered event
+   */
+  @Transactional
+  public void complete(TenantOutboxEventEntity event) {
+    repository.deleteById(event.getId());
+  }
+
+  /**
+   * Schedules a retry of a failed event or marks it as failed if all attempts are exhausted.
+   *
+   * @param event - failed event
+   * @param error - failure message
+   */
+  @Transactional
+  public void fail(TenantOutboxEventEntity event, String error) {
+    event.setError(error);
+    if (event.getAttempts() >= configuration.getMaxAttempts()) {
+      log.error("Outbox event delivery failed after {} attempts: id = {}, type = {}, tenant = {}, listener = {}",
+        event.getAttempts(), event.getId(), event.getType(), event.getTenantName(), event.getListener());
+      event.setStatus(FAILED);
+    } else {
+      event.setNextAttemptDate(OffsetDateTime.now().plus(getRetryDelay(event.getAttempts())));
+    }
+
+    repository.save(event);
+  }
+
+  /**
+   * Restores a tenant event from an outbox event.
+   *
+   * @param event - outbox event
+   * @return {@link TenantEvent} object
+   */
+  public TenantEvent toTenantEvent(TenantOutboxEventEntity event) {
+    var tenant = jsonHelper.parse(event.getPayload(), Tenant.class);
+    return new TenantEvent(event.getType(), event.getTenantId(), event.getTenantName(), tenant);
+  }
+
+  /**
+   * Restores the context of the request which produced an outbox event.
+   *
+   * <p>The caller's token is not stored with the event and may expire before a retry, so a service token is obtained
+   * for each delivery if Keycloak integration is enabled.</p>
+   *
+   * @param event - outbox event
+   * @return {@link RequestAttributes} serving stored request headers and service token, null if there are none
+   */
+  public RequestAttributes toRequestAttributes(TenantOutboxEventEntity event) {
+    var headers = new HashMap<String, String>();
+    var storedHeaders = event.getRequestHeaders();
+    if (storedHeaders != null) {
+      headers.putAll(jsonHelper.parse(storedHeaders, HEADERS_TYPE));
+    }
+
+    serviceTokenManager.ifPresent(tokenManager -> headers.put(OkapiHeaders.TOKEN, tokenManager.getAccessToken()));
+    return RequestContextUtils.requestAttributes(headers);
+  }
+
+  private List<TenantOutboxEventEntity> lease(List<TenantOutboxEventEntity> events, OffsetDateTime now) {
+    var leaseExpiration = now.plus(configuration.getLeaseTimeout());
+    for (var event : events) {
+      event.setAttempts(event.getAttempts() + 1);
+      event.setNextAttemptDate(leaseExpiration);
+    }
+
+    return events;
+  }
+
+  private Duration getRetryDelay(int attempts) {
+    var delay = configuration.getRetryDelay().multipliedBy(1L << Math.min(attempts - 1, 20));
+    var maxDelay = configuration.getMaxRetryDelay();
+    return delay.compareTo(maxDelay) > 0 ? maxDelay : delay;
+  }
+
+  private static TenantOutboxEventEntity newEvent(TenantEvent event, String listener, String payload,
+    String requestHeaders, OffsetDateTime now) {
+    var entity = new TenantOutboxEventEntity();
+    entity.setType(event.type());
+    entity.setTenantId(event.tenantId());
+    entity.setTenantName(event.tenantName());
+    entity.setListener(listener);
+    entity.setPayload(payload);
+    entity.setRequestHeaders(requestHeaders);
+    entity.setStatus(PENDING);
+    entity.setNextAttemptDate(now);
+    entity.setCreatedDate(now);
+    return entity;
+  }
+}
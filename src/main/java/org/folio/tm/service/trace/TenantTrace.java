@@ -0,0 +1,56 @@
+package org.folio.tm.service.trace;
+
+import static java.util.concurrent.TimeUnit.NANOSECONDS;
+import static org.folio.tm.integration.IntegrationMetrics.OUTCOME_ERROR;
+import static org.folio.tm.integration.IntegrationMetrics.OUTCOME_SUCCESS;
+
+import jakarta.annotation.Nullable;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.Queue;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.atomic.AtomicInteger;
+import org.folio.tm.domain.model.TenantOperationTrace;
+
+/**
+ * Trace of a tenant operation in progress, steps can be added concurrently from multiple threads.
+ */
+final class TenantTrace {
+
+  private final String operation;
+  private final UUID tenantId;
+  private final String tenantName;
+  private final int maxSteps;
+  private final Instant startedAt = Instant.now();
+  private final long startNanos = System.nanoTime();
+  private final Queue<TenantOperationTrace.Step> steps = new ConcurrentLinkedQueue<>();
+  private final AtomicInteger stepCount = new AtomicInteger();
+
+  TenantTrace(String operation, @Nullable UUID tenantId, @Nullable String tenantName, int maxSteps) {
+    this.operation = operation;
+    this.tenantId = tenantId;
+    this.tenantName = tenantName;
+    this.maxSteps = maxSteps;
+  }
+
+  void addStep(String name, long stepStartNanos, long durationNanos, @Nullable String error) {
+    if (stepCount.incrementAndGet() > maxSteps) {
+      return;
+    }
+
+    steps.add(new TenantOperationTrace.Step(name, NANOSECONDS.toMillis(stepStartNanos - startNanos),
+      NANOSECONDS.toMillis(durationNanos), getOutcome(error)));
+  }
+
+  TenantOperationTrace complete(@Nullable String error) {
+    var durationMs = NANOSECONDS.toMillis(System.nanoTime() - startNanos);
+    var dropped = Math.max(0, stepCount.get() - maxSteps);
+    return new TenantOperationTrace(operation, tenantId, tenantName, startedAt, durationMs, getOutcome(error),
+      new ArrayList<>(steps), dropped);
+  }
+
+  private static String getOutcome(@Nullable String error) {
+    return error == null ? OUTCOME_SUCCESS : OUTCOME_ERROR;
+  }
+}
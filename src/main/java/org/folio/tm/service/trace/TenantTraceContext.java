@@ -0,0 +1,93 @@
+package org.folio.tm.service.trace;
+
+import jakarta.annotation.Nullable;
+import java.util.function.Supplier;
+import lombok.experimental.UtilityClass;
+
+/**
+ * Holds a trace of the tenant operation executed by the current thread.
+ *
+ * <p>Steps recorded without an active trace are ignored, so integrations can record steps unconditionally.</p>
+ */
+@UtilityClass
+public class TenantTraceContext {
+
+  private static final ThreadLocal<TenantTrace> CURRENT_TRACE = new ThreadLocal<>();
+
+  /**
+   * Adds a step finished right now to the current trace.
+   *
+   * @param name - step name
+   * @param durationNanos - step duration in nanoseconds
+   * @param error - error name, null if the step succeeded
+   */
+  public static void recordStep(String name, long durationNanos, @Nullable String error) {
+    var trace = CURRENT_TRACE.get();
+    if (trace != null) {
+      trace.addStep(name, System.nanoTime() - durationNanos, durationNanos, error);
+    }
+  }
+
+  /**
+   * Executes an action, recording it as a step of the current trace.
+   *
+   * @param name - step name
+   * @param action - action to execute
+   * @param <T> - action result type
+   * @return action result
+   */
+  public static <T> T recordStep(String name, Supplier<T> action) {
+    var startTime = System.nanoTime();
+    try {
+      var result = action.get();
+      recordStep(name, System.nanoTime() - startTime, null);
+      return result;
+    } catch (RuntimeException exception) {
+      recordStep(name, System.nanoTime() - startTime, exception.getClass().getSimpleName());
+      throw exception;
+    }
+  }
+
+  /**
+   * Wraps a runnable to be executed with the trace of the current thread, used to hand work over to executors.
+   *
+   * @param runnable - runnable to wrap
+   * @return wrapped {@link Runnable}
+   */
+  public static Runnable withCurrentTrace(Runnable runnable) {
+    var trace = CURRENT_TRACE.get();
+    if (trace == null) {
+      return runnable;
+    }
+
+    return () -> {
+      var previous = CURRENT_TRACE.get();
+      CURRENT_TRACE.set(trace);
+      try {
+        runnable.run();
+      } finally {
+        restore(previous);
+      }
+    };
+  }
+
+  static boolean isActive() {
+    return CURRENT_TRACE.get() != null;
+  }
+
+  static void bind(TenantTrace trace) {
+    CURRENT_TRACE.set(trace);
+  }
+
+  static void unbind() {
+    CURRENT_TRACE.remove();
+  }
+
+  private static void restore(@Nullable TenantTrace previous) {
+    if (previous == null) {
+      CURRENT_TRACE.remove();
+      return;
+    }
+    CURRENT_TRACE.set(previous);
+  }
+}
@@ -0,0 +1,24 @@
+package org.folio.tm.service.trace;
+
+import java.util.List;
+import lombok.RequiredArgsConstructor;
+import org.folio.tm.domain.model.TenantOperationTrace;
+import org.springframework.boot.actuate.endpoint.annotation.Endpoint;
+import org.springframework.boot.actuate.endpoint.annotation.ReadOperation;
+import org.springframework.stereotype.Component;
+
+/**
+ * Serves the most recent tenant operation traces by the {@code /admin/tenanttraces} actuator endpoint.
+ */
+@Component
+@RequiredArgsConstructor
+@Endpoint(id = "tenanttraces")
+public class TenantTraceEndpoint {
+
+  private final TenantTraceService tenantTraceService;
+
+  @ReadOperation
+  public List<TenantOperationTrace> tenantTraces() {
+    return tenantTraceService.getTraces();
+  }
+}
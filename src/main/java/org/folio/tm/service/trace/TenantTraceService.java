@@ -0,0 +1,110 @@
+package org.folio.tm.service.trace;
+
+import static java.util.concurrent.TimeUnit.MILLISECONDS;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import jakarta.annotation.Nullable;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Deque;
+import java.util.List;
+import java.util.UUID;
+import java.util.function.Supplier;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.log4j.Log4j2;
+import org.folio.tm.config.TenantTraceConfiguration;
+import org.folio.tm.domain.model.TenantOperationTrace;
+import org.springframework.stereotype.Service;
+
+/**
+ * Records timing traces of tenant lifecycle operations.
+ *
+ * <p>
+ * Completed traces are kept in a bounded buffer, the oldest trace is evicted once the capacity is reached. Operation
+ * and step durations are also published as histogram metrics.
+ * </p>
+ */
+@Log4j2
+@Service
+@RequiredArgsConstructor
+public class TenantTraceService {
+
+  public static final String OPERATIONS_METRIC = "tenant.operations";
+  public static final String OPERATION_STEPS_METRIC = "tenant.operation.steps";
+
+  private final TenantTraceConfiguration configuration;
+  private final MeterRegistry meterRegistry;
+  private final Deque<TenantOperationTrace> traces = new ArrayDeque<>();
+
+  /**
+   * Executes a tenant operation, recording its trace.
+   *
+   * <p>Nested operations are recorded as a part of the outer operation trace.</p>
+   *
+   * @param operation - operation name
+   * @param tenantId - tenant identifier, nullable
+   * @param tenantName - tenant name, nullable
+   * @param action - operation to execute
+   * @param <T> - operation result type
+   * @return operation result
+   */
+  public <T> T trace(String operation, @Nullable UUID tenantId, @Nullable String tenantName, Supplier<T> action) {
+    if (TenantTraceContext.isActive()) {
+      return action.get();
+    }
+
+    var trace = new TenantTrace(operation, tenantId, tenantName, configuration.getMaxSteps());
+    TenantTraceContext.bind(trace);
+    String error = null;
+    try {
+      return action.get();
+    } catch (RuntimeException exception) {
+      error = exception.getClass().getSimpleName();
+      throw exception;
+    } finally {
+      TenantTraceContext.unbind();
+      complete(trace.complete(error));
+    }
+  }
+
+  /**
+   * Returns recorded traces, the most recent first.
+   *
+   * @return {@link List} with {@link TenantOperationTrace} objects
+   */
+  public synchronized List<TenantOperationTrace> getTraces() {
+    return new ArrayList<>(traces);
+  }
+
+  private void complete(TenantOperationTrace trace) {
+    log.debug("Tenant operation finished: operation = {}, tenant = {}, duration = {} ms",
+      trace.operation(), trace.tenantName(), trace.durationMs());
+    store(trace);
+
+    Timer.builder(OPERATIONS_METRIC)
+      .tags("operation", trace.operation(), "outcome", trace.outcome())
+      .publishPercentileHistogram()
+      .register(meterRegistry)
+      .record(trace.durationMs(), MILLISECONDS);
+
+    for (var step : trace.steps()) {
+      Timer.builder(OPERATION_STEPS_METRIC)
+        .tags("operation", trace.operation(), "step", step.name(), "outcome", step.outcome())
+        .publishPercentileHistogram()
+        .register(meterRegistry)
+        .record(step.durationMs(), MILLISECONDS);
+    }
+  }
+
+  private synchronized void store(TenantOperationTrace trace) {
+    if (configuration.getCapacity() == 0) {
+      return;
+    }
+
+    while (traces.size() >= configuration.getCapacity()) {
+      traces.removeLast();
+    }
+    traces.addFirst(trace);
+  }
+}
@@ -0,0 +1,97 @@
+package org.folio.tm.utils;
+
+import static org.apache.commons.lang3.StringUtils.containsAny;
+import static org.apache.commons.lang3.StringUtils.isBlank;
+
+import java.io.IOException;
+import java.util.Optional;
+import lombok.experimental.UtilityClass;
+import org.z3950.zing.cql.CQLBooleanNode;
+import org.z3950.zing.cql.CQLNode;
+import org.z3950.zing.cql.CQLParseException;
+import org.z3950.zing.cql.CQLParser;
+import org.z3950.zing.cql.CQLPrefixNode;
+import org.z3950.zing.cql.CQLSortNode;
+import org.z3950.zing.cql.CQLTermNode;
+
+@UtilityClass
+public class CqlUtils {
+
+  private static final String EXACT_MATCH_RELATION = "==";
+  private static final char[] SPECIAL_CHARACTERS = {'*', '?', '^', '\\'};
+
+  /**
+   * Checks if a CQL query has a sort clause.
+   *
+   * <p>Queries that cannot be parsed are reported as not sorted, they are rejected by the CQL repository with a
+   * detailed error.</p>
+   *
+   * @param query - CQL query, nullable
+   * @return true if the query is parsed to a sort node, false otherwise
+   */
+  public static boolean hasSorting(String query) {
+    return parse(query) instanceof CQLSortNode;
+  }
+
+  /**
+   * Returns the search term of a query consisting of a single exact match on the given index, e.g.
+   * {@code name == "tenant1"}.
+   *
+   * @param query - CQL query, nullable
+   * @param index - index name
+   * @return {@link Optional} with the search term, empty if the query has other clauses, sorting, relation modifiers
+   *   or special characters in the term
+   */
+  public static Optional<String> getExactMatchTerm(String query, String index) {
+    if (!(parse(query) instanceof CQLTermNode termNode)) {
+      return Optional.empty();
+    }
+
+    var relation = termNode.getRelation();
+    var term = termNode.getTerm();
+    var exactMatch = index.equals(termNode.getIndex()) && EXACT_MATCH_RELATION.equals(relation.getBase())
+      && relation.getModifiers().isEmpty() && !containsAny(term, SPECIAL_CHARACTERS);
+    return exactMatch ? Optional.of(term) : Optional.empty();
+  }
+
+  /**
+   * Checks if a CQL query searches or sorts by the given index or any of its nested fields, e.g.
+   * {@code attributes.key} for {@code attributes}.
+   *
+   * @param query - CQL query, nullable
+   * @param index - index name
+   * @return true if the index is used by the query, false otherwise or if the query cannot be parsed
+   */
+  public static boolean hasIndex(String query, String index) {
+    var node = parse(query);
+    return node != null && hasIndex(node, index);
+  }
+
+  private static boolean hasIndex(CQLNode node, String index) {
+    return switch (node) {
+      case CQLTermNode termNode -> isIndex(termNode.getIndex(), index);
+      case CQLBooleanNode booleanNode ->
+        hasIndex(booleanNode.getLeftOperand(), index) || hasIndex(booleanNode.getRightOperand(), index);
+      case CQLSortNode sortNode -> hasIndex(sortNode.getSubtree(), index)
+        || sortNode.getSortIndexes().stream().anyMatch(sortIndex -> isIndex(sortIndex.getBase(), index));
+      case CQLPrefixNode prefixNode -> hasIndex(prefixNode.getSubtree(), index);
+      default -> false;
+    };
+  }
+
+  private static boolean isIndex(String value, String index) {
+    return value != null && (value.equals(index) || value.startsWith(index + "."));
+  }
+
+  private static CQLNode parse(String query) {
+    if (isBlank(query)) {
+      return null;
+    }
+
+    try {
+      return new CQLParser().parse(query);
+    } catch (CQLParseException | IOException e) {
+      return null;
+    }
+  }
+}
@@ -0,0 +1,205 @@
+package org.folio.tm.utils;
+
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletRequestWrapper;
+import java.lang.reflect.Proxy;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.Enumeration;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Supplier;
+import lombok.experimental.UtilityClass;
+import org.springframework.web.context.request.RequestAttributes;
+import org.springframework.web.context.request.RequestContextHolder;
+import org.springframework.web.context.request.ServletRequestAttributes;
+
+@UtilityClass
+public class RequestContextUtils {
+
+  private static final HttpServletRequest COMPLETED_REQUEST = (HttpServletRequest) Proxy.newProxyInstance(
+    RequestContextUtils.class.getClassLoader(), new Class<?>[] {HttpServletRequest.class},
+    (proxy, method, args) -> switch (method.getName()) {
+      case "toString" -> "CompletedRequest";
+      case "hashCode" -> System.identityHashCode(proxy);
+      case "equals" -> proxy == args[0];
+      default -> throw new IllegalStateException("Request is not available: method = " + method.getName());
+    });
+
+  /**
+   * Creates a copy of the current request context that remains usable after the request is completed.
+   *
+   * <p>Request headers, attributes, method, URI and query string are copied, the original request is not used by
+   * the copy, so it can be recycled by the servlet container.</p>
+   *
+   * @return detached {@link RequestAttributes} or null if there is no request bound to the current thread
+   */
+  public static RequestAttributes detachedRequestAttributes() {
+    if (!(RequestContextHolder.getRequestAttributes() instanceof ServletRequestAttributes attributes)) {
+      return null;
+    }
+
+    return new ServletRequestAttributes(new DetachedRequest(attributes.getRequest()));
+  }
+
+  /**
+   * Creates a request context serving only the given headers, e.g. restored for a background task.
+   *
+   * @param headers - request headers by name, nullable
+   * @return {@link RequestAttributes} or null if there are no headers
+   */
+  public static RequestAttributes requestAttributes(Map<String, String> headers) {
+    if (headers == null || headers.isEmpty()) {
+      return null;
+    }
+
+    return new ServletRequestAttributes(new DetachedRequest(headers));
+  }
+
+  /**
+   * Returns values of the given headers from the request bound to the current thread.
+   *
+   * @param names - header names
+   * @return {@link Map} with header values by name, empty if there is no request or none of the headers are present
+   */
+  public static Map<String, String> getRequestHeaders(Collection<String> names) {
+    var headers = new LinkedHashMap<String, String>();
+    if (RequestContextHolder.getRequestAttributes() instanceof ServletRequestAttributes attributes) {
+      var request = attributes.getRequest();
+      for (var name : names) {
+        var value = request.getHeader(name);
+        if (value != null) {
+          headers.put(name, value);
+        }
+      }
+    }
+
+    return headers;
+  }
+
+  /**
+   * Wraps a supplier to be executed with the given request attributes bound to the executing thread.
+   *
+   * @param requestAttributes - request attributes to bind, nullable
+   * @param supplier - supplier to wrap
+   * @param <T> - supplied value type
+   * @return wrapped {@link Supplier}
+   */
+  public static <T> Supplier<T> withRequestAttributes(RequestAttributes requestAttributes, Supplier<T> supplier) {
+    return () -> {
+      RequestContextHolder.setRequestAttributes(requestAttributes);
+      try {
+        return supplier.get();
+      } finally {
+        RequestContextHolder.resetRequestAttributes();
+      }
+    };
+  }
+
+  /**
+   * Wraps a runnable to be executed with the given request attributes bound to the executing thread.
+   *
+   * @param requestAttributes - request attributes to bind, nullable
+   * @param runnable - runnable to wrap
+   * @return wrapped {@link Runnable}
+   */
+  public static Runnable withRequestAttributes(RequestAttributes requestAttributes, Runnable runnable) {
+    var supplier = withRequestAttributes(requestAttributes, () -> {
+      runnable.run();
+      return null;
+    });
+    return supplier::get;
+  }
+
+  /**
+   * Request copy serving headers, attributes, method, URI and query string from memory, other methods fail as the
+   * original request can be recycled once it is completed.
+   */
+  private static final class DetachedRequest extends HttpServletRequestWrapper {
+
+    private final Map<String, List<String>> headers = new TreeMap<>(String.CASE_INSENSITIVE_ORDER);
+    private final Map<String, Object> attributes = new ConcurrentHashMap<>();
+    private final String method;
+    private final String requestUri;
+    private final String queryString;
+
+    DetachedRequest(HttpServletRequest request) {
+      super(COMPLETED_REQUEST);
+      for (var name : Collections.list(request.getHeaderNames())) {
+        headers.put(name, Collections.list(request.getHeaders(name)));
+      }
+      for (var name : Collections.list(request.getAttributeNames())) {
+        setAttribute(name, request.getAttribute(name));
+      }
+      this.method = request.getMethod();
+      this.requestUri = request.getRequestURI();
+      this.queryString = request.getQueryString();
+    }
+
+    DetachedRequest(Map<String, String> headers) {
+      super(COMPLETED_REQUEST);
+      headers.forEach((name, value) -> this.headers.put(name, List.of(value)));
+      this.method = null;
+      this.requestUri = null;
+      this.queryString = null;
+    }
+
+    @Override
+    public String getMethod() {
+      return method;
+    }
+
+    @Override
+    public String getRequestURI() {
+      return requestUri;
+    }
+
+    @Override
+    public String getQueryString() {
+      return queryString;
+    }
+
+    @Override
+    public String getHeader(String name) {
+      var values = headers.get(name);
+      return values == null || values.isEmpty() ? null : values.getFirst();
+    }
+
+    @Override
+    public Enumeration<String> getHeaders(String name) {
+      return Collections.enumeration(headers.getOrDefault(name, List.of()));
+    }
+
+    @Override
+    public Enumeration<String> getHeaderNames() {
+      return Collections.enumeration(headers.keySet());
+    }
+
+    @Override
+    public Object getAttribute(String name) {
+      return attributes.get(name);
+    }
+
+    @Override
+    public Enumeration<String> getAttributeNames() {
+      return Collections.enumeration(attributes.keySet());
+    }
+
+    @Override
+    public void setAttribute(String name, Object value) {
+      if (value == null) {
+        attributes.remove(name);
+        return;
+      }
+      attributes.put(name, value);
+    }
+
+    @Override
+    public void removeAttribute(String name) {
+      attributes.remove(name);
+    }
+  }
+}
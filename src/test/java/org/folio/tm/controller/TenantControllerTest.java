@@ -2,19 +2,23 @@ package org.folio.tm.controller;
 
 import static java.util.Collections.emptyList;
 import static org.assertj.core.api.Assertions.assertThat;
+import static org.folio.tm.domain.dto.TenantBatchStatus.CREATED;
 import static org.folio.tm.integration.okapi.OkapiHeaders.TOKEN;
 import static org.hamcrest.Matchers.is;
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.ArgumentMatchers.anyString;
 import static org.mockito.Mockito.doNothing;
 import static org.mockito.Mockito.when;
+import static org.springframework.http.HttpHeaders.LOCATION;
 import static org.springframework.http.MediaType.APPLICATION_JSON;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.header;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
 
 import java.util.List;
+import java.util.Optional;
 import java.util.UUID;
 import org.eclipse.microprofile.jwt.JsonWebToken;
 import org.folio.jwt.openid.JsonWebTokenParser;
@@ -23,7 +27,12 @@ import org.folio.security.integration.keycloak.client.KeycloakAuthClient;
 import org.folio.test.extensions.EnableKeycloakSecurity;
 import org.folio.test.types.UnitTest;
 import org.folio.tm.domain.dto.Tenant;
+import org.folio.tm.domain.dto.TenantBatchItem;
+import org.folio.tm.domain.dto.TenantBatchResult;
 import org.folio.tm.domain.dto.Tenants;
+import org.folio.tm.service.TenantBatchService;
+import org.folio.tm.service.TenantJobResult;
+import org.folio.tm.service.TenantJobService;
 import org.folio.tm.service.TenantService;
 import org.folio.tm.support.TestConstants;
 import org.folio.tm.support.TestUtils;
@@ -53,6 +62,8 @@ class TenantControllerTest {
   private final JsonWebToken jsonWebToken = Mockito.mock(JsonWebToken.class);
   @MockitoBean private JsonWebTokenParser jsonWebTokenParser;
   @MockitoBean private TenantService tenantService;
+  @MockitoBean private TenantBatchService tenantBatchService;
+  @MockitoBean private TenantJobService tenantJobService;
   @MockitoBean private KeycloakAuthClient authClient;
 
   @Test
@@ -70,6 +81,23 @@ class TenantControllerTest {
     assertThat(actual).isEqualTo(tenant);
   }
 
+  @Test
+  void getById_positive_withoutAttributes() throws Exception {
+    var tenant = TestConstants.tenant().attributes(null);
+
+    when(tenantService.getTenantSummaryById(TestConstants.TENANT_ID)).thenReturn(tenant);
+    var mvcResult = mockMvc.perform(MockMvcRequestBuilders.get("/tenants/{id}", TestConstants.TENANT_ID)
+        .param("includeAttributes", "false")
+        .contentType(APPLICATION_JSON)
+        .header(TOKEN, AUTH_TOKEN))
+      .andExpect(status().isOk())
+      .andExpect(jsonPath("$.attributes").doesNotExist())
+      .andReturn();
+
+    var actual = TestUtils.parseResponse(mvcResult, Tenant.class);
+    assertThat(actual).isEqualTo(tenant);
+  }
+
   @Test
   void getById_negative() throws Exception {
     var errorMessage = "Tenant not found by id: " + TestConstants.TENANT_ID;
@@ -119,6 +147,28 @@ class TenantControllerTest {
     assertThat(actual).isEqualTo(tenant);
   }
 
+  @Test
+  void createBatch_positive() throws Exception {
+    var tenant = TestConstants.tenant();
+    var result = new TenantBatchResult().totalRecords(1)
+      .results(List.of(new TenantBatchItem().name(tenant.getName()).status(CREATED).tenant(tenant)));
+
+    when(tenantBatchService.createTenants(List.of(tenant))).thenReturn(result);
+    when(jsonWebTokenParser.parse(AUTH_TOKEN)).thenReturn(jsonWebToken);
+    when(jsonWebToken.getIssuer()).thenReturn(TOKEN_ISSUER);
+    when(jsonWebToken.getSubject()).thenReturn(TOKEN_SUB);
+
+    var mvcResult = mockMvc.perform(post("/tenants/batch")
+        .content(TestUtils.asJsonString(new Tenants().tenants(List.of(tenant))))
+        .header(TOKEN, AUTH_TOKEN)
+        .contentType(APPLICATION_JSON))
+      .andExpect(status().isOk())
+      .andReturn();
+
+    var actual = TestUtils.parseResponse(mvcResult, TenantBatchResult.class);
+    assertThat(actual).isEqualTo(result);
+  }
+
   @Test
   void update_positive() throws Exception {
     var tenant = TestConstants.tenant();
@@ -151,6 +201,46 @@ class TenantControllerTest {
       .andExpect(status().isNoContent());
   }
 
+  @Test
+  void create_positive_async() throws Exception {
+    var tenant = TestConstants.tenant();
+    var jobId = UUID.randomUUID();
+
+    when(tenantJobService.createTenant(tenant)).thenReturn(new TenantJobResult<>(tenant, jobId));
+    when(jsonWebTokenParser.parse(AUTH_TOKEN)).thenReturn(jsonWebToken);
+    when(jsonWebToken.getIssuer()).thenReturn(TOKEN_ISSUER);
+    when(jsonWebToken.getSubject()).thenReturn(TOKEN_SUB);
+
+    var mvcResult = mockMvc.perform(post("/tenants")
+        .param("async", "true")
+        .content(TestUtils.asJsonString(tenant))
+        .header(TOKEN, AUTH_TOKEN)
+        .contentType(APPLICATION_JSON))
+      .andExpect(status().isAccepted())
+      .andExpect(header().string(LOCATION, "http://localhost/tenant-jobs/" + jobId))
+      .andReturn();
+
+    var actual = TestUtils.parseResponse(mvcResult, Tenant.class);
+    assertThat(actual).isEqualTo(tenant);
+  }
+
+  @Test
+  void delete_positive_async() throws Exception {
+    var jobId = UUID.randomUUID();
+
+    when(tenantJobService.deleteTenant(TestConstants.TENANT_ID, false)).thenReturn(Optional.of(jobId));
+    when(jsonWebTokenParser.parse(AUTH_TOKEN)).thenReturn(jsonWebToken);
+    when(jsonWebToken.getIssuer()).thenReturn(TOKEN_ISSUER);
+    when(jsonWebToken.getSubject()).thenReturn(TOKEN_SUB);
+
+    mockMvc.perform(MockMvcRequestBuilders.delete("/tenants/{id}", TestConstants.TENANT_ID)
+        .param("async", "true")
+        .contentType(APPLICATION_JSON)
+        .header(TOKEN, AUTH_TOKEN))
+      .andExpect(status().isAccepted())
+      .andExpect(header().string(LOCATION, "http://localhost/tenant-jobs/" + jobId));
+  }
+
   @Test
   void getByQuery_negative_invalidLimit() throws Exception {
     var errorMessage = "getTenantsByQuery.limit must be greater than or equal to 0";
@@ -171,7 +261,7 @@ class TenantControllerTest {
     var tenant = TestConstants.tenant();
     var tenants = new Tenants().tenants(List.of(tenant)).totalRecords(1);
 
-    when(tenantService.getTenantsByQuery("query", 0, 10)).thenReturn(tenants);
+    when(tenantService.getTenantsByQuery("query", 0, 10, "exact", true)).thenReturn(tenants);
     var mvcResult = mockMvc.perform(get("/tenants")
         .param("query", "query")
         .param("offset", String.valueOf(0))
@@ -185,11 +275,80 @@ class TenantControllerTest {
     assertThat(actual).isEqualTo(tenants);
   }
 
+  @Test
+  void getByQuery_positive_totalRecordsNone() throws Exception {
+    var tenants = new Tenants().tenants(List.of(TestConstants.tenant())).hasMore(true);
+
+    when(tenantService.getTenantsByQuery("query", 0, 10, "none", true)).thenReturn(tenants);
+    var mvcResult = mockMvc.perform(get("/tenants")
+        .param("query", "query")
+        .param("totalRecords", "none")
+        .contentType(APPLICATION_JSON)
+        .header(TOKEN, AUTH_TOKEN))
+      .andExpect(status().isOk())
+      .andReturn();
+
+    var actual = TestUtils.parseResponse(mvcResult, Tenants.class);
+    assertThat(actual).isEqualTo(tenants);
+  }
+
+  @Test
+  void getByQuery_positive_withoutAttributes() throws Exception {
+    var tenants = new Tenants().tenants(List.of(TestConstants.tenant().attributes(null))).totalRecords(1);
+
+    when(tenantService.getTenantsByQuery("query", 0, 10, "exact", false)).thenReturn(tenants);
+    var mvcResult = mockMvc.perform(get("/tenants")
+        .param("query", "query")
+        .param("includeAttributes", "false")
+        .contentType(APPLICATION_JSON)
+        .header(TOKEN, AUTH_TOKEN))
+      .andExpect(status().isOk())
+      .andReturn();
+
+    var actual = TestUtils.parseResponse(mvcResult, Tenants.class);
+    assertThat(actual).isEqualTo(tenants);
+  }
+
+  @Test
+  void getByQuery_positive_cursorMode() throws Exception {
+    var tenants = new Tenants().tenants(List.of(TestConstants.tenant())).next("next-cursor");
+
+    when(tenantService.getTenantsByCursor("query", "cursor", 10, false, true)).thenReturn(tenants);
+    var mvcResult = mockMvc.perform(get("/tenants")
+        .param("query", "query")
+        .param("after", "cursor")
+        .param("includeTotal", "false")
+        .contentType(APPLICATION_JSON)
+        .header(TOKEN, AUTH_TOKEN))
+      .andExpect(status().isOk())
+      .andReturn();
+
+    var actual = TestUtils.parseResponse(mvcResult, Tenants.class);
+    assertThat(actual).isEqualTo(tenants);
+  }
+
+  @Test
+  void getByAttributes_positive() throws Exception {
+    var tenants = new Tenants().tenants(List.of(TestConstants.tenant())).next("next-cursor");
+
+    when(tenantService.getTenantsByAttributes(List.of("region:eu", "tier:gold"), "cursor", 10)).thenReturn(tenants);
+    var mvcResult = mockMvc.perform(get("/tenants/by-attributes")
+        .param("attribute", "region:eu", "tier:gold")
+        .param("after", "cursor")
+        .contentType(APPLICATION_JSON)
+        .header(TOKEN, AUTH_TOKEN))
+      .andExpect(status().isOk())
+      .andReturn();
+
+    var actual = TestUtils.parseResponse(mvcResult, Tenants.class);
+    assertThat(actual).isEqualTo(tenants);
+  }
+
   @Test
   void getByQuery_positive_limitIsZero() throws Exception {
     var tenants = new Tenants().tenants(emptyList()).totalRecords(1);
 
-    when(tenantService.getTenantsByQuery("query", 0, 0)).thenReturn(tenants);
+    when(tenantService.getTenantsByQuery("query", 0, 0, "exact", true)).thenReturn(tenants);
     var mvcResult = mockMvc.perform(get("/tenants")
         .param("query", "query")
         .param("offset", String.valueOf(0))
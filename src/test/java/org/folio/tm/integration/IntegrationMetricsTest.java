@@ -0,0 +1,81 @@
+package org.folio.tm.integration;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.folio.tm.integration.IntegrationMetrics.CALLS_METRIC;
+import static org.folio.tm.integration.IntegrationMetrics.CALL_ERRORS_METRIC;
+import static org.folio.tm.integration.IntegrationMetrics.LISTENER_ERRORS_METRIC;
+import static org.folio.tm.integration.IntegrationMetrics.LISTENER_INVOCATIONS_METRIC;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.folio.test.types.UnitTest;
+import org.junit.jupiter.api.Test;
+
+@UnitTest
+class IntegrationMetricsTest {
+
+  private final MeterRegistry meterRegistry = new SimpleMeterRegistry();
+  private final IntegrationMetrics integrationMetrics = new IntegrationMetrics(meterRegistry);
+
+  @Test
+  void record_positive() {
+    var result = integrationMetrics.record("okapi", "getTenantById", () -> "tenant");
+
+    assertThat(result).isEqualTo("tenant");
+    assertThat(meterRegistry.get(CALLS_METRIC)
+      .tags("integration", "okapi", "operation", "getTenantById", "outcome", "success")
+      .timer().count()).isEqualTo(1);
+    assertThat(meterRegistry.find(CALL_ERRORS_METRIC).counter()).isNull();
+  }
+
+  @Test
+  void record_negative() {
+    assertThatThrownBy(() -> integrationMetrics.record("okapi", "createTenant", () -> {
+      throw new IllegalStateException("error");
+    })).isInstanceOf(IllegalStateException.class);
+
+    assertThat(meterRegistry.get(CALLS_METRIC)
+      .tags("integration", "okapi", "operation", "createTenant", "outcome", "error")
+      .timer().count()).isEqualTo(1);
+    assertThat(meterRegistry.get(CALL_ERRORS_METRIC)
+      .tags("integration", "okapi", "operation", "createTenant", "error", "IllegalStateException")
+      .counter().count()).isEqualTo(1);
+  }
+
+  @Test
+  void instrument_positive() {
+    TestClient client = value -> {
+      if (value == null) {
+        throw new IllegalArgumentException("value is null");
+      }
+      return value.toUpperCase();
+    };
+
+    var instrumentedClient = integrationMetrics.instrument("test", TestClient.class, client);
+
+    assertThat(instrumentedClient.convert("value")).isEqualTo("VALUE");
+    assertThatThrownBy(() -> instrumentedClient.convert(null))
+      .isInstanceOf(IllegalArgumentException.class)
+      .hasMessage("value is null");
+    assertThat(meterRegistry.get(CALLS_METRIC).tags("integration", "test", "operation", "convert")
+      .timers()).hasSize(2);
+  }
+
+  @Test
+  void recordListener_negative() {
+    assertThatThrownBy(() -> integrationMetrics.recordListener("KeycloakTenantListener", "CREATE", () -> {
+      throw new IllegalStateException("error");
+    })).isInstanceOf(IllegalStateException.class);
+
+    assertThat(meterRegistry.get(LISTENER_INVOCATIONS_METRIC)
+      .tags("listener", "KeycloakTenantListener", "event", "CREATE", "outcome", "error")
+      .timer().count()).isEqualTo(1);
+    assertThat(meterRegistry.get(LISTENER_ERRORS_METRIC).counter().count()).isEqualTo(1);
+  }
+
+  interface TestClient {
+
+    String convert(String value);
+  }
+}
@@ -1,31 +1,36 @@
 package org.folio.tm.integration.kafka;
 
-import static java.lang.Boolean.TRUE;
-import static java.util.concurrent.TimeUnit.SECONDS;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.folio.tm.integration.IntegrationMetrics.CALLS_METRIC;
+import static org.folio.tm.integration.IntegrationMetrics.CALL_ERRORS_METRIC;
 import static org.mockito.Answers.RETURNS_DEEP_STUBS;
-import static org.mockito.ArgumentMatchers.anyLong;
-import static org.mockito.ArgumentMatchers.anySet;
-import static org.mockito.ArgumentMatchers.eq;
-import static org.mockito.Mockito.doReturn;
-import static org.mockito.Mockito.mock;
+import static org.mockito.ArgumentMatchers.anyCollection;
+import static org.mockito.Mockito.never;
 import static org.mockito.Mockito.verify;
-import static org.mockito.Mockito.verifyNoInteractions;
 import static org.mockito.Mockito.when;
 
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import java.time.Duration;
+import java.util.List;
+import java.util.Map;
 import java.util.Set;
 import java.util.concurrent.TimeoutException;
 import java.util.stream.Stream;
 import org.apache.kafka.clients.admin.AdminClient;
-import org.apache.kafka.clients.admin.DeleteTopicsResult;
-import org.apache.kafka.clients.admin.ListTopicsResult;
 import org.apache.kafka.common.KafkaFuture;
+import org.apache.kafka.common.errors.UnknownTopicOrPartitionException;
+import org.apache.kafka.common.internals.KafkaFutureImpl;
 import org.folio.test.types.UnitTest;
+import org.folio.tm.integration.IntegrationMetrics;
+import org.folio.tm.integration.kafka.configuration.KafkaTopicPurgeProperties;
+import org.folio.tm.integration.kafka.model.TopicPurgeResult.TopicOutcome;
+import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
 import org.junit.jupiter.params.ParameterizedTest;
 import org.junit.jupiter.params.provider.Arguments;
 import org.junit.jupiter.params.provider.MethodSource;
-import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
 
@@ -33,92 +38,124 @@ import org.mockito.junit.jupiter.MockitoExtension;
 @ExtendWith(MockitoExtension.class)
 class KafkaServiceTest {
 
-  @InjectMocks private KafkaService kafkaService;
+  private final MeterRegistry meterRegistry = new SimpleMeterRegistry();
+  private final KafkaTopicIndex topicIndex = new KafkaTopicIndex();
+  private KafkaService kafkaService;
 
   @Mock(answer = RETURNS_DEEP_STUBS) private AdminClient adminClient;
 
-  @Test
-  void deleteTopics_skip_purgeKafkaTopicsIsFalse() {
-    kafkaService.deleteTopics("tenant", false);
-
-    verifyNoInteractions(adminClient);
-  }
-
-  @Test
-  void deleteTopics_skip_purgeKafkaTopicsIsNull() {
-    kafkaService.deleteTopics("tenant", null);
-
-    verifyNoInteractions(adminClient);
+  @BeforeEach
+  void setUp() {
+    var topicPurgeProperties = new KafkaTopicPurgeProperties();
+    topicPurgeProperties.setChunkSize(2);
+    topicPurgeProperties.setMaxAttempts(2);
+    topicPurgeProperties.setRetryDelay(Duration.ofMillis(1));
+    kafkaService = new KafkaService(adminClient, new IntegrationMetrics(meterRegistry), topicPurgeProperties,
+      topicIndex);
   }
 
   @ParameterizedTest
   @MethodSource("positiveTopicsProvider")
-  void deleteTopics_positive(String tenant, Set<String> allTopics, Set<String> topicsToDelete) throws Exception {
-    when(adminClient.listTopics().names().get(anyLong(), eq(SECONDS)))
-      .thenReturn(allTopics);
-
-    var deleteResult = mock(DeleteTopicsResult.class, RETURNS_DEEP_STUBS);
-    var fakeFuture = mock(KafkaFuture.class);
+  void purgeTopicsAsync_positive_singleTenant(Set<String> allTopics, List<String> topicsToDelete) {
+    when(adminClient.listTopics().names()).thenReturn(KafkaFuture.completedFuture(allTopics));
+    when(adminClient.deleteTopics(topicsToDelete).topicNameValues()).thenReturn(Map.of(topicsToDelete.getFirst(),
+      deleted()));
 
-    when(adminClient.deleteTopics(topicsToDelete)).thenReturn(deleteResult);
-    when(deleteResult.all()).thenReturn(fakeFuture);
-    when(fakeFuture.get(anyLong(), eq(SECONDS))).thenReturn(null);
+    var result = kafkaService.purgeTopicsAsync(List.of("tenant")).join();
 
-    kafkaService.deleteTopics(tenant, TRUE);
+    assertThat(result.isSuccessful()).isTrue();
+    assertThat(result.topics()).extracting(TopicOutcome::topic).containsExactlyElementsOf(topicsToDelete);
+    assertThat(meterRegistry.get(CALLS_METRIC).tags("integration", "kafka", "operation", "deleteTopics",
+      "outcome", "success").timer().count()).isEqualTo(1);
+  }
 
-    verify(adminClient).deleteTopics(topicsToDelete);
-    verify(fakeFuture).get(anyLong(), eq(SECONDS));
+  @Test
+  void purgeTopicsAsync_positive() {
+    when(adminClient.listTopics().names()).thenReturn(KafkaFuture.completedFuture(Set.of(
+      "folio.tenant1.topic1", "folio.tenant1.topic2", "folio.tenant2.topic1", "folio.tenant3.topic1",
+      "folio.tenant12.topic1", "env.tenant1.topic1", "tenant1.topic1")));
+    when(adminClient.deleteTopics(List.of("folio.tenant1.topic1", "folio.tenant1.topic2")).topicNameValues())
+      .thenReturn(Map.of("folio.tenant1.topic1", deleted(), "folio.tenant1.topic2", deleted()));
+    when(adminClient.deleteTopics(List.of("folio.tenant2.topic1")).topicNameValues())
+      .thenReturn(Map.of("folio.tenant2.topic1", failed(new UnknownTopicOrPartitionException("deleted"))));
+
+    var result = kafkaService.purgeTopicsAsync(List.of("tenant1", "tenant2")).join();
+
+    assertThat(result.isSuccessful()).isTrue();
+    assertThat(result.topics()).containsExactly(
+      new TopicOutcome("tenant1", "folio.tenant1.topic1", 1, null),
+      new TopicOutcome("tenant1", "folio.tenant1.topic2", 1, null),
+      new TopicOutcome("tenant2", "folio.tenant2.topic1", 1, null));
   }
 
   @Test
-  void deleteTopics_positive_noTopicsToDelete() throws Exception {
-    var allTopics = Set.of("folio.tenant1.topic1", "folio.tenant2.topic1", "env.tenant.topic");
+  void purgeTopicsAsync_positive_noTopicsToDelete() {
+    when(adminClient.listTopics().names()).thenReturn(KafkaFuture.completedFuture(
+      Set.of("folio.tenant1.topic1", "folio.tenant2.topic1", "env.tenant.topic")));
 
-    var listTopicsResult = mock(ListTopicsResult.class);
-    var names = mock(KafkaFuture.class);
-    doReturn(listTopicsResult).when(adminClient).listTopics();
-    when(listTopicsResult.names()).thenReturn(names);
-    when(names.get(anyLong(), eq(SECONDS))).thenReturn(allTopics);
+    var result = kafkaService.purgeTopicsAsync(List.of("tenant")).join();
 
-    kafkaService.deleteTopics("tenant", TRUE);
+    assertThat(result.topics()).isEmpty();
+    verify(adminClient, never()).deleteTopics(anyCollection());
+  }
 
-    verify(adminClient).listTopics();
-    verifyNoInteractions(adminClient.deleteTopics(anySet()));
+  @Test
+  void purgeTopicsAsync_positive_onlyFailedTopicsRetried() {
+    when(adminClient.listTopics().names()).thenReturn(KafkaFuture.completedFuture(
+      Set.of("folio.tenant1.topic1", "folio.tenant1.topic2", "folio.tenant2.topic1")));
+    when(adminClient.deleteTopics(List.of("folio.tenant1.topic1", "folio.tenant1.topic2")).topicNameValues())
+      .thenReturn(Map.of("folio.tenant1.topic1", deleted(), "folio.tenant1.topic2", failed(new TimeoutException())));
+    when(adminClient.deleteTopics(List.of("folio.tenant2.topic1")).topicNameValues())
+      .thenReturn(Map.of("folio.tenant2.topic1", failed(new TimeoutException())));
+    when(adminClient.deleteTopics(List.of("folio.tenant1.topic2", "folio.tenant2.topic1")).topicNameValues())
+      .thenReturn(Map.of("folio.tenant1.topic2", deleted(), "folio.tenant2.topic1", failed(new TimeoutException())));
+
+    var result = kafkaService.purgeTopicsAsync(List.of("tenant1", "tenant2")).join();
+
+    assertThat(result.topics()).containsExactly(
+      new TopicOutcome("tenant1", "folio.tenant1.topic1", 1, null),
+      new TopicOutcome("tenant1", "folio.tenant1.topic2", 2, null),
+      new TopicOutcome("tenant2", "folio.tenant2.topic1", 2, "TimeoutException"));
+    assertThat(result.getFailedTopics()).extracting(TopicOutcome::topic).containsExactly("folio.tenant2.topic1");
+    assertThat(topicIndex.findByPrefix("folio.")).containsExactly("folio.tenant2.topic1");
+    assertThat(meterRegistry.get(CALLS_METRIC).tags("operation", "deleteTopics", "outcome", "error").timer().count())
+      .isEqualTo(2);
   }
 
   @Test
-  void deleteTopics_positive_exception() throws Exception {
-    var listTopicsResult = mock(ListTopicsResult.class);
-    var names = mock(KafkaFuture.class);
-    doReturn(listTopicsResult).when(adminClient).listTopics();
-    when(listTopicsResult.names()).thenReturn(names);
-    when(names.get(anyLong(), eq(SECONDS))).thenThrow(new TimeoutException("Test exception"));
+  void purgeTopicsAsync_negative_listTopicsFailed() {
+    when(adminClient.listTopics().names()).thenReturn(failed(new TimeoutException("Test exception")));
 
-    kafkaService.deleteTopics("tenant", TRUE);
+    var result = kafkaService.purgeTopicsAsync(List.of("tenant"));
 
-    verify(adminClient).listTopics();
-    verifyNoInteractions(adminClient.deleteTopics(anySet()));
+    assertThat(result).failsWithin(Duration.ZERO).withThrowableOfType(Exception.class)
+      .havingRootCause().isInstanceOf(TimeoutException.class);
+    verify(adminClient, never()).deleteTopics(anyCollection());
+    assertThat(meterRegistry.get(CALL_ERRORS_METRIC).tags("integration", "kafka", "operation", "listTopics",
+      "error", "TimeoutException").counter().count()).isEqualTo(1);
   }
 
-  @Test
-  void deleteTopics_positive_interruptedException() throws Exception {
-    var listTopicsResult = mock(ListTopicsResult.class);
-    var names = mock(KafkaFuture.class);
-    doReturn(listTopicsResult).when(adminClient).listTopics();
-    when(listTopicsResult.names()).thenReturn(names);
-    when(names.get(anyLong(), eq(SECONDS))).thenThrow(new InterruptedException("Test exception"));
-
-    kafkaService.deleteTopics("tenant", TRUE);
+  private static KafkaFuture<Void> deleted() {
+    return KafkaFuture.completedFuture(null);
+  }
 
-    verify(adminClient).listTopics();
-    verifyNoInteractions(adminClient.deleteTopics(anySet()));
+  private static <T> KafkaFuture<T> failed(Throwable error) {
+    var future = new KafkaFutureImpl<T>();
+    future.completeExceptionally(error);
+    return future;
   }
 
   static Stream<Arguments> positiveTopicsProvider() {
     return Stream.of(
-      Arguments.of("tenant", Set.of("folio.tenant.topic1", "folio.tenant1.topic1", "env.tenant.topic"),
-        Set.of("folio.tenant.topic1")),
-      Arguments.of("tenant", Set.of("folio.tenant.topic1", "tenant.topic"), Set.of("folio.tenant.topic1"))
+      Arguments.of(Set.of("folio.tenant.topic1", "folio.tenant1.topic1", "env.tenant.topic"),
+        List.of("folio.tenant.topic1")),
+      Arguments.of(Set.of("folio.tenant.topic1", "tenant.topic"), List.of("folio.tenant.topic1")),
+      Arguments.of(Set.of("folio.tenant.topic1", "folio.other-tenant.topic1", "folio.xtenant.topic1"),
+        List.of("folio.tenant.topic1")),
+      Arguments.of(Set.of("folio.tenant.topic1", "dev.folio.tenant.topic1", "folio.folio.tenant.topic1"),
+        List.of("folio.tenant.topic1")),
+      Arguments.of(Set.of("folio.tenant.topic1", "folio.tenant", "folio.tenant-topic1"),
+        List.of("folio.tenant.topic1"))
     );
   }
 }
@@ -0,0 +1,54 @@
+package org.folio.tm.integration.kafka;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.util.List;
+import java.util.Set;
+import org.folio.test.types.UnitTest;
+import org.junit.jupiter.api.Test;
+
+@UnitTest
+class KafkaTopicIndexTest {
+
+  private final KafkaTopicIndex topicIndex = new KafkaTopicIndex();
+
+  @Test
+  void findByPrefix_positive() {
+    topicIndex.refresh(Set.of("folio.tenant.topic2", "folio.tenant.topic1", "folio.tenant1.topic1",
+      "folio.tenant-a.topic1", "folio.tenant/topic1", "folio.tenant"));
+
+    var result = topicIndex.findByPrefix("folio.tenant.");
+
+    assertThat(result).containsExactly("folio.tenant.topic1", "folio.tenant.topic2");
+  }
+
+  @Test
+  void findByPrefix_positive_prefixInTheMiddleOfName() {
+    topicIndex.refresh(Set.of("dev.folio.tenant.topic1", "folio.xfolio.tenant.topic1", "xfolio.tenant.topic1"));
+
+    var result = topicIndex.findByPrefix("folio.tenant.");
+
+    assertThat(result).isEmpty();
+  }
+
+  @Test
+  void refresh_positive_appliesDifference() {
+    topicIndex.refresh(Set.of("folio.tenant1.topic1", "folio.tenant1.topic2", "folio.tenant2.topic1"));
+
+    topicIndex.refresh(Set.of("folio.tenant1.topic2", "folio.tenant2.topic1", "folio.tenant2.topic2"));
+
+    assertThat(topicIndex.size()).isEqualTo(3);
+    assertThat(topicIndex.findByPrefix("folio.tenant1.")).containsExactly("folio.tenant1.topic2");
+    assertThat(topicIndex.findByPrefix("folio.tenant2.")).containsExactly("folio.tenant2.topic1",
+      "folio.tenant2.topic2");
+  }
+
+  @Test
+  void remove_positive() {
+    topicIndex.refresh(Set.of("folio.tenant1.topic1", "folio.tenant1.topic2", "folio.tenant2.topic1"));
+
+    topicIndex.remove(List.of("folio.tenant1.topic1", "folio.tenant3.topic1"));
+
+    assertThat(topicIndex.findByPrefix("folio.")).containsExactly("folio.tenant1.topic2", "folio.tenant2.topic1");
+  }
+}
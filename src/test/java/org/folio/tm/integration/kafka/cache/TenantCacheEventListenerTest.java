@@ -0,0 +1,71 @@
+package org.folio.tm.integration.kafka.cache;
+
+import static org.folio.tm.config.CacheConfiguration.TENANT_BY_NAME_CACHE;
+import static org.folio.tm.config.CacheConfiguration.TENANT_CACHE;
+import static org.folio.tm.integration.kafka.model.TenantCacheEvent.Type.DELETE;
+import static org.folio.tm.integration.kafka.model.TenantCacheEvent.Type.UPDATE;
+import static org.folio.tm.support.TestConstants.TENANT_ID;
+import static org.folio.tm.support.TestConstants.TENANT_NAME;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import org.folio.test.types.UnitTest;
+import org.folio.tm.integration.kafka.model.TenantCacheEvent;
+import org.folio.tm.support.TestUtils;
+import org.folio.tm.utils.JsonHelper;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.cache.Cache;
+import org.springframework.cache.CacheManager;
+
+@UnitTest
+@ExtendWith(MockitoExtension.class)
+class TenantCacheEventListenerTest {
+
+  private static final String MESSAGE = "{}";
+
+  private TenantCacheEventListener listener;
+
+  @Mock private JsonHelper jsonHelper;
+  @Mock private CacheManager cacheManager;
+  @Mock private Cache tenantCache;
+  @Mock private Cache tenantByNameCache;
+
+  @BeforeEach
+  void setUp() {
+    listener = new TenantCacheEventListener("topic", "group", jsonHelper, cacheManager);
+    when(cacheManager.getCache(TENANT_CACHE)).thenReturn(tenantCache);
+    when(cacheManager.getCache(TENANT_BY_NAME_CACHE)).thenReturn(tenantByNameCache);
+  }
+
+  @AfterEach
+  void tearDown() {
+    TestUtils.verifyNoMoreInteractions(this);
+  }
+
+  @Test
+  void handleEvent_positive_update() {
+    when(jsonHelper.parse(MESSAGE, TenantCacheEvent.class)).thenReturn(TenantCacheEvent.of(UPDATE, TENANT_ID,
+      TENANT_NAME));
+
+    listener.handleEvent(MESSAGE);
+
+    verify(tenantCache).evict(TENANT_ID);
+    verify(tenantByNameCache).evict(TENANT_NAME);
+  }
+
+  @Test
+  void handleEvent_positive_deleteWithoutId() {
+    when(jsonHelper.parse(MESSAGE, TenantCacheEvent.class)).thenReturn(TenantCacheEvent.of(DELETE, null,
+      TENANT_NAME));
+
+    listener.handleEvent(MESSAGE);
+
+    verify(tenantCache).clear();
+    verify(tenantByNameCache).evict(TENANT_NAME);
+  }
+}
@@ -0,0 +1,85 @@
+package org.folio.tm.integration.kafka.cache;
+
+import static org.folio.tm.integration.kafka.model.TenantCacheEvent.Type.DELETE;
+import static org.folio.tm.integration.kafka.model.TenantCacheEvent.Type.UPDATE;
+import static org.folio.tm.support.TestConstants.TENANT_ID;
+import static org.folio.tm.support.TestConstants.TENANT_NAME;
+import static org.folio.tm.support.TestConstants.tenant;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import java.util.concurrent.CompletableFuture;
+import org.folio.test.types.UnitTest;
+import org.folio.tm.integration.kafka.model.TenantCacheEvent;
+import org.folio.tm.support.TestUtils;
+import org.folio.tm.utils.JsonHelper;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.kafka.core.KafkaTemplate;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+@UnitTest
+@ExtendWith(MockitoExtension.class)
+class TenantCacheEventPublisherTest {
+
+  private static final String TOPIC = "folio.ALL.mgr-tenants.tenant-cache";
+  private static final String MESSAGE = "{}";
+
+  private TenantCacheEventPublisher publisher;
+
+  @Mock private JsonHelper jsonHelper;
+  @Mock private KafkaTemplate<String, String> kafkaTemplate;
+
+  @BeforeEach
+  void setUp() {
+    publisher = new TenantCacheEventPublisher(TOPIC, jsonHelper, kafkaTemplate);
+  }
+
+  @AfterEach
+  void tearDown() {
+    TestUtils.verifyNoMoreInteractions(this);
+  }
+
+  @Test
+  void onTenantUpdate_positive() {
+    var event = TenantCacheEvent.of(UPDATE, TENANT_ID, TENANT_NAME);
+    when(jsonHelper.asJsonString(event)).thenReturn(MESSAGE);
+    when(kafkaTemplate.send(TOPIC, TENANT_NAME, MESSAGE)).thenReturn(new CompletableFuture<>());
+
+    publisher.onTenantUpdate(tenant());
+
+    verify(kafkaTemplate).send(TOPIC, TENANT_NAME, MESSAGE);
+  }
+
+  @Test
+  void onTenantDelete_positive() {
+    var event = TenantCacheEvent.of(DELETE, TENANT_ID, TENANT_NAME);
+    when(jsonHelper.asJsonString(event)).thenReturn(MESSAGE);
+    when(kafkaTemplate.send(TOPIC, TENANT_NAME, MESSAGE)).thenReturn(new CompletableFuture<>());
+
+    publisher.onTenantDelete(TENANT_ID, TENANT_NAME);
+
+    verify(kafkaTemplate).send(TOPIC, TENANT_NAME, MESSAGE);
+  }
+
+  @Test
+  void onTenantAttributesUpdate_positive_sentAfterCommit() {
+    var event = TenantCacheEvent.of(UPDATE, TENANT_ID, TENANT_NAME);
+    TransactionSynchronizationManager.initSynchronization();
+    try {
+      publisher.onTenantAttributesUpdate(TENANT_ID, TENANT_NAME);
+
+      when(jsonHelper.asJsonString(event)).thenReturn(MESSAGE);
+      when(kafkaTemplate.send(TOPIC, TENANT_NAME, MESSAGE)).thenReturn(new CompletableFuture<>());
+      TransactionSynchronizationManager.getSynchronizations().forEach(sync -> sync.afterCommit());
+    } finally {
+      TransactionSynchronizationManager.clearSynchronization();
+    }
+
+    verify(kafkaTemplate).send(TOPIC, TENANT_NAME, MESSAGE);
+  }
+}
@@ -0,0 +1,112 @@
+package org.folio.tm.integration.keycloak;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import jakarta.ws.rs.NotAuthorizedException;
+import java.time.Duration;
+import java.util.concurrent.atomic.AtomicInteger;
+import org.folio.test.types.UnitTest;
+import org.folio.tm.support.TestUtils;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.keycloak.admin.client.Keycloak;
+import org.keycloak.admin.client.token.TokenManager;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.http.HttpStatus;
+import org.springframework.web.client.HttpClientErrorException;
+
+@UnitTest
+@ExtendWith(MockitoExtension.class)
+class KeycloakAdminTokenManagerTest {
+
+  private KeycloakAdminTokenManager adminTokenManager;
+
+  @Mock private Keycloak keycloak;
+  @Mock private TokenManager tokenManager;
+
+  @BeforeEach
+  void setUp() {
+    adminTokenManager = new KeycloakAdminTokenManager(keycloak, Duration.ofSeconds(45));
+  }
+
+  @AfterEach
+  void tearDown() {
+    TestUtils.verifyNoMoreInteractions(this);
+  }
+
+  @Test
+  void init_positive() {
+    when(keycloak.tokenManager()).thenReturn(tokenManager);
+
+    adminTokenManager.init();
+
+    verify(tokenManager).setMinTokenValidity(45);
+  }
+
+  @Test
+  void getAccessToken_positive() {
+    when(keycloak.tokenManager()).thenReturn(tokenManager);
+    when(tokenManager.getAccessTokenString()).thenReturn("token");
+
+    var result = adminTokenManager.getAccessToken();
+
+    assertThat(result).isEqualTo("token");
+  }
+
+  @Test
+  void call_positive() {
+    var result = adminTokenManager.call(() -> "result");
+
+    assertThat(result).isEqualTo("result");
+  }
+
+  @Test
+  void call_positive_repeatedOnceIfTokenRejected() {
+    var attempts = new AtomicInteger();
+
+    var result = adminTokenManager.call(() -> {
+      if (attempts.incrementAndGet() == 1) {
+        throw new NotAuthorizedException("Bearer");
+      }
+      return "result";
+    });
+
+    assertThat(result).isEqualTo("result");
+    assertThat(attempts).hasValue(2);
+  }
+
+  @Test
+  void call_positive_newTokenGrantedIfRejectedOutsideOfAdminClient() {
+    when(keycloak.tokenManager()).thenReturn(tokenManager);
+    var attempts = new AtomicInteger();
+
+    var result = adminTokenManager.call(() -> {
+      if (attempts.incrementAndGet() == 1) {
+        throw HttpClientErrorException.create(HttpStatus.UNAUTHORIZED, "Unauthorized", null, null, null);
+      }
+      return "result";
+    });
+
+    assertThat(result).isEqualTo("result");
+    assertThat(attempts).hasValue(2);
+    verify(tokenManager).grantToken();
+  }
+
+  @Test
+  void run_negative_tokenRejectedTwice() {
+    var attempts = new AtomicInteger();
+
+    assertThatThrownBy(() -> adminTokenManager.run(() -> {
+      attempts.incrementAndGet();
+      throw new NotAuthorizedException("Bearer");
+    })).isInstanceOf(NotAuthorizedException.class);
+
+    assertThat(attempts).hasValue(2);
+  }
+}
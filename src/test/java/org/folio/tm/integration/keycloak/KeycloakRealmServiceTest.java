@@ -1,5 +1,6 @@
 package org.folio.tm.integration.keycloak;
 
+import static java.util.concurrent.TimeUnit.SECONDS;
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.assertj.core.api.Assertions.assertThatThrownBy;
 import static org.folio.tm.support.TestConstants.TENANT_ID;
@@ -8,19 +9,22 @@ import static org.folio.tm.support.TestUtils.OBJECT_MAPPER;
 import static org.folio.tm.support.TestUtils.readString;
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.Mockito.doThrow;
+import static org.mockito.Mockito.mock;
 import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.verifyNoInteractions;
 import static org.mockito.Mockito.when;
 
 import jakarta.ws.rs.InternalServerErrorException;
+import jakarta.ws.rs.NotAuthorizedException;
 import jakarta.ws.rs.NotFoundException;
 import jakarta.ws.rs.WebApplicationException;
-import java.io.InputStream;
+import java.time.Duration;
 import java.util.HashMap;
 import java.util.List;
+import java.util.concurrent.CountDownLatch;
 import lombok.SneakyThrows;
-import org.apache.commons.lang3.SerializationException;
 import org.folio.test.types.UnitTest;
 import org.folio.tm.domain.dto.Tenant;
 import org.folio.tm.integration.keycloak.configuration.KeycloakRealmSetupProperties;
@@ -40,14 +44,15 @@ import org.junit.jupiter.api.extension.ExtendWith;
 import org.keycloak.admin.client.Keycloak;
 import org.keycloak.admin.client.resource.RealmResource;
 import org.keycloak.admin.client.resource.RealmsResource;
-import org.keycloak.admin.client.token.TokenManager;
 import org.keycloak.common.util.MultivaluedHashMap;
-import org.keycloak.representations.AccessTokenResponse;
+import org.keycloak.representations.idm.ClientRepresentation;
 import org.keycloak.representations.idm.ComponentExportRepresentation;
 import org.keycloak.representations.idm.RealmRepresentation;
 import org.keycloak.representations.idm.RequiredActionProviderRepresentation;
+import org.keycloak.representations.idm.RoleRepresentation;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Captor;
 import org.mockito.Mock;
-import org.mockito.Spy;
 import org.mockito.junit.jupiter.MockitoExtension;
 import tools.jackson.core.type.TypeReference;
 
@@ -63,20 +68,22 @@ class KeycloakRealmServiceTest {
   private static final int ACCESS_TOKEN_LIFESPAN = 600;
 
   private KeycloakRealmService keycloakRealmService;
+  private KeycloakAdminTokenManager adminTokenManager;
+  private KeycloakRealmSetupProperties props;
+  private final KeycloakRealmTemplateProvider realmTemplateProvider =
+    new KeycloakRealmTemplateProvider(new JsonHelper(OBJECT_MAPPER), null);
 
   @Mock private Keycloak keycloak;
   @Mock private KeycloakClientService keycloakClientService;
   @Mock private KeycloakRealmRoleService keycloakRealmRoleService;
-  @Spy private JsonHelper jsonHelper = new JsonHelper(OBJECT_MAPPER);
 
-  @Mock private TokenManager tokenManager;
   @Mock private RealmResource realmResource;
   @Mock private RealmsResource realmsResource;
-  @Mock private AccessTokenResponse accessTokenResponse;
+  @Captor private ArgumentCaptor<RealmRepresentation> realmCaptor;
 
   @BeforeEach
   void setUp() {
-    var props = new KeycloakRealmSetupProperties();
+    props = new KeycloakRealmSetupProperties();
     props.setAccessCodeLifespan(ACCESS_CODE_LIFESPAN_VALUE);
     props.setParRequestUriLifespan(PAR_REQUEST_LIFESPAN_VALUE);
 
@@ -97,9 +104,10 @@ class KeycloakRealmServiceTest {
     clientSessionProps.setMaxLifespan(SESSION_MAX_LIFESPAN);
     props.setClientSession(clientSessionProps);
 
+    adminTokenManager = new KeycloakAdminTokenManager(keycloak, Duration.ofSeconds(30));
     keycloakRealmService = new KeycloakRealmService(
-      keycloak, jsonHelper, List.of(keycloakClientService), List.of(keycloakRealmRoleService),
-      props);
+      keycloak, adminTokenManager, realmTemplateProvider, List.of(keycloakClientService),
+      List.of(keycloakRealmRoleService), props);
   }
 
   @AfterEach
@@ -158,6 +166,14 @@ class KeycloakRealmServiceTest {
     return new Tenant().id(TENANT_ID).name(TENANT_NAME);
   }
 
+  @SneakyThrows
+  private static void awaitConcurrentSteps(CountDownLatch latch) {
+    latch.countDown();
+    if (!latch.await(5, SECONDS)) {
+      throw new IllegalStateException("Realm setup steps are not executed concurrently");
+    }
+  }
+
   @Nested
   @DisplayName("createRealm")
   class CreateRealm {
@@ -168,8 +184,6 @@ class KeycloakRealmServiceTest {
 
       when(keycloak.realm(TENANT_NAME)).thenThrow(NotFoundException.class);
       when(keycloak.realms()).thenReturn(realmsResource);
-      when(keycloak.tokenManager()).thenReturn(tokenManager);
-      when(tokenManager.grantToken()).thenReturn(accessTokenResponse);
 
       var result = keycloakRealmService.createRealm(tenant());
 
@@ -182,10 +196,69 @@ class KeycloakRealmServiceTest {
       verify(realmsResource).create(any(RealmRepresentation.class));
       verify(keycloakClientService).setupClient(TENANT_NAME);
       verify(keycloakRealmRoleService).setupRole(TENANT_NAME);
+    }
+
+    @Test
+    void positive_rolesAndClientsSetUpConcurrently() {
+      var anotherClientService = mock(KeycloakClientService.class);
+      var anotherRoleService = mock(KeycloakRealmRoleService.class);
+      var rolesLatch = new CountDownLatch(2);
+      var clientsLatch = new CountDownLatch(2);
+      keycloakRealmService = new KeycloakRealmService(keycloak, adminTokenManager, realmTemplateProvider,
+        List.of(keycloakClientService, anotherClientService), List.of(keycloakRealmRoleService, anotherRoleService),
+        props);
+
+      when(keycloak.realm(TENANT_NAME)).thenThrow(NotFoundException.class);
+      when(keycloak.realms()).thenReturn(realmsResource);
+      for (var roleService : List.of(keycloakRealmRoleService, anotherRoleService)) {
+        when(roleService.setupRole(TENANT_NAME)).thenAnswer(inv -> {
+          awaitConcurrentSteps(rolesLatch);
+          return null;
+        });
+      }
+      for (var clientService : List.of(keycloakClientService, anotherClientService)) {
+        when(clientService.setupClient(TENANT_NAME)).thenAnswer(inv -> {
+          assertThat(rolesLatch.getCount()).isZero();
+          awaitConcurrentSteps(clientsLatch);
+          return null;
+        });
+      }
+
+      var result = keycloakRealmService.createRealm(tenant());
+
+      assertThat(result.getRealm()).isEqualTo(TENANT_NAME);
+      assertThat(clientsLatch.getCount()).isZero();
+      verify(realmsResource).create(any(RealmRepresentation.class));
+    }
+
+    @Test
+    void positive_fullImport() {
+      var client = new ClientRepresentation();
+      client.setClientId("sidecar-module-access-client");
+      var role = new RoleRepresentation();
+      role.setName("System");
+      props.setFullImportEnabled(true);
 
-      //noinspection unchecked
-      verify(jsonHelper).parse(any(InputStream.class), any(TypeReference.class));
-      verify(jsonHelper).parse(any(InputStream.class));
+      when(keycloak.realm(TENANT_NAME)).thenThrow(NotFoundException.class);
+      when(keycloak.realms()).thenReturn(realmsResource);
+      when(keycloakRealmRoleService.getRole(TENANT_NAME)).thenReturn(role);
+      when(keycloakClientService.buildClient(TENANT_NAME)).thenReturn(client);
+      when(keycloakClientService.getServiceAccountRoles()).thenReturn(List.of("System"));
+
+      var result = keycloakRealmService.createRealm(tenant());
+
+      verify(realmsResource).create(realmCaptor.capture());
+      var importedRealm = realmCaptor.getValue();
+      assertThat(importedRealm).isSameAs(result);
+      assertThat(importedRealm.getRoles().getRealm()).containsExactly(role);
+      assertThat(importedRealm.getClients()).singleElement()
+        .satisfies(importedClient -> assertThat(importedClient.getId()).isNotNull());
+      assertThat(importedRealm.getUsers()).singleElement().satisfies(user -> {
+        assertThat(user.getUsername()).isEqualTo("service-account-sidecar-module-access-client");
+        assertThat(user.getServiceAccountClientId()).isEqualTo("sidecar-module-access-client");
+        assertThat(user.getRealmRoles()).containsExactly("System", "default-roles-" + TENANT_NAME);
+      });
+      verify(keycloakClientService).setupImportedClient(TENANT_NAME, client);
     }
 
     @Test
@@ -214,10 +287,6 @@ class KeycloakRealmServiceTest {
         .isInstanceOf(KeycloakException.class)
         .hasMessage("Failed to create realm for tenant: " + TENANT_NAME)
         .hasCauseInstanceOf(WebApplicationException.class);
-
-      //noinspection unchecked
-      verify(jsonHelper).parse(any(InputStream.class), any(TypeReference.class));
-      verify(jsonHelper).parse(any(InputStream.class));
     }
 
     @Test
@@ -225,8 +294,6 @@ class KeycloakRealmServiceTest {
       when(keycloak.realm(TENANT_NAME)).thenReturn(realmResource);
       when(realmResource.toRepresentation()).thenThrow(NotFoundException.class).thenReturn(keycloakRealm());
       when(keycloak.realms()).thenReturn(realmsResource);
-      when(keycloak.tokenManager()).thenReturn(tokenManager);
-      when(tokenManager.grantToken()).thenReturn(accessTokenResponse);
       when(keycloakClientService.setupClient(TENANT_NAME)).thenThrow(new KeycloakException("Failed to create client"));
 
       var tenant = tenant();
@@ -237,10 +304,6 @@ class KeycloakRealmServiceTest {
       verify(realmsResource).create(any(RealmRepresentation.class));
       verify(keycloakRealmRoleService).setupRole(TENANT_NAME);
       verify(realmResource).remove();
-
-      //noinspection unchecked
-      verify(jsonHelper).parse(any(InputStream.class), any(TypeReference.class));
-      verify(jsonHelper).parse(any(InputStream.class));
     }
 
     @Test
@@ -248,8 +311,6 @@ class KeycloakRealmServiceTest {
       when(keycloak.realm(TENANT_NAME)).thenReturn(realmResource);
       when(realmResource.toRepresentation()).thenThrow(NotFoundException.class).thenReturn(keycloakRealm());
       when(keycloak.realms()).thenReturn(realmsResource);
-      when(keycloak.tokenManager()).thenReturn(tokenManager);
-      when(tokenManager.grantToken()).thenReturn(accessTokenResponse);
       when(keycloakClientService.setupClient(TENANT_NAME)).thenThrow(new RuntimeException("Failed to create client"));
 
       var tenant = tenant();
@@ -261,44 +322,6 @@ class KeycloakRealmServiceTest {
       verify(realmsResource).create(any(RealmRepresentation.class));
       verify(keycloakRealmRoleService).setupRole(TENANT_NAME);
       verify(realmResource).remove();
-
-      //noinspection unchecked
-      verify(jsonHelper).parse(any(InputStream.class), any(TypeReference.class));
-      verify(jsonHelper).parse(any(InputStream.class));
-    }
-
-    @Test
-    void negative_failedToReadAuthenticationRequiredActions() {
-      when(keycloak.realm(TENANT_NAME)).thenThrow(NotFoundException.class);
-      when(keycloak.realms()).thenReturn(realmsResource);
-      when(jsonHelper.parse(any(InputStream.class), any(TypeReference.class))).thenCallRealMethod();
-      when(jsonHelper.parse(any(InputStream.class))).thenThrow(new SerializationException("Failed to read input"));
-
-      var tenant = tenant();
-      assertThatThrownBy(() -> keycloakRealmService.createRealm(tenant))
-        .isInstanceOf(KeycloakException.class)
-        .hasMessage("Failed to create realm for tenant: %s", TENANT_NAME)
-        .hasCauseInstanceOf(IllegalStateException.class);
-
-      //noinspection unchecked
-      verify(jsonHelper).parse(any(InputStream.class), any(TypeReference.class));
-      verify(jsonHelper).parse(any(InputStream.class));
-    }
-
-    @Test
-    void negative_failedToReadUserProfileConfiguration() {
-      when(keycloak.realm(TENANT_NAME)).thenThrow(NotFoundException.class);
-      when(keycloak.realms()).thenReturn(realmsResource);
-
-      //noinspection unchecked
-      when(jsonHelper.parse(any(InputStream.class), any(TypeReference.class)))
-        .thenThrow(new SerializationException("Failed to read input"));
-
-      var tenant = tenant();
-      assertThatThrownBy(() -> keycloakRealmService.createRealm(tenant))
-        .isInstanceOf(KeycloakException.class)
-        .hasMessage("Failed to create realm for tenant: %s", TENANT_NAME)
-        .hasCauseInstanceOf(IllegalStateException.class);
     }
   }
 
@@ -319,8 +342,6 @@ class KeycloakRealmServiceTest {
 
       when(keycloak.realm(TENANT_NAME)).thenReturn(realmResource);
       when(realmResource.toRepresentation()).thenReturn(keycloakRealm);
-      when(keycloak.tokenManager()).thenReturn(tokenManager);
-      when(tokenManager.grantToken()).thenReturn(accessTokenResponse);
 
       var result = keycloakRealmService.updateRealm(tenant());
 
@@ -331,13 +352,40 @@ class KeycloakRealmServiceTest {
         .isEqualTo(keycloakRealm);
 
       verify(realmResource).update(any(RealmRepresentation.class));
+      verify(keycloak, never()).tokenManager();
+    }
+
+    @Test
+    void positive_adminTokenRejected() {
+      var keycloakRealm = keycloakRealm();
+
+      when(keycloak.realm(TENANT_NAME)).thenReturn(realmResource);
+      when(realmResource.toRepresentation()).thenThrow(NotAuthorizedException.class).thenReturn(keycloakRealm);
+
+      var result = keycloakRealmService.updateRealm(tenant());
+
+      assertThat(result.getRealm()).isEqualTo(TENANT_NAME);
+      verify(realmResource, times(2)).toRepresentation();
+      verify(realmResource).update(any(RealmRepresentation.class));
+    }
+
+    @Test
+    void negative_adminTokenRejectedTwice() {
+      when(keycloak.realm(TENANT_NAME)).thenReturn(realmResource);
+      when(realmResource.toRepresentation()).thenThrow(NotAuthorizedException.class);
+
+      var tenant = tenant();
+      assertThatThrownBy(() -> keycloakRealmService.updateRealm(tenant))
+        .isInstanceOf(KeycloakException.class)
+        .hasMessage("Failed to update realm for tenant: " + TENANT_NAME)
+        .hasCauseInstanceOf(NotAuthorizedException.class);
+
+      verify(realmResource, times(2)).toRepresentation();
     }
 
     @Test
     void negative() {
       when(keycloak.realm(TENANT_NAME)).thenThrow(InternalServerErrorException.class);
-      when(keycloak.tokenManager()).thenReturn(tokenManager);
-      when(tokenManager.grantToken()).thenReturn(accessTokenResponse);
 
       var tenant = tenant();
       assertThatThrownBy(() -> keycloakRealmService.updateRealm(tenant))
@@ -353,8 +401,6 @@ class KeycloakRealmServiceTest {
 
     @Test
     void positive() {
-      when(keycloak.tokenManager()).thenReturn(tokenManager);
-      when(tokenManager.grantToken()).thenReturn(accessTokenResponse);
       when(keycloak.realm(TENANT_NAME)).thenReturn(realmResource);
       when(realmResource.toRepresentation()).thenReturn(keycloakRealm());
 
@@ -373,8 +419,6 @@ class KeycloakRealmServiceTest {
 
     @Test
     void negative() {
-      when(keycloak.tokenManager()).thenReturn(tokenManager);
-      when(tokenManager.grantToken()).thenReturn(accessTokenResponse);
       when(keycloak.realm(TENANT_NAME)).thenReturn(realmResource);
       when(realmResource.toRepresentation()).thenReturn(keycloakRealm());
       doThrow(InternalServerErrorException.class).when(realmResource).remove();
@@ -0,0 +1,134 @@
+package org.folio.tm.integration.keycloak;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.awaitility.Awaitility.await;
+import static org.folio.tm.integration.keycloak.KeycloakRealmTemplateProvider.REQUIRED_ACTIONS_FILE;
+import static org.folio.tm.integration.keycloak.KeycloakRealmTemplateProvider.USER_PROFILE_FILE;
+import static org.folio.tm.support.TestUtils.OBJECT_MAPPER;
+
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.List;
+import lombok.SneakyThrows;
+import org.folio.test.types.UnitTest;
+import org.folio.tm.utils.JsonHelper;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.keycloak.representations.idm.RequiredActionProviderRepresentation;
+import tools.jackson.core.type.TypeReference;
+
+@UnitTest
+class KeycloakRealmTemplateProviderTest {
+
+  private static final String REQUIRED_ACTION = """
+    [{"alias": "VERIFY_EMAIL", "name": "Verify Email", "providerId": "VERIFY_EMAIL", "enabled": true,
+    "defaultAction": false, "priority": 10, "config": {}}]""";
+
+  private final JsonHelper jsonHelper = new JsonHelper(OBJECT_MAPPER);
+
+  @TempDir private Path templatesPath;
+
+  @Test
+  void getAuthenticationRequiredActions_positive_bundledTemplates() {
+    var provider = new KeycloakRealmTemplateProvider(jsonHelper, null);
+
+    var result = provider.getAuthenticationRequiredActions();
+
+    assertThat(result).isNotEmpty().first()
+      .satisfies(action -> assertThat(action.getAlias()).isEqualTo("CONFIGURE_TOTP"));
+    assertThat(provider.getUserProfileConfiguration()).startsWith("{").contains("attributes");
+  }
+
+  @Test
+  void getAuthenticationRequiredActions_positive_copiesAreReturned() {
+    var provider = new KeycloakRealmTemplateProvider(jsonHelper, null);
+
+    var first = provider.getAuthenticationRequiredActions();
+    first.getFirst().setEnabled(true);
+    first.getFirst().getConfig().put("key", "value");
+    var second = provider.getAuthenticationRequiredActions();
+
+    assertThat(second.getFirst()).isNotSameAs(first.getFirst());
+    assertThat(second.getFirst().isEnabled()).isFalse();
+    assertThat(second.getFirst().getConfig()).isEmpty();
+  }
+
+  @Test
+  @SneakyThrows
+  void getAuthenticationRequiredActions_positive_allFieldsAreCopied() {
+    var requiredActions = """
+      [{"alias": "TERMS_AND_CONDITIONS", "name": "Terms and Conditions", "providerId": "TERMS_AND_CONDITIONS",
+      "enabled": true, "defaultAction": true, "priority": 20, "config": {"key": "value"}}]""";
+    Files.writeString(templatesPath.resolve(REQUIRED_ACTIONS_FILE), requiredActions);
+
+    var provider = new KeycloakRealmTemplateProvider(jsonHelper, templatesPath);
+
+    assertThat(provider.getAuthenticationRequiredActions()).usingRecursiveComparison()
+      .isEqualTo(jsonHelper.parse(requiredActions, new TypeReference<List<RequiredActionProviderRepresentation>>() {}));
+  }
+
+  @Test
+  @SneakyThrows
+  void getAuthenticationRequiredActions_positive_overriddenTemplate() {
+    Files.writeString(templatesPath.resolve(REQUIRED_ACTIONS_FILE), REQUIRED_ACTION);
+
+    var provider = new KeycloakRealmTemplateProvider(jsonHelper, templatesPath);
+
+    assertThat(provider.getAuthenticationRequiredActions()).singleElement()
+      .satisfies(action -> assertThat(action.getAlias()).isEqualTo("VERIFY_EMAIL"));
+    assertThat(provider.getUserProfileConfiguration()).contains("attributes");
+  }
+
+  @Test
+  @SneakyThrows
+  void constructor_negative_invalidTemplate() {
+    Files.writeString(templatesPath.resolve(USER_PROFILE_FILE), "[]");
+
+    assertThatThrownBy(() -> new KeycloakRealmTemplateProvider(jsonHelper, templatesPath))
+      .isInstanceOf(IllegalStateException.class)
+      .hasMessage("Realm template must be a json object: " + USER_PROFILE_FILE);
+  }
+
+  @Test
+  @SneakyThrows
+  void reload_positive_invalidTemplateIsIgnored() {
+    var provider = new KeycloakRealmTemplateProvider(jsonHelper, templatesPath);
+    Files.writeString(templatesPath.resolve(REQUIRED_ACTIONS_FILE), "{invalid");
+
+    provider.reload();
+
+    assertThat(provider.getAuthenticationRequiredActions()).first()
+      .satisfies(action -> assertThat(action.getAlias()).isEqualTo("CONFIGURE_TOTP"));
+  }
+
+  @Test
+  @SneakyThrows
+  void startWatching_positive_templateReloadedOnChange() {
+    try (var provider = new KeycloakRealmTemplateProvider(jsonHelper, templatesPath)) {
+      provider.startWatching();
+      Files.writeString(templatesPath.resolve(REQUIRED_ACTIONS_FILE), REQUIRED_ACTION);
+
+      await().atMost(Duration.ofSeconds(30)).untilAsserted(() ->
+        assertThat(provider.getAuthenticationRequiredActions()).singleElement()
+          .satisfies(action -> assertThat(action.getAlias()).isEqualTo("VERIFY_EMAIL")));
+    }
+  }
+
+  @Test
+  @SneakyThrows
+  void startWatching_positive_bundledTemplateRestoredOnDelete() {
+    var overrideFile = templatesPath.resolve(REQUIRED_ACTIONS_FILE);
+    Files.writeString(overrideFile, REQUIRED_ACTION);
+
+    try (var provider = new KeycloakRealmTemplateProvider(jsonHelper, templatesPath)) {
+      provider.startWatching();
+      Files.delete(overrideFile);
+
+      await().atMost(Duration.ofSeconds(30)).untilAsserted(() ->
+        assertThat(provider.getAuthenticationRequiredActions()).first()
+          .satisfies(action -> assertThat(action.getAlias()).isEqualTo("CONFIGURE_TOTP")));
+    }
+  }
+}
@@ -0,0 +1,81 @@
+package org.folio.tm.integration.keycloak.http;
+
+import static java.nio.charset.StandardCharsets.UTF_8;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.springframework.http.HttpMethod.PUT;
+
+import com.sun.net.httpserver.HttpServer;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import java.net.InetSocketAddress;
+import java.net.URI;
+import java.util.concurrent.atomic.AtomicReference;
+import lombok.SneakyThrows;
+import org.folio.test.types.UnitTest;
+import org.folio.tm.integration.keycloak.configuration.KeycloakHttpProperties;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.http.HttpStatus;
+
+@UnitTest
+class KeycloakHttpTransportTest {
+
+  private static final String RESPONSE_BODY = "{\"enabled\":true}";
+
+  private final AtomicReference<String> receivedBody = new AtomicReference<>();
+  private final AtomicReference<String> receivedAuthorization = new AtomicReference<>();
+
+  private HttpServer server;
+  private KeycloakHttpTransport transport;
+
+  @BeforeEach
+  @SneakyThrows
+  void setUp() {
+    server = HttpServer.create(new InetSocketAddress("localhost", 0), 0);
+    server.createContext("/admin/realms/test/users-management-permissions", exchange -> {
+      receivedBody.set(new String(exchange.getRequestBody().readAllBytes(), UTF_8));
+      receivedAuthorization.set(exchange.getRequestHeaders().getFirst("Authorization"));
+      var response = RESPONSE_BODY.getBytes(UTF_8);
+      exchange.sendResponseHeaders(200, response.length);
+      exchange.getResponseBody().write(response);
+      exchange.close();
+    });
+    server.start();
+
+    var properties = new KeycloakHttpProperties();
+    properties.setMaxConnections(10);
+    transport = new KeycloakHttpTransport(properties, null);
+  }
+
+  @AfterEach
+  @SneakyThrows
+  void tearDown() {
+    transport.close();
+    server.stop(0);
+  }
+
+  @Test
+  @SneakyThrows
+  void requestFactory_positive_connectionIsReturnedToPool() {
+    var registry = new SimpleMeterRegistry();
+    transport.bindTo(registry);
+
+    var uri = URI.create("http://localhost:" + server.getAddress().getPort()
+      + "/admin/realms/test/users-management-permissions");
+    var request = transport.requestFactory().createRequest(uri, PUT);
+    request.getHeaders().add("Authorization", "Bearer token");
+    request.getBody().write("{\"enabled\":true}".getBytes(UTF_8));
+
+    try (var response = request.execute()) {
+      assertThat(response.getStatusCode()).isEqualTo(HttpStatus.OK);
+      assertThat(new String(response.getBody().readAllBytes(), UTF_8)).isEqualTo(RESPONSE_BODY);
+      assertThat(registry.get("keycloak.http.pool.connections").tag("state", "leased").gauge().value()).isEqualTo(1);
+    }
+
+    assertThat(receivedBody.get()).isEqualTo("{\"enabled\":true}");
+    assertThat(receivedAuthorization.get()).isEqualTo("Bearer token");
+    assertThat(registry.get("keycloak.http.pool.connections").tag("state", "leased").gauge().value()).isZero();
+    assertThat(registry.get("keycloak.http.pool.connections").tag("state", "available").gauge().value()).isEqualTo(1);
+    assertThat(registry.get("keycloak.http.pool.max").gauge().value()).isEqualTo(10);
+  }
+}
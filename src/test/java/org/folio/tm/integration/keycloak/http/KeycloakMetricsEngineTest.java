@@ -0,0 +1,62 @@
+package org.folio.tm.integration.keycloak.http;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import jakarta.ws.rs.ProcessingException;
+import jakarta.ws.rs.core.Response;
+import java.net.ConnectException;
+import java.net.URI;
+import org.folio.test.types.UnitTest;
+import org.folio.tm.integration.IntegrationMetrics;
+import org.folio.tm.support.TestUtils;
+import org.jboss.resteasy.client.jaxrs.ClientHttpEngine;
+import org.jboss.resteasy.client.jaxrs.internal.ClientInvocation;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+@UnitTest
+@ExtendWith(MockitoExtension.class)
+class KeycloakMetricsEngineTest {
+
+  @InjectMocks private KeycloakMetricsEngine engine;
+  @Mock private ClientHttpEngine delegate;
+  @Mock private IntegrationMetrics integrationMetrics;
+  @Mock private ClientInvocation invocation;
+  @Mock private Response response;
+
+  @AfterEach
+  void tearDown() {
+    TestUtils.verifyNoMoreInteractions(this);
+  }
+
+  @Test
+  void invoke_positive() {
+    when(delegate.invoke(invocation)).thenReturn(response);
+
+    var result = engine.invoke(invocation);
+
+    assertThat(result).isSameAs(response);
+  }
+
+  @Test
+  void invoke_negative_transportFailureRecorded() {
+    var exception = new ProcessingException(new ConnectException("Connection refused"));
+    when(delegate.invoke(invocation)).thenThrow(exception);
+    when(invocation.getMethod()).thenReturn("GET");
+    when(invocation.getUri()).thenReturn(URI.create("http://keycloak:8080/admin/realms/tenant1"));
+
+    assertThatThrownBy(() -> engine.invoke(invocation)).isSameAs(exception);
+
+    verify(integrationMetrics).record(eq("keycloak"), eq("GET /admin/realms/{realm}"), anyLong(),
+      eq("ConnectException"));
+  }
+}
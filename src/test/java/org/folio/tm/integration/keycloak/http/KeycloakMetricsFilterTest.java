@@ -0,0 +1,26 @@
+package org.folio.tm.integration.keycloak.http;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.util.UUID;
+import org.folio.test.types.UnitTest;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.CsvSource;
+
+@UnitTest
+class KeycloakMetricsFilterTest {
+
+  private static final String ID = UUID.randomUUID().toString();
+
+  @ParameterizedTest
+  @CsvSource({
+    "/admin/realms, /admin/realms",
+    "/admin/realms/tenant1, /admin/realms/{realm}",
+    "/admin/realms/tenant1/clients/%s/service-account-user, /admin/realms/{realm}/clients/{id}/service-account-user",
+    "/admin/realms/tenant1/users/%1$s/role-mappings/realm, /admin/realms/{realm}/users/{id}/role-mappings/realm",
+    "/realms/master/protocol/openid-connect/token, /realms/{realm}/protocol/openid-connect/token"
+  })
+  void getPathTemplate_parameterized(String path, String expected) {
+    assertThat(KeycloakMetricsFilter.getPathTemplate(path.formatted(ID))).isEqualTo(expected);
+  }
+}
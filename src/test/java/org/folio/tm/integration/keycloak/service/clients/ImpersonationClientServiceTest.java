@@ -2,6 +2,7 @@ package org.folio.tm.integration.keycloak.service.clients;
 
 import static jakarta.ws.rs.core.HttpHeaders.LOCATION;
 import static java.lang.String.format;
+import static org.assertj.core.api.Assertions.assertThat;
 import static org.assertj.core.api.Assertions.assertThatThrownBy;
 import static org.folio.tm.support.TestConstants.AUTH_TOKEN;
 import static org.folio.tm.support.TestConstants.TENANT_NAME;
@@ -10,6 +11,7 @@ import static org.folio.tm.support.TestConstants.userIdProtocolMapper;
 import static org.folio.tm.support.TestConstants.usernameProtocolMapper;
 import static org.folio.tm.support.TestUtils.assertEqualsUsingRecursiveComparison;
 import static org.mockito.Answers.RETURNS_DEEP_STUBS;
+import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.Mockito.atLeastOnce;
 import static org.mockito.Mockito.doNothing;
 import static org.mockito.Mockito.doThrow;
@@ -17,12 +19,14 @@ import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 
 import jakarta.ws.rs.InternalServerErrorException;
+import java.time.Duration;
 import java.util.Collections;
 import java.util.List;
 import java.util.Set;
 import java.util.UUID;
 import org.folio.test.types.UnitTest;
 import org.folio.tm.integration.keycloak.ClientSecretService;
+import org.folio.tm.integration.keycloak.KeycloakAdminTokenManager;
 import org.folio.tm.integration.keycloak.KeycloakClient;
 import org.folio.tm.integration.keycloak.configuration.KeycloakRealmSetupProperties;
 import org.folio.tm.integration.keycloak.exception.KeycloakException;
@@ -45,10 +49,10 @@ import org.keycloak.representations.idm.authorization.ClientPolicyRepresentation
 import org.keycloak.representations.idm.authorization.ScopePermissionRepresentation;
 import org.mockito.ArgumentCaptor;
 import org.mockito.Captor;
-import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
 import org.springframework.http.HttpStatus;
+import org.springframework.web.client.HttpClientErrorException;
 import org.springframework.web.client.HttpServerErrorException;
 
 @UnitTest
@@ -60,7 +64,7 @@ class ImpersonationClientServiceTest {
   private static final String REALM_MGMT_CLIENT_ID = UUID.randomUUID().toString();
   private static final String CLIENT_SECRET = UUID.randomUUID().toString();
 
-  @InjectMocks private ImpersonationClientService impersonationClientService;
+  private ImpersonationClientService impersonationClientService;
 
   @Mock(answer = RETURNS_DEEP_STUBS) private Keycloak keycloak;
   @Mock(answer = RETURNS_DEEP_STUBS) private RealmResource realmResource;
@@ -77,6 +81,9 @@ class ImpersonationClientServiceTest {
 
   @BeforeEach
   void setUp() {
+    var adminTokenManager = new KeycloakAdminTokenManager(keycloak, Duration.ofSeconds(30));
+    impersonationClientService =
+      new ImpersonationClientService(keycloakClient, adminTokenManager, keycloakRealmSetupProperties);
     impersonationClientService.setKeycloak(keycloak);
     impersonationClientService.setClientSecretService(clientSecretService);
   }
@@ -119,6 +126,65 @@ class ImpersonationClientServiceTest {
     verify(authResource, atLeastOnce()).permissions();
   }
 
+  @Test
+  void setupImportedClient_positive() {
+    var userMgmtPermission = new UserManagementPermission(true);
+    var clientResponse = new ServerResponse(null, 201, responseHeaders());
+    var importedClient = impersonationClient();
+    importedClient.setId(CLIENT_ID);
+
+    when(keycloak.realm(TENANT_NAME)).thenReturn(realmResource);
+    when(keycloak.tokenManager().getAccessTokenString()).thenReturn(AUTH_TOKEN);
+    when(realmResource.clients().findByClientId("realm-management")).thenReturn(List.of(realmManagementClient()));
+    when(realmResource.clients().get(REALM_MGMT_CLIENT_ID).authorization()).thenReturn(authResource);
+    when(authResource.policies().client().create(policyCaptor.capture())).thenReturn(clientResponse);
+    when(authResource.permissions().scope().findById(IMPERSONATE_PERMISSION_ID)).thenReturn(scopePermissionResource);
+    doNothing().when(scopePermissionResource).update(scopePermissionCaptor.capture());
+    when(keycloakClient.updateRealmUserManagementPermission(TENANT_NAME, userMgmtPermission, "Bearer " + AUTH_TOKEN))
+      .thenReturn(userManagementPermission());
+
+    impersonationClientService.setupImportedClient(TENANT_NAME, importedClient);
+
+    assertThat(policyCaptor.getValue().getClients()).containsExactly(CLIENT_ID);
+    assertEqualsUsingRecursiveComparison(scopePermissionCaptor.getValue(), impersonationPermission());
+
+    verify(keycloak, atLeastOnce()).realm(TENANT_NAME);
+    verify(keycloak, atLeastOnce()).tokenManager();
+    verify(realmResource, atLeastOnce()).clients();
+    verify(authResource, atLeastOnce()).policies();
+    verify(authResource, atLeastOnce()).permissions();
+  }
+
+  @Test
+  void setupImportedClient_positive_userManagementRepeatedWithNewToken() {
+    var userMgmtPermission = new UserManagementPermission(true);
+    var clientResponse = new ServerResponse(null, 201, responseHeaders());
+    var importedClient = impersonationClient();
+    importedClient.setId(CLIENT_ID);
+
+    when(keycloak.realm(TENANT_NAME)).thenReturn(realmResource);
+    when(keycloak.tokenManager().getAccessTokenString()).thenReturn("expired-token", AUTH_TOKEN);
+    when(realmResource.clients().findByClientId("realm-management")).thenReturn(List.of(realmManagementClient()));
+    when(realmResource.clients().get(REALM_MGMT_CLIENT_ID).authorization()).thenReturn(authResource);
+    when(authResource.policies().client().create(policyCaptor.capture())).thenReturn(clientResponse);
+    when(authResource.permissions().scope().findById(IMPERSONATE_PERMISSION_ID)).thenReturn(scopePermissionResource);
+    when(keycloakClient.updateRealmUserManagementPermission(TENANT_NAME, userMgmtPermission, "Bearer expired-token"))
+      .thenThrow(HttpClientErrorException.create(HttpStatus.UNAUTHORIZED, "Unauthorized", null, null, null));
+    when(keycloakClient.updateRealmUserManagementPermission(TENANT_NAME, userMgmtPermission, "Bearer " + AUTH_TOKEN))
+      .thenReturn(userManagementPermission());
+
+    impersonationClientService.setupImportedClient(TENANT_NAME, importedClient);
+
+    assertThat(policyCaptor.getValue().getClients()).containsExactly(CLIENT_ID);
+    verify(keycloak.tokenManager()).grantToken();
+    verify(scopePermissionResource).update(any(ScopePermissionRepresentation.class));
+    verify(keycloak, atLeastOnce()).realm(TENANT_NAME);
+    verify(keycloak, atLeastOnce()).tokenManager();
+    verify(realmResource, atLeastOnce()).clients();
+    verify(authResource, atLeastOnce()).policies();
+    verify(authResource, atLeastOnce()).permissions();
+  }
+
   @Test
   void setupClient_negative_failedToUpdateRealmUserManagementPermission() {
     var userMgmtPermission = new UserManagementPermission(true);
@@ -9,10 +9,12 @@ import static org.springframework.test.context.jdbc.Sql.ExecutionPhase.AFTER_TES
 import static org.springframework.test.context.jdbc.SqlMergeMode.MergeMode.MERGE;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
 
+import java.util.ArrayList;
 import java.util.List;
 import java.util.Objects;
 import java.util.UUID;
 import java.util.function.Consumer;
+import java.util.stream.IntStream;
 import org.assertj.core.api.Condition;
 import org.folio.test.types.IntegrationTest;
 import org.folio.tm.base.BaseIntegrationTest;
@@ -101,6 +103,48 @@ public class TenantAttributeIT extends BaseIntegrationTest {
       .andExpect(json("tenant-attr/get-all-tenant-attrs-offset-limit-response.json"));
   }
 
+  @Test
+  void getAll_positive_totalRecordsNone() throws Exception {
+    doGet(MockMvcRequestBuilders.get("/tenants/{tenantId}/tenant-attributes", TestConstants.TENANT_ID)
+        .queryParam("offset", "8").queryParam("limit", "1").queryParam("totalRecords", "none"))
+      .andExpect(jsonPath("$.tenantAttributes[0].key", is("key8")))
+      .andExpect(jsonPath("$.hasMore", is(true)))
+      .andExpect(jsonPath("$.totalRecords").doesNotExist());
+  }
+
+  @Test
+  void getAll_positive_pagedByCursor() throws Exception {
+    var keys = new ArrayList<String>();
+    var next = "";
+    for (var pages = 0; next != null && pages < 10; pages++) {
+      var result = doGet(MockMvcRequestBuilders.get("/tenants/{tenantId}/tenant-attributes", TestConstants.TENANT_ID)
+          .queryParam("after", next).queryParam("limit", "3"))
+        .andExpect(jsonPath("$.totalRecords", is(10)))
+        .andReturn();
+      var attributes = TestUtils.parseResponse(result, TenantAttributes.class);
+      attributes.getTenantAttributes().forEach(attribute -> keys.add(attribute.getKey()));
+      next = attributes.getNext();
+    }
+
+    var expectedKeys = IntStream.rangeClosed(1, 10).mapToObj(i -> "key" + i).sorted().toList();
+    assertThat(keys).containsExactlyElementsOf(expectedKeys);
+  }
+
+  @Test
+  void getByQuery_positive_pagedByCursor() throws Exception {
+    var firstPage = doGet(MockMvcRequestBuilders.get("/tenants/{tenantId}/tenant-attributes", TestConstants.TENANT_ID)
+        .queryParam("query", "key==\"key1\" or key==\"key10\"").queryParam("after", "").queryParam("limit", "1"))
+      .andExpect(jsonPath("$.tenantAttributes[0].key", is("key1")))
+      .andReturn();
+
+    var next = TestUtils.parseResponse(firstPage, TenantAttributes.class).getNext();
+    doGet(MockMvcRequestBuilders.get("/tenants/{tenantId}/tenant-attributes", TestConstants.TENANT_ID)
+        .queryParam("query", "key==\"key1\" or key==\"key10\"").queryParam("after", next).queryParam("limit", "1"))
+      .andExpect(jsonPath("$.tenantAttributes[0].key", is("key10")))
+      .andExpect(jsonPath("$.next").doesNotExist())
+      .andExpect(jsonPath("$.totalRecords", is(2)));
+  }
+
   @Test
   void getByQuery_positive() throws Exception {
     doGet(MockMvcRequestBuilders.get("/tenants/{tenantId}/tenant-attributes", TestConstants.TENANT_ID)
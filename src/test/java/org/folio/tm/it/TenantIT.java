@@ -2,12 +2,15 @@ package org.folio.tm.it;
 
 import static java.lang.String.valueOf;
 import static java.util.Objects.requireNonNull;
+import static org.assertj.core.api.Assertions.assertThat;
 import static org.folio.tm.domain.dto.TenantType.DEFAULT;
 import static org.folio.tm.domain.dto.TenantType.VIRTUAL;
 import static org.folio.tm.support.TestConstants.AUTH_TOKEN;
 import static org.folio.tm.support.TestConstants.TENANT_ID;
 import static org.folio.tm.support.TestConstants.TENANT_NAME;
+import static org.hamcrest.Matchers.contains;
 import static org.hamcrest.Matchers.empty;
+import static org.hamcrest.Matchers.hasSize;
 import static org.hamcrest.Matchers.is;
 import static org.hamcrest.Matchers.notNullValue;
 import static org.springframework.http.MediaType.APPLICATION_JSON;
@@ -22,16 +25,24 @@ import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
 
+import jakarta.persistence.EntityManagerFactory;
+import java.util.ArrayList;
 import java.util.List;
 import java.util.UUID;
+import java.util.stream.IntStream;
 import org.folio.test.extensions.WireMockStub;
 import org.folio.test.types.IntegrationTest;
 import org.folio.tm.base.BaseIntegrationTest;
 import org.folio.tm.domain.dto.Tenant;
 import org.folio.tm.domain.dto.TenantAttribute;
+import org.folio.tm.domain.dto.Tenants;
+import org.folio.tm.domain.entity.TenantAttributeEntity;
 import org.folio.tm.support.TestConstants;
 import org.folio.tm.support.TestUtils;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
 import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.test.context.jdbc.Sql;
 import org.springframework.test.context.jdbc.SqlMergeMode;
 import org.springframework.test.web.servlet.request.MockMvcRequestBuilders;
@@ -41,6 +52,8 @@ import org.springframework.test.web.servlet.request.MockMvcRequestBuilders;
 @Sql(scripts = "classpath:/sql/clear_tenants.sql", executionPhase = AFTER_TEST_METHOD)
 class TenantIT extends BaseIntegrationTest {
 
+  @Autowired private EntityManagerFactory entityManagerFactory;
+
   private static final Tenant TENANT1 = new Tenant()
     .id(TENANT_ID)
     .name(TENANT_NAME)
@@ -60,6 +73,85 @@ class TenantIT extends BaseIntegrationTest {
       .andExpect(json("tenant/get-tenant-response.json"));
   }
 
+  @Test
+  @Sql("classpath:/sql/populate_tenants.sql")
+  void getById_positive_withoutAttributes() throws Exception {
+    doGet(get("/tenants/{id}", "42e36904-d009-4884-8338-3df14a18dfef").queryParam("includeAttributes", "false"))
+      .andExpect(jsonPath("$.name", is("tenant5")))
+      .andExpect(jsonPath("$.metadata.createdDate", notNullValue()))
+      .andExpect(jsonPath("$.attributes").doesNotExist());
+  }
+
+  @Test
+  @Sql("classpath:/sql/populate_tenants.sql")
+  void getByQuery_positive_withoutAttributes() throws Exception {
+    var statistics = statistics();
+
+    statistics.clear();
+    doGet(get("/tenants")
+      .queryParam("query", "name==\"tenant5\" or type==\"VIRTUAL\" sortBy name")
+      .queryParam("includeAttributes", "false"))
+      .andExpect(jsonPath("$.tenants", hasSize(2)))
+      .andExpect(jsonPath("$.tenants[0].name", is("tenant3")))
+      .andExpect(jsonPath("$.tenants[1].name", is("tenant5")))
+      .andExpect(jsonPath("$.tenants[1].attributes").doesNotExist())
+      .andExpect(jsonPath("$.totalRecords", is(2)));
+
+    assertThat(statistics.getPrepareStatementCount()).isEqualTo(2);
+    assertThat(statistics.getEntityStatistics(TenantAttributeEntity.class.getName()).getLoadCount()).isZero();
+  }
+
+  @Test
+  @Sql("classpath:/sql/populate_tenants.sql")
+  void getByQuery_positive_cursorWithoutAttributes() throws Exception {
+    doGet(get("/tenants")
+      .queryParam("query", "name==\"tenant5\"")
+      .queryParam("after", "")
+      .queryParam("includeAttributes", "false"))
+      .andExpect(jsonPath("$.tenants", hasSize(1)))
+      .andExpect(jsonPath("$.tenants[0].name", is("tenant5")))
+      .andExpect(jsonPath("$.tenants[0].attributes").doesNotExist());
+  }
+
+  @Test
+  @Sql("classpath:/sql/populate_tenants.sql")
+  void getByQuery_negative_attributesQueryWithoutAttributes() throws Exception {
+    var query = "attributes.key==\"key1\"";
+    mockMvc.perform(get("/tenants")
+        .queryParam("query", query)
+        .queryParam("includeAttributes", "false")
+        .header(TOKEN, AUTH_TOKEN))
+      .andExpectAll(requestValidationErr("Tenants cannot be searched by attributes", "query", query));
+  }
+
+  @Test
+  @Sql("classpath:/sql/populate_tenants.sql")
+  void getById_positive_cached() throws Exception {
+    var statistics = statistics();
+    doGet("/tenants/{id}", TENANT_ID).andExpect(jsonPath("$.name", is(TENANT_NAME)));
+
+    statistics.clear();
+    doGet("/tenants/{id}", TENANT_ID).andExpect(jsonPath("$.name", is(TENANT_NAME)));
+
+    assertThat(statistics.getPrepareStatementCount()).isZero();
+  }
+
+  @Test
+  @Sql("classpath:/sql/populate_tenants.sql")
+  void getByQuery_positive_exactNameCached() throws Exception {
+    var statistics = statistics();
+    doGet(get("/tenants").queryParam("query", "name==" + TENANT_NAME))
+      .andExpect(jsonPath("$.tenants[0].id", is(TENANT_ID.toString())))
+      .andExpect(jsonPath("$.totalRecords", is(1)));
+
+    statistics.clear();
+    doGet(get("/tenants").queryParam("query", "name==\"" + TENANT_NAME + "\""))
+      .andExpect(jsonPath("$.tenants[0].id", is(TENANT_ID.toString())))
+      .andExpect(jsonPath("$.totalRecords", is(1)));
+
+    assertThat(statistics.getPrepareStatementCount()).isZero();
+  }
+
   @Test
   @Sql("classpath:/sql/populate_tenants.sql")
   void getAll_positive() throws Exception {
@@ -73,6 +165,92 @@ class TenantIT extends BaseIntegrationTest {
       .andExpect(jsonPath("$.totalRecords", is(0)));
   }
 
+  @Test
+  @Sql("classpath:/sql/populate_tenants.sql")
+  void getAll_positive_totalRecordsNone() throws Exception {
+    doGet(get("/tenants").queryParam("limit", "2").queryParam("totalRecords", "none"))
+      .andExpect(jsonPath("$.tenants", hasSize(2)))
+      .andExpect(jsonPath("$.hasMore", is(true)))
+      .andExpect(jsonPath("$.totalRecords").doesNotExist());
+  }
+
+  @Test
+  @Sql("classpath:/sql/populate_tenants.sql")
+  void getAll_positive_totalRecordsEstimated() throws Exception {
+    doGet(get("/tenants").queryParam("limit", "2").queryParam("totalRecords", "estimated"))
+      .andExpect(jsonPath("$.tenants", hasSize(2)))
+      .andExpect(jsonPath("$.hasMore", is(true)))
+      .andExpect(jsonPath("$.totalRecords", notNullValue()));
+  }
+
+  @Test
+  @Sql("classpath:/sql/populate_tenants.sql")
+  void getAll_positive_totalRecordsEstimatedOnLastPage() throws Exception {
+    doGet(get("/tenants").queryParam("offset", "2").queryParam("totalRecords", "estimated"))
+      .andExpect(jsonPath("$.tenants", hasSize(2)))
+      .andExpect(jsonPath("$.hasMore", is(false)))
+      .andExpect(jsonPath("$.totalRecords", is(4)));
+  }
+
+  @Test
+  @Sql("classpath:/sql/populate_tenants.sql")
+  void getAll_positive_pagedByCursor() throws Exception {
+    var names = new ArrayList<String>();
+    var next = "";
+    for (var pages = 0; next != null && pages < 10; pages++) {
+      var result = doGet(get("/tenants").queryParam("after", next).queryParam("limit", "1"))
+        .andExpect(jsonPath("$.totalRecords", is(4)))
+        .andReturn();
+      var tenants = TestUtils.parseResponse(result, Tenants.class);
+      tenants.getTenants().forEach(tenant -> names.add(tenant.getName()));
+      next = tenants.getNext();
+    }
+
+    assertThat(names).containsExactly("tenant1", "tenant2", "tenant3", "tenant5");
+  }
+
+  @Test
+  @Sql("classpath:/sql/populate_tenants.sql")
+  void getByQuery_positive_pagedByCursor() throws Exception {
+    var firstPage = doGet(get("/tenants")
+      .queryParam("query", "type==\"DEFAULT\"")
+      .queryParam("after", "")
+      .queryParam("limit", "2"))
+      .andExpect(jsonPath("$.tenants[*].name", contains("tenant1", "tenant2")))
+      .andExpect(jsonPath("$.next", notNullValue()))
+      .andReturn();
+
+    var next = TestUtils.parseResponse(firstPage, Tenants.class).getNext();
+    doGet(get("/tenants")
+      .queryParam("query", "type==\"DEFAULT\"")
+      .queryParam("after", next)
+      .queryParam("limit", "2"))
+      .andExpect(jsonPath("$.tenants[*].name", contains("tenant5")))
+      .andExpect(jsonPath("$.next").doesNotExist());
+  }
+
+  @Test
+  @Sql("classpath:/sql/populate_tenants.sql")
+  void getByQuery_positive_cursorWithSortByInSearchTerm() throws Exception {
+    doGet(get("/tenants")
+      .queryParam("query", "description==\"sortBy name\"")
+      .queryParam("after", ""))
+      .andExpect(jsonPath("$.tenants", is(empty())))
+      .andExpect(jsonPath("$.totalRecords", is(0)));
+  }
+
+  @Test
+  @Sql("classpath:/sql/populate_tenants.sql")
+  void getByQuery_negative_cursorWithSortBy() throws Exception {
+    mockMvc.perform(get("/tenants")
+        .queryParam("query", "type==\"DEFAULT\" sortBy name")
+        .queryParam("after", "")
+        .header(TOKEN, AUTH_TOKEN))
+      .andExpect(status().isBadRequest())
+      .andExpect(jsonPath("$.errors[0].message", is("Sorting is not supported in cursor mode")))
+      .andExpect(jsonPath("$.errors[0].type", is("RequestValidationException")));
+  }
+
   @Test
   @Sql("classpath:/sql/populate_tenants.sql")
   void getByQuery_positive() throws Exception {
@@ -81,6 +259,46 @@ class TenantIT extends BaseIntegrationTest {
       .andExpect(json("tenant/get-tenants-by-query-response.json"));
   }
 
+  @Test
+  @Sql({"classpath:/sql/populate_tenants.sql", "classpath:/sql/populate_tenant_attrs.sql"})
+  void getByAttributes_positive() throws Exception {
+    doGet(get("/tenants/by-attributes")
+      .queryParam("attribute", "key1:value1", "key2:value2"))
+      .andExpect(jsonPath("$.tenants", hasSize(1)))
+      .andExpect(jsonPath("$.tenants[0].name", is(TENANT_NAME)))
+      .andExpect(jsonPath("$.next").doesNotExist());
+  }
+
+  @Test
+  @Sql({"classpath:/sql/populate_tenants.sql", "classpath:/sql/populate_tenant_attrs.sql"})
+  void getByAttributes_positive_pagedByCursor() throws Exception {
+    var firstPage = doGet(get("/tenants/by-attributes")
+      .queryParam("attribute", "key1:value1")
+      .queryParam("limit", "1"))
+      .andExpect(jsonPath("$.tenants[0].name", is("tenant1")))
+      .andExpect(jsonPath("$.next", notNullValue()))
+      .andReturn();
+
+    var next = TestUtils.parseResponse(firstPage, Tenants.class).getNext();
+    doGet(get("/tenants/by-attributes")
+      .queryParam("attribute", "key1:value1")
+      .queryParam("limit", "1")
+      .queryParam("after", next))
+      .andExpect(jsonPath("$.tenants", hasSize(1)))
+      .andExpect(jsonPath("$.tenants[0].name", is("tenant5")))
+      .andExpect(jsonPath("$.next").doesNotExist());
+  }
+
+  @Test
+  void getByAttributes_negative_invalidFormat() throws Exception {
+    mockMvc.perform(get("/tenants/by-attributes")
+        .queryParam("attribute", "key1")
+        .header(TOKEN, AUTH_TOKEN))
+      .andExpect(status().isBadRequest())
+      .andExpect(jsonPath("$.errors[0].message", is("Attribute must be in format 'key:value'")))
+      .andExpect(jsonPath("$.errors[0].type", is("RequestValidationException")));
+  }
+
   @Test
   @WireMockStub(scripts = {
     "/wiremock/stubs/okapi/create-tenant.json",
@@ -172,6 +390,28 @@ class TenantIT extends BaseIntegrationTest {
       .andExpect(jsonPath("$.type", is(tenant.getType().getValue())));
   }
 
+  @Test
+  @Sql("classpath:/sql/populate_tenants.sql")
+  @WireMockStub(scripts = {
+    "/wiremock/stubs/okapi/update-tenant.json"
+  })
+  void updateTenant_positive_cachedTenantEvicted() throws Exception {
+    var tenant = copyFrom(TENANT1).description("modified");
+    doGet("/tenants/{id}", TENANT_ID).andExpect(jsonPath("$.description", is(TENANT1.getDescription())));
+    doGet(get("/tenants").queryParam("query", "name==" + TENANT_NAME))
+      .andExpect(jsonPath("$.tenants[0].description", is(TENANT1.getDescription())));
+
+    mockMvc.perform(put("/tenants/{id}", tenant.getId())
+        .contentType(APPLICATION_JSON)
+        .header(TOKEN, AUTH_TOKEN)
+        .content(TestUtils.asJsonString(tenant)))
+      .andExpect(status().isOk());
+
+    doGet("/tenants/{id}", TENANT_ID).andExpect(jsonPath("$.description", is("modified")));
+    doGet(get("/tenants").queryParam("query", "name==" + TENANT_NAME))
+      .andExpect(jsonPath("$.tenants[0].description", is("modified")));
+  }
+
   @Test
   @Sql("classpath:/sql/populate_tenants.sql")
   @WireMockStub(scripts = {
@@ -198,6 +438,82 @@ class TenantIT extends BaseIntegrationTest {
       .andExpect(jsonPath("$.attributes[1].metadata", notNullValue()));
   }
 
+  @Test
+  @Sql({"classpath:/sql/populate_tenants.sql", "classpath:/sql/populate_tenant_attrs.sql"})
+  @WireMockStub(scripts = {
+    "/wiremock/stubs/okapi/update-tenant.json"
+  })
+  void updateTenant_positive_replaceExistingAttributeKeys() throws Exception {
+    var tenant = copyFrom(TENANT1).attributes(List.of(
+      tenantAttribute("key1", "new value1"),
+      tenantAttribute("key2", "new value2").id(UUID.randomUUID()),
+      tenantAttribute("key3", "new value3").id(UUID.fromString("026647a0-e87c-4787-9ba8-6de13493b6b5"))));
+
+    mockMvc.perform(put("/tenants/{id}", tenant.getId())
+        .contentType(APPLICATION_JSON)
+        .header(TOKEN, AUTH_TOKEN)
+        .content(TestUtils.asJsonString(tenant)))
+      .andExpect(status().isOk())
+      .andExpect(jsonPath("$.attributes", hasSize(3)))
+      .andExpect(jsonPath("$.attributes[0].key", is("key1")))
+      .andExpect(jsonPath("$.attributes[0].value", is("new value1")))
+      .andExpect(jsonPath("$.attributes[1].key", is("key2")))
+      .andExpect(jsonPath("$.attributes[1].value", is("new value2")))
+      .andExpect(jsonPath("$.attributes[2].id", is("026647a0-e87c-4787-9ba8-6de13493b6b5")))
+      .andExpect(jsonPath("$.attributes[2].value", is("new value3")));
+
+    doGet("/tenants/{id}", TENANT_ID)
+      .andExpect(jsonPath("$.attributes", hasSize(3)))
+      .andExpect(jsonPath("$.attributes[0].value", is("new value1")))
+      .andExpect(jsonPath("$.attributes[1].value", is("new value2")));
+  }
+
+  @Test
+  @WireMockStub(scripts = {
+    "/wiremock/stubs/okapi/create-tenant.json",
+    "/wiremock/stubs/okapi/get-tenant-not-found.json"
+  })
+  void createTenant_positive_singleRoundTripForAttributes() throws Exception {
+    var statistics = statistics();
+    var tenantToCreate = copyFrom(TENANT4).attributes(tenantAttributes(10));
+
+    statistics.clear();
+    mockMvc.perform(post("/tenants")
+        .contentType(APPLICATION_JSON)
+        .header(TOKEN, AUTH_TOKEN)
+        .content(TestUtils.asJsonString(tenantToCreate)))
+      .andExpect(status().isCreated())
+      .andExpect(jsonPath("$.attributes", hasSize(10)));
+
+    // name check, tenant insert and one batched insert for all attributes
+    assertThat(statistics.getPrepareStatementCount()).isEqualTo(3);
+    assertThat(statistics.getEntityInsertCount()).isEqualTo(11);
+    assertThat(statistics.getEntityLoadCount()).isZero();
+  }
+
+  @Test
+  @Sql("classpath:/sql/populate_tenants.sql")
+  @WireMockStub(scripts = {
+    "/wiremock/stubs/okapi/update-tenant.json"
+  })
+  void updateTenant_positive_singleRoundTripForAttributes() throws Exception {
+    var statistics = statistics();
+    var tenant = copyFrom(TENANT1).description("modified").attributes(tenantAttributes(10));
+
+    statistics.clear();
+    mockMvc.perform(put("/tenants/{id}", tenant.getId())
+        .contentType(APPLICATION_JSON)
+        .header(TOKEN, AUTH_TOKEN)
+        .content(TestUtils.asJsonString(tenant)))
+      .andExpect(status().isOk())
+      .andExpect(jsonPath("$.attributes", hasSize(10)));
+
+    // tenant and attributes select, tenant update and one batched insert for all attributes
+    assertThat(statistics.getPrepareStatementCount()).isLessThanOrEqualTo(4);
+    assertThat(statistics.getEntityInsertCount()).isEqualTo(10);
+    assertThat(statistics.getEntityUpdateCount()).isEqualTo(1);
+  }
+
   @Test
   @Sql("classpath:/sql/populate_tenants.sql")
   @WireMockStub(scripts = {
@@ -256,6 +572,26 @@ class TenantIT extends BaseIntegrationTest {
       .andExpect(status().isNotFound());
   }
 
+  @Test
+  @Sql("classpath:/sql/populate_tenants.sql")
+  @WireMockStub(scripts = {
+    "/wiremock/stubs/okapi/delete-tenant.json",
+    "/wiremock/stubs/okapi/get-tenant-exist.json",
+    "/wiremock/stubs/mgr-tenant-entitlements/get-entitlements-no-apps.json"
+  })
+  void deleteTenant_positive_cachedTenantEvicted() throws Exception {
+    doGet(get("/tenants").queryParam("query", "name==" + TENANT_NAME))
+      .andExpect(jsonPath("$.tenants[0].id", is(TENANT_ID.toString())));
+
+    mockMvc.perform(delete("/tenants/{id}", TENANT_ID)
+        .header(TOKEN, AUTH_TOKEN))
+      .andExpect(status().isNoContent());
+
+    doGet(get("/tenants").queryParam("query", "name==" + TENANT_NAME))
+      .andExpect(jsonPath("$.tenants", is(empty())))
+      .andExpect(jsonPath("$.totalRecords", is(0)));
+  }
+
   @Test
   @Sql("classpath:/sql/populate_tenants.sql")
   @WireMockStub(scripts = {
@@ -379,6 +715,14 @@ class TenantIT extends BaseIntegrationTest {
     return result;
   }
 
+  private Statistics statistics() {
+    return entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+  }
+
+  private static List<TenantAttribute> tenantAttributes(int count) {
+    return IntStream.range(0, count).mapToObj(i -> tenantAttribute("key" + i, "value" + i)).toList();
+  }
+
   private static TenantAttribute tenantAttribute(String attr2, String value) {
     return new TenantAttribute().key(attr2).value(value);
   }
@@ -0,0 +1,102 @@
+package org.folio.tm.it;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.springframework.test.context.jdbc.Sql.ExecutionPhase.AFTER_TEST_METHOD;
+import static org.springframework.test.context.jdbc.Sql.ExecutionPhase.BEFORE_TEST_METHOD;
+
+import java.util.regex.Pattern;
+import java.util.stream.Stream;
+import org.folio.test.types.IntegrationTest;
+import org.folio.tm.base.BaseIntegrationTest;
+import org.folio.tm.repository.TenantAttributeRepository;
+import org.folio.tm.repository.TenantRepository;
+import org.folio.tm.support.SqlCapturingStatementInspector;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.Arguments;
+import org.junit.jupiter.params.provider.MethodSource;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.jdbc.core.ConnectionCallback;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.TestPropertySource;
+import org.springframework.test.context.jdbc.Sql;
+
+/**
+ * Verifies that SQL generated from common CQL queries can be executed using indexes.
+ *
+ * <p>
+ * The generated SQL is explained as a generic plan (PostgreSQL 16+), with its parameters left unbound, and with
+ * sequential scans disabled, so that the planner picks an applicable index regardless of the table size.
+ * </p>
+ */
+@IntegrationTest
+@TestPropertySource(properties = {
+  "application.okapi.enabled=false",
+  "application.keycloak.enabled=false",
+  "spring.jpa.properties.hibernate.session_factory.statement_inspector="
+    + "org.folio.tm.support.SqlCapturingStatementInspector"
+})
+@Sql(scripts = "classpath:/sql/populate_tenants.sql", executionPhase = BEFORE_TEST_METHOD)
+@Sql(scripts = "classpath:/sql/clear_tenants.sql", executionPhase = AFTER_TEST_METHOD)
+class TenantQueryPlanIT extends BaseIntegrationTest {
+
+  private static final Pattern JDBC_PARAMETER = Pattern.compile("\\?");
+
+  @Autowired private JdbcTemplate jdbcTemplate;
+  @Autowired private TenantRepository tenantRepository;
+  @Autowired private TenantAttributeRepository tenantAttributeRepository;
+
+  @ParameterizedTest(name = "[{index}] {0}")
+  @MethodSource("tenantQueryDataProvider")
+  void findTenantsByCql_positive_indexUsed(String cql, String[] expectedIndexes) {
+    var sql = SqlCapturingStatementInspector.captureFirst(() -> tenantRepository.findByCql(cql, 0, 10));
+
+    assertThat(explain(sql)).containsAnyOf(expectedIndexes);
+  }
+
+  @ParameterizedTest(name = "[{index}] {0}")
+  @MethodSource("tenantAttributeQueryDataProvider")
+  void findTenantAttributesByCql_positive_indexUsed(String cql, String[] expectedIndexes) {
+    var sql = SqlCapturingStatementInspector.captureFirst(() -> tenantAttributeRepository.findByCql(cql, 0, 10));
+
+    assertThat(explain(sql)).containsAnyOf(expectedIndexes);
+  }
+
+  private String explain(String sql) {
+    var counter = new int[] {0};
+    var parameterizedSql = JDBC_PARAMETER.matcher(sql).replaceAll(match -> "\\$" + ++counter[0]);
+    return jdbcTemplate.execute((ConnectionCallback<String>) connection -> {
+      try (var statement = connection.createStatement()) {
+        statement.execute("SET enable_seqscan = off");
+        try (var resultSet = statement.executeQuery("EXPLAIN (GENERIC_PLAN) " + parameterizedSql)) {
+          var plan = new StringBuilder();
+          while (resultSet.next()) {
+            plan.append(resultSet.getString(1)).append('\n');
+          }
+          return plan.toString();
+        } finally {
+          statement.execute("RESET enable_seqscan");
+        }
+      }
+    });
+  }
+
+  private static Stream<Arguments> tenantQueryDataProvider() {
+    var nameIndexes = new String[] {"idx_tenant_name_unaccent", "idx_tenant_name_trgm"};
+    return Stream.of(
+      Arguments.of("name==tenant1", nameIndexes),
+      Arguments.of("name==\"Tenant1\"", nameIndexes),
+      Arguments.of("name==tenant*", nameIndexes),
+      Arguments.of("name==*ant1", new String[] {"idx_tenant_name_trgm"}),
+      Arguments.of("description==\"*tenant1*\"", new String[] {"idx_tenant_description_trgm"}),
+      Arguments.of("type==VIRTUAL", new String[] {"idx_tenant_type"})
+    );
+  }
+
+  private static Stream<Arguments> tenantAttributeQueryDataProvider() {
+    var keyValueIndexes = new String[] {"idx_tenant_attr_key_value_unaccent"};
+    return Stream.of(
+      Arguments.of("key==key1", keyValueIndexes),
+      Arguments.of("key==key1 and value==value1", keyValueIndexes)
+    );
+  }
+}
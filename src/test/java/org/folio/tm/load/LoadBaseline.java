@@ -0,0 +1,78 @@
+package org.folio.tm.load;
+
+import static java.util.function.Function.identity;
+import static java.util.stream.Collectors.toMap;
+import static org.folio.tm.support.TestUtils.OBJECT_MAPPER;
+
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+import lombok.SneakyThrows;
+import tools.jackson.core.type.TypeReference;
+
+/**
+ * Stored load test results that later runs are compared with.
+ *
+ * <p>
+ * An operation regresses if its p50 or p99 latency exceeds the baseline by more than the tolerance, or if its
+ * throughput falls below the baseline by more than the tolerance. Operations missing in the baseline are not compared.
+ * </p>
+ */
+final class LoadBaseline {
+
+  private final Map<String, OperationStats> operations;
+
+  private LoadBaseline(Collection<OperationStats> operations) {
+    this.operations = operations.stream().collect(toMap(OperationStats::operation, identity()));
+  }
+
+  static LoadBaseline read(Path path) {
+    var operations = OBJECT_MAPPER.readValue(path.toFile(), new TypeReference<List<OperationStats>>() {});
+    return new LoadBaseline(operations);
+  }
+
+  @SneakyThrows
+  static void write(Path path, Collection<OperationStats> results) {
+    Files.createDirectories(path.toAbsolutePath().getParent());
+    OBJECT_MAPPER.writerWithDefaultPrettyPrinter().writeValue(path.toFile(), results);
+  }
+
+  /**
+   * Compares load test results with the baseline.
+   *
+   * @param results - load test results
+   * @param tolerance - allowed relative deviation from the baseline, e.g. 0.25 for 25%
+   * @return descriptions of found regressions, empty if there are none
+   */
+  List<String> findRegressions(Collection<OperationStats> results, double tolerance) {
+    var regressions = new ArrayList<String>();
+    for (var actual : results) {
+      var expected = operations.get(actual.operation());
+      if (expected == null) {
+        continue;
+      }
+
+      checkLatency(regressions, actual.operation() + " p50", actual.p50Millis(), expected.p50Millis(), tolerance);
+      checkLatency(regressions, actual.operation() + " p99", actual.p99Millis(), expected.p99Millis(), tolerance);
+      var minThroughput = expected.throughput() * (1 - tolerance);
+      if (actual.throughput() < minThroughput) {
+        regressions.add(String.format("%s throughput %.2f req/s is below %.2f req/s (baseline %.2f req/s)",
+          actual.operation(), actual.throughput(), minThroughput, expected.throughput()));
+      }
+    }
+
+    return regressions;
+  }
+
+  private static void checkLatency(List<String> regressions, String name, double actual, double expected,
+    double tolerance) {
+    var maxLatency = expected * (1 + tolerance);
+    if (actual > maxLatency) {
+      regressions.add(String.format("%s latency %.2f ms exceeds %.2f ms (baseline %.2f ms)",
+        name, actual, maxLatency, expected));
+    }
+  }
+}
@@ -0,0 +1,55 @@
+package org.folio.tm.load;
+
+import static java.util.concurrent.TimeUnit.SECONDS;
+
+import java.util.Queue;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Collects request latencies of a single load test operation.
+ */
+final class LoadRecorder {
+
+  private static final double NANOS_PER_MILLI = 1_000_000d;
+
+  private final String operation;
+  private final Queue<Long> durations = new ConcurrentLinkedQueue<>();
+  private final AtomicInteger errors = new AtomicInteger();
+
+  LoadRecorder(String operation) {
+    this.operation = operation;
+  }
+
+  void record(long durationNanos, boolean failed) {
+    durations.add(durationNanos);
+    if (failed) {
+      errors.incrementAndGet();
+    }
+  }
+
+  /**
+   * Calculates operation statistics.
+   *
+   * @param elapsedNanos - wall time of the operation phase, used to calculate throughput
+   * @return {@link OperationStats} for the recorded requests
+   */
+  OperationStats getStats(long elapsedNanos) {
+    var sorted = durations.stream().mapToLong(Long::longValue).sorted().toArray();
+    var throughput = sorted.length * (double) SECONDS.toNanos(1) / Math.max(elapsedNanos, 1);
+    return new OperationStats(operation, sorted.length, errors.get(), percentile(sorted, 0.5),
+      percentile(sorted, 0.99), throughput);
+  }
+
+  /**
+   * Returns nearest-rank percentile of sorted latencies in milliseconds.
+   */
+  private static double percentile(long[] sorted, double fraction) {
+    if (sorted.length == 0) {
+      return 0;
+    }
+
+    var rank = (int) Math.ceil(fraction * sorted.length);
+    return sorted[Math.max(rank, 1) - 1] / NANOS_PER_MILLI;
+  }
+}
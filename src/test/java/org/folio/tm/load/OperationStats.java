@@ -0,0 +1,21 @@
+package org.folio.tm.load;
+
+/**
+ * Latency and throughput of a single load test operation.
+ *
+ * @param operation - operation name
+ * @param count - number of performed requests
+ * @param errors - number of requests completed with an unexpected status or an exception
+ * @param p50Millis - median request latency in milliseconds
+ * @param p99Millis - 99th percentile of request latency in milliseconds
+ * @param throughput - completed requests per second
+ */
+public record OperationStats(String operation, int count, int errors, double p50Millis, double p99Millis,
+  double throughput) {
+
+  @Override
+  public String toString() {
+    return String.format("%-8s count = %5d, errors = %3d, p50 = %8.2f ms, p99 = %8.2f ms, throughput = %8.2f req/s",
+      operation, count, errors, p50Millis, p99Millis, throughput);
+  }
+}
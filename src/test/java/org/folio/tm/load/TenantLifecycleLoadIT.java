@@ -0,0 +1,183 @@
+package org.folio.tm.load;
+
+import static java.net.http.HttpRequest.BodyPublishers.noBody;
+import static java.net.http.HttpRequest.BodyPublishers.ofString;
+import static java.nio.charset.StandardCharsets.UTF_8;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.junit.jupiter.api.Assumptions.abort;
+import static org.springframework.boot.test.context.SpringBootTest.WebEnvironment.RANDOM_PORT;
+
+import java.net.URI;
+import java.net.URLEncoder;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse.BodyHandlers;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.Callable;
+import java.util.concurrent.Executors;
+import java.util.function.Function;
+import lombok.SneakyThrows;
+import lombok.extern.log4j.Log4j2;
+import org.apache.commons.lang3.RandomStringUtils;
+import org.folio.test.extensions.EnableKafka;
+import org.folio.test.extensions.EnableKeycloakDataImport;
+import org.folio.test.extensions.EnableKeycloakSecurity;
+import org.folio.test.extensions.EnableKeycloakTlsMode;
+import org.folio.test.extensions.EnableWireMock;
+import org.folio.test.extensions.WireMockStub;
+import org.folio.tm.domain.dto.Tenant;
+import org.folio.tm.domain.dto.TenantType;
+import org.folio.tm.extension.EnableKongGateway;
+import org.folio.tm.extension.EnablePostgres;
+import org.folio.tm.integration.okapi.OkapiHeaders;
+import org.folio.tm.support.KeycloakTestClientConfiguration;
+import org.folio.tm.support.KeycloakTestClientConfiguration.KeycloakTestClient;
+import org.folio.tm.support.TestUtils;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.test.annotation.DirtiesContext;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.context.TestPropertySource;
+
+/**
+ * Drives the full tenant lifecycle over HTTP and compares latency and throughput with a stored baseline.
+ *
+ * <p>
+ * Each operation is a separate phase: all tenants are created, then read, queried, updated and deleted, with
+ * {@code load.concurrency} requests in flight. The application runs with PostgreSQL, Kong, Keycloak and Kafka
+ * containers, mgr-tenant-entitlements is stubbed by WireMock.
+ * </p>
+ *
+ * <p>
+ * Results are written to {@code target/load-test/tenant-lifecycle.json}, the test fails when any operation regresses
+ * beyond {@code load.tolerance} compared to the baseline. The baseline is never written by the test, a run without a
+ * baseline is aborted, and its report can be copied to the baseline location and committed as a reference.
+ * </p>
+ */
+@Log4j2
+@Tag("load")
+@EnableKafka
+@EnableWireMock
+@EnablePostgres
+@EnableKongGateway
+@EnableKeycloakTlsMode
+@EnableKeycloakSecurity
+@EnableKeycloakDataImport
+@ActiveProfiles("it")
+@Import(KeycloakTestClientConfiguration.class)
+@SpringBootTest(webEnvironment = RANDOM_PORT)
+@DirtiesContext(classMode = DirtiesContext.ClassMode.AFTER_CLASS)
+@TestPropertySource(properties = {
+  "application.okapi.enabled=false",
+  "application.kong.enabled=true",
+  "application.kong.module-self-url=https://test-mgr-tenants:443",
+  "application.kong.register-module=true"
+})
+class TenantLifecycleLoadIT {
+
+  private static final int TENANTS = Integer.getInteger("load.tenants", 50);
+  private static final int CONCURRENCY = Integer.getInteger("load.concurrency", 4);
+  private static final double TOLERANCE = Double.parseDouble(System.getProperty("load.tolerance", "0.3"));
+  private static final Path BASELINE = Path.of(System.getProperty("load.baseline",
+    "src/test/resources/load/tenant-lifecycle-baseline.json"));
+  private static final Path REPORT = Path.of("target", "load-test", "tenant-lifecycle.json");
+
+  private static final HttpClient HTTP_CLIENT = HttpClient.newHttpClient();
+
+  static {
+    TestUtils.disableSslVerification();
+  }
+
+  @Value("${local.server.port}") private int port;
+  @Autowired private KeycloakTestClient keycloakTestClient;
+
+  @Test
+  @WireMockStub(scripts = "/wiremock/stubs/mgr-tenant-entitlements/get-entitlements-no-apps.json")
+  void tenantLifecycle() {
+    var runId = RandomStringUtils.insecure().nextAlphabetic(6).toLowerCase();
+    var tenants = new ArrayList<Tenant>();
+    for (int i = 0; i < TENANTS; i++) {
+      tenants.add(new Tenant().id(UUID.randomUUID()).name("load_" + runId + "_" + i)
+        .description("Load test tenant").type(TenantType.DEFAULT));
+    }
+
+    var results = List.of(
+      runPhase("create", tenants, token -> tenant -> send(token, "POST", "/tenants", tenant, 201)),
+      runPhase("get", tenants, token -> tenant -> send(token, "GET", "/tenants/" + tenant.getId(), null, 200)),
+      runPhase("query", tenants, token -> tenant -> send(token, "GET", queryPath(tenant), null, 200)),
+      runPhase("update", tenants, token -> tenant -> send(token, "PUT", "/tenants/" + tenant.getId(),
+        tenant.description("Updated load test tenant"), 200)),
+      runPhase("delete", tenants, token -> tenant -> send(token, "DELETE", "/tenants/" + tenant.getId(), null, 204)));
+
+    results.forEach(result -> log.info("Load test result: {}", result));
+    LoadBaseline.write(REPORT, results);
+    assertThat(results).allSatisfy(result -> assertThat(result.errors()).as(result.operation() + " errors").isZero());
+
+    if (!Files.exists(BASELINE)) {
+      log.warn("Load test baseline is not found: {}, copy {} to it to commit a reference baseline", BASELINE, REPORT);
+      abort("Load test baseline is not found: " + BASELINE + ", results are written to " + REPORT);
+    }
+
+    assertThat(LoadBaseline.read(BASELINE).findRegressions(results, TOLERANCE)).isEmpty();
+  }
+
+  /**
+   * Performs a request per tenant with {@code CONCURRENCY} requests in flight, a fresh admin token is used for each
+   * phase, so that long runs are not affected by token expiration.
+   */
+  @SneakyThrows
+  private OperationStats runPhase(String operation, List<Tenant> tenants,
+    Function<String, Function<Tenant, Boolean>> requestFactory) {
+    var request = requestFactory.apply(keycloakTestClient.loginAsFolioAdmin());
+    var recorder = new LoadRecorder(operation);
+    var tasks = tenants.stream().<Callable<Void>>map(tenant -> () -> {
+      var startTime = System.nanoTime();
+      var succeeded = request.apply(tenant);
+      recorder.record(System.nanoTime() - startTime, !succeeded);
+      return null;
+    }).toList();
+
+    var startTime = System.nanoTime();
+    try (var executor = Executors.newFixedThreadPool(CONCURRENCY)) {
+      executor.invokeAll(tasks);
+    }
+
+    return recorder.getStats(System.nanoTime() - startTime);
+  }
+
+  private boolean send(String token, String method, String path, Tenant body, int expectedStatus) {
+    var request = HttpRequest.newBuilder(URI.create("http://localhost:" + port + path))
+      .header(OkapiHeaders.TOKEN, token)
+      .header("Content-Type", "application/json")
+      .method(method, body == null ? noBody() : ofString(TestUtils.asJsonString(body), UTF_8))
+      .build();
+
+    try {
+      var response = HTTP_CLIENT.send(request, BodyHandlers.ofString(UTF_8));
+      if (response.statusCode() != expectedStatus) {
+        log.warn("Unexpected response: {} {}, status = {}, body = {}", method, path, response.statusCode(),
+          response.body());
+        return false;
+      }
+      return true;
+    } catch (Exception exception) {
+      log.warn("Request failed: {} {}", method, path, exception);
+      if (exception instanceof InterruptedException) {
+        Thread.currentThread().interrupt();
+      }
+      return false;
+    }
+  }
+
+  private static String queryPath(Tenant tenant) {
+    return "/tenants?query=" + URLEncoder.encode("name==" + tenant.getName(), UTF_8);
+  }
+}
@@ -0,0 +1,83 @@
+package org.folio.tm.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.folio.tm.support.TestConstants.TENANT_ID;
+
+import java.util.List;
+import org.folio.test.types.UnitTest;
+import org.folio.tm.exception.RequestValidationException;
+import org.junit.jupiter.api.Test;
+
+@UnitTest
+class KeysetCursorTest {
+
+  @Test
+  void encodeAndDecode_positive() {
+    var cursor = new KeysetCursor("key:with\"special", TENANT_ID);
+
+    var actual = KeysetCursor.decode(cursor.encode());
+
+    assertThat(actual).isEqualTo(cursor);
+  }
+
+  @Test
+  void decode_positive_blankToken() {
+    assertThat(KeysetCursor.decode("")).isNull();
+    assertThat(KeysetCursor.decode(null)).isNull();
+  }
+
+  @Test
+  void decode_negative_invalidToken() {
+    assertThatThrownBy(() -> KeysetCursor.decode("invalid"))
+      .isInstanceOf(RequestValidationException.class)
+      .hasMessage("Invalid cursor");
+  }
+
+  @Test
+  void toQuery_positive_firstPage() {
+    var actual = KeysetCursor.toQuery(null, "name", null);
+
+    assertThat(actual).isEqualTo("(cql.allRecords=1) sortBy name/sort.ascending id/sort.ascending");
+  }
+
+  @Test
+  void toQuery_positive_withCursor() {
+    var cursor = new KeysetCursor("a\"b*", TENANT_ID);
+
+    var actual = KeysetCursor.toQuery("type == VIRTUAL", "name", cursor);
+
+    assertThat(actual).isEqualTo("(type == VIRTUAL) and (name > \"a\\\"b\\*\" or (name == \"a\\\"b\\*\" and id > \""
+      + TENANT_ID + "\")) sortBy name/sort.ascending id/sort.ascending");
+  }
+
+  @Test
+  void toQuery_negative_sortByInQuery() {
+    assertThatThrownBy(() -> KeysetCursor.toQuery("name == x sortBy name", "name", null))
+      .isInstanceOf(RequestValidationException.class)
+      .hasMessage("Sorting is not supported in cursor mode");
+  }
+
+  @Test
+  void toQuery_positive_sortByInSearchTerm() {
+    var actual = KeysetCursor.toQuery("description == \"sortBy name\"", "name", null);
+
+    assertThat(actual).isEqualTo("(description == \"sortBy name\") sortBy name/sort.ascending id/sort.ascending");
+  }
+
+  @Test
+  void keysetPage_positive_hasNext() {
+    var page = KeysetPage.of(List.of("a", "b", "c"), 2, value -> new KeysetCursor(value, TENANT_ID));
+
+    assertThat(page.items()).containsExactly("a", "b");
+    assertThat(KeysetCursor.decode(page.next())).isEqualTo(new KeysetCursor("b", TENANT_ID));
+  }
+
+  @Test
+  void keysetPage_positive_lastPage() {
+    var page = KeysetPage.of(List.of("a"), 2, value -> new KeysetCursor(value, TENANT_ID));
+
+    assertThat(page.items()).containsExactly("a");
+    assertThat(page.next()).isNull();
+  }
+}
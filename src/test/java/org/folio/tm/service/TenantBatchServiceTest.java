@@ -0,0 +1,125 @@
+package org.folio.tm.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.folio.tm.domain.dto.TenantBatchStatus.CREATED;
+import static org.folio.tm.domain.dto.TenantBatchStatus.FAILED;
+import static org.folio.tm.support.TestConstants.tenant;
+import static org.mockito.Mockito.doThrow;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import java.util.List;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import org.folio.test.types.UnitTest;
+import org.folio.tm.config.TenantBatchConfiguration;
+import org.folio.tm.domain.dto.Tenant;
+import org.folio.tm.domain.dto.TenantBatchItem;
+import org.folio.tm.domain.dto.TenantBatchResult;
+import org.folio.tm.exception.RequestValidationException;
+import org.folio.tm.service.listeners.TenantEventsPublisher;
+import org.folio.tm.support.TestUtils;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+@UnitTest
+@ExtendWith(MockitoExtension.class)
+class TenantBatchServiceTest {
+
+  private static final UUID TENANT2_ID = UUID.randomUUID();
+
+  private TenantBatchService tenantBatchService;
+  private final ExecutorService executor = Executors.newFixedThreadPool(2);
+
+  @Mock private TenantService tenantService;
+  @Mock private TenantEventsPublisher tenantEventsPublisher;
+
+  @BeforeEach
+  void setUp() {
+    var configuration = new TenantBatchConfiguration();
+    configuration.setMaxSize(3);
+    tenantBatchService = new TenantBatchService(tenantService, tenantEventsPublisher, configuration, executor);
+  }
+
+  @AfterEach
+  void tearDown() {
+    executor.shutdownNow();
+    TestUtils.verifyNoMoreInteractions(this);
+  }
+
+  @Test
+  void createTenants_positive() {
+    var tenant1 = tenant();
+    var tenant2 = tenant2();
+
+    when(tenantService.getExistingNames(List.of(tenant1.getName(), tenant2.getName()))).thenReturn(Set.of());
+    when(tenantService.createTenantRecords(List.of(tenant1, tenant2))).thenReturn(List.of(tenant1, tenant2));
+
+    var actual = tenantBatchService.createTenants(List.of(tenant1, tenant2));
+
+    assertThat(actual).isEqualTo(new TenantBatchResult().totalRecords(2).results(List.of(
+      new TenantBatchItem().name(tenant1.getName()).status(CREATED).tenant(tenant1),
+      new TenantBatchItem().name(tenant2.getName()).status(CREATED).tenant(tenant2))));
+    verify(tenantEventsPublisher).onTenantCreate(tenant1);
+    verify(tenantEventsPublisher).onTenantCreate(tenant2);
+  }
+
+  @Test
+  void createTenants_positive_failedTenantIsRemoved() {
+    var tenant1 = tenant();
+    var tenant2 = tenant2();
+
+    when(tenantService.getExistingNames(List.of(tenant1.getName(), tenant2.getName()))).thenReturn(Set.of());
+    when(tenantService.createTenantRecords(List.of(tenant1, tenant2))).thenReturn(List.of(tenant1, tenant2));
+    doThrow(new IllegalStateException("Realm setup failed")).when(tenantEventsPublisher).onTenantCreate(tenant2);
+
+    var actual = tenantBatchService.createTenants(List.of(tenant1, tenant2));
+
+    assertThat(actual.getResults()).containsExactly(
+      new TenantBatchItem().name(tenant1.getName()).status(CREATED).tenant(tenant1),
+      new TenantBatchItem().name(tenant2.getName()).status(FAILED).error("Realm setup failed"));
+    verify(tenantEventsPublisher).onTenantCreate(tenant1);
+    verify(tenantService).deleteTenantRecords(List.of(TENANT2_ID));
+  }
+
+  @Test
+  void createTenants_positive_existingAndDuplicatedNames() {
+    var tenant1 = tenant();
+    var tenant2 = tenant2();
+    var duplicate = tenant2();
+    var names = List.of(tenant1.getName(), tenant2.getName(), duplicate.getName());
+
+    when(tenantService.getExistingNames(names)).thenReturn(Set.of(tenant1.getName()));
+    when(tenantService.createTenantRecords(List.of(tenant2))).thenReturn(List.of(tenant2));
+
+    var actual = tenantBatchService.createTenants(List.of(tenant1, tenant2, duplicate));
+
+    assertThat(actual.getResults()).containsExactly(
+      new TenantBatchItem().name(tenant1.getName()).status(FAILED)
+        .error("Tenant's name already taken: " + tenant1.getName()),
+      new TenantBatchItem().name(tenant2.getName()).status(CREATED).tenant(tenant2),
+      new TenantBatchItem().name(tenant2.getName()).status(FAILED)
+        .error("Tenant's name is duplicated in the batch: " + tenant2.getName()));
+    verify(tenantEventsPublisher).onTenantCreate(tenant2);
+  }
+
+  @Test
+  void createTenants_negative_batchIsTooLarge() {
+    var tenants = List.of(tenant(), tenant2(), tenant2(), tenant2());
+
+    assertThatThrownBy(() -> tenantBatchService.createTenants(tenants))
+      .isInstanceOf(RequestValidationException.class)
+      .hasMessage("Batch size exceeds the limit of 3");
+  }
+
+  private static Tenant tenant2() {
+    return new Tenant().id(TENANT2_ID).name("tenant2").description("test tenant2");
+  }
+}
@@ -0,0 +1,261 @@
+package org.folio.tm.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.folio.tm.domain.model.TenantJobStatus.COMPLETED;
+import static org.folio.tm.domain.model.TenantJobStatus.FAILED;
+import static org.folio.tm.domain.model.TenantJobStatus.PENDING;
+import static org.folio.tm.domain.model.TenantJobStatus.RUNNING;
+import static org.folio.tm.support.TestConstants.TENANT_ID;
+import static org.folio.tm.support.TestConstants.TENANT_NAME;
+import static org.folio.tm.support.TestConstants.tenant;
+import static org.mockito.AdditionalAnswers.returnsFirstArg;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.doThrow;
+import static org.mockito.Mockito.inOrder;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import jakarta.persistence.EntityNotFoundException;
+import java.time.Duration;
+import java.time.OffsetDateTime;
+import java.util.List;
+import java.util.Optional;
+import java.util.UUID;
+import java.util.concurrent.ExecutorService;
+import org.folio.test.types.UnitTest;
+import org.folio.tm.config.TenantJobConfiguration;
+import org.folio.tm.domain.dto.TenantJob;
+import org.folio.tm.domain.entity.TenantJobEntity;
+import org.folio.tm.domain.model.TenantJobType;
+import org.folio.tm.mapper.TenantJobMapper;
+import org.folio.tm.repository.TenantJobRepository;
+import org.folio.tm.service.listeners.TenantEventStep;
+import org.folio.tm.service.listeners.TenantEventsPublisher;
+import org.folio.tm.support.TestUtils;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Captor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+@UnitTest
+@ExtendWith(MockitoExtension.class)
+class TenantJobServiceTest {
+
+  private TenantJobService tenantJobService;
+
+  @Mock private TenantJobMapper mapper;
+  @Mock private TenantJobRepository repository;
+  @Mock private TenantService tenantService;
+  @Mock private TenantEventsPublisher tenantEventsPublisher;
+  @Mock private TenantTopicPurgeService tenantTopicPurgeService;
+  @Mock private ExecutorService executor;
+  @Mock private TenantJobConfiguration tenantJobConfiguration;
+  @Mock private Runnable listenerAction;
+  @Captor private ArgumentCaptor<Runnable> taskCaptor;
+  @Captor private ArgumentCaptor<TenantJobEntity> jobCaptor;
+
+  @BeforeEach
+  void setUp() {
+    TransactionSynchronizationManager.initSynchronization();
+    tenantJobService = new TenantJobService(mapper, repository, tenantService, tenantEventsPublisher,
+      tenantTopicPurgeService, tenantJobConfiguration, executor);
+  }
+
+  @AfterEach
+  void tearDown() {
+    TransactionSynchronizationManager.clearSynchronization();
+    TestUtils.verifyNoMoreInteractions(this);
+  }
+
+  @Test
+  void getTenantJobById_positive() {
+    var jobId = UUID.randomUUID();
+    var entity = new TenantJobEntity();
+    var expected = new TenantJob().id(jobId);
+
+    when(repository.findById(jobId)).thenReturn(Optional.of(entity));
+    when(mapper.toDto(entity)).thenReturn(expected);
+
+    var actual = tenantJobService.getTenantJobById(jobId);
+
+    assertThat(actual).isEqualTo(expected);
+  }
+
+  @Test
+  void getTenantJobById_negative_notFound() {
+    var jobId = UUID.randomUUID();
+    when(repository.findById(jobId)).thenReturn(Optional.empty());
+
+    assertThatThrownBy(() -> tenantJobService.getTenantJobById(jobId))
+      .isInstanceOf(EntityNotFoundException.class)
+      .hasMessage("Tenant job is not found: id = " + jobId);
+  }
+
+  @Test
+  void createTenant_positive() {
+    var tenant = tenant();
+    when(tenantService.createTenantRecord(tenant)).thenReturn(tenant);
+    when(tenantEventsPublisher.getTenantCreateSteps(tenant))
+      .thenReturn(List.of(new TenantEventStep("OkapiService", listenerAction)));
+    when(repository.save(jobCaptor.capture())).thenAnswer(returnsFirstArg());
+
+    var result = tenantJobService.createTenant(tenant);
+
+    assertThat(result.result()).isEqualTo(tenant);
+    assertThat(jobCaptor.getValue().getStatus()).isEqualTo(PENDING);
+    verify(executor, never()).execute(any());
+
+    runSubmittedJob();
+
+    var job = jobCaptor.getValue();
+    assertThat(job.getId()).isEqualTo(result.jobId());
+    assertThat(job.getType()).isEqualTo(TenantJobType.CREATE);
+    assertThat(job.getStatus()).isEqualTo(COMPLETED);
+    assertThat(job.getSteps()).singleElement().satisfies(step -> {
+      assertThat(step.getName()).isEqualTo("OkapiService");
+      assertThat(step.getStatus()).isEqualTo(COMPLETED);
+      assertThat(step.getStartedDate()).isNotNull();
+      assertThat(step.getFinishedDate()).isNotNull();
+    });
+    verify(listenerAction).run();
+  }
+
+  @Test
+  void createTenant_negative_listenerFailed() {
+    var tenant = tenant();
+    when(tenantService.createTenantRecord(tenant)).thenReturn(tenant);
+    when(tenantEventsPublisher.getTenantCreateSteps(tenant))
+      .thenReturn(List.of(new TenantEventStep("KeycloakTenantListener", listenerAction)));
+    when(repository.save(jobCaptor.capture())).thenAnswer(returnsFirstArg());
+    doThrow(new IllegalStateException("Realm setup failed")).when(listenerAction).run();
+
+    tenantJobService.createTenant(tenant);
+    runSubmittedJob();
+
+    var job = jobCaptor.getValue();
+    assertThat(job.getStatus()).isEqualTo(FAILED);
+    assertThat(job.getError()).isEqualTo("Step 'KeycloakTenantListener' failed: Realm setup failed");
+    assertThat(job.getSteps()).singleElement().satisfies(step -> {
+      assertThat(step.getStatus()).isEqualTo(FAILED);
+      assertThat(step.getError()).isEqualTo("Realm setup failed");
+    });
+    verify(tenantService).deleteTenantRecords(List.of(TENANT_ID));
+  }
+
+  @Test
+  void deleteTenant_positive() {
+    when(tenantService.checkTenantCanBeDeleted(TENANT_ID)).thenReturn(Optional.of(TENANT_NAME));
+    when(tenantEventsPublisher.getTenantDeleteSteps(TENANT_ID, TENANT_NAME))
+      .thenReturn(List.of(new TenantEventStep("OkapiService", listenerAction)));
+    when(repository.save(jobCaptor.capture())).thenAnswer(returnsFirstArg());
+
+    var jobId = tenantJobService.deleteTenant(TENANT_ID, true);
+    verify(tenantService, never()).deleteTenantRecords(any());
+    runSubmittedJob();
+
+    var job = jobCaptor.getValue();
+    assertThat(jobId).contains(job.getId());
+    assertThat(job.getType()).isEqualTo(TenantJobType.DELETE);
+    assertThat(job.getStatus()).isEqualTo(COMPLETED);
+    assertThat(job.getSteps()).extracting("name").containsExactly("OkapiService", "TenantRecord", "KafkaTopics");
+    var inOrder = inOrder(listenerAction, tenantService, tenantTopicPurgeService);
+    inOrder.verify(listenerAction).run();
+    inOrder.verify(tenantService).deleteTenantRecords(List.of(TENANT_ID));
+    inOrder.verify(tenantTopicPurgeService).purge(TENANT_ID, TENANT_NAME, true);
+  }
+
+  @Test
+  void deleteTenant_negative_listenerFailedTenantRecordKept() {
+    when(tenantService.checkTenantCanBeDeleted(TENANT_ID)).thenReturn(Optional.of(TENANT_NAME));
+    when(tenantEventsPublisher.getTenantDeleteSteps(TENANT_ID, TENANT_NAME))
+      .thenReturn(List.of(new TenantEventStep("OkapiService", listenerAction)));
+    when(repository.save(jobCaptor.capture())).thenAnswer(returnsFirstArg());
+    doThrow(new IllegalStateException("Okapi is not available")).when(listenerAction).run();
+
+    tenantJobService.deleteTenant(TENANT_ID, true);
+    runSubmittedJob();
+
+    var job = jobCaptor.getValue();
+    assertThat(job.getStatus()).isEqualTo(FAILED);
+    assertThat(job.getError()).isEqualTo("Step 'OkapiService' failed: Okapi is not available");
+    assertThat(job.getSteps()).extracting("status").containsExactly(FAILED, PENDING, PENDING);
+    verify(tenantService, never()).deleteTenantRecords(any());
+    verify(tenantTopicPurgeService, never()).purge(any(), any(), any());
+  }
+
+  @Test
+  void deleteTenant_positive_notFound() {
+    when(tenantService.checkTenantCanBeDeleted(TENANT_ID)).thenReturn(Optional.empty());
+
+    var jobId = tenantJobService.deleteTenant(TENANT_ID, false);
+
+    assertThat(jobId).isEmpty();
+  }
+
+  @Test
+  void failStaleJobs_positive_createJobReverted() {
+    var jobId = UUID.randomUUID();
+    var job = job(jobId, TenantJobType.CREATE);
+    when(tenantJobConfiguration.getStaleTimeout()).thenReturn(Duration.ofMinutes(10));
+    when(repository.findStaleIds(eq(List.of(PENDING, RUNNING)), any(OffsetDateTime.class))).thenReturn(List.of(jobId));
+    when(repository.failStale(eq(jobId), eq(List.of(PENDING, RUNNING)), any(OffsetDateTime.class),
+      any(OffsetDateTime.class), eq("Tenant job was interrupted"))).thenReturn(1);
+    when(repository.findById(jobId)).thenReturn(Optional.of(job));
+
+    tenantJobService.failStaleJobs();
+
+    verify(tenantService).deleteTenantRecords(List.of(TENANT_ID));
+  }
+
+  @Test
+  void failStaleJobs_positive_deleteJobKeepsTenant() {
+    var jobId = UUID.randomUUID();
+    when(tenantJobConfiguration.getStaleTimeout()).thenReturn(Duration.ofMinutes(10));
+    when(repository.findStaleIds(eq(List.of(PENDING, RUNNING)), any(OffsetDateTime.class))).thenReturn(List.of(jobId));
+    when(repository.failStale(eq(jobId), eq(List.of(PENDING, RUNNING)), any(OffsetDateTime.class),
+      any(OffsetDateTime.class), eq("Tenant job was interrupted"))).thenReturn(1);
+    when(repository.findById(jobId)).thenReturn(Optional.of(job(jobId, TenantJobType.DELETE)));
+
+    tenantJobService.failStaleJobs();
+
+    verify(tenantService, never()).deleteTenantRecords(any());
+  }
+
+  @Test
+  void failStaleJobs_positive_claimedByAnotherInstance() {
+    var jobId = UUID.randomUUID();
+    when(tenantJobConfiguration.getStaleTimeout()).thenReturn(Duration.ofMinutes(10));
+    when(repository.findStaleIds(eq(List.of(PENDING, RUNNING)), any(OffsetDateTime.class))).thenReturn(List.of(jobId));
+    when(repository.failStale(eq(jobId), eq(List.of(PENDING, RUNNING)), any(OffsetDateTime.class),
+      any(OffsetDateTime.class), eq("Tenant job was interrupted"))).thenReturn(0);
+
+    tenantJobService.failStaleJobs();
+
+    verify(repository, never()).findById(any());
+  }
+
+  private static TenantJobEntity job(UUID id, TenantJobType type) {
+    var job = new TenantJobEntity();
+    job.setId(id);
+    job.setType(type);
+    job.setStatus(FAILED);
+    job.setTenantId(TENANT_ID);
+    job.setTenantName(TENANT_NAME);
+    return job;
+  }
+
+  private void runSubmittedJob() {
+    TransactionSynchronizationManager.getSynchronizations().forEach(TransactionSynchronization::afterCommit);
+    verify(executor).execute(taskCaptor.capture());
+    taskCaptor.getValue().run();
+  }
+}
@@ -1,41 +1,51 @@
 package org.folio.tm.service;
 
-import static java.util.Collections.emptyList;
+import static java.util.Collections.nCopies;
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.folio.tm.config.CacheConfiguration.TENANT_BY_NAME_CACHE;
 import static org.folio.tm.support.TestConstants.TENANT_ID;
 import static org.folio.tm.support.TestConstants.TENANT_NAME;
 import static org.folio.tm.support.TestConstants.tenant;
-import static org.folio.tm.support.TestConstants.tenantAttributes;
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.ArgumentMatchers.anyString;
 import static org.mockito.Mockito.doThrow;
+import static org.mockito.Mockito.inOrder;
 import static org.mockito.Mockito.never;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
 import jakarta.persistence.EntityNotFoundException;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
 import java.util.UUID;
 import org.folio.common.domain.model.OffsetRequest;
 import org.folio.test.types.UnitTest;
+import org.folio.tm.config.TenantTraceConfiguration;
 import org.folio.tm.domain.dto.Tenants;
 import org.folio.tm.domain.entity.TenantEntity;
+import org.folio.tm.domain.entity.TenantSummaryEntity;
+import org.folio.tm.domain.model.TenantOperationTrace;
 import org.folio.tm.exception.RequestValidationException;
 import org.folio.tm.integration.entitlements.TenantEntitlementsService;
-import org.folio.tm.integration.kafka.KafkaService;
+import org.folio.tm.integration.kafka.cache.TenantCacheEventPublisher;
 import org.folio.tm.mapper.TenantMapper;
 import org.folio.tm.repository.TenantRepository;
+import org.folio.tm.repository.TenantSummaryRepository;
 import org.folio.tm.service.listeners.TenantEventsPublisher;
+import org.folio.tm.service.trace.TenantTraceService;
 import org.folio.tm.support.TestConstants;
 import org.folio.tm.support.TestUtils;
 import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
-import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.cache.CacheManager;
+import org.springframework.cache.concurrent.ConcurrentMapCacheManager;
 import org.springframework.data.domain.PageImpl;
 import org.springframework.http.HttpStatus;
 import org.springframework.web.client.HttpClientErrorException;
@@ -44,14 +54,26 @@ import org.springframework.web.client.HttpClientErrorException;
 @ExtendWith(MockitoExtension.class)
 class TenantServiceTest {
 
-  @InjectMocks private TenantService tenantService;
+  private TenantService tenantService;
+  private TenantTraceService tenantTraceService;
+  private final CacheManager cacheManager = new ConcurrentMapCacheManager(TENANT_BY_NAME_CACHE);
 
   @Mock private TenantMapper mapper;
   @Mock private TenantRepository repository;
+  @Mock private TenantSummaryRepository summaryRepository;
   @Mock private TenantEventsPublisher tenantEventsPublisher;
   @Mock private TenantAttributeService tenantAttributeService;
-  @Mock private KafkaService kafkaService;
+  @Mock private TenantTopicPurgeService tenantTopicPurgeService;
   @Mock private TenantEntitlementsService tenantEntitlementsService;
+  @Mock private TenantCacheEventPublisher tenantCacheEventPublisher;
+
+  @BeforeEach
+  void setUp() {
+    tenantTraceService = new TenantTraceService(new TenantTraceConfiguration(), new SimpleMeterRegistry());
+    tenantService = new TenantService(mapper, repository, summaryRepository, tenantAttributeService,
+      tenantEventsPublisher, tenantTopicPurgeService, tenantEntitlementsService, tenantTraceService, cacheManager,
+      Optional.of(tenantCacheEventPublisher));
+  }
 
   @AfterEach
   void tearDown() {
@@ -82,6 +104,28 @@ class TenantServiceTest {
       .hasMessage(errorMessage);
   }
 
+  @Test
+  void getSummaryById_positive() {
+    var expected = tenant().attributes(null);
+    var entity = new TenantSummaryEntity();
+
+    when(summaryRepository.findById(TENANT_ID)).thenReturn(Optional.of(entity));
+    when(mapper.toSummaryDto(entity)).thenReturn(expected);
+
+    var result = tenantService.getTenantSummaryById(TENANT_ID);
+
+    assertThat(result).isEqualTo(expected);
+  }
+
+  @Test
+  void getSummaryById_negative_notFound() {
+    when(summaryRepository.findById(TENANT_ID)).thenReturn(Optional.empty());
+
+    assertThatThrownBy(() -> tenantService.getTenantSummaryById(TENANT_ID))
+      .isInstanceOf(EntityNotFoundException.class)
+      .hasMessage("Tenant is not found: id = " + TENANT_ID);
+  }
+
   @Test
   void create_positive() {
     var entity = tenantEntity();
@@ -90,13 +134,20 @@ class TenantServiceTest {
     when(mapper.toEntity(expectedTenant)).thenReturn(entity);
     when(repository.existsByName(TestConstants.TENANT_NAME)).thenReturn(false);
     when(repository.saveAndFlush(entity)).thenReturn(entity);
-    when(tenantAttributeService.upsertAll(TENANT_ID, tenantAttributes())).thenReturn(tenantAttributes());
-    when(mapper.toDto(entity, emptyList())).thenReturn(expectedTenant);
+    when(mapper.toDto(entity)).thenReturn(expectedTenant);
 
     var result = tenantService.createTenant(expectedTenant);
 
     assertThat(result).isEqualTo(expectedTenant);
+    verify(tenantAttributeService).mergeAttributes(entity, expectedTenant.getAttributes());
     verify(tenantEventsPublisher).onTenantCreate(expectedTenant);
+    assertThat(tenantTraceService.getTraces()).singleElement().satisfies(trace -> {
+      assertThat(trace.operation()).isEqualTo("createTenant");
+      assertThat(trace.tenantName()).isEqualTo(TENANT_NAME);
+      assertThat(trace.outcome()).isEqualTo("success");
+      assertThat(trace.steps()).extracting(TenantOperationTrace.Step::name)
+        .containsExactly("database:createTenantRecord");
+    });
   }
 
   @Test
@@ -117,12 +168,14 @@ class TenantServiceTest {
     when(repository.existsByName(TestConstants.TENANT_NAME)).thenReturn(false);
     when(mapper.toEntity(expectedTenant)).thenReturn(entity);
     when(repository.saveAndFlush(entity)).thenReturn(entity);
-    when(tenantAttributeService.upsertAll(TENANT_ID, tenantAttributes())).thenReturn(tenantAttributes());
     doThrow(new HttpClientErrorException(HttpStatus.CONFLICT, "Conflict")).when(tenantEventsPublisher)
       .onTenantCreate(expectedTenant);
 
     assertThatThrownBy(() -> tenantService.createTenant(expectedTenant))
       .isInstanceOf(HttpClientErrorException.class);
+    verify(tenantAttributeService).mergeAttributes(entity, expectedTenant.getAttributes());
+    assertThat(tenantTraceService.getTraces()).singleElement()
+      .satisfies(trace -> assertThat(trace.outcome()).isEqualTo("error"));
   }
 
   @Test
@@ -133,12 +186,12 @@ class TenantServiceTest {
     when(mapper.toEntity(expectedTenant)).thenReturn(entity);
     when(repository.existsByName(TestConstants.TENANT_NAME)).thenReturn(false);
     when(repository.saveAndFlush(entity)).thenReturn(entity);
-    when(tenantAttributeService.upsertAll(TENANT_ID, tenantAttributes())).thenReturn(tenantAttributes());
     doThrow(new HttpClientErrorException(HttpStatus.CONFLICT, "Conflict")).when(tenantEventsPublisher)
       .onTenantCreate(expectedTenant);
 
     assertThatThrownBy(() -> tenantService.createTenant(expectedTenant))
       .isInstanceOf(HttpClientErrorException.class);
+    verify(tenantAttributeService).mergeAttributes(entity, expectedTenant.getAttributes());
   }
 
   @Test
@@ -146,15 +199,15 @@ class TenantServiceTest {
     var entity = tenantEntity();
     var expectedTenant = tenant();
 
-    when(mapper.toEntity(expectedTenant)).thenReturn(entity);
     when(repository.findById(TENANT_ID)).thenReturn(Optional.of(entity));
     when(repository.saveAndFlush(entity)).thenReturn(entity);
-    when(tenantAttributeService.upsertAll(TENANT_ID, tenantAttributes())).thenReturn(tenantAttributes());
-    when(mapper.toDto(entity, emptyList())).thenReturn(expectedTenant);
+    when(mapper.toDto(entity)).thenReturn(expectedTenant);
 
     var result = tenantService.updateTenantById(TENANT_ID, expectedTenant);
 
     assertThat(result).isEqualTo(expectedTenant);
+    verify(mapper).updateEntity(expectedTenant, entity);
+    verify(tenantAttributeService).mergeAttributes(entity, expectedTenant.getAttributes());
     verify(tenantEventsPublisher).onTenantUpdate(expectedTenant);
   }
 
@@ -175,14 +228,14 @@ class TenantServiceTest {
     var expectedTenant = tenant();
     var entity = tenantEntity();
 
-    when(mapper.toEntity(expectedTenant)).thenReturn(entity);
     when(repository.findById(TENANT_ID)).thenReturn(Optional.of(entity));
     when(repository.saveAndFlush(entity)).thenReturn(entity);
     doThrow(EntityNotFoundException.class).when(tenantEventsPublisher).onTenantUpdate(expectedTenant);
-    when(tenantAttributeService.upsertAll(TENANT_ID, tenantAttributes())).thenReturn(tenantAttributes());
 
     assertThatThrownBy(() -> tenantService.updateTenantById(TENANT_ID, expectedTenant))
       .isInstanceOf(EntityNotFoundException.class);
+    verify(mapper).updateEntity(expectedTenant, entity);
+    verify(tenantAttributeService).mergeAttributes(entity, expectedTenant.getAttributes());
   }
 
   @Test
@@ -221,8 +274,8 @@ class TenantServiceTest {
 
     verify(tenantEntitlementsService).checkTenantCanBeDeleted(TENANT_NAME, TENANT_ID);
     verify(repository).delete(entity);
-    verify(tenantEventsPublisher).onTenantDelete(TENANT_NAME);
-    verify(kafkaService).deleteTopics(entity.getName(), null);
+    verify(tenantEventsPublisher).onTenantDelete(TENANT_ID, TENANT_NAME);
+    verify(tenantTopicPurgeService).purgeAfterCommit(TENANT_ID, TENANT_NAME, null);
   }
 
   @Test
@@ -240,7 +293,31 @@ class TenantServiceTest {
 
     verify(tenantEntitlementsService).checkTenantCanBeDeleted(TENANT_NAME, TENANT_ID);
     verify(repository, never()).delete(entity);
-    verify(tenantEventsPublisher, never()).onTenantDelete(anyString());
+    verify(tenantEventsPublisher, never()).onTenantDelete(any(), anyString());
+  }
+
+  @Test
+  void checkTenantCanBeDeleted_positive() {
+    var entity = tenantEntity();
+    when(repository.findById(TENANT_ID)).thenReturn(Optional.of(entity));
+
+    var result = tenantService.checkTenantCanBeDeleted(TENANT_ID);
+
+    assertThat(result).contains(TENANT_NAME);
+    verify(tenantEntitlementsService).checkTenantCanBeDeleted(TENANT_NAME, TENANT_ID);
+    verify(repository, never()).delete(entity);
+  }
+
+  @Test
+  void deleteTenantRecords_positive() {
+    var entity = tenantEntity();
+    when(repository.findAllById(List.of(TENANT_ID))).thenReturn(List.of(entity));
+
+    tenantService.deleteTenantRecords(List.of(TENANT_ID));
+
+    var inOrder = inOrder(repository, tenantCacheEventPublisher);
+    inOrder.verify(repository).deleteAllByIdInBatch(List.of(TENANT_ID));
+    inOrder.verify(tenantCacheEventPublisher).onTenantDelete(TENANT_ID, TENANT_NAME);
   }
 
   @Test
@@ -252,7 +329,7 @@ class TenantServiceTest {
     tenantService.deleteTenantById(TENANT_ID, null);
 
     verify(repository, never()).delete(entity);
-    verify(tenantEventsPublisher, never()).onTenantDelete(anyString());
+    verify(tenantEventsPublisher, never()).onTenantDelete(any(), anyString());
   }
 
   @Test
@@ -264,11 +341,37 @@ class TenantServiceTest {
     when(repository.findByCql(query, OffsetRequest.of(10, 5))).thenReturn(tenantEntities);
     when(mapper.toDtoCollection(tenantEntities)).thenReturn(expectedTenants);
 
-    var actual = tenantService.getTenantsByQuery(query, 10, 5);
+    var actual = tenantService.getTenantsByQuery(query, 10, 5, "exact", null);
 
     assertThat(actual).isEqualTo(expectedTenants);
   }
 
+  @Test
+  void getTenantsByQuery_positive_exactNameCached() {
+    var expected = tenant();
+    var entity = tenantEntity();
+
+    when(repository.findByName(TENANT_NAME)).thenReturn(Optional.of(entity));
+    when(mapper.toDto(entity)).thenReturn(expected);
+
+    var actual = tenantService.getTenantsByQuery("name == \"" + TENANT_NAME + "\"", 0, 10, null, null);
+    var cached = tenantService.getTenantsByQuery("name==" + TENANT_NAME, 0, 10, null, null);
+
+    assertThat(actual).isEqualTo(new Tenants().tenants(List.of(expected)).totalRecords(1));
+    assertThat(cached).isEqualTo(actual);
+    verify(repository).findByName(TENANT_NAME);
+  }
+
+  @Test
+  void getTenantsByQuery_positive_exactNameNotFound() {
+    when(repository.findByName(TENANT_NAME)).thenReturn(Optional.empty());
+
+    var actual = tenantService.getTenantsByQuery("name==" + TENANT_NAME, 0, 10, null, null);
+
+    assertThat(actual).isEqualTo(new Tenants().tenants(List.of()).totalRecords(0));
+    assertThat(cacheManager.getCache(TENANT_BY_NAME_CACHE).get(TENANT_NAME)).isNull();
+  }
+
   @Test
   void getTenantsByQuery_positive_queryIsBlank() {
     var tenantEntities = new PageImpl<>(List.of(tenantEntity()));
@@ -277,11 +380,209 @@ class TenantServiceTest {
     when(repository.findAll(OffsetRequest.of(10, 5))).thenReturn(tenantEntities);
     when(mapper.toDtoCollection(tenantEntities)).thenReturn(expectedTenants);
 
-    var actual = tenantService.getTenantsByQuery(null, 10, 5);
+    var actual = tenantService.getTenantsByQuery(null, 10, 5, null, null);
+
+    assertThat(actual).isEqualTo(expectedTenants);
+  }
+
+  @Test
+  void getTenantsByQuery_positive_totalRecordsNone() {
+    var entities = nCopies(6, tenantEntity());
+
+    when(repository.findByCql("name==tenant*", 10, 6)).thenReturn(entities);
+    when(mapper.toDtos(entities.subList(0, 5))).thenReturn(List.of(tenant()));
+
+    var actual = tenantService.getTenantsByQuery("name==tenant*", 10, 5, "none", null);
+
+    assertThat(actual).isEqualTo(new Tenants().tenants(List.of(tenant())).hasMore(true));
+  }
+
+  @Test
+  void getTenantsByQuery_positive_totalRecordsEstimated() {
+    var entities = nCopies(6, tenantEntity());
+
+    when(repository.findByCql("cql.allRecords=1", 10, 6)).thenReturn(entities);
+    when(mapper.toDtos(entities.subList(0, 5))).thenReturn(List.of(tenant()));
+    when(repository.estimateCount()).thenReturn(Optional.of(100L));
+
+    var actual = tenantService.getTenantsByQuery(null, 10, 5, "estimated", null);
+
+    assertThat(actual).isEqualTo(new Tenants().tenants(List.of(tenant())).hasMore(true).totalRecords(100));
+  }
+
+  @Test
+  void getTenantsByQuery_positive_totalRecordsEstimatedForNotAnalyzedTable() {
+    var entities = nCopies(6, tenantEntity());
+
+    when(repository.findByCql("cql.allRecords=1", 0, 6)).thenReturn(entities);
+    when(mapper.toDtos(entities.subList(0, 5))).thenReturn(List.of(tenant()));
+    when(repository.estimateCount()).thenReturn(Optional.of(-1L));
+    when(repository.count()).thenReturn(7L);
+
+    var actual = tenantService.getTenantsByQuery("", 0, 5, "ESTIMATED", null);
+
+    assertThat(actual).isEqualTo(new Tenants().tenants(List.of(tenant())).hasMore(true).totalRecords(7));
+  }
+
+  @Test
+  void getTenantsByQuery_positive_totalRecordsEstimatedOnLastPage() {
+    var entities = List.of(tenantEntity(), tenantEntity());
+
+    when(repository.findByCql("cql.allRecords=1", 10, 6)).thenReturn(entities);
+    when(mapper.toDtos(entities)).thenReturn(List.of(tenant(), tenant()));
+
+    var actual = tenantService.getTenantsByQuery(null, 10, 5, "estimated", null);
+
+    assertThat(actual).isEqualTo(new Tenants().tenants(List.of(tenant(), tenant())).hasMore(false).totalRecords(12));
+  }
+
+  @Test
+  void getTenantsByQuery_positive_totalRecordsEstimatedForFilteredQuery() {
+    var entities = List.of(tenantEntity());
+
+    when(repository.findByCql("name==tenant*", 10, 6)).thenReturn(entities);
+    when(mapper.toDtos(entities)).thenReturn(List.of(tenant()));
+
+    var actual = tenantService.getTenantsByQuery("name==tenant*", 10, 5, "estimated", null);
+
+    assertThat(actual).isEqualTo(new Tenants().tenants(List.of(tenant())).hasMore(false));
+  }
+
+  @Test
+  void getTenantsByQuery_positive_withoutAttributes() {
+    var query = "name==tenant*";
+    var entities = new PageImpl<>(List.of(new TenantSummaryEntity()));
+    var expectedTenants = new Tenants().tenants(List.of(tenant().attributes(null))).totalRecords(1);
+
+    when(summaryRepository.findByCql(query, OffsetRequest.of(0, 10))).thenReturn(entities);
+    when(mapper.toSummaryDtoCollection(entities)).thenReturn(expectedTenants);
+
+    var actual = tenantService.getTenantsByQuery(query, 0, 10, null, false);
 
     assertThat(actual).isEqualTo(expectedTenants);
   }
 
+  @Test
+  void getTenantsByQuery_positive_withoutAttributesTotalRecordsNone() {
+    var entities = List.of(new TenantSummaryEntity(), new TenantSummaryEntity());
+
+    when(summaryRepository.findByCql("cql.allRecords=1", 0, 2)).thenReturn(entities);
+    when(mapper.toSummaryDtos(entities.subList(0, 1))).thenReturn(List.of(tenant().attributes(null)));
+
+    var actual = tenantService.getTenantsByQuery(null, 0, 1, "none", false);
+
+    assertThat(actual).isEqualTo(new Tenants().tenants(List.of(tenant().attributes(null))).hasMore(true));
+  }
+
+  @Test
+  void getTenantsByQuery_negative_invalidTotalRecordsMode() {
+    assertThatThrownBy(() -> tenantService.getTenantsByQuery(null, 0, 10, "approximate", null))
+      .isInstanceOf(RequestValidationException.class)
+      .hasMessage("Invalid totalRecords mode");
+  }
+
+  @Test
+  void getTenantsByCursor_positive() {
+    var entities = List.of(tenantEntity(), tenantEntity());
+    var expectedQuery = "(cql.allRecords=1) sortBy name/sort.ascending id/sort.ascending";
+
+    when(repository.findByCql(expectedQuery, 0, 2)).thenReturn(entities);
+    when(mapper.toDtos(entities.subList(0, 1))).thenReturn(List.of(tenant()));
+
+    var actual = tenantService.getTenantsByCursor(null, "", 1, false, true);
+
+    assertThat(actual.getTenants()).containsExactly(tenant());
+    assertThat(actual.getTotalRecords()).isNull();
+    assertThat(actual.getNext()).isEqualTo(new KeysetCursor(TENANT_NAME, TENANT_ID).encode());
+  }
+
+  @Test
+  void getTenantsByCursor_positive_includeTotal() {
+    var entities = List.of(tenantEntity());
+    var expectedQuery = "(cql.allRecords=1) sortBy name/sort.ascending id/sort.ascending";
+
+    when(repository.findByCql(expectedQuery, 0, 11)).thenReturn(entities);
+    when(mapper.toDtos(entities)).thenReturn(List.of(tenant()));
+    when(repository.countByCql("cql.allRecords=1")).thenReturn(1L);
+
+    var actual = tenantService.getTenantsByCursor(null, "", 10, true, null);
+
+    assertThat(actual).isEqualTo(new Tenants().tenants(List.of(tenant())).totalRecords(1));
+  }
+
+  @Test
+  void getTenantsByCursor_positive_withoutAttributes() {
+    var entity = new TenantSummaryEntity();
+    entity.setId(TENANT_ID);
+    entity.setName(TENANT_NAME);
+    var entities = List.of(entity, new TenantSummaryEntity());
+    var expectedQuery = "(cql.allRecords=1) sortBy name/sort.ascending id/sort.ascending";
+
+    when(summaryRepository.findByCql(expectedQuery, 0, 2)).thenReturn(entities);
+    when(mapper.toSummaryDtos(entities.subList(0, 1))).thenReturn(List.of(tenant().attributes(null)));
+
+    var actual = tenantService.getTenantsByCursor(null, "", 1, false, false);
+
+    assertThat(actual.getTenants()).containsExactly(tenant().attributes(null));
+    assertThat(actual.getNext()).isEqualTo(new KeysetCursor(TENANT_NAME, TENANT_ID).encode());
+  }
+
+  @Test
+  void getTenantsByCursor_negative_attributesQueryWithoutAttributes() {
+    var query = "attributes.key==\"region\"";
+
+    assertThatThrownBy(() -> tenantService.getTenantsByCursor(query, "", 10, false, false))
+      .isInstanceOf(RequestValidationException.class)
+      .hasMessage("Tenants cannot be searched by attributes if includeAttributes is false");
+  }
+
+  @Test
+  void getTenantsByQuery_negative_attributesQueryWithoutAttributes() {
+    var query = "name==\"tenant1\" sortBy attributes.key";
+
+    assertThatThrownBy(() -> tenantService.getTenantsByQuery(query, 0, 10, "exact", false))
+      .isInstanceOf(RequestValidationException.class)
+      .hasMessage("Tenants cannot be searched by attributes if includeAttributes is false");
+  }
+
+  @Test
+  void getTenantsByAttributes_positive() {
+    var entities = List.of(tenantEntity(), tenantEntity());
+    var attributes = List.of(Map.entry("region", "eu"), Map.entry("url", "http://host:8080"));
+
+    when(repository.findByAttributes(attributes, null, null, 2)).thenReturn(entities);
+    when(mapper.toDtos(entities.subList(0, 1))).thenReturn(List.of(tenant()));
+
+    var actual = tenantService.getTenantsByAttributes(List.of("region:eu", "url:http://host:8080"), null, 1);
+
+    assertThat(actual.getTenants()).containsExactly(tenant());
+    assertThat(actual.getTotalRecords()).isNull();
+    assertThat(actual.getNext()).isEqualTo(new KeysetCursor(TENANT_NAME, TENANT_ID).encode());
+  }
+
+  @Test
+  void getTenantsByAttributes_positive_afterCursor() {
+    var entities = List.of(tenantEntity());
+    var attributes = List.of(Map.entry("region", ""));
+    var after = new KeysetCursor("a-tenant", TENANT_ID).encode();
+
+    when(repository.findByAttributes(attributes, "a-tenant", TENANT_ID, 11)).thenReturn(entities);
+    when(mapper.toDtos(entities)).thenReturn(List.of(tenant()));
+
+    var actual = tenantService.getTenantsByAttributes(List.of("region:"), after, 10);
+
+    assertThat(actual).isEqualTo(new Tenants().tenants(List.of(tenant())));
+  }
+
+  @Test
+  void getTenantsByAttributes_negative_invalidFormat() {
+    var attributes = List.of("region:eu", ":eu");
+
+    assertThatThrownBy(() -> tenantService.getTenantsByAttributes(attributes, null, 10))
+      .isInstanceOf(RequestValidationException.class)
+      .hasMessage("Attribute must be in format 'key:value'");
+  }
+
   private static TenantEntity tenantEntity() {
     var entity = TenantEntity.of(TENANT_ID);
     entity.setName(TestConstants.TENANT_NAME);
@@ -0,0 +1,201 @@
+package org.folio.tm.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatCode;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.folio.tm.domain.model.TenantJobStatus.COMPLETED;
+import static org.folio.tm.domain.model.TenantJobStatus.FAILED;
+import static org.folio.tm.domain.model.TenantJobStatus.PENDING;
+import static org.folio.tm.domain.model.TenantJobStatus.RUNNING;
+import static org.folio.tm.support.TestConstants.TENANT_ID;
+import static org.folio.tm.support.TestConstants.TENANT_NAME;
+import static org.mockito.AdditionalAnswers.returnsFirstArg;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.doAnswer;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import jakarta.persistence.EntityNotFoundException;
+import java.util.List;
+import java.util.Optional;
+import java.util.UUID;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutorService;
+import org.apache.kafka.common.errors.TimeoutException;
+import org.folio.test.types.UnitTest;
+import org.folio.tm.domain.dto.TenantTopicPurge;
+import org.folio.tm.domain.entity.TenantTopicPurgeEntity;
+import org.folio.tm.domain.entity.TenantTopicPurgeTopicEntity;
+import org.folio.tm.integration.kafka.KafkaService;
+import org.folio.tm.integration.kafka.configuration.KafkaTopicPurgeProperties;
+import org.folio.tm.integration.kafka.model.TopicPurgeResult;
+import org.folio.tm.integration.kafka.model.TopicPurgeResult.TopicOutcome;
+import org.folio.tm.mapper.TenantTopicPurgeMapper;
+import org.folio.tm.repository.TenantTopicPurgeRepository;
+import org.folio.tm.support.TestUtils;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Captor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+@UnitTest
+@ExtendWith(MockitoExtension.class)
+class TenantTopicPurgeServiceTest {
+
+  private static final String TOPIC = "folio." + TENANT_NAME + ".topic";
+  private static final UUID PURGE_ID = UUID.fromString("3f1a2d38-5c0e-4f51-9f6b-4c3e4b2fd1a7");
+  private static final UUID OTHER_PURGE_ID = UUID.fromString("9b5c7e0a-1d8f-4c2b-8a3e-6f7d2c1b0e94");
+
+  private TenantTopicPurgeService tenantTopicPurgeService;
+
+  @Mock private KafkaService kafkaService;
+  @Mock private TenantTopicPurgeMapper mapper;
+  @Mock private TenantTopicPurgeRepository repository;
+  @Mock private ExecutorService executor;
+  @Captor private ArgumentCaptor<TenantTopicPurgeEntity> purgeCaptor;
+
+  @BeforeEach
+  void setUp() {
+    TransactionSynchronizationManager.initSynchronization();
+    tenantTopicPurgeService = new TenantTopicPurgeService(kafkaService, mapper, repository,
+      new KafkaTopicPurgeProperties(), executor);
+  }
+
+  @AfterEach
+  void tearDown() {
+    TransactionSynchronizationManager.clearSynchronization();
+    TestUtils.verifyNoMoreInteractions(this);
+  }
+
+  @Test
+  void getTenantTopicPurgeById_positive() {
+    var entity = new TenantTopicPurgeEntity();
+    var expected = new TenantTopicPurge().tenantId(TENANT_ID);
+    when(repository.findFirstByTenantIdOrderByCreatedDateDesc(TENANT_ID)).thenReturn(Optional.of(entity));
+    when(mapper.toDto(entity)).thenReturn(expected);
+
+    var actual = tenantTopicPurgeService.getTenantTopicPurgeById(TENANT_ID);
+
+    assertThat(actual).isEqualTo(expected);
+  }
+
+  @Test
+  void getTenantTopicPurgeById_negative_notFound() {
+    when(repository.findFirstByTenantIdOrderByCreatedDateDesc(TENANT_ID)).thenReturn(Optional.empty());
+
+    assertThatThrownBy(() -> tenantTopicPurgeService.getTenantTopicPurgeById(TENANT_ID))
+      .isInstanceOf(EntityNotFoundException.class)
+      .hasMessage("Tenant topic purge is not found: tenantId = " + TENANT_ID);
+  }
+
+  @Test
+  void purgeAfterCommit_positive() {
+    when(repository.save(purgeCaptor.capture())).thenAnswer(returnsFirstArg());
+    when(kafkaService.purgeTopicsAsync(List.of(TENANT_NAME))).thenReturn(CompletableFuture.completedFuture(
+      new TopicPurgeResult(List.of(new TopicOutcome(TENANT_NAME, TOPIC, 1, null)))));
+    runTasksInCallerThread();
+
+    tenantTopicPurgeService.purgeAfterCommit(TENANT_ID, TENANT_NAME, true);
+
+    assertThat(purgeCaptor.getValue().getStatus()).isEqualTo(PENDING);
+    verify(executor, times(0)).execute(any());
+
+    TransactionSynchronizationManager.getSynchronizations().forEach(TransactionSynchronization::afterCommit);
+
+    var purge = purgeCaptor.getValue();
+    assertThat(purge.getId()).isNotNull().isNotEqualTo(TENANT_ID);
+    assertThat(purge.getTenantId()).isEqualTo(TENANT_ID);
+    assertThat(purge.getStatus()).isEqualTo(COMPLETED);
+    assertThat(purge.getTopics()).containsExactly(TenantTopicPurgeTopicEntity.of(TOPIC, 1, null));
+    verify(repository, times(3)).save(purge);
+    verify(executor, times(2)).execute(any());
+  }
+
+  @Test
+  void purgeAfterCommit_positive_purgeDisabled() {
+    tenantTopicPurgeService.purgeAfterCommit(TENANT_ID, TENANT_NAME, false);
+
+    assertThat(TransactionSynchronizationManager.getSynchronizations()).isEmpty();
+  }
+
+  @Test
+  void purge_negative_topicNotDeleted() {
+    when(repository.save(purgeCaptor.capture())).thenAnswer(returnsFirstArg());
+    when(kafkaService.purgeTopicsAsync(List.of(TENANT_NAME))).thenReturn(CompletableFuture.completedFuture(
+      new TopicPurgeResult(List.of(new TopicOutcome(TENANT_NAME, TOPIC, 3, "TimeoutException")))));
+    runTasksInCallerThread();
+
+    assertThatThrownBy(() -> tenantTopicPurgeService.purge(TENANT_ID, TENANT_NAME, true))
+      .isInstanceOf(IllegalStateException.class)
+      .hasMessage("Failed to delete Kafka topics: [" + TOPIC + "]");
+
+    var purge = purgeCaptor.getValue();
+    assertThat(purge.getStatus()).isEqualTo(FAILED);
+    assertThat(purge.getTopics()).containsExactly(TenantTopicPurgeTopicEntity.of(TOPIC, 3, "TimeoutException"));
+    verify(repository, times(3)).save(purge);
+    verify(executor).execute(any());
+  }
+
+  @Test
+  void purge_negative_listTopicsFailed() {
+    when(repository.save(purgeCaptor.capture())).thenAnswer(returnsFirstArg());
+    when(kafkaService.purgeTopicsAsync(List.of(TENANT_NAME)))
+      .thenReturn(CompletableFuture.failedFuture(new TimeoutException("Timed out waiting for a node assignment")));
+    runTasksInCallerThread();
+
+    assertThatThrownBy(() -> tenantTopicPurgeService.purge(TENANT_ID, TENANT_NAME, true))
+      .isInstanceOf(IllegalStateException.class)
+      .hasMessage("Failed to list Kafka topics: Timed out waiting for a node assignment");
+
+    assertThat(purgeCaptor.getValue().getTopics()).isEmpty();
+    verify(repository, times(3)).save(purgeCaptor.getValue());
+    verify(executor).execute(any());
+  }
+
+  @Test
+  void restartStalePurges_positive() {
+    var purge = new TenantTopicPurgeEntity();
+    purge.setId(PURGE_ID);
+    purge.setTenantName(TENANT_NAME);
+    purge.setStatus(RUNNING);
+
+    when(repository.findStaleIds(eq(List.of(PENDING, RUNNING)), any())).thenReturn(List.of(PURGE_ID, OTHER_PURGE_ID));
+    when(repository.claimStale(eq(PURGE_ID), eq(List.of(PENDING, RUNNING)), any(), any())).thenReturn(1);
+    when(repository.claimStale(eq(OTHER_PURGE_ID), eq(List.of(PENDING, RUNNING)), any(), any())).thenReturn(0);
+    when(repository.findById(PURGE_ID)).thenReturn(Optional.of(purge));
+    when(repository.save(purgeCaptor.capture())).thenAnswer(returnsFirstArg());
+    when(kafkaService.purgeTopicsAsync(List.of(TENANT_NAME))).thenReturn(CompletableFuture.completedFuture(
+      new TopicPurgeResult(List.of(new TopicOutcome(TENANT_NAME, TOPIC, 1, null)))));
+    runTasksInCallerThread();
+
+    tenantTopicPurgeService.restartStalePurges();
+
+    assertThat(purge.getStatus()).isEqualTo(COMPLETED);
+    assertThat(purge.getTopics()).containsExactly(TenantTopicPurgeTopicEntity.of(TOPIC, 1, null));
+    verify(repository, times(2)).save(purge);
+    verify(executor).execute(any());
+  }
+
+  @Test
+  void restartStalePurges_negative_repositoryError() {
+    when(repository.findStaleIds(eq(List.of(PENDING, RUNNING)), any()))
+      .thenThrow(new IllegalStateException("Connection refused"));
+
+    assertThatCode(() -> tenantTopicPurgeService.restartStalePurges()).doesNotThrowAnyException();
+  }
+
+  private void runTasksInCallerThread() {
+    doAnswer(invocation -> {
+      invocation.<Runnable>getArgument(0).run();
+      return null;
+    }).when(executor).execute(any());
+  }
+}
@@ -0,0 +1,171 @@
+package org.folio.tm.service.listeners;
+
+import static java.util.Collections.synchronizedList;
+import static java.util.concurrent.TimeUnit.SECONDS;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.folio.tm.support.TestConstants.TENANT_ID;
+import static org.folio.tm.support.TestConstants.TENANT_NAME;
+import static org.folio.tm.support.TestConstants.tenant;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+import java.util.UUID;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import lombok.RequiredArgsConstructor;
+import lombok.SneakyThrows;
+import org.folio.test.types.UnitTest;
+import org.folio.tm.domain.dto.Tenant;
+import org.folio.tm.integration.IntegrationMetrics;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import org.springframework.web.context.request.RequestContextHolder;
+import org.springframework.web.context.request.ServletRequestAttributes;
+
+@UnitTest
+class TenantEventsPublisherTest {
+
+  private static final String TOKEN_HEADER = "x-okapi-token";
+
+  private final ExecutorService executor = Executors.newFixedThreadPool(2);
+  private final List<String> invocations = synchronizedList(new ArrayList<>());
+  private final CountDownLatch provisioningLatch = new CountDownLatch(2);
+
+  @AfterEach
+  void tearDown() {
+    executor.shutdownNow();
+    RequestContextHolder.resetRequestAttributes();
+  }
+
+  @Test
+  void onTenantCreate_positive_provisioningListenersExecutedConcurrently() {
+    var request = new MockHttpServletRequest();
+    request.addHeader(TOKEN_HEADER, "token");
+    RequestContextHolder.setRequestAttributes(new ServletRequestAttributes(request));
+    var publisher = publisher(new NotificationListener(invocations),
+      new ProvisioningListener("first", provisioningLatch, invocations),
+      new ProvisioningListener("second", provisioningLatch, invocations));
+
+    publisher.onTenantCreate(tenant());
+
+    assertThat(invocations).hasSize(3).endsWith("notification:" + Thread.currentThread().getName());
+    assertThat(invocations.subList(0, 2)).containsExactlyInAnyOrder("first:token", "second:token");
+  }
+
+  @Test
+  void onTenantDelete_negative_failuresAggregated() {
+    var publisher = publisher(new NotificationListener(invocations),
+      new FailingListener("first"), new FailingListener("second"));
+
+    assertThatThrownBy(() -> publisher.onTenantDelete(TENANT_ID, TENANT_NAME))
+      .isInstanceOf(IllegalStateException.class)
+      .hasMessage("first failed")
+      .satisfies(error -> assertThat(error.getSuppressed()).singleElement()
+        .satisfies(suppressed -> assertThat(suppressed).hasMessage("second failed")));
+    assertThat(invocations).isEmpty();
+  }
+
+  @Test
+  void onTenantUpdate_positive_synchronizationsRegisteredWithPublisherTransaction() {
+    var publisher = publisher(new AfterCommitListener("first", invocations),
+      new AfterCommitListener("second", invocations));
+
+    TransactionSynchronizationManager.initSynchronization();
+    try {
+      publisher.onTenantUpdate(tenant());
+
+      assertThat(invocations).isEmpty();
+      TransactionSynchronizationManager.getSynchronizations().forEach(TransactionSynchronization::afterCommit);
+    } finally {
+      TransactionSynchronizationManager.clearSynchronization();
+    }
+
+    assertThat(invocations).containsExactlyInAnyOrder("first", "second");
+  }
+
+  @Test
+  void getTenantCreateSteps_positive_orderedByPhase() {
+    var publisher = publisher(new NotificationListener(invocations),
+      new ProvisioningListener("first", provisioningLatch, invocations));
+
+    var steps = publisher.getTenantCreateSteps(tenant());
+
+    assertThat(steps).extracting(TenantEventStep::name)
+      .containsExactly("ProvisioningListener", "NotificationListener");
+  }
+
+  private TenantEventsPublisher publisher(TenantServiceListener... listeners) {
+    var integrationMetrics = new IntegrationMetrics(new SimpleMeterRegistry());
+    return new TenantEventsPublisher(List.of(listeners), integrationMetrics, Optional.empty(), executor);
+  }
+
+  @RequiredArgsConstructor
+  private static final class ProvisioningListener implements TenantServiceListener {
+
+    private final String name;
+    private final CountDownLatch latch;
+    private final List<String> invocations;
+
+    @Override
+    @SneakyThrows
+    public void onTenantCreate(Tenant tenant) {
+      latch.countDown();
+      assertThat(latch.await(5, SECONDS)).as("listeners of the same phase are executed concurrently").isTrue();
+      var request = ((ServletRequestAttributes) RequestContextHolder.currentRequestAttributes()).getRequest();
+      invocations.add(name + ":" + request.getHeader(TOKEN_HEADER));
+    }
+  }
+
+  @RequiredArgsConstructor
+  @TenantListenerPhase(TenantListenerPhase.NOTIFICATION)
+  private static final class NotificationListener implements TenantServiceListener {
+
+    private final List<String> invocations;
+
+    @Override
+    public void onTenantCreate(Tenant tenant) {
+      invocations.add("notification:" + Thread.currentThread().getName());
+    }
+
+    @Override
+    public void onTenantDelete(UUID tenantId, String tenantName) {
+      invocations.add("notification:" + Thread.currentThread().getName());
+    }
+  }
+
+  @RequiredArgsConstructor
+  private static final class FailingListener implements TenantServiceListener {
+
+    private final String name;
+
+    @Override
+    public void onTenantDelete(UUID tenantId, String tenantName) {
+      throw new IllegalStateException(name + " failed");
+    }
+  }
+
+  @RequiredArgsConstructor
+  @TenantListenerPhase(TenantListenerPhase.NOTIFICATION)
+  private static final class AfterCommitListener implements TenantServiceListener {
+
+    private final String name;
+    private final List<String> invocations;
+
+    @Override
+    public void onTenantUpdate(Tenant tenant) {
+      TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+        @Override
+        public void afterCommit() {
+          invocations.add(name);
+        }
+      });
+    }
+  }
+}
@@ -0,0 +1,184 @@
+package org.folio.tm.service.outbox;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.folio.tm.service.listeners.TenantEventsPublisher.getListenerName;
+import static org.folio.tm.support.TestConstants.TENANT_ID;
+import static org.folio.tm.support.TestConstants.TENANT_NAME;
+import static org.folio.tm.support.TestConstants.tenant;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.doAnswer;
+import static org.mockito.Mockito.doThrow;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.ExecutorService;
+import org.folio.test.types.UnitTest;
+import org.folio.tm.domain.entity.TenantOutboxEventEntity;
+import org.folio.tm.domain.model.TenantEventType;
+import org.folio.tm.integration.IntegrationMetrics;
+import org.folio.tm.integration.okapi.OkapiHeaders;
+import org.folio.tm.service.listeners.TenantEvent;
+import org.folio.tm.service.listeners.TenantServiceListener;
+import org.folio.tm.support.TestUtils;
+import org.folio.tm.utils.RequestContextUtils;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Captor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import org.springframework.web.context.request.RequestContextHolder;
+import org.springframework.web.context.request.ServletRequestAttributes;
+
+@UnitTest
+@ExtendWith(MockitoExtension.class)
+class TenantOutboxDispatcherTest {
+
+  private TenantOutboxDispatcher dispatcher;
+
+  @Mock private TenantOutboxService outboxService;
+  @Mock private TenantServiceListener listener;
+  @Mock private ExecutorService executor;
+  @Captor private ArgumentCaptor<Runnable> taskCaptor;
+
+  @BeforeEach
+  void setUp() {
+    var integrationMetrics = new IntegrationMetrics(new SimpleMeterRegistry());
+    dispatcher = new TenantOutboxDispatcher(outboxService, List.of(listener), executor, integrationMetrics);
+  }
+
+  @AfterEach
+  void tearDown() {
+    TestUtils.verifyNoMoreInteractions(this);
+  }
+
+  @Test
+  void enqueue_positive_dispatchedAfterCommit() {
+    var event = TenantEvent.delete(TENANT_ID, TENANT_NAME);
+    var outboxEvent = outboxEvent(TenantEventType.DELETE);
+    var listenerNames = List.of(getListenerName(listener));
+    when(outboxService.append(event, listenerNames, Map.of())).thenReturn(List.of(1L));
+    when(outboxService.claimEvents(List.of(1L))).thenReturn(List.of(outboxEvent));
+    when(outboxService.toTenantEvent(outboxEvent)).thenReturn(event);
+    when(outboxService.toRequestAttributes(outboxEvent)).thenReturn(null);
+
+    TransactionSynchronizationManager.initSynchronization();
+    try {
+      dispatcher.enqueue(event);
+      verify(executor, never()).execute(any());
+      TransactionSynchronizationManager.getSynchronizations().forEach(TransactionSynchronization::afterCommit);
+    } finally {
+      TransactionSynchronizationManager.clearSynchronization();
+    }
+
+    verify(executor).execute(taskCaptor.capture());
+    taskCaptor.getValue().run();
+
+    verify(listener).onTenantDelete(TENANT_ID, TENANT_NAME);
+    verify(outboxService).complete(outboxEvent);
+  }
+
+  @Test
+  void enqueue_positive_onlyInterestedListeners() {
+    var deleteListener = new DeleteListener();
+    var integrationMetrics = new IntegrationMetrics(new SimpleMeterRegistry());
+    var outboxDispatcher = new TenantOutboxDispatcher(outboxService, List.of(deleteListener), executor,
+      integrationMetrics);
+
+    outboxDispatcher.enqueue(TenantEvent.update(tenant()));
+    outboxDispatcher.enqueue(TenantEvent.attributesUpdate(TENANT_ID, TENANT_NAME));
+
+    verify(outboxService, never()).append(any(), any(), any());
+  }
+
+  @Test
+  void dispatch_positive() {
+    var tenant = tenant();
+    var outboxEvent = outboxEvent(TenantEventType.CREATE);
+    var requestAttributes = RequestContextUtils.requestAttributes(Map.of(OkapiHeaders.TOKEN, "token"));
+    when(outboxService.claimEvents()).thenReturn(List.of(outboxEvent), List.of());
+    when(outboxService.toTenantEvent(outboxEvent)).thenReturn(TenantEvent.create(tenant));
+    when(outboxService.toRequestAttributes(outboxEvent)).thenReturn(requestAttributes);
+    doAnswer(invocation -> {
+      var attributes = (ServletRequestAttributes) RequestContextHolder.getRequestAttributes();
+      assertThat(attributes).isNotNull();
+      assertThat(attributes.getRequest().getHeader(OkapiHeaders.TOKEN)).isEqualTo("token");
+      return null;
+    }).when(listener).onTenantCreate(tenant);
+
+    dispatcher.dispatch();
+
+    verify(listener).onTenantCreate(tenant);
+    verify(outboxService).complete(outboxEvent);
+    assertThat(RequestContextHolder.getRequestAttributes()).isNull();
+  }
+
+  @Test
+  void dispatch_positive_nothingToDeliver() {
+    when(outboxService.claimEvents()).thenReturn(List.of());
+
+    dispatcher.dispatch();
+
+    verify(outboxService).claimEvents();
+  }
+
+  @Test
+  void dispatch_negative_listenerFailed() {
+    var outboxEvent = outboxEvent(TenantEventType.DELETE);
+    when(outboxService.claimEvents()).thenReturn(List.of(outboxEvent), List.of());
+    when(outboxService.toTenantEvent(outboxEvent)).thenReturn(TenantEvent.delete(TENANT_ID, TENANT_NAME));
+    when(outboxService.toRequestAttributes(outboxEvent)).thenReturn(null);
+    doThrow(new IllegalStateException("Keycloak is not available"))
+      .when(listener).onTenantDelete(TENANT_ID, TENANT_NAME);
+
+    dispatcher.dispatch();
+
+    verify(outboxService).fail(outboxEvent, "Keycloak is not available");
+    verify(outboxService, never()).complete(any());
+  }
+
+  @Test
+  void dispatch_negative_listenerNotFound() {
+    var outboxEvent = outboxEvent(TenantEventType.DELETE);
+    outboxEvent.setListener("UnknownListener");
+    when(outboxService.claimEvents()).thenReturn(List.of(outboxEvent), List.of());
+
+    dispatcher.dispatch();
+
+    verify(outboxService).fail(outboxEvent, "Tenant listener is not found: UnknownListener");
+  }
+
+  @Test
+  void dispatch_negative_claimFailed() {
+    when(outboxService.claimEvents()).thenThrow(new IllegalStateException("Database is not available"));
+
+    dispatcher.dispatch();
+
+    verify(outboxService, never()).complete(any());
+  }
+
+  private TenantOutboxEventEntity outboxEvent(TenantEventType type) {
+    var entity = new TenantOutboxEventEntity();
+    entity.setId(1L);
+    entity.setType(type);
+    entity.setTenantName(TENANT_NAME);
+    entity.setListener(getListenerName(listener));
+    entity.setAttempts(1);
+    return entity;
+  }
+
+  private static final class DeleteListener implements TenantServiceListener {
+
+    @Override
+    public void onTenantDelete(UUID tenantId, String tenantName) {}
+  }
+}
@@ -0,0 +1,255 @@
+package org.folio.tm.service.outbox;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.folio.tm.domain.model.TenantOutboxEventStatus.FAILED;
+import static org.folio.tm.domain.model.TenantOutboxEventStatus.PENDING;
+import static org.folio.tm.support.TestConstants.TENANT_ID;
+import static org.folio.tm.support.TestConstants.TENANT_NAME;
+import static org.folio.tm.support.TestConstants.tenant;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import java.time.Duration;
+import java.time.OffsetDateTime;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import org.folio.test.types.UnitTest;
+import org.folio.tm.config.TenantOutboxConfiguration;
+import org.folio.tm.domain.dto.Tenant;
+import org.folio.tm.domain.entity.TenantOutboxEventEntity;
+import org.folio.tm.domain.model.TenantEventType;
+import org.folio.tm.integration.keycloak.KeycloakAdminTokenManager;
+import org.folio.tm.integration.okapi.OkapiHeaders;
+import org.folio.tm.repository.TenantOutboxEventRepository;
+import org.folio.tm.service.listeners.TenantEvent;
+import org.folio.tm.support.TestUtils;
+import org.folio.tm.utils.JsonHelper;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.ArgumentMatchers;
+import org.mockito.Captor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.web.context.request.ServletRequestAttributes;
+import tools.jackson.core.type.TypeReference;
+
+@UnitTest
+@ExtendWith(MockitoExtension.class)
+class TenantOutboxServiceTest {
+
+  private static final String PAYLOAD = "{\"name\":\"" + TENANT_NAME + "\"}";
+  private static final String HEADERS = "{\"x-okapi-user-id\":\"user\"}";
+
+  private TenantOutboxService outboxService;
+  private final TenantOutboxConfiguration configuration = new TenantOutboxConfiguration();
+
+  @Mock private JsonHelper jsonHelper;
+  @Mock private TenantOutboxEventRepository repository;
+  @Mock private KeycloakAdminTokenManager serviceTokenManager;
+  @Captor private ArgumentCaptor<List<TenantOutboxEventEntity>> eventsCaptor;
+
+  @BeforeEach
+  void setUp() {
+    outboxService = new TenantOutboxService(jsonHelper, repository, configuration, Optional.empty());
+  }
+
+  @AfterEach
+  void tearDown() {
+    TestUtils.verifyNoMoreInteractions(this);
+  }
+
+  @Test
+  void append_positive() {
+    var tenant = tenant();
+    var headers = Map.of(OkapiHeaders.USER_ID, "user");
+    when(jsonHelper.asJsonString(tenant)).thenReturn(PAYLOAD);
+    when(jsonHelper.asJsonString(headers)).thenReturn(HEADERS);
+    when(repository.saveAll(eventsCaptor.capture())).thenAnswer(invocation -> withIds(invocation.getArgument(0)));
+
+    var result = outboxService.append(TenantEvent.create(tenant), List.of("OkapiService", "KeycloakTenantListener"),
+      headers);
+
+    assertThat(result).containsExactly(1L, 2L);
+    assertThat(eventsCaptor.getValue()).satisfiesExactly(
+      event -> assertPendingEvent(event, "OkapiService"),
+      event -> assertPendingEvent(event, "KeycloakTenantListener"));
+  }
+
+  @Test
+  void append_positive_noRequestHeaders() {
+    var tenant = tenant();
+    when(jsonHelper.asJsonString(tenant)).thenReturn(PAYLOAD);
+    when(repository.saveAll(eventsCaptor.capture())).thenAnswer(invocation -> withIds(invocation.getArgument(0)));
+
+    var result = outboxService.append(TenantEvent.create(tenant), List.of("OkapiService"), Map.of());
+
+    assertThat(result).containsExactly(1L);
+    assertThat(eventsCaptor.getValue()).singleElement()
+      .satisfies(event -> assertThat(event.getRequestHeaders()).isNull());
+  }
+
+  @Test
+  void claimEvents_positive() {
+    var event = outboxEvent(0);
+    when(repository.findDueForUpdate(any(OffsetDateTime.class), eq(50))).thenReturn(List.of(event));
+
+    var result = outboxService.claimEvents();
+
+    assertThat(result).containsExactly(event);
+    assertThat(event.getAttempts()).isEqualTo(1);
+    assertThat(event.getNextAttemptDate()).isAfter(OffsetDateTime.now().plusMinutes(4));
+  }
+
+  @Test
+  void claimEventsByIds_positive() {
+    var event = outboxEvent(0);
+    when(repository.findDueByIdsForUpdate(eq(List.of(1L)), any(OffsetDateTime.class))).thenReturn(List.of(event));
+
+    var result = outboxService.claimEvents(List.of(1L));
+
+    assertThat(result).containsExactly(event);
+    assertThat(event.getAttempts()).isEqualTo(1);
+    assertThat(event.getNextAttemptDate()).isAfter(OffsetDateTime.now().plusMinutes(4));
+  }
+
+  @Test
+  void claimEventsByIds_positive_emptyIds() {
+    var result = outboxService.claimEvents(List.of());
+
+    assertThat(result).isEmpty();
+  }
+
+  @Test
+  void complete_positive() {
+    var event = outboxEvent(1);
+
+    outboxService.complete(event);
+
+    verify(repository).deleteById(event.getId());
+  }
+
+  @Test
+  void fail_positive_retryScheduled() {
+    var event = outboxEvent(3);
+
+    outboxService.fail(event, "error");
+
+    verify(repository).save(event);
+    assertThat(event.getStatus()).isEqualTo(PENDING);
+    assertThat(event.getError()).isEqualTo("error");
+    assertThat(event.getNextAttemptDate())
+      .isBetween(OffsetDateTime.now().plusSeconds(35), OffsetDateTime.now().plusSeconds(45));
+  }
+
+  @Test
+  void fail_positive_retryDelayIsLimited() {
+    configuration.setMaxAttempts(100);
+    configuration.setMaxRetryDelay(Duration.ofMinutes(1));
+    var event = outboxEvent(30);
+
+    outboxService.fail(event, "error");
+
+    verify(repository).save(event);
+    assertThat(event.getNextAttemptDate())
+      .isBetween(OffsetDateTime.now().plusSeconds(55), OffsetDateTime.now().plusSeconds(65));
+  }
+
+  @Test
+  void fail_positive_attemptsExhausted() {
+    var event = outboxEvent(10);
+
+    outboxService.fail(event, "error");
+
+    verify(repository).save(event);
+    assertThat(event.getStatus()).isEqualTo(FAILED);
+    assertThat(event.getError()).isEqualTo("error");
+  }
+
+  @Test
+  void toTenantEvent_positive() {
+    var tenant = tenant();
+    var event = outboxEvent(1);
+    event.setPayload(PAYLOAD);
+    when(jsonHelper.parse(PAYLOAD, Tenant.class)).thenReturn(tenant);
+
+    var result = outboxService.toTenantEvent(event);
+
+    assertThat(result).isEqualTo(new TenantEvent(TenantEventType.CREATE, TENANT_ID, TENANT_NAME, tenant));
+  }
+
+  @Test
+  void toRequestAttributes_positive() {
+    var event = outboxEvent(1);
+    event.setRequestHeaders(HEADERS);
+    when(jsonHelper.parse(eq(HEADERS), ArgumentMatchers.<TypeReference<Map<String, String>>>any()))
+      .thenReturn(Map.of(OkapiHeaders.USER_ID, "user"));
+
+    var result = outboxService.toRequestAttributes(event);
+
+    assertThat(result).isInstanceOfSatisfying(ServletRequestAttributes.class, attributes -> {
+      assertThat(attributes.getRequest().getHeader(OkapiHeaders.USER_ID)).isEqualTo("user");
+      assertThat(attributes.getRequest().getHeader(OkapiHeaders.TOKEN)).isNull();
+    });
+  }
+
+  @Test
+  void toRequestAttributes_positive_serviceToken() {
+    var service = new TenantOutboxService(jsonHelper, repository, configuration, Optional.of(serviceTokenManager));
+    var event = outboxEvent(1);
+    event.setRequestHeaders(HEADERS);
+    when(jsonHelper.parse(eq(HEADERS), ArgumentMatchers.<TypeReference<Map<String, String>>>any()))
+      .thenReturn(Map.of(OkapiHeaders.USER_ID, "user"));
+    when(serviceTokenManager.getAccessToken()).thenReturn("service-token");
+
+    var result = service.toRequestAttributes(event);
+
+    assertThat(result).isInstanceOfSatisfying(ServletRequestAttributes.class, attributes -> {
+      assertThat(attributes.getRequest().getHeader(OkapiHeaders.USER_ID)).isEqualTo("user");
+      assertThat(attributes.getRequest().getHeader(OkapiHeaders.TOKEN)).isEqualTo("service-token");
+    });
+  }
+
+  @Test
+  void toRequestAttributes_positive_noHeaders() {
+    var result = outboxService.toRequestAttributes(outboxEvent(1));
+
+    assertThat(result).isNull();
+  }
+
+  private static List<TenantOutboxEventEntity> withIds(List<TenantOutboxEventEntity> events) {
+    for (int i = 0; i < events.size(); i++) {
+      events.get(i).setId(i + 1L);
+    }
+
+    return events;
+  }
+
+  private static void assertPendingEvent(TenantOutboxEventEntity event, String listener) {
+    assertThat(event.getType()).isEqualTo(TenantEventType.CREATE);
+    assertThat(event.getTenantId()).isEqualTo(TENANT_ID);
+    assertThat(event.getTenantName()).isEqualTo(TENANT_NAME);
+    assertThat(event.getListener()).isEqualTo(listener);
+    assertThat(event.getPayload()).isEqualTo(PAYLOAD);
+    assertThat(event.getRequestHeaders()).isEqualTo(HEADERS);
+    assertThat(event.getStatus()).isEqualTo(PENDING);
+    assertThat(event.getNextAttemptDate()).isNotNull();
+  }
+
+  private static TenantOutboxEventEntity outboxEvent(int attempts) {
+    var entity = new TenantOutboxEventEntity();
+    entity.setId(1L);
+    entity.setType(TenantEventType.CREATE);
+    entity.setTenantId(TENANT_ID);
+    entity.setTenantName(TENANT_NAME);
+    entity.setListener("OkapiService");
+    entity.setStatus(PENDING);
+    entity.setAttempts(attempts);
+    return entity;
+  }
+}
@@ -0,0 +1,94 @@
+package org.folio.tm.service.trace;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.folio.tm.service.trace.TenantTraceContext.withCurrentTrace;
+import static org.folio.tm.service.trace.TenantTraceService.OPERATIONS_METRIC;
+import static org.folio.tm.service.trace.TenantTraceService.OPERATION_STEPS_METRIC;
+import static org.folio.tm.support.TestConstants.TENANT_ID;
+import static org.folio.tm.support.TestConstants.TENANT_NAME;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Executors;
+import org.folio.test.types.UnitTest;
+import org.folio.tm.config.TenantTraceConfiguration;
+import org.folio.tm.domain.model.TenantOperationTrace;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+@UnitTest
+class TenantTraceServiceTest {
+
+  private final MeterRegistry meterRegistry = new SimpleMeterRegistry();
+  private final TenantTraceConfiguration configuration = new TenantTraceConfiguration();
+  private TenantTraceService tenantTraceService;
+
+  @BeforeEach
+  void setUp() {
+    configuration.setCapacity(2);
+    configuration.setMaxSteps(3);
+    tenantTraceService = new TenantTraceService(configuration, meterRegistry);
+  }
+
+  @Test
+  void trace_positive_stepsFromExecutorThreads() {
+    var result = tenantTraceService.trace("createTenant", TENANT_ID, TENANT_NAME, () -> {
+      TenantTraceContext.recordStep("database:createTenantRecord", () -> "saved");
+      try (var executor = Executors.newVirtualThreadPerTaskExecutor()) {
+        CompletableFuture.runAsync(withCurrentTrace(() -> TenantTraceContext.recordStep("keycloak:POST", 5, null)),
+          executor).join();
+      }
+      return "result";
+    });
+
+    assertThat(result).isEqualTo("result");
+    assertThat(tenantTraceService.getTraces()).singleElement().satisfies(trace -> {
+      assertThat(trace.operation()).isEqualTo("createTenant");
+      assertThat(trace.tenantId()).isEqualTo(TENANT_ID);
+      assertThat(trace.outcome()).isEqualTo("success");
+      assertThat(trace.steps()).extracting(TenantOperationTrace.Step::name)
+        .containsExactly("database:createTenantRecord", "keycloak:POST");
+    });
+    assertThat(meterRegistry.get(OPERATIONS_METRIC).tags("operation", "createTenant").timer().count()).isOne();
+    assertThat(meterRegistry.get(OPERATION_STEPS_METRIC).tags("step", "keycloak:POST").timer().count()).isOne();
+  }
+
+  @Test
+  void trace_positive_stepsLimit() {
+    tenantTraceService.trace("updateTenant", TENANT_ID, TENANT_NAME, () -> {
+      for (int i = 0; i < 5; i++) {
+        TenantTraceContext.recordStep("step" + i, 1, null);
+      }
+      return null;
+    });
+
+    assertThat(tenantTraceService.getTraces()).singleElement().satisfies(trace -> {
+      assertThat(trace.steps()).hasSize(3);
+      assertThat(trace.droppedSteps()).isEqualTo(2);
+    });
+  }
+
+  @Test
+  void trace_positive_oldestTraceEvicted() {
+    for (var operation : new String[] {"createTenant", "updateTenant", "deleteTenant"}) {
+      tenantTraceService.trace(operation, TENANT_ID, TENANT_NAME, () -> null);
+    }
+
+    assertThat(tenantTraceService.getTraces()).extracting(TenantOperationTrace::operation)
+      .containsExactly("deleteTenant", "updateTenant");
+  }
+
+  @Test
+  void trace_negative_errorOutcome() {
+    assertThatThrownBy(() -> tenantTraceService.trace("deleteTenant", TENANT_ID, null, () -> {
+      throw new IllegalStateException("error");
+    })).isInstanceOf(IllegalStateException.class);
+
+    assertThat(tenantTraceService.getTraces()).singleElement()
+      .satisfies(trace -> assertThat(trace.outcome()).isEqualTo("error"));
+    TenantTraceContext.recordStep("outside", 1, null);
+    assertThat(tenantTraceService.getTraces().getFirst().steps()).isEmpty();
+  }
+}
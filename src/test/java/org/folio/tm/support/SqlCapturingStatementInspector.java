@@ -0,0 +1,35 @@
+package org.folio.tm.support;
+
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+import org.hibernate.resource.jdbc.spi.StatementInspector;
+
+/**
+ * Captures SQL statements prepared by Hibernate, so that tests can inspect queries generated from CQL.
+ */
+public class SqlCapturingStatementInspector implements StatementInspector {
+
+  private static final List<String> STATEMENTS = new CopyOnWriteArrayList<>();
+
+  @Override
+  public String inspect(String sql) {
+    STATEMENTS.add(sql);
+    return sql;
+  }
+
+  /**
+   * Runs the given action and returns the first SQL statement prepared by it.
+   *
+   * @param action - action executing queries
+   * @return first prepared SQL statement
+   */
+  public static String captureFirst(Runnable action) {
+    STATEMENTS.clear();
+    action.run();
+    if (STATEMENTS.isEmpty()) {
+      throw new AssertionError("No SQL statement has been prepared");
+    }
+
+    return STATEMENTS.getFirst();
+  }
+}
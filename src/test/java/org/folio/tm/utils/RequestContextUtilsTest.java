@@ -0,0 +1,69 @@
+package org.folio.tm.utils;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.springframework.web.context.request.RequestAttributes.SCOPE_REQUEST;
+
+import java.util.Collections;
+import java.util.Map;
+import org.folio.test.types.UnitTest;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.web.context.request.RequestContextHolder;
+import org.springframework.web.context.request.ServletRequestAttributes;
+
+@UnitTest
+class RequestContextUtilsTest {
+
+  @AfterEach
+  void tearDown() {
+    RequestContextHolder.resetRequestAttributes();
+  }
+
+  @Test
+  void detachedRequestAttributes_positive() {
+    var request = new MockHttpServletRequest("DELETE", "/tenants/1");
+    request.setQueryString("async=true");
+    request.addHeader("x-okapi-token", "token");
+    request.setAttribute("attr", "value");
+    RequestContextHolder.setRequestAttributes(new ServletRequestAttributes(request));
+
+    var attributes = (ServletRequestAttributes) RequestContextUtils.detachedRequestAttributes();
+    request.clearAttributes();
+    request.removeHeader("x-okapi-token");
+    request.setMethod("GET");
+
+    assertThat(attributes).isNotNull();
+    var detached = attributes.getRequest();
+    assertThat(detached.getHeader("X-Okapi-Token")).isEqualTo("token");
+    assertThat(attributes.getAttribute("attr", SCOPE_REQUEST)).isEqualTo("value");
+    assertThat(detached.getMethod()).isEqualTo("DELETE");
+    assertThat(detached.getRequestURI()).isEqualTo("/tenants/1");
+    assertThat(detached.getQueryString()).isEqualTo("async=true");
+    assertThatThrownBy(detached::getInputStream)
+      .isInstanceOf(IllegalStateException.class)
+      .hasMessage("Request is not available: method = getInputStream");
+  }
+
+  @Test
+  void detachedRequestAttributes_positive_noRequest() {
+    assertThat(RequestContextUtils.detachedRequestAttributes()).isNull();
+  }
+
+  @Test
+  void requestAttributes_positive() {
+    var attributes = (ServletRequestAttributes) RequestContextUtils.requestAttributes(Map.of("x-okapi-token", "t"));
+
+    assertThat(attributes).isNotNull();
+    var request = attributes.getRequest();
+    assertThat(request.getHeader("X-Okapi-Token")).isEqualTo("t");
+    assertThat(Collections.list(request.getHeaderNames())).containsExactly("x-okapi-token");
+    assertThat(request.getMethod()).isNull();
+  }
+
+  @Test
+  void requestAttributes_positive_noHeaders() {
+    assertThat(RequestContextUtils.requestAttributes(Map.of())).isNull();
+  }
+}
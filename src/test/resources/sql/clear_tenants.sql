@@ -1,2 +1,5 @@
 TRUNCATE TABLE tenant CASCADE;
 TRUNCATE TABLE tenant_attribute CASCADE;
+TRUNCATE TABLE tenant_job CASCADE;
+TRUNCATE TABLE tenant_outbox_event;
+TRUNCATE TABLE tenant_topic_purge CASCADE;